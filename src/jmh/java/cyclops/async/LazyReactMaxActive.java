@@ -0,0 +1,66 @@
+package cyclops.async;
+
+import com.aol.cyclops2.react.collectors.lazy.MaxActive;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+public class LazyReactMaxActive {
+
+    @Param({"1000", "10000"})
+    int maxActive;
+
+    int futures = 50_000;
+
+    ExecutorService exec;
+    LazyReact react;
+
+    @Setup
+    public void setup(){
+        exec = Executors.newFixedThreadPool(8);
+        react = new LazyReact(exec).withMaxActive(new MaxActive(maxActive, maxActive / 2))
+                                   .withAsync(true);
+    }
+    @TearDown
+    public void tearDown(){
+        exec.shutdownNow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void manyFutures(Blackhole bh){
+        bh.consume(react.range(0, futures)
+                        .map(i -> i + 1)
+                        .toList());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void manyFuturesRun(Blackhole bh){
+        bh.consume(react.range(0, futures)
+                        .map(i -> i + 1)
+                        .run(Collectors.counting()));
+    }
+
+}
@@ -0,0 +1,165 @@
+package cyclops.async;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Mixed load : a backlog of bulk messages is already queued when a producer starts sending more bulk traffic with one urgent
+ * message in every 10. A single lane Agrona queue (FIFO) vs strict and weighted PriorityLaneQueues.
+ *
+ * urgent* measures the time until every urgent message has been consumed, all* the time to consume everything.
+ */
+@State(Scope.Benchmark)
+public class PriorityQueueMixed {
+
+    static final int BACKLOG = 50_000;
+    static final int MESSAGES = 50_000;
+    static final int URGENT = MESSAGES / 10;
+    static final int CAPACITY = 1 << 17;
+
+    ExecutorService exec;
+    volatile boolean stop;
+
+    @Setup
+    public void setup(){
+        exec = Executors.newSingleThreadExecutor();
+    }
+    @TearDown
+    public void tearDown(){
+        exec.shutdownNow();
+    }
+
+    private static boolean urgent(Integer i){
+        return i < 0;
+    }
+
+    private long run(Supplier<java.util.Queue<Integer>> factory, boolean urgentOnly, Blackhole bh) throws Exception {
+        java.util.Queue<Integer> queue = factory.get();
+        for(int i=0;i<BACKLOG;i++)
+            queue.offer(i);
+        stop = false;
+        Future<?> producer = exec.submit(()->{
+            for(int i=1;i<=MESSAGES && !stop;i++){
+                Integer next = i%10==0 ? -i : i;
+                while(!queue.offer(next) && !stop){
+                }
+            }
+        });
+        int target = urgentOnly ? URGENT : BACKLOG + MESSAGES;
+        int seen = 0;
+        long polled = 0;
+        while(seen<target){
+            Integer next = queue.poll();
+            if(next==null)
+                continue;
+            polled++;
+            if(!urgentOnly || urgent(next))
+                seen++;
+            bh.consume(next);
+        }
+        stop = true;
+        producer.get();
+        return polled;
+    }
+
+    private java.util.Queue<Integer> agrona(){
+        return new ManyToOneConcurrentArrayQueue<>(CAPACITY);
+    }
+    private java.util.Queue<Integer> strict(){
+        return PriorityLaneQueue.strict(CAPACITY, 2, i->urgent(i) ? 0 : 1);
+    }
+    private java.util.Queue<Integer> weighted(){
+        return PriorityLaneQueue.weighted(CAPACITY, i->urgent(i) ? 0 : 1, 4, 1);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long urgentSingleLaneAgrona(Blackhole bh) throws Exception {
+        return run(this::agrona, true, bh);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long urgentStrictLanes(Blackhole bh) throws Exception {
+        return run(this::strict, true, bh);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long urgentWeightedLanes(Blackhole bh) throws Exception {
+        return run(this::weighted, true, bh);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long allSingleLaneAgrona(Blackhole bh) throws Exception {
+        return run(this::agrona, false, bh);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long allStrictLanes(Blackhole bh) throws Exception {
+        return run(this::strict, false, bh);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long allWeightedLanes(Blackhole bh) throws Exception {
+        return run(this::weighted, false, bh);
+    }
+}
@@ -0,0 +1,80 @@
+package cyclops.async;
+
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Consuming a closed Queue one element at a time (get) vs via a Stream / bulk drain. Run with -prof gc to compare allocation.
+ */
+@State(Scope.Benchmark)
+public class QueueDrain {
+
+    int messages = 100_000;
+
+    private Queue<Integer> fill(Supplier<Queue<Integer>> factory){
+        Queue<Integer> queue = factory.get();
+        for(int i=0;i<messages;i++){
+            queue.offer(i);
+        }
+        return queue;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void get(Blackhole bh){
+        Queue<Integer> queue = fill(()->QueueFactories.<Integer>boundedNonBlockingQueue(messages+10).build());
+        queue.close();
+        try {
+            while (true)
+                bh.consume(queue.get());
+        }catch(Queue.ClosedQueueException e){
+
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void stream(Blackhole bh){
+        Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(messages+10).build();
+        ReactiveSeq<Integer> stream = queue.stream();
+        fill(()->queue);
+        queue.close();
+        stream.forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void drain(Blackhole bh){
+        Queue<Integer> queue = fill(()->QueueFactories.<Integer>boundedNonBlockingQueue(messages+10).build());
+        queue.close();
+        while(queue.drain(bh::consume,256)!=Queue.CLOSED);
+    }
+}
@@ -0,0 +1,99 @@
+package cyclops.async;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Several rate limited Streams running at once on a small thread pool, blocking (onePer) vs scheduled (onePer with a
+ * ScheduledExecutorService) waits. Blocking waits hold a pool thread each, so Streams queue behind one another.
+ */
+@State(Scope.Benchmark)
+public class RateLimit {
+
+    int streams = 8;
+    int elements = 20;
+    ExecutorService pool;
+    ScheduledExecutorService ex;
+
+    @Setup
+    public void setup(){
+        pool = Executors.newFixedThreadPool(2);
+        ex = Executors.newScheduledThreadPool(1);
+    }
+
+    @TearDown
+    public void tearDown(){
+        pool.shutdown();
+        ex.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 5
+    )
+    @Fork(1)
+    public void blocking(Blackhole bh){
+        CompletableFuture<?>[] running = new CompletableFuture[streams];
+        for(int i=0;i<streams;i++){
+            running[i] = CompletableFuture.runAsync(()->ReactiveSeq.range(0,elements)
+                                                                  .onePer(1,TimeUnit.MILLISECONDS)
+                                                                  .forEach(bh::consume),pool);
+        }
+        CompletableFuture.allOf(running).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 5
+    )
+    @Fork(1)
+    public void scheduled(Blackhole bh){
+        CompletableFuture<?>[] running = new CompletableFuture[streams];
+        for(int i=0;i<streams;i++){
+            CompletableFuture<Boolean> done = new CompletableFuture<>();
+            running[i] = done;
+            pool.execute(()->Spouts.range(0,elements)
+                                   .onePer(1,TimeUnit.MILLISECONDS,ex)
+                                   .forEach(bh::consume,e->{},()->done.complete(true)));
+        }
+        CompletableFuture.allOf(running).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 5
+    )
+    @Measurement(
+            iterations = 5
+    )
+    @Fork(1)
+    @Threads(4)
+    public boolean sharedLimiter(LimiterState state){
+        return state.limiter.tryAcquire();
+    }
+
+    @State(Scope.Benchmark)
+    public static class LimiterState {
+        RateLimiter limiter = RateLimiter.perSecond(1_000_000);
+    }
+}
@@ -0,0 +1,109 @@
+package cyclops.async;
+
+import cyclops.CompletableFutures;
+import cyclops.monads.AnyM;
+import cyclops.monads.Witness;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sequencing N futures that complete after the combined future has been created, then consuming the result.
+ * N-ary CompletableFutures / Future sequence vs the generic AnyM sequence vs CompletableFuture.allOf + join as a baseline.
+ */
+@State(Scope.Benchmark)
+public class SequenceFutures {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    private List<CompletableFuture<Integer>> futures(){
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(size);
+        for(int i=0;i<size;i++)
+            futures.add(new CompletableFuture<>());
+        return futures;
+    }
+    private void complete(List<CompletableFuture<Integer>> futures){
+        for(int i=0;i<size;i++)
+            futures.get(i).complete(i);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long completableFutures(){
+        List<CompletableFuture<Integer>> futures = futures();
+        CompletableFuture<ReactiveSeq<Integer>> result = CompletableFutures.sequence(futures.stream());
+        complete(futures);
+        return result.join().count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long future(){
+        List<CompletableFuture<Integer>> futures = futures();
+        Future<ReactiveSeq<Integer>> result = Future.sequence(futures.stream().map(Future::of));
+        complete(futures);
+        return result.get().count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long anyM(){
+        List<CompletableFuture<Integer>> futures = futures();
+        CompletableFuture<ReactiveSeq<Integer>> result = AnyM.sequence(futures.stream().map(AnyM::fromCompletableFuture),
+                                                                      Witness.completableFuture.INSTANCE)
+                                                             .map(ReactiveSeq::fromStream)
+                                                             .to(Witness::completableFuture);
+        complete(futures);
+        return result.join().count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long allOfJoin(){
+        List<CompletableFuture<Integer>> futures = futures();
+        CompletableFuture<List<Integer>> result = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                                                                   .thenApply(v->futures.stream()
+                                                                                        .map(CompletableFuture::join)
+                                                                                        .collect(Collectors.toList()));
+        complete(futures);
+        return result.join().size();
+    }
+}
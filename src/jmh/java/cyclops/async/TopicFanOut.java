@@ -0,0 +1,78 @@
+package cyclops.async;
+
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Benchmark)
+public class TopicFanOut {
+
+    @Param({"1", "4", "32"})
+    int subscribers;
+
+    int messages = 10_000;
+
+    ExecutorService exec;
+
+    @Setup
+    public void setup(){
+        exec = Executors.newFixedThreadPool(32);
+    }
+    @TearDown
+    public void tearDown(){
+        exec.shutdownNow();
+    }
+
+    private void fanOut(Supplier<Topic<Integer>> factory, Blackhole bh) throws Exception{
+        Topic<Integer> topic = factory.get();
+        List<Future<Long>> results = new ArrayList<>();
+        for(int i=0;i<subscribers;i++){
+            ReactiveSeq<Integer> stream = topic.stream();
+            results.add(exec.submit(()->stream.count()));
+        }
+        for(int i=0;i<messages;i++){
+            topic.offer(i);
+        }
+        topic.close();
+        for(Future<Long> next : results){
+            bh.consume(next.get());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void queuePerSubscriberTopic(Blackhole bh) throws Exception{
+        fanOut(()->new Topic<>(), bh);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void ringBufferTopic(Blackhole bh) throws Exception{
+        fanOut(()->Topic.ringBuffer(1024), bh);
+    }
+
+}
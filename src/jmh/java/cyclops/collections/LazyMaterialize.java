@@ -0,0 +1,102 @@
+package cyclops.collections;
+
+import cyclops.collections.immutable.PStackX;
+import cyclops.collections.immutable.PVectorX;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Materializing chained lazy maps over an eager source, ListX (presized from the propagated size) vs a plain
+ * ArrayList stream collect as a baseline, and the bulk built persistent collections. Run with -prof gc to compare allocation.
+ */
+@State(Scope.Benchmark)
+public class LazyMaterialize {
+
+    @Param({"10000000"})
+    int size;
+
+    List<Integer> source;
+    ListX<Integer> list;
+    PVectorX<Integer> vector;
+    PStackX<Integer> stack;
+
+    @Setup
+    public void setup(){
+        source = new ArrayList<>(size);
+        for(int i=0;i<size;i++)
+            source.add(i);
+        list = ListX.fromIterable(source);
+        vector = PVectorX.fromIterable(source).materialize();
+        stack = PStackX.fromIterable(source).materialize();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public int listX(){
+        return list.map(i->i+1)
+                   .map(i->i*2)
+                   .size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public int arrayListStream(){
+        List<Integer> result = new ArrayList<>();
+        source.stream()
+              .map(i->i+1)
+              .map(i->i*2)
+              .forEach(result::add);
+        return result.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public int pVectorX(){
+        return vector.map(i->i+1)
+                     .map(i->i*2)
+                     .size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public int pStackX(){
+        return stack.map(i->i+1)
+                    .map(i->i*2)
+                    .size();
+    }
+}
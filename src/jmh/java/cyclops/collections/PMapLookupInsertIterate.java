@@ -0,0 +1,210 @@
+package cyclops.collections;
+
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampPMap;
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampPSet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pcollections.HashTreePMap;
+import org.pcollections.HashTreePSet;
+import org.pcollections.PMap;
+import org.pcollections.PSet;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class PMapLookupInsertIterate {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    PMap<Integer,Integer> hashTree;
+    PMap<Integer,Integer> champ;
+    PSet<Integer> hashTreeSet;
+    PSet<Integer> champSet;
+
+    @Setup
+    public void setup(){
+        hashTree = insert(HashTreePMap.empty());
+        champ = insert(ChampPMap.empty());
+        hashTreeSet = insert(HashTreePSet.empty());
+        champSet = insert(ChampPSet.empty());
+    }
+
+    private PMap<Integer,Integer> insert(PMap<Integer,Integer> empty){
+        PMap<Integer,Integer> map = empty;
+        for(int i=0;i<size;i++){
+            map = map.plus(i * 31, i);
+        }
+        return map;
+    }
+    private PSet<Integer> insert(PSet<Integer> empty){
+        PSet<Integer> set = empty;
+        for(int i=0;i<size;i++){
+            set = set.plus(i * 31);
+        }
+        return set;
+    }
+    private long lookup(Map<Integer,Integer> map){
+        long total = 0;
+        for(int i=0;i<size;i++){
+            total += map.get(i * 31);
+        }
+        return total;
+    }
+    private long iterate(Map<Integer,Integer> map){
+        long total = 0;
+        for(Map.Entry<Integer,Integer> next : map.entrySet()){
+            total += next.getValue();
+        }
+        return total;
+    }
+    private long iterate(PSet<Integer> set){
+        long total = 0;
+        for(Integer next : set){
+            total += next;
+        }
+        return total;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hashTreePMapInsert(Blackhole bh){
+        bh.consume(insert(HashTreePMap.empty()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void champPMapInsert(Blackhole bh){
+        bh.consume(insert(ChampPMap.empty()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hashTreePMapLookup(Blackhole bh){
+        bh.consume(lookup(hashTree));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void champPMapLookup(Blackhole bh){
+        bh.consume(lookup(champ));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hashTreePMapIterate(Blackhole bh){
+        bh.consume(iterate(hashTree));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void champPMapIterate(Blackhole bh){
+        bh.consume(iterate(champ));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hashTreePSetInsert(Blackhole bh){
+        bh.consume(insert(HashTreePSet.empty()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void champPSetInsert(Blackhole bh){
+        bh.consume(insert(ChampPSet.empty()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hashTreePSetIterate(Blackhole bh){
+        bh.consume(iterate(hashTreeSet));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void champPSetIterate(Blackhole bh){
+        bh.consume(iterate(champSet));
+    }
+
+}
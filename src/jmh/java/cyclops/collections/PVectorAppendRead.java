@@ -0,0 +1,170 @@
+package cyclops.collections;
+
+import com.aol.cyclops2.data.collections.extensions.persistent.TriePVector;
+import cyclops.Reducers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+public class PVectorAppendRead {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    PVector<Integer> tree;
+    PVector<Integer> trie;
+
+    @Setup
+    public void setup(){
+        tree = TreePVector.empty();
+        trie = TriePVector.empty();
+        for(int i=0;i<size;i++){
+            tree = tree.plus(i);
+            trie = trie.plus(i);
+        }
+    }
+
+    private PVector<Integer> append(PVector<Integer> empty){
+        PVector<Integer> vec = empty;
+        for(int i=0;i<size;i++){
+            vec = vec.plus(i);
+        }
+        return vec;
+    }
+    private long read(PVector<Integer> vec){
+        long total = 0;
+        for(int i=0;i<size;i++){
+            total += vec.get(i);
+        }
+        return total;
+    }
+    private long iterate(PVector<Integer> vec){
+        long total = 0;
+        for(Integer next : vec){
+            total += next;
+        }
+        return total;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void treePVectorPlus(Blackhole bh){
+        bh.consume(append(TreePVector.empty()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void triePVectorPlus(Blackhole bh){
+        bh.consume(append(TriePVector.empty()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void treePVectorGet(Blackhole bh){
+        bh.consume(read(tree));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void triePVectorGet(Blackhole bh){
+        bh.consume(read(trie));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void treePVectorIterate(Blackhole bh){
+        bh.consume(iterate(tree));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void triePVectorIterate(Blackhole bh){
+        bh.consume(iterate(trie));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void treePVectorMapReduce(Blackhole bh){
+        bh.consume(Stream.iterate(0, i -> i + 1)
+                         .limit(size)
+                         .reduce(TreePVector.<Integer>empty(), (a, b) -> a.plus(b), (a, b) -> a.plusAll(b)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void triePVectorMapReduce(Blackhole bh){
+        bh.consume(Reducers.<Integer>toPVectorX()
+                           .mapReduce(Stream.iterate(0, i -> i + 1)
+                                            .limit(size)));
+    }
+
+}
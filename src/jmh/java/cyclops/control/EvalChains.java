@@ -0,0 +1,85 @@
+package cyclops.control;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Build and evaluate deep map / flatMap chains on Later and Always. Run with -prof gc to compare allocation per chain.
+ */
+@State(Scope.Benchmark)
+public class EvalChains {
+
+    @Param({"10", "1000", "100000"})
+    int depth;
+
+    private Eval<Integer> mapChain(Eval<Integer> start){
+        Eval<Integer> eval = start;
+        for(int i=0;i<depth;i++)
+            eval = eval.map(v->v+1);
+        return eval;
+    }
+    private Eval<Integer> flatMapChain(Eval<Integer> start){
+        Eval<Integer> eval = start;
+        for(int i=0;i<depth;i++)
+            eval = eval.flatMap(v->Eval.now(v+1));
+        return eval;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public int laterMap(){
+        return mapChain(Eval.later(()->0)).get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public int alwaysMap(){
+        return mapChain(Eval.always(()->0)).get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public int laterFlatMap(){
+        return flatMapChain(Eval.later(()->0)).get();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public int alwaysFlatMap(){
+        return flatMapChain(Eval.always(()->0)).get();
+    }
+}
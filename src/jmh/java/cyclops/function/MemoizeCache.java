@@ -0,0 +1,106 @@
+package cyclops.function;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memoised lookups over a skewed key space (90% of requests hit 10% of keys).
+ * Unbounded nested-map BiFunction memoisation vs BoundedCache (LRU & W-TinyLFU) sized to hold 10% of the keys vs a
+ * plain ConcurrentHashMap backed Cacheable.
+ */
+@State(Scope.Benchmark)
+public class MemoizeCache {
+
+    private static final int KEYS = 100_000;
+    private static final int REQUESTS = 1_000_000;
+
+    int[] keys;
+    Fn2<Integer,Integer,Integer> nested;
+    Fn2<Integer,Integer,Integer> chm;
+    Fn1<Integer,Integer> lru;
+    Fn1<Integer,Integer> tinyLfu;
+
+    @Setup
+    public void setup(){
+        keys = new int[REQUESTS];
+        Random r = new Random(42);
+        for(int i=0;i<REQUESTS;i++)
+            keys[i] = r.nextInt(10) < 9 ? r.nextInt(KEYS/10) : r.nextInt(KEYS);
+        nested = Memoize.memoizeBiFunction((a,b)->a+b);
+        ConcurrentHashMap<Object,Integer> map = new ConcurrentHashMap<>();
+        chm = Memoize.memoizeBiFunction((a,b)->a+b,(key,fn)->map.computeIfAbsent(key,fn));
+        lru = Memoize.memoizeFunction(a->a*2,BoundedCache.lru(KEYS/10));
+        tinyLfu = Memoize.memoizeFunction(a->a*2,BoundedCache.tinyLfu(KEYS/10));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long nestedBiFunction(){
+        long total = 0;
+        for(int i=0;i<REQUESTS;i++)
+            total += nested.apply(keys[i],1);
+        return total;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long concurrentHashMapBiFunction(){
+        long total = 0;
+        for(int i=0;i<REQUESTS;i++)
+            total += chm.apply(keys[i],1);
+        return total;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long lru(){
+        long total = 0;
+        for(int i=0;i<REQUESTS;i++)
+            total += lru.apply(keys[i]);
+        return total;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long tinyLfu(){
+        long total = 0;
+        for(int i=0;i<REQUESTS;i++)
+            total += tinyLfu.apply(keys[i]);
+        return total;
+    }
+}
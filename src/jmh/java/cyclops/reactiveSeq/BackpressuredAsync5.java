@@ -0,0 +1,125 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An asynchronous, demand respecting Publisher consumed one element at a time through 5 operators
+ */
+@State(Scope.Benchmark)
+public class BackpressuredAsync5 {
+
+ static final int SIZE = 100_000;
+
+ ExecutorService exec;
+
+ @Setup
+ public void setup(){
+  exec = Executors.newSingleThreadExecutor();
+ }
+ @TearDown
+ public void tearDown(){
+  exec.shutdown();
+ }
+
+ Publisher<Integer> publisher(){
+  return s -> {
+   AtomicLong demand = new AtomicLong(0);
+   int[] next = {0};
+   s.onSubscribe(new Subscription() {
+    @Override
+    public void request(long n) {
+     if(demand.getAndAdd(n)==0)
+      exec.execute(()->{
+       long d = demand.get();
+       while(d>0){
+        for(long i=0;i<d && next[0]<SIZE;i++)
+         s.onNext(next[0]++);
+        if(next[0]==SIZE){
+         s.onComplete();
+         return;
+        }
+        d = demand.addAndGet(-d);
+       }
+      });
+    }
+
+    @Override
+    public void cancel() {
+
+    }
+   });
+  };
+ }
+ void consumeOneAtATime(ReactiveSeq<Integer> stream, Blackhole bh) throws InterruptedException {
+  CountDownLatch latch = new CountDownLatch(1);
+  stream.map(i -> i * 2)
+        .filter(i -> i % 3 != 0)
+        .map(i -> i + 1)
+        .filter(i -> i % 5 != 0)
+        .map(i -> i - 1)
+        .subscribe(new Subscriber<Integer>() {
+         Subscription sub;
+         @Override
+         public void onSubscribe(Subscription s) {
+          sub = s;
+          s.request(1);
+         }
+
+         @Override
+         public void onNext(Integer i) {
+          bh.consume(i);
+          sub.request(1);
+         }
+
+         @Override
+         public void onError(Throwable t) {
+
+         }
+
+         @Override
+         public void onComplete() {
+          latch.countDown();
+         }
+        });
+  latch.await();
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsFrom(Blackhole bh) throws InterruptedException {
+  consumeOneAtATime(Spouts.from(publisher()),bh);
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+ iterations = 10
+ )
+ @Measurement(
+ iterations = 10
+ )
+ @Fork(1)
+ public void spoutsFromPrefetch(Blackhole bh) throws InterruptedException {
+  consumeOneAtATime(Spouts.from(publisher(),256),bh);
+ }
+}
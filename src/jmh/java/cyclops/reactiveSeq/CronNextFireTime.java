@@ -0,0 +1,68 @@
+package cyclops.reactiveSeq;
+
+import com.aol.cyclops2.util.stream.scheduling.cron.CompiledCron;
+import com.aol.cyclops2.util.stream.scheduling.cron.CronExpression;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class CronNextFireTime {
+
+    @Param({"* * * * * ?", "0 0/5 * * * ?", "0 15 10 ? * MON-FRI"})
+    String expression;
+
+    CompiledCron compiled;
+    CronExpression parsed;
+    long start = 1_500_000_000_000l;
+
+    @Setup
+    public void setup() throws Exception{
+        compiled = CompiledCron.compile(expression);
+        parsed = new CronExpression(expression);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void cronExpressionParsePerTick(Blackhole bh) throws Exception{
+        bh.consume(new CronExpression(expression).getNextValidTimeAfter(new Date(start)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void cronExpression(Blackhole bh){
+        bh.consume(parsed.getNextValidTimeAfter(new Date(start)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void compiledCron(Blackhole bh){
+        bh.consume(compiled.nextFireAfter(start));
+    }
+}
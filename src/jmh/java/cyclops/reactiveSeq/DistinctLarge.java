@@ -0,0 +1,88 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares unbounded distinct with the bounded (windowed) and approximate (Bloom filter) variants over a Stream with a
+ * large key space. Run with -prof gc to compare allocation / retained heap.
+ */
+@State(Scope.Benchmark)
+public class DistinctLarge {
+
+ @Param({"10000000"})
+ int size;
+
+ @Benchmark
+ @BenchmarkMode(Mode.SingleShotTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 3
+ )
+ @Measurement(
+         iterations = 5
+ )
+ @Fork(value = 1, jvmArgs = {"-Xmx4g"})
+ public void distinct(Blackhole bh) {
+   bh.consume(ReactiveSeq.range(0, size)
+           .map(i -> i % (size / 2))
+           .distinct()
+           .count());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SingleShotTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 3
+ )
+ @Measurement(
+         iterations = 5
+ )
+ @Fork(value = 1, jvmArgs = {"-Xmx4g"})
+ public void distinctWindowed(Blackhole bh) {
+   bh.consume(ReactiveSeq.range(0, size)
+           .map(i -> i % (size / 2))
+           .distinctWindowed(100_000)
+           .count());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SingleShotTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 3
+ )
+ @Measurement(
+         iterations = 5
+ )
+ @Fork(value = 1, jvmArgs = {"-Xmx4g"})
+ public void distinctApproximate(Blackhole bh) {
+   bh.consume(ReactiveSeq.range(0, size)
+           .map(i -> i % (size / 2))
+           .distinctApproximate(size / 2, 0.01)
+           .count());
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SingleShotTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 3
+ )
+ @Measurement(
+         iterations = 5
+ )
+ @Fork(value = 1, jvmArgs = {"-Xmx4g"})
+ public void distinctApproximatePush(Blackhole bh) {
+   bh.consume(Spouts.range(0, size)
+           .map(i -> i % (size / 2))
+           .distinctApproximate(size / 2, 0.01)
+           .count());
+ }
+}
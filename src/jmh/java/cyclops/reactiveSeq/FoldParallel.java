@@ -0,0 +1,88 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.ReactiveSeq;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU heavy map / reduce via foldParallel, queue backed (element at a time handoff) vs chunked, with 1, 4 and 16 workers.
+ */
+@State(Scope.Benchmark)
+public class FoldParallel {
+
+ @Param({"1", "4", "16"})
+ int workers;
+
+ int size = 200_000;
+
+ ForkJoinPool pool;
+
+ @Setup
+ public void setup() {
+   pool = new ForkJoinPool(workers);
+ }
+
+ @TearDown
+ public void tearDown() {
+   pool.shutdown();
+ }
+
+ static double expensive(int i) {
+   double d = i;
+   for (int k = 0; k < 200; k++)
+     d = Math.sqrt(d + k);
+   return d;
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 5
+ )
+ @Measurement(
+         iterations = 5
+ )
+ @Fork(1)
+ public void queue(Blackhole bh) {
+   bh.consume(ReactiveSeq.range(0, size)
+           .<Double>foldParallel(pool, s -> s.mapToDouble(FoldParallel::expensive)
+                                    .sum()));
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 5
+ )
+ @Measurement(
+         iterations = 5
+ )
+ @Fork(1)
+ public void chunkedOrdered(Blackhole bh) {
+   bh.consume(ReactiveSeq.range(0, size)
+           .<Double>foldParallel(pool, 1024, true, s -> s.mapToDouble(FoldParallel::expensive)
+                                                 .sum(), Double::sum));
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 5
+ )
+ @Measurement(
+         iterations = 5
+ )
+ @Fork(1)
+ public void chunkedUnordered(Blackhole bh) {
+   bh.consume(ReactiveSeq.range(0, size)
+           .<Double>foldParallel(pool, 1024, false, s -> s.mapToDouble(FoldParallel::expensive)
+                                                  .sum(), Double::sum));
+ }
+}
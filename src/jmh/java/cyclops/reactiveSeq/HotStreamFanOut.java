@@ -0,0 +1,86 @@
+package cyclops.reactiveSeq;
+
+import com.aol.cyclops2.types.stream.HotStream;
+import com.aol.cyclops2.util.ExceptionSoftener;
+import cyclops.stream.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Benchmark)
+public class HotStreamFanOut {
+
+    int consumers = 50;
+
+    int messages = 10_000;
+
+    ExecutorService exec;
+    ExecutorService publisher;
+
+    @Setup
+    public void setup(){
+        exec = Executors.newFixedThreadPool(consumers);
+        publisher = Executors.newSingleThreadExecutor();
+    }
+    @TearDown
+    public void tearDown(){
+        exec.shutdownNow();
+        publisher.shutdownNow();
+    }
+
+    private void fanOut(Function<ReactiveSeq<Integer>,HotStream<Integer>> factory, Blackhole bh) throws Exception{
+        CountDownLatch connected = new CountDownLatch(1);
+        HotStream<Integer> hot = factory.apply(ReactiveSeq.range(0,messages)
+                                                          .peek(i->{
+                                                              if(i==0)
+                                                                  ExceptionSoftener.softenRunnable(connected::await).run();
+                                                          }));
+        List<Future<Long>> results = new ArrayList<>();
+        for(int i=0;i<consumers;i++){
+            ReactiveSeq<Integer> stream = hot.connect(new LinkedBlockingQueue<>());
+            results.add(exec.submit(()->stream.limit(messages).count()));
+        }
+        connected.countDown();
+        for(Future<Long> next : results){
+            bh.consume(next.get());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void hotStream(Blackhole bh) throws Exception{
+        fanOut(s->s.hotStream(publisher), bh);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void pausableHotStream(Blackhole bh) throws Exception{
+        fanOut(s->s.pausableHotStream(publisher), bh);
+    }
+
+}
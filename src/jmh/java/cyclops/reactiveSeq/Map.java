@@ -1,11 +1,13 @@
 package cyclops.reactiveSeq;
 
+import cyclops.stream.IntReactiveSeq;
 import cyclops.stream.ReactiveSeq;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -66,4 +68,56 @@ public class Map {
   }
  }
 
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void intStreamMap(Blackhole bh){
+  for(int k=0;k<100;k++) {
+   bh.consume(IntStream.of(1, 2, 3)
+           .map(i -> i * 2)
+           .toArray());
+  }
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void intReactiveSeqMap(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(IntReactiveSeq.of(1, 2, 3)
+           .map(i -> i * 2)
+           .toArray());
+  }
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void reactiveSeqMapInts(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(ReactiveSeq.ofInts(1, 2, 3)
+           .to(ReactiveSeq.mapInts(i -> i * 2))
+           .toList());
+  }
+ }
+
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package cyclops.reactiveSeq;
 
 import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -78,4 +79,151 @@ public class Map5 {
   }
  }
 
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMap5(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.of(1, 2, 3)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMap10(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.of(1, 2, 3)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void streamMixed5(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Stream.iterate(0, i -> i + 1).limit(100)
+           .map(i -> i + 1)
+           .filter(i -> i % 2 == 0)
+           .peek(i -> {})
+           .skip(1)
+           .limit(50)
+           .collect(Collectors.toList()));
+  }
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMixed5(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.range(0, 100)
+           .map(i -> i + 1)
+           .filter(i -> i % 2 == 0)
+           .peek(i -> {})
+           .skip(1)
+           .limit(50)
+           .collect(Collectors.toList()));
+  }
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void streamMixed10(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Stream.iterate(0, i -> i + 1).limit(100)
+           .map(i -> i + 1)
+           .filter(i -> i % 2 == 0)
+           .peek(i -> {})
+           .map(i -> i * 3)
+           .skip(1)
+           .filter(i -> i > 0)
+           .map(i -> i - 1)
+           .peek(i -> {})
+           .map(i -> i / 2)
+           .limit(50)
+           .collect(Collectors.toList()));
+  }
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMixed10(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.range(0, 100)
+           .map(i -> i + 1)
+           .filter(i -> i % 2 == 0)
+           .peek(i -> {})
+           .map(i -> i * 3)
+           .skip(1)
+           .filter(i -> i > 0)
+           .map(i -> i - 1)
+           .peek(i -> {})
+           .map(i -> i / 2)
+           .limit(50)
+           .collect(Collectors.toList()));
+  }
+ }
+
 }
\ No newline at end of file
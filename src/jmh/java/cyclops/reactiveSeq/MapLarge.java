@@ -1,11 +1,13 @@
 package cyclops.reactiveSeq;
 
+import cyclops.stream.IntReactiveSeq;
 import cyclops.stream.ReactiveSeq;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -49,5 +51,78 @@ public class MapLarge {
 
  }
 
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void intStreamMapLarge(Blackhole bh){
+
+   IntStream.iterate(1,i->i+1)
+           .limit(10000)
+           .map(i -> i * 2)
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void intReactiveSeqMapLarge(Blackhole bh) {
+
+   IntReactiveSeq.iterate(1,i->i+1)
+           .limit(10000)
+           .map(i -> i * 2)
+           .forEach(bh::consume);
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void intReactiveSeqRangeMapFilterLarge(Blackhole bh) {
+
+   bh.consume(IntReactiveSeq.range(1,10001)
+           .map(i -> i * 2)
+           .filter(i -> i % 3 == 0)
+           .sum());
+
+ }
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void reactiveSeqRangeMapFilterLarge(Blackhole bh) {
+
+   bh.consume(ReactiveSeq.range(1,10001)
+           .map(i -> i * 2)
+           .filter(i -> i % 3 == 0)
+           .foldLeft(0,(a,b)->a+b));
+
+ }
+
 
 }
\ No newline at end of file
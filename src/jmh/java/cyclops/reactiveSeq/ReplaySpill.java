@@ -0,0 +1,65 @@
+package cyclops.reactiveSeq;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.ReplayCache;
+import cyclops.stream.Streamable;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a synthetic Stream of 1KB records (10GB at the default size) twice on a 64MB heap, via a ReplayCache that
+ * spills to a memory mapped file. The unbounded Streamable.fromStream would fail with an OutOfMemoryError.
+ */
+@State(Scope.Benchmark)
+public class ReplaySpill {
+
+ @Param({"10000000"})
+ int records;
+
+ ReplayCache.Serializer<byte[]> bytes = new ReplayCache.Serializer<byte[]>() {
+   @Override
+   public byte[] serialize(byte[] value) {
+     return value;
+   }
+
+   @Override
+   public byte[] deserialize(byte[] data) {
+     return data;
+   }
+ };
+
+ private long replay(Streamable<byte[]> replayable) {
+   long checksum = 0;
+   Iterator<byte[]> it = replayable.iterator();
+   while (it.hasNext())
+     checksum += it.next()[0];
+   return checksum;
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SingleShotTime)
+ @OutputTimeUnit(TimeUnit.SECONDS)
+ @Warmup(
+         iterations = 0
+ )
+ @Measurement(
+         iterations = 1
+ )
+ @Fork(value = 1, jvmArgs = {"-Xmx64m"})
+ public void spillTwice(Blackhole bh) {
+   ReplayCache<byte[]> cache = ReplayCache.spill(ReactiveSeq.range(0, records)
+                                                            .map(i -> {
+                                                              byte[] record = new byte[1024];
+                                                              record[0] = (byte) i.intValue();
+                                                              return record;
+                                                            }), 10_000, bytes);
+   Streamable<byte[]> replayable = cache.streamable();
+   bh.consume(replay(replayable));
+   bh.consume(replay(replayable));
+   cache.close();
+ }
+}
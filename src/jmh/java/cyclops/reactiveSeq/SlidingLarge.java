@@ -0,0 +1,81 @@
+package cyclops.reactiveSeq;
+
+import cyclops.Monoids;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moving sum over a window of 1,000 elements, materialized windows vs slidingReduce.
+ */
+public class SlidingLarge {
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void slidingSum(Blackhole bh) {
+   ReactiveSeq.range(0, 100000)
+           .sliding(1000)
+           .map(l -> l.stream().mapToInt(i -> i).sum())
+           .forEach(bh::consume);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void slidingReduce(Blackhole bh) {
+   ReactiveSeq.range(0, 100000)
+           .slidingReduce(1000, Monoids.intSum)
+           .forEach(bh::consume);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void slidingReduceInvertible(Blackhole bh) {
+   ReactiveSeq.range(0, 100000)
+           .slidingReduce(1000, Monoids.intSum, (a, b) -> a - b)
+           .forEach(bh::consume);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void slidingReduceInvertiblePush(Blackhole bh) {
+   Spouts.range(0, 100000)
+           .slidingReduce(1000, Monoids.intSum, (a, b) -> a - b)
+           .forEach(bh::consume);
+ }
+}
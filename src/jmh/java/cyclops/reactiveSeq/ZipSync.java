@@ -0,0 +1,78 @@
+package cyclops.reactiveSeq;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.ArrayOfValuesOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.ZippingOperator;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zipping two synchronous Spouts (lock-step, no queues) vs the concurrent queue based ZippingOperator over the same data,
+ * plus zipWithIndex. Run with -prof gc to compare allocation.
+ */
+@State(Scope.Benchmark)
+public class ZipSync {
+
+    static final int SIZE = 100_000;
+
+    Integer[] data;
+
+    @Setup
+    public void setup(){
+        data = new Integer[SIZE];
+        for(int i=0;i<SIZE;i++)
+            data[i]=i;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void lockStep(Blackhole bh){
+        Spouts.of(data)
+              .zipS(Spouts.of(data),(a,b)->a+b)
+              .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void queueBased(Blackhole bh){
+        Spouts.<Integer>syncStream(new ZippingOperator<Integer,Integer,Integer>(new ArrayOfValuesOperator<>(data),
+                                                                                  new ArrayOfValuesOperator<>(data),
+                                                                                  (a,b)->a+b))
+              .forEach(bh::consume);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public void zipWithIndex(Blackhole bh){
+        Spouts.of(data)
+              .zipWithIndex()
+              .forEach(bh::consume);
+    }
+}
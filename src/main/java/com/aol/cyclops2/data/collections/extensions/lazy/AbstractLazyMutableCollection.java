@@ -3,6 +3,7 @@ package com.aol.cyclops2.data.collections.extensions.lazy;
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import com.aol.cyclops2.data.collections.extensions.LazyFluentCollection;
 import com.aol.cyclops2.data.collections.extensions.standard.MutableCollectionX;
+import com.aol.cyclops2.internal.stream.SpliteratorBasedStream;
 import com.aol.cyclops2.util.ExceptionSoftener;
 import cyclops.stream.ReactiveSeq;
 import lombok.AccessLevel;
@@ -10,12 +11,12 @@ import lombok.Getter;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Spliterator;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collector;
@@ -31,7 +32,7 @@ public abstract class AbstractLazyMutableCollection<T, C extends Collection<T>>
     private final AtomicReference<ReactiveSeq<T>> seq = new AtomicReference<>(null);
     @Getter(AccessLevel.PROTECTED)
     private final Collector<T, ?, C> collectorInternal;
-    final AtomicBoolean updating = new AtomicBoolean(false);
+    private final Object lock = new Object();
     final AtomicReference<Throwable> error = new AtomicReference<>(null);
 
     public AbstractLazyMutableCollection(C list, ReactiveSeq<T> seq, Collector<T, ?, C> collector) {
@@ -45,27 +46,22 @@ public abstract class AbstractLazyMutableCollection<T, C extends Collection<T>>
     @Override
     public C get() {
         if (seq.get() != null) {
-            if(updating.compareAndSet(false, true)) { //check if can materialize
+            synchronized (lock) { //only one thread materializes, others block on the monitor until it completes
 
                 try{
 
                     ReactiveSeq<T> toUse = seq.get();
-                    if(toUse!=null){//dbl check - as we may pass null check on on thread and set updating false on another
+                    if(toUse!=null){//dbl check - another thread may have materialized while we were waiting
 
-                        list = toUse.collect(collectorInternal);
+                        list = collect(toUse);
 
                         seq.set(null);
                     }
                 }catch(Throwable t){
                     error.set(t); //catch any errors for propagation on access
 
-                }finally{
-                    updating.set(false); //finished updating
                 }
             }
-            while(updating.get()){ //Check if another thread updating
-                LockSupport.parkNanos(0l); //spin until updating thread completes
-            }
             if(error.get()!=null) //if updating thread failed, throw error
                 throw ExceptionSoftener.throwSoftenedException(error.get());
 
@@ -77,6 +73,26 @@ public abstract class AbstractLazyMutableCollection<T, C extends Collection<T>>
 
     }
 
+    /*
+     * Equivalent to toUse.collect(collectorInternal), but when the size of the Stream is known (e.g. a chain of maps over an
+     * eager Collection) an ArrayList based result is presized, avoiding repeated array growth & copying
+     */
+    private C collect(ReactiveSeq<T> toUse){
+        if(!(toUse instanceof SpliteratorBasedStream)) //reactive-streams based Streams push to the Collector
+            return toUse.collect(collectorInternal);
+        Collector<T, Object, C> collector = (Collector<T, Object, C>)collectorInternal;
+        Spliterator<T> split = toUse.spliterator();
+        Object container = collector.supplier().get();
+        long size = split.getExactSizeIfKnown();
+        if(size>0 && size<Integer.MAX_VALUE && container instanceof ArrayList)
+            ((ArrayList<T>)container).ensureCapacity((int)size);
+        BiConsumer<Object, T> accumulator = collector.accumulator();
+        split.forEachRemaining(t->accumulator.accept(container,t));
+        if(collector.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH))
+            return (C)container;
+        return collector.finisher().apply(container);
+    }
+
 
 
     @Override
@@ -15,9 +15,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Spliterator;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.LockSupport;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -33,7 +31,7 @@ public abstract class AbstractLazyPersistentCollection<T, C extends PCollection<
     protected final AtomicReference<ReactiveSeq<T>> seq;
     @Getter(AccessLevel.PROTECTED)
     private final Reducer<C> collectorInternal;
-    final AtomicBoolean updating = new AtomicBoolean(false);
+    private final Object lock = new Object();
     final AtomicReference<Throwable> error = new AtomicReference<>(null);
 
     public AbstractLazyPersistentCollection(C list, ReactiveSeq<T> seq, Reducer<C> collector) {
@@ -47,23 +45,18 @@ public abstract class AbstractLazyPersistentCollection<T, C extends PCollection<
     @Override
     public C get() {
         if (seq.get() != null) {
-            if(updating.compareAndSet(false, true)) { //check if can materialize
+            synchronized (lock) { //only one thread materializes, others block on the monitor until it completes
                 try{
                     ReactiveSeq<T> toUse = seq.get();
-                    if(toUse!=null){//dbl check - as we may pass null check on on thread and set updating false on another
+                    if(toUse!=null){//dbl check - another thread may have materialized while we were waiting
                         list = collectorInternal.mapReduce(toUse);
                         seq.set(null);
                     }
                 }catch(Throwable t){
                     error.set(t); //catch any errors for propagation on access
 
-                }finally{
-                    updating.set(false); //finished updating
                 }
             }
-            while(updating.get()){ //Check if another thread updating
-                LockSupport.parkNanos(0l); //spin until updating thread completes
-            }
             if(error.get()!=null) //if updating thread failed, throw error
                 throw ExceptionSoftener.throwSoftenedException(error.get());
 
@@ -0,0 +1,564 @@
+package com.aol.cyclops2.data.collections.extensions.persistent;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Node of a Compressed Hash-Array Mapped Prefix-tree (CHAMP), shared by {@link ChampPMap} and {@link ChampPSet}.
+ *
+ * Bitmap nodes store their key / value pairs inline at the start of a single array, and their sub-nodes (in reverse order) at the end of
+ * the same array. Deletion keeps the trie in a canonical (compact) form, so two tries with the same entries always have the same shape -
+ * allowing equality checks to compare nodes structurally and skip shared sub-tries.
+ *
+ * Nodes created with an owner (a transient Builder) may be edited in place by that owner, all other edits copy the path to the change.
+ */
+abstract class ChampNode {
+
+    static final int BITS = 5;
+    static final int MASK = (1 << BITS) - 1;
+    static final int HASH_LENGTH = 32;
+
+    static final ChampNode EMPTY = new BitmapNode(
+                                                  null, 0, 0, new Object[0]);
+
+    /**
+     * Tracks the effect of an update or removal
+     */
+    static final class Change {
+        boolean modified;
+        boolean replaced;
+
+        void reset() {
+            modified = false;
+            replaced = false;
+        }
+    }
+
+    static int hash(final Object key) {
+        final int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    static int mask(final int hash, final int shift) {
+        return (hash >>> shift) & MASK;
+    }
+
+    static int bitpos(final int mask) {
+        return 1 << mask;
+    }
+
+    abstract Object find(Object key, int hash, int shift, Object notFound);
+
+    abstract ChampNode updated(Object owner, Object key, Object value, int hash, int shift, Change change);
+
+    abstract ChampNode removed(Object owner, Object key, int hash, int shift, Change change);
+
+    abstract boolean hasNodes();
+
+    abstract int nodeArity();
+
+    abstract ChampNode getNode(int index);
+
+    abstract boolean hasPayload();
+
+    abstract int payloadArity();
+
+    abstract Object getKey(int index);
+
+    abstract Object getValue(int index);
+
+    /**
+     * @return 0 if empty, 1 if this node holds a single entry and no sub-nodes, 2 otherwise
+     */
+    abstract int sizePredicate();
+
+    abstract boolean equivalent(ChampNode other);
+
+    void forEach(final BiConsumer<Object, Object> action) {
+        for (int i = 0; i < payloadArity(); i++)
+            action.accept(getKey(i), getValue(i));
+        for (int i = 0; i < nodeArity(); i++)
+            getNode(i).forEach(action);
+    }
+
+    static ChampNode mergeTwoKeyValuePairs(final Object owner, final Object key0, final Object value0, final int hash0, final Object key1,
+            final Object value1, final int hash1, final int shift) {
+        if (shift >= HASH_LENGTH)
+            return new CollisionNode(
+                                     owner, hash0, new Object[] { key0, value0, key1, value1 });
+        final int mask0 = mask(hash0, shift);
+        final int mask1 = mask(hash1, shift);
+        if (mask0 != mask1) {
+            final int dataMap = bitpos(mask0) | bitpos(mask1);
+            if (mask0 < mask1)
+                return new BitmapNode(
+                                      owner, 0, dataMap, new Object[] { key0, value0, key1, value1 });
+            return new BitmapNode(
+                                  owner, 0, dataMap, new Object[] { key1, value1, key0, value0 });
+        }
+        final ChampNode node = mergeTwoKeyValuePairs(owner, key0, value0, hash0, key1, value1, hash1, shift + BITS);
+        return new BitmapNode(
+                              owner, bitpos(mask0), 0, new Object[] { node });
+    }
+
+    static final class BitmapNode extends ChampNode {
+        private final Object owner;
+        private int nodeMap;
+        private int dataMap;
+        private Object[] content;
+
+        BitmapNode(final Object owner, final int nodeMap, final int dataMap, final Object[] content) {
+            this.owner = owner;
+            this.nodeMap = nodeMap;
+            this.dataMap = dataMap;
+            this.content = content;
+        }
+
+        private boolean editable(final Object owner) {
+            return owner != null && this.owner == owner;
+        }
+
+        private int dataIndex(final int bitpos) {
+            return Integer.bitCount(dataMap & (bitpos - 1));
+        }
+
+        private int nodeIndex(final int bitpos) {
+            return Integer.bitCount(nodeMap & (bitpos - 1));
+        }
+
+        private ChampNode nodeAt(final int bitpos) {
+            return (ChampNode) content[content.length - 1 - nodeIndex(bitpos)];
+        }
+
+        @Override
+        Object find(final Object key, final int hash, final int shift, final Object notFound) {
+            final int bitpos = bitpos(mask(hash, shift));
+            if ((dataMap & bitpos) != 0) {
+                final int index = 2 * dataIndex(bitpos);
+                return Objects.equals(key, content[index]) ? content[index + 1] : notFound;
+            }
+            if ((nodeMap & bitpos) != 0)
+                return nodeAt(bitpos).find(key, hash, shift + BITS, notFound);
+            return notFound;
+        }
+
+        @Override
+        ChampNode updated(final Object owner, final Object key, final Object value, final int hash, final int shift, final Change change) {
+            final int bitpos = bitpos(mask(hash, shift));
+            if ((dataMap & bitpos) != 0) {
+                final int index = 2 * dataIndex(bitpos);
+                final Object currentKey = content[index];
+                if (Objects.equals(currentKey, key)) {
+                    final Object currentValue = content[index + 1];
+                    if (currentValue == value)
+                        return this;
+                    change.modified = true;
+                    change.replaced = true;
+                    return copyAndSetValue(owner, index + 1, value);
+                }
+                final ChampNode node = mergeTwoKeyValuePairs(owner, currentKey, content[index + 1], hash(currentKey), key, value, hash,
+                                                             shift + BITS);
+                change.modified = true;
+                return copyAndMigrateFromInlineToNode(owner, bitpos, node);
+            }
+            if ((nodeMap & bitpos) != 0) {
+                final ChampNode node = nodeAt(bitpos);
+                final ChampNode newNode = node.updated(owner, key, value, hash, shift + BITS, change);
+                if (newNode == node)
+                    return this;
+                return copyAndSetNode(owner, bitpos, newNode);
+            }
+            change.modified = true;
+            return copyAndInsertValue(owner, bitpos, key, value);
+        }
+
+        @Override
+        ChampNode removed(final Object owner, final Object key, final int hash, final int shift, final Change change) {
+            final int mask = mask(hash, shift);
+            final int bitpos = bitpos(mask);
+            if ((dataMap & bitpos) != 0) {
+                final int dataIndex = dataIndex(bitpos);
+                if (!Objects.equals(content[2 * dataIndex], key))
+                    return this;
+                change.modified = true;
+                if (payloadArity() == 2 && nodeArity() == 0) {
+                    //the remaining entry either becomes the new root, or is inlined into the parent
+                    final int newDataMap = shift == 0 ? dataMap ^ bitpos : bitpos(mask(hash, 0));
+                    final int remaining = dataIndex == 0 ? 2 : 0;
+                    return new BitmapNode(
+                                          owner, 0, newDataMap, new Object[] { content[remaining], content[remaining + 1] });
+                }
+                return copyAndRemoveValue(owner, bitpos, 2 * dataIndex);
+            }
+            if ((nodeMap & bitpos) != 0) {
+                final ChampNode node = nodeAt(bitpos);
+                final ChampNode newNode = node.removed(owner, key, hash, shift + BITS, change);
+                if (!change.modified)
+                    return this;
+                switch (newNode.sizePredicate()) {
+                case 0:
+                    throw new IllegalStateException(
+                                                    "Sub-node must have at least one element");
+                case 1:
+                    if (payloadArity() == 0 && nodeArity() == 1)
+                        return newNode;
+                    return copyAndMigrateFromNodeToInline(owner, bitpos, newNode);
+                default:
+                    return copyAndSetNode(owner, bitpos, newNode);
+                }
+            }
+            return this;
+        }
+
+        private ChampNode copyAndSetValue(final Object owner, final int index, final Object value) {
+            if (editable(owner)) {
+                content[index] = value;
+                return this;
+            }
+            final Object[] dst = content.clone();
+            dst[index] = value;
+            return new BitmapNode(
+                                  owner, nodeMap, dataMap, dst);
+        }
+
+        private ChampNode copyAndSetNode(final Object owner, final int bitpos, final ChampNode node) {
+            final int index = content.length - 1 - nodeIndex(bitpos);
+            if (editable(owner)) {
+                content[index] = node;
+                return this;
+            }
+            final Object[] dst = content.clone();
+            dst[index] = node;
+            return new BitmapNode(
+                                  owner, nodeMap, dataMap, dst);
+        }
+
+        private ChampNode copyAndInsertValue(final Object owner, final int bitpos, final Object key, final Object value) {
+            final int index = 2 * dataIndex(bitpos);
+            final Object[] src = content;
+            final Object[] dst = new Object[src.length + 2];
+            System.arraycopy(src, 0, dst, 0, index);
+            dst[index] = key;
+            dst[index + 1] = value;
+            System.arraycopy(src, index, dst, index + 2, src.length - index);
+            return withContent(owner, nodeMap, dataMap | bitpos, dst);
+        }
+
+        private ChampNode copyAndRemoveValue(final Object owner, final int bitpos, final int index) {
+            final Object[] src = content;
+            final Object[] dst = new Object[src.length - 2];
+            System.arraycopy(src, 0, dst, 0, index);
+            System.arraycopy(src, index + 2, dst, index, src.length - index - 2);
+            return withContent(owner, nodeMap, dataMap ^ bitpos, dst);
+        }
+
+        private ChampNode copyAndMigrateFromInlineToNode(final Object owner, final int bitpos, final ChampNode node) {
+            final int indexOld = 2 * dataIndex(bitpos);
+            final int indexNew = content.length - 2 - nodeIndex(bitpos);
+            final Object[] src = content;
+            final Object[] dst = new Object[src.length - 1];
+            System.arraycopy(src, 0, dst, 0, indexOld);
+            System.arraycopy(src, indexOld + 2, dst, indexOld, indexNew - indexOld);
+            dst[indexNew] = node;
+            System.arraycopy(src, indexNew + 2, dst, indexNew + 1, src.length - indexNew - 2);
+            return withContent(owner, nodeMap | bitpos, dataMap ^ bitpos, dst);
+        }
+
+        private ChampNode copyAndMigrateFromNodeToInline(final Object owner, final int bitpos, final ChampNode node) {
+            final int indexOld = content.length - 1 - nodeIndex(bitpos);
+            final int indexNew = 2 * dataIndex(bitpos);
+            final Object[] src = content;
+            final Object[] dst = new Object[src.length + 1];
+            System.arraycopy(src, 0, dst, 0, indexNew);
+            dst[indexNew] = node.getKey(0);
+            dst[indexNew + 1] = node.getValue(0);
+            System.arraycopy(src, indexNew, dst, indexNew + 2, indexOld - indexNew);
+            System.arraycopy(src, indexOld + 1, dst, indexOld + 2, src.length - indexOld - 1);
+            return withContent(owner, nodeMap ^ bitpos, dataMap | bitpos, dst);
+        }
+
+        private ChampNode withContent(final Object owner, final int nodeMap, final int dataMap, final Object[] content) {
+            if (editable(owner)) {
+                this.nodeMap = nodeMap;
+                this.dataMap = dataMap;
+                this.content = content;
+                return this;
+            }
+            return new BitmapNode(
+                                  owner, nodeMap, dataMap, content);
+        }
+
+        @Override
+        boolean hasNodes() {
+            return nodeMap != 0;
+        }
+
+        @Override
+        int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        ChampNode getNode(final int index) {
+            return (ChampNode) content[content.length - 1 - index];
+        }
+
+        @Override
+        boolean hasPayload() {
+            return dataMap != 0;
+        }
+
+        @Override
+        int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        Object getKey(final int index) {
+            return content[2 * index];
+        }
+
+        @Override
+        Object getValue(final int index) {
+            return content[2 * index + 1];
+        }
+
+        @Override
+        int sizePredicate() {
+            if (nodeMap != 0)
+                return 2;
+            final int payload = payloadArity();
+            return payload > 1 ? 2 : payload;
+        }
+
+        @Override
+        boolean equivalent(final ChampNode other) {
+            if (this == other)
+                return true;
+            if (!(other instanceof BitmapNode))
+                return false;
+            final BitmapNode that = (BitmapNode) other;
+            if (nodeMap != that.nodeMap || dataMap != that.dataMap)
+                return false;
+            final int payloadEnd = 2 * payloadArity();
+            for (int i = 0; i < payloadEnd; i++) {
+                if (!Objects.equals(content[i], that.content[i]))
+                    return false;
+            }
+            for (int i = payloadEnd; i < content.length; i++) {
+                if (!((ChampNode) content[i]).equivalent((ChampNode) that.content[i]))
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Holds entries whose (32 bit) hashes are identical
+     */
+    static final class CollisionNode extends ChampNode {
+        private final Object owner;
+        private final int hash;
+        private Object[] content;
+
+        CollisionNode(final Object owner, final int hash, final Object[] content) {
+            this.owner = owner;
+            this.hash = hash;
+            this.content = content;
+        }
+
+        private int indexOf(final Object key) {
+            for (int i = 0; i < content.length; i += 2) {
+                if (Objects.equals(key, content[i]))
+                    return i;
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(final Object key, final int hash, final int shift, final Object notFound) {
+            if (hash != this.hash)
+                return notFound;
+            final int index = indexOf(key);
+            return index == -1 ? notFound : content[index + 1];
+        }
+
+        @Override
+        ChampNode updated(final Object owner, final Object key, final Object value, final int hash, final int shift, final Change change) {
+            final int index = indexOf(key);
+            if (index != -1) {
+                if (content[index + 1] == value)
+                    return this;
+                change.modified = true;
+                change.replaced = true;
+                if (owner != null && this.owner == owner) {
+                    content[index + 1] = value;
+                    return this;
+                }
+                final Object[] dst = content.clone();
+                dst[index + 1] = value;
+                return new CollisionNode(
+                                         owner, this.hash, dst);
+            }
+            change.modified = true;
+            final Object[] dst = Arrays.copyOf(content, content.length + 2);
+            dst[content.length] = key;
+            dst[content.length + 1] = value;
+            if (owner != null && this.owner == owner) {
+                content = dst;
+                return this;
+            }
+            return new CollisionNode(
+                                     owner, this.hash, dst);
+        }
+
+        @Override
+        ChampNode removed(final Object owner, final Object key, final int hash, final int shift, final Change change) {
+            final int index = indexOf(key);
+            if (index == -1)
+                return this;
+            change.modified = true;
+            if (content.length == 4) {
+                //a single remaining entry is inlined into the parent (or becomes the root)
+                final int remaining = index == 0 ? 2 : 0;
+                return new BitmapNode(
+                                      owner, 0, bitpos(mask(hash, 0)), new Object[] { content[remaining], content[remaining + 1] });
+            }
+            final Object[] dst = new Object[content.length - 2];
+            System.arraycopy(content, 0, dst, 0, index);
+            System.arraycopy(content, index + 2, dst, index, content.length - index - 2);
+            if (owner != null && this.owner == owner) {
+                content = dst;
+                return this;
+            }
+            return new CollisionNode(
+                                     owner, this.hash, dst);
+        }
+
+        @Override
+        boolean hasNodes() {
+            return false;
+        }
+
+        @Override
+        int nodeArity() {
+            return 0;
+        }
+
+        @Override
+        ChampNode getNode(final int index) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        @Override
+        boolean hasPayload() {
+            return true;
+        }
+
+        @Override
+        int payloadArity() {
+            return content.length / 2;
+        }
+
+        @Override
+        Object getKey(final int index) {
+            return content[2 * index];
+        }
+
+        @Override
+        Object getValue(final int index) {
+            return content[2 * index + 1];
+        }
+
+        @Override
+        int sizePredicate() {
+            return 2;
+        }
+
+        @Override
+        boolean equivalent(final ChampNode other) {
+            if (this == other)
+                return true;
+            if (!(other instanceof CollisionNode))
+                return false;
+            final CollisionNode that = (CollisionNode) other;
+            if (hash != that.hash || content.length != that.content.length)
+                return false;
+            for (int i = 0; i < content.length; i += 2) {
+                final int index = that.indexOf(content[i]);
+                if (index == -1 || !Objects.equals(content[i + 1], that.content[index + 1]))
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Depth first iteration over the entries of a trie, payload before sub-nodes at each level
+     */
+    abstract static class NodeIterator<T> implements Iterator<T> {
+        private static final int MAX_DEPTH = 8;
+
+        private final ChampNode[] nodes = new ChampNode[MAX_DEPTH];
+        private final int[] nodeCursors = new int[MAX_DEPTH];
+        private int depth = -1;
+
+        private ChampNode valueNode;
+        private int valueCursor;
+        private int valueLength;
+
+        NodeIterator(final ChampNode root) {
+            if (root.hasNodes()) {
+                depth = 0;
+                nodes[0] = root;
+                nodeCursors[0] = 0;
+            }
+            if (root.hasPayload()) {
+                valueNode = root;
+                valueCursor = 0;
+                valueLength = root.payloadArity();
+            }
+        }
+
+        abstract T element(ChampNode node, int index);
+
+        private boolean searchNextValueNode() {
+            while (depth >= 0) {
+                final ChampNode node = nodes[depth];
+                if (nodeCursors[depth] < node.nodeArity()) {
+                    final ChampNode child = node.getNode(nodeCursors[depth]++);
+                    if (child.hasNodes()) {
+                        depth++;
+                        nodes[depth] = child;
+                        nodeCursors[depth] = 0;
+                    }
+                    if (child.hasPayload()) {
+                        valueNode = child;
+                        valueCursor = 0;
+                        valueLength = child.payloadArity();
+                        return true;
+                    }
+                } else {
+                    nodes[depth] = null;
+                    depth--;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return valueCursor < valueLength || searchNextValueNode();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return element(valueNode, valueCursor++);
+        }
+    }
+}
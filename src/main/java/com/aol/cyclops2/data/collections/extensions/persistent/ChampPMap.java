@@ -0,0 +1,300 @@
+package com.aol.cyclops2.data.collections.extensions.persistent;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.pcollections.PMap;
+
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampNode.Change;
+
+/**
+ * A persistent hash map implemented as a Compressed Hash-Array Mapped Prefix-tree (CHAMP).
+ *
+ * Lookups, insertions and removals are O(log32 n). Entries are stored inline in compact node arrays, giving better locality
+ * and lower per-entry overhead than a tree of hash buckets. Equality checks between ChampPMaps compare the tries structurally, skipping
+ * any sub-tries the two maps share.
+ *
+ * Batches of updates should be applied via a {@link Builder} (plusAll / minusAll do so internally), which edits the nodes it creates in
+ * place rather than copying the path to each change.
+ *
+ * <pre>
+ * {@code
+ *   PMap<String,Integer> map = ChampPMap.<String,Integer>empty()
+ *                                      .plus("hello",1)
+ *                                      .plus("world",2);
+ * }
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public final class ChampPMap<K, V> extends AbstractMap<K, V> implements PMap<K, V> {
+
+    private static final Object NOT_FOUND = new Object();
+    private static final ChampPMap EMPTY = new ChampPMap(
+                                                         ChampNode.EMPTY, 0);
+
+    private final ChampNode root;
+    private final int size;
+    private int hashCode = -1;
+
+    private ChampPMap(final ChampNode root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @return An empty ChampPMap
+     */
+    public static <K, V> ChampPMap<K, V> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return A ChampPMap with a single entry
+     */
+    public static <K, V> ChampPMap<K, V> singleton(final K key, final V value) {
+        return ChampPMap.<K, V> empty()
+                        .plus(key, value);
+    }
+
+    /**
+     * @param map Entries to populate the ChampPMap
+     * @return A ChampPMap containing the supplied entries
+     */
+    public static <K, V> ChampPMap<K, V> fromMap(final Map<? extends K, ? extends V> map) {
+        if (map instanceof ChampPMap)
+            return (ChampPMap<K, V>) map;
+        return ChampPMap.<K, V> builder()
+                        .putAll(map)
+                        .build();
+    }
+
+    /**
+     * @return A new, empty Builder
+     */
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>(
+                             ChampNode.EMPTY, 0);
+    }
+
+    /**
+     * @return A Builder populated with the entries in this map (this map is unaffected)
+     */
+    public Builder<K, V> toBuilder() {
+        return new Builder<>(
+                             root, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final Object result = root.find(key, ChampNode.hash(key), 0, NOT_FOUND);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return root.find(key, ChampNode.hash(key), 0, NOT_FOUND) != NOT_FOUND;
+    }
+
+    @Override
+    public ChampPMap<K, V> plus(final K key, final V value) {
+        final Change change = new Change();
+        final ChampNode newRoot = root.updated(null, key, value, ChampNode.hash(key), 0, change);
+        if (!change.modified)
+            return this;
+        return new ChampPMap<>(
+                               newRoot, change.replaced ? size : size + 1);
+    }
+
+    @Override
+    public ChampPMap<K, V> plusAll(final Map<? extends K, ? extends V> map) {
+        if (map.isEmpty() || map == this)
+            return this;
+        if (size == 0 && map instanceof ChampPMap)
+            return (ChampPMap<K, V>) map;
+        final Builder<K, V> builder = toBuilder();
+        builder.putAll(map);
+        return builder.root == root ? this : builder.build();
+    }
+
+    @Override
+    public ChampPMap<K, V> minus(final Object key) {
+        final Change change = new Change();
+        final ChampNode newRoot = root.removed(null, key, ChampNode.hash(key), 0, change);
+        if (!change.modified)
+            return this;
+        return size == 1 ? empty() : new ChampPMap<>(
+                                                     newRoot, size - 1);
+    }
+
+    @Override
+    public ChampPMap<K, V> minusAll(final Collection<?> keys) {
+        if (keys.isEmpty() || size == 0)
+            return this;
+        final Builder<K, V> builder = toBuilder();
+        for (final Object next : keys)
+            builder.remove(next);
+        return builder.root == root ? this : builder.build();
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super V> action) {
+        root.forEach((k, v) -> action.accept((K) k, (V) v));
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new ChampNode.NodeIterator<Entry<K, V>>(
+                                                              root) {
+                    @Override
+                    Entry<K, V> element(final ChampNode node, final int index) {
+                        return new SimpleImmutableEntry<>(
+                                                          (K) node.getKey(index), (V) node.getValue(index));
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                if (!(o instanceof Entry))
+                    return false;
+                final Entry<?, ?> entry = (Entry<?, ?>) o;
+                final Object value = root.find(entry.getKey(), ChampNode.hash(entry.getKey()), 0, NOT_FOUND);
+                return value != NOT_FOUND && Objects.equals(value, entry.getValue());
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this)
+            return true;
+        if (o instanceof ChampPMap) {
+            final ChampPMap<?, ?> that = (ChampPMap<?, ?>) o;
+            return size == that.size && root.equivalent(that.root);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == -1) {
+            result = super.hashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    /**
+     * A mutable, single threaded builder for ChampPMap.
+     *
+     * Nodes created by this builder are edited in place, nodes shared with other maps are copied on first write. Once built, the
+     * builder's nodes are shared with the built map and are copied again if this builder continues to be used.
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     */
+    public static final class Builder<K, V> {
+        private Object owner = new Object();
+        private ChampNode root;
+        private int size;
+        private final Change change = new Change();
+
+        private Builder(final ChampNode root, final int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        /**
+         * @return Number of entries added so far
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param key Key to add
+         * @param value Value to associate with the key
+         * @return This Builder
+         */
+        public Builder<K, V> put(final K key, final V value) {
+            change.reset();
+            root = root.updated(owner, key, value, ChampNode.hash(key), 0, change);
+            if (change.modified && !change.replaced)
+                size++;
+            return this;
+        }
+
+        /**
+         * @param map Entries to add
+         * @return This Builder
+         */
+        public Builder<K, V> putAll(final Map<? extends K, ? extends V> map) {
+            if (map instanceof ChampPMap) {
+                ((ChampPMap<K, V>) map).forEach(this::put);
+                return this;
+            }
+            for (final Entry<? extends K, ? extends V> next : map.entrySet())
+                put(next.getKey(), next.getValue());
+            return this;
+        }
+
+        /**
+         * @param builder Builder whose entries should be added
+         * @return This Builder
+         */
+        public Builder<K, V> putAll(final Builder<? extends K, ? extends V> builder) {
+            return putAll(builder.build());
+        }
+
+        /**
+         * @param key Key to remove
+         * @return This Builder
+         */
+        public Builder<K, V> remove(final Object key) {
+            change.reset();
+            root = root.removed(owner, key, ChampNode.hash(key), 0, change);
+            if (change.modified)
+                size--;
+            return this;
+        }
+
+        /**
+         * @return A ChampPMap containing the entries added to this Builder
+         */
+        public ChampPMap<K, V> build() {
+            if (size == 0)
+                return empty();
+            owner = new Object();
+            return new ChampPMap<>(
+                                   root, size);
+        }
+    }
+
+}
@@ -0,0 +1,286 @@
+package com.aol.cyclops2.data.collections.extensions.persistent;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.pcollections.PSet;
+
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampNode.Change;
+
+/**
+ * A persistent hash set implemented as a Compressed Hash-Array Mapped Prefix-tree (CHAMP).
+ *
+ * Shares its trie implementation with {@link ChampPMap} (see that class for details), batches of updates should be applied via a
+ * {@link Builder}, or via {@link #fromStream(Stream)} / {@link #fromIterable(Iterable)}.
+ *
+ * <pre>
+ * {@code
+ *   PSet<Integer> set = ChampPSet.of(1,2,3)
+ *                                .plus(4);
+ * }
+ * </pre>
+ *
+ * @param <T> Element type
+ */
+public final class ChampPSet<T> extends AbstractSet<T> implements PSet<T> {
+
+    private static final Object PRESENT = Boolean.TRUE;
+    private static final Object NOT_FOUND = new Object();
+    private static final ChampPSet EMPTY = new ChampPSet(
+                                                         ChampNode.EMPTY, 0);
+
+    private final ChampNode root;
+    private final int size;
+    private int hashCode = -1;
+
+    private ChampPSet(final ChampNode root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @return An empty ChampPSet
+     */
+    public static <T> ChampPSet<T> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return A ChampPSet containing a single element
+     */
+    public static <T> ChampPSet<T> singleton(final T value) {
+        return ChampPSet.<T> empty()
+                        .plus(value);
+    }
+
+    /**
+     * @param values Elements to populate the ChampPSet
+     * @return A ChampPSet containing the supplied elements
+     */
+    public static <T> ChampPSet<T> of(final T... values) {
+        final Builder<T> builder = builder();
+        for (final T next : values)
+            builder.add(next);
+        return builder.build();
+    }
+
+    /**
+     * @param iterable Elements to populate the ChampPSet
+     * @return A ChampPSet containing the supplied elements
+     */
+    public static <T> ChampPSet<T> fromIterable(final Iterable<? extends T> iterable) {
+        if (iterable instanceof ChampPSet)
+            return (ChampPSet<T>) iterable;
+        return ChampPSet.<T> builder()
+                        .addAll(iterable)
+                        .build();
+    }
+
+    /**
+     * Populate a ChampPSet from a Stream, via a Builder (parallel Streams are supported)
+     *
+     * @param stream Elements to populate the ChampPSet
+     * @return A ChampPSet containing the supplied elements
+     */
+    public static <T> ChampPSet<T> fromStream(final Stream<? extends T> stream) {
+        return stream.collect(ChampPSet::<T> builder, (b, e) -> b.add(e), (a, b) -> a.addAll(b))
+                     .build();
+    }
+
+    /**
+     * @return A new, empty Builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>(
+                             ChampNode.EMPTY, 0);
+    }
+
+    /**
+     * @return A Builder populated with the elements of this set (this set is unaffected)
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(
+                             root, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return root.find(o, ChampNode.hash(o), 0, NOT_FOUND) != NOT_FOUND;
+    }
+
+    @Override
+    public ChampPSet<T> plus(final T e) {
+        final Change change = new Change();
+        final ChampNode newRoot = root.updated(null, e, PRESENT, ChampNode.hash(e), 0, change);
+        if (!change.modified)
+            return this;
+        return new ChampPSet<>(
+                               newRoot, size + 1);
+    }
+
+    @Override
+    public ChampPSet<T> plusAll(final Collection<? extends T> list) {
+        if (list.isEmpty() || list == this)
+            return this;
+        if (size == 0 && list instanceof ChampPSet)
+            return (ChampPSet<T>) list;
+        final Builder<T> builder = toBuilder();
+        builder.addAll(list);
+        return builder.root == root ? this : builder.build();
+    }
+
+    @Override
+    public ChampPSet<T> minus(final Object e) {
+        final Change change = new Change();
+        final ChampNode newRoot = root.removed(null, e, ChampNode.hash(e), 0, change);
+        if (!change.modified)
+            return this;
+        return size == 1 ? empty() : new ChampPSet<>(
+                                                     newRoot, size - 1);
+    }
+
+    @Override
+    public ChampPSet<T> minusAll(final Collection<?> list) {
+        if (list.isEmpty() || size == 0)
+            return this;
+        final Builder<T> builder = toBuilder();
+        for (final Object next : list)
+            builder.remove(next);
+        return builder.root == root ? this : builder.build();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ChampNode.NodeIterator<T>(
+                                             root) {
+            @Override
+            T element(final ChampNode node, final int index) {
+                return (T) node.getKey(index);
+            }
+        };
+    }
+
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        root.forEach((k, v) -> action.accept((T) k));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this)
+            return true;
+        if (o instanceof ChampPSet) {
+            final ChampPSet<?> that = (ChampPSet<?>) o;
+            return size == that.size && root.equivalent(that.root);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (result == -1) {
+            result = super.hashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    /**
+     * A mutable, single threaded builder for ChampPSet.
+     *
+     * Nodes created by this builder are edited in place, nodes shared with other sets are copied on first write. Once built, the
+     * builder's nodes are shared with the built set and are copied again if this builder continues to be used.
+     *
+     * @param <T> Element type
+     */
+    public static final class Builder<T> {
+        private Object owner = new Object();
+        private ChampNode root;
+        private int size;
+        private final Change change = new Change();
+
+        private Builder(final ChampNode root, final int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        /**
+         * @return Number of elements added so far
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param e Element to add
+         * @return This Builder
+         */
+        public Builder<T> add(final T e) {
+            change.reset();
+            root = root.updated(owner, e, PRESENT, ChampNode.hash(e), 0, change);
+            if (change.modified)
+                size++;
+            return this;
+        }
+
+        /**
+         * @param values Elements to add
+         * @return This Builder
+         */
+        public Builder<T> addAll(final Iterable<? extends T> values) {
+            if (values instanceof ChampPSet) {
+                ((ChampPSet<T>) values).forEach(this::add);
+                return this;
+            }
+            for (final T next : values)
+                add(next);
+            return this;
+        }
+
+        /**
+         * @param builder Builder whose elements should be added
+         * @return This Builder
+         */
+        public Builder<T> addAll(final Builder<? extends T> builder) {
+            return addAll(builder.build());
+        }
+
+        /**
+         * @param e Element to remove
+         * @return This Builder
+         */
+        public Builder<T> remove(final Object e) {
+            change.reset();
+            root = root.removed(owner, e, ChampNode.hash(e), 0, change);
+            if (change.modified)
+                size--;
+            return this;
+        }
+
+        /**
+         * @return A ChampPSet containing the elements added to this Builder
+         */
+        public ChampPSet<T> build() {
+            if (size == 0)
+                return empty();
+            owner = new Object();
+            return new ChampPSet<>(
+                                   root, size);
+        }
+    }
+
+}
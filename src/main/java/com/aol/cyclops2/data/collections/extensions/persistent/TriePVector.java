@@ -0,0 +1,536 @@
+package com.aol.cyclops2.data.collections.extensions.persistent;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.pcollections.PVector;
+
+/**
+ * A persistent vector implemented as a 32-way bit-partitioned trie with a tail buffer.
+ *
+ * Indexed reads and updates are O(log32 n), appends are amortized O(1) (elements are added to a tail array of up to 32 elements, which is
+ * pushed into the trie only when full). Iteration walks the leaf arrays directly.
+ * Bulk construction should use a {@link Builder} (or {@link #fromStream(Stream)} / {@link #fromIterable(Iterable)}), which appends into
+ * nodes it owns without copying, rather than allocating a new path through the trie for each element.
+ *
+ * Inserting or removing elements other than at the end of the vector rebuilds the vector (O(n)).
+ *
+ * <pre>
+ * {@code
+ *   PVector<Integer> vector = TriePVector.<Integer>empty()
+ *                                        .plus(1)
+ *                                        .plus(2);
+ *
+ *   TriePVector<Integer> built = TriePVector.<Integer>builder()
+ *                                           .add(1)
+ *                                           .add(2)
+ *                                           .build();
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of the elements in this vector
+ */
+public final class TriePVector<T> extends AbstractList<T> implements PVector<T> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final Object[] EMPTY_TAIL = new Object[0];
+    private static final TriePVector EMPTY = new TriePVector(
+                                                             0, BITS, EMPTY_NODE, EMPTY_TAIL);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private TriePVector(final int size, final int shift, final Object[] root, final Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * @return An empty TriePVector
+     */
+    public static <T> TriePVector<T> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param value Single element
+     * @return A TriePVector containing the supplied element
+     */
+    public static <T> TriePVector<T> singleton(final T value) {
+        return TriePVector.<T> empty()
+                          .plus(value);
+    }
+
+    /**
+     * @param values Elements to populate the vector
+     * @return A TriePVector containing the supplied elements
+     */
+    public static <T> TriePVector<T> of(final T... values) {
+        final Builder<T> builder = builder();
+        for (final T next : values)
+            builder.add(next);
+        return builder.build();
+    }
+
+    /**
+     * @param iterable Elements to populate the vector
+     * @return A TriePVector containing the supplied elements, in iteration order
+     */
+    public static <T> TriePVector<T> fromIterable(final Iterable<? extends T> iterable) {
+        if (iterable instanceof TriePVector)
+            return (TriePVector<T>) iterable;
+        return TriePVector.<T> builder()
+                          .addAll(iterable)
+                          .build();
+    }
+
+    /**
+     * Populate a TriePVector from a Stream, via a Builder (parallel Streams are supported)
+     *
+     * @param stream Elements to populate the vector
+     * @return A TriePVector containing the supplied elements, in encounter order
+     */
+    public static <T> TriePVector<T> fromStream(final Stream<? extends T> stream) {
+        return stream.collect(TriePVector::<T> builder, (b, e) -> b.add(e), (a, b) -> a.addAll(b))
+                     .build();
+    }
+
+    /**
+     * @return A new, empty Builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return A Builder that appends to the elements of this vector (this vector is unaffected)
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<>(
+                             this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(final int index) {
+        checkIndex(index, size);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    private int tailOffset() {
+        return size - tail.length;
+    }
+
+    private Object[] leafFor(final int index) {
+        if (index >= tailOffset())
+            return tail;
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static void checkIndex(final int index, final int size) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + index + ", Size: " + size);
+    }
+
+    @Override
+    public TriePVector<T> plus(final T e) {
+        if (tail.length < WIDTH) {
+            final Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = e;
+            return new TriePVector<>(
+                                     size + 1, shift, root, newTail);
+        }
+        final Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(size, shift, root, tail);
+        }
+        return new TriePVector<>(
+                                 size + 1, newShift, newRoot, new Object[] { e });
+    }
+
+    private static Object[] pushTail(final int size, final int level, final Object[] parent, final Object[] tailNode) {
+        final int subIndex = ((size - 1) >>> level) & MASK;
+        final Object[] result = parent.clone();
+        if (level == BITS) {
+            result[subIndex] = tailNode;
+        } else {
+            final Object[] child = (Object[]) parent[subIndex];
+            result[subIndex] = child != null ? pushTail(size, level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+        return result;
+    }
+
+    private static Object[] newPath(final int level, final Object[] node) {
+        if (level == 0)
+            return node;
+        final Object[] result = new Object[WIDTH];
+        result[0] = newPath(level - BITS, node);
+        return result;
+    }
+
+    @Override
+    public TriePVector<T> plusAll(final Collection<? extends T> list) {
+        if (list.isEmpty())
+            return this;
+        return toBuilder().addAll(list)
+                          .build();
+    }
+
+    @Override
+    public TriePVector<T> with(final int i, final T e) {
+        checkIndex(i, size);
+        if (i >= tailOffset()) {
+            final Object[] newTail = tail.clone();
+            newTail[i & MASK] = e;
+            return new TriePVector<>(
+                                     size, shift, root, newTail);
+        }
+        return new TriePVector<>(
+                                 size, shift, assoc(shift, root, i, e), tail);
+    }
+
+    private static Object[] assoc(final int level, final Object[] node, final int i, final Object e) {
+        final Object[] result = node.clone();
+        if (level == 0) {
+            result[i & MASK] = e;
+        } else {
+            final int subIndex = (i >>> level) & MASK;
+            result[subIndex] = assoc(level - BITS, (Object[]) node[subIndex], i, e);
+        }
+        return result;
+    }
+
+    @Override
+    public TriePVector<T> plus(final int i, final T e) {
+        if (i < 0 || i > size)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + i + ", Size: " + size);
+        if (i == size)
+            return plus(e);
+        final Builder<T> builder = rebuild(i);
+        builder.add(e);
+        return copyFrom(builder, i, size).build();
+    }
+
+    @Override
+    public TriePVector<T> plusAll(final int i, final Collection<? extends T> list) {
+        if (i < 0 || i > size)
+            throw new IndexOutOfBoundsException(
+                                                "Index: " + i + ", Size: " + size);
+        if (i == size)
+            return plusAll(list);
+        if (list.isEmpty())
+            return this;
+        final Builder<T> builder = rebuild(i);
+        builder.addAll(list);
+        return copyFrom(builder, i, size).build();
+    }
+
+    @Override
+    public TriePVector<T> minus(final Object e) {
+        final int index = indexOf(e);
+        if (index == -1)
+            return this;
+        return minus(index);
+    }
+
+    @Override
+    public TriePVector<T> minusAll(final Collection<?> list) {
+        if (list.isEmpty() || size == 0)
+            return this;
+        final Builder<T> builder = builder();
+        for (final T next : this) {
+            if (!list.contains(next))
+                builder.add(next);
+        }
+        if (builder.size() == size)
+            return this;
+        return builder.build();
+    }
+
+    @Override
+    public TriePVector<T> minus(final int i) {
+        checkIndex(i, size);
+        if (i == size - 1)
+            return pop();
+        return copyFrom(rebuild(i), i + 1, size).build();
+    }
+
+    @Override
+    public TriePVector<T> subList(final int start, final int end) {
+        if (start < 0 || end > size || start > end)
+            throw new IndexOutOfBoundsException(
+                                                "Start: " + start + ", End: " + end + ", Size: " + size);
+        if (start == 0 && end == size)
+            return this;
+        if (start == 0) {
+            TriePVector<T> result = this;
+            //removing a handful of trailing elements is cheaper than rebuilding
+            if (size - end <= WIDTH) {
+                while (result.size > end)
+                    result = result.pop();
+                return result;
+            }
+        }
+        return copyFrom(builder(), start, end).build();
+    }
+
+    /**
+     * @return A vector containing all but the last element of this vector
+     */
+    private TriePVector<T> pop() {
+        if (size == 1)
+            return empty();
+        if (tail.length > 1) {
+            return new TriePVector<>(
+                                     size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        final Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(size, shift, root);
+        int newShift = shift;
+        if (newRoot == null)
+            newRoot = EMPTY_NODE;
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new TriePVector<>(
+                                 size - 1, newShift, newRoot, newTail);
+    }
+
+    private static Object[] popTail(final int size, final int level, final Object[] node) {
+        final int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            final Object[] newChild = popTail(size, level - BITS, (Object[]) node[subIndex]);
+            if (newChild == null && subIndex == 0)
+                return null;
+            final Object[] result = node.clone();
+            result[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0)
+            return null;
+        final Object[] result = node.clone();
+        result[subIndex] = null;
+        return result;
+    }
+
+    private Builder<T> rebuild(final int end) {
+        if (end == 0)
+            return builder();
+        if (end == size)
+            return toBuilder();
+        return copyFrom(builder(), 0, end);
+    }
+
+    private Builder<T> copyFrom(final Builder<T> builder, final int start, final int end) {
+        for (int i = start; i < end;) {
+            final Object[] leaf = leafFor(i);
+            final int from = i & MASK;
+            final int to = Math.min(leaf.length, from + (end - i));
+            for (int j = from; j < to; j++)
+                builder.add((T) leaf[j]);
+            i += to - from;
+        }
+        return builder;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            int index = 0;
+            Object[] leaf = size > 0 ? leafFor(0) : EMPTY_TAIL;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+                if (index > 0 && (index & MASK) == 0)
+                    leaf = leafFor(index);
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public void forEach(final Consumer<? super T> action) {
+        for (int i = 0; i < size; i += WIDTH) {
+            final Object[] leaf = leafFor(i);
+            for (final Object next : leaf)
+                action.accept((T) next);
+        }
+    }
+
+    /**
+     * A mutable, single threaded builder for TriePVector.
+     *
+     * Elements are appended into trie nodes owned by this builder without copying, the path copied from a source vector (if any) is
+     * copied once, on the first push of the tail into the trie. Once built, nodes are shared with the built vector and are copied again
+     * if this builder continues to be used.
+     *
+     * @param <T> Data type of the elements in the vector
+     */
+    public static final class Builder<T> {
+        private int size;
+        private int shift;
+        private Object[] root;
+        private Object[] tail;
+        private int tailSize;
+        private boolean shared;
+
+        private Builder() {
+            this.size = 0;
+            this.shift = BITS;
+            this.root = EMPTY_NODE;
+            this.tail = new Object[WIDTH];
+            this.tailSize = 0;
+            this.shared = true;
+        }
+
+        private Builder(final TriePVector<T> vector) {
+            this.size = vector.size;
+            this.shift = vector.shift;
+            this.root = vector.root;
+            this.tail = Arrays.copyOf(vector.tail, WIDTH);
+            this.tailSize = vector.tail.length;
+            this.shared = true;
+        }
+
+        /**
+         * @return Number of elements added so far
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param e Element to append
+         * @return This Builder
+         */
+        public Builder<T> add(final T e) {
+            if (tailSize == WIDTH) {
+                pushTail();
+                tail = new Object[WIDTH];
+                tailSize = 0;
+            }
+            tail[tailSize++] = e;
+            size++;
+            return this;
+        }
+
+        /**
+         * @param values Elements to append
+         * @return This Builder
+         */
+        public Builder<T> addAll(final Iterable<? extends T> values) {
+            if (values instanceof TriePVector) {
+                ((TriePVector<T>) values).forEach(this::add);
+                return this;
+            }
+            for (final T next : values)
+                add(next);
+            return this;
+        }
+
+        /**
+         * @param builder Builder whose elements should be appended
+         * @return This Builder
+         */
+        public Builder<T> addAll(final Builder<? extends T> builder) {
+            return addAll(builder.build());
+        }
+
+        /**
+         * @return A TriePVector containing the elements added to this Builder
+         */
+        public TriePVector<T> build() {
+            if (size == 0)
+                return empty();
+            shared = true;
+            return new TriePVector<>(
+                                     size, shift, root, Arrays.copyOf(tail, tailSize));
+        }
+
+        private void pushTail() {
+            if (shared) {
+                root = copyRightSpine();
+                shared = false;
+            }
+            if ((size >>> BITS) > (1 << shift)) {
+                final Object[] newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                newRoot[1] = newPath(shift, tail);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                pushTail(shift, root);
+            }
+        }
+
+        private void pushTail(final int level, final Object[] parent) {
+            final int subIndex = ((size - 1) >>> level) & MASK;
+            if (level == BITS) {
+                parent[subIndex] = tail;
+            } else {
+                final Object[] child = (Object[]) parent[subIndex];
+                if (child != null)
+                    pushTail(level - BITS, child);
+                else
+                    parent[subIndex] = newPath(level - BITS, tail);
+            }
+        }
+
+        /**
+         * Appends only modify the branch nodes on the path to the last element in the trie (all other branches are
+         * created by this builder), so copying that path is enough to leave any vector sharing the trie unaffected
+         */
+        private Object[] copyRightSpine() {
+            final Object[] newRoot = root.clone();
+            final int last = size - tailSize - 1;
+            if (last < 0)
+                return newRoot;
+            Object[] node = newRoot;
+            for (int level = shift; level > BITS; level -= BITS) {
+                final int subIndex = (last >>> level) & MASK;
+                final Object[] child = ((Object[]) node[subIndex]).clone();
+                node[subIndex] = child;
+                node = child;
+            }
+            return newRoot;
+        }
+    }
+
+}
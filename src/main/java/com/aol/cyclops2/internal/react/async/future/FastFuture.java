@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -32,6 +33,10 @@ public class FastFuture<T> {
     private volatile boolean done = false;
     private volatile Consumer<OnComplete> forXOf;
     private volatile Consumer<OnComplete> essential;
+    private volatile Consumer<OnComplete> monitor;
+    private static final AtomicReferenceFieldUpdater<FastFuture, Consumer> MONITOR = AtomicReferenceFieldUpdater.newUpdater(FastFuture.class,
+                                                                                                                          Consumer.class,
+                                                                                                                          "monitor");
     @Getter
     private volatile boolean completedExceptionally = false;
     private final AtomicReference result = new AtomicReference(
@@ -175,10 +180,12 @@ public class FastFuture<T> {
     private FastFuture<T> completeExceptionally(final Throwable t) {
         exception.lazySet(t);
         completedExceptionally = true;
-        handleOnComplete(true);
+        //onFail runs before done is published, so a concurrent join can not observe the failure first
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
+        //mark done before notifying, so listeners registered concurrently are still fired
         done = true;
+        handleOnComplete(true);
         return this;
     }
 
@@ -327,6 +334,7 @@ public class FastFuture<T> {
         exception.set(UNSET);
         this.forXOf = null;
         this.essential = null;
+        this.monitor = null;
         this.count.set(0);
         this.max.set(0);
         this.completedExceptionally = false;
@@ -357,6 +365,21 @@ public class FastFuture<T> {
         }
     }
 
+    /**
+     * Called at least once on complete, reserved for flow control (e.g. tracking active tasks and their latencies)
+     * so that it is not displaced by onComplete / essential listeners. Monitors are chained, each registered monitor is called
+     *
+     */
+    public void monitor(final Consumer<OnComplete> fn) {
+        Consumer<OnComplete> current;
+        do {
+            current = this.monitor;
+        } while (!MONITOR.compareAndSet(this, current, current == null ? fn : current.andThen(fn)));
+        if (done) {
+            fn.accept(buildOnComplete());
+        }
+    }
+
     private void handleOnComplete(final boolean force) {
         if (forXOf != null)
             forXOf.accept(buildOnComplete());
@@ -364,6 +387,9 @@ public class FastFuture<T> {
         if (this.essential != null)
             this.essential.accept(buildOnComplete());
 
+        if (this.monitor != null)
+            this.monitor.accept(buildOnComplete());
+
     }
 
     private OnComplete buildOnComplete() {
@@ -0,0 +1,71 @@
+package com.aol.cyclops2.internal.react.async.future;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.experimental.UtilityClass;
+
+/**
+ * N-ary combinator for CompletableFutures. Results are written into a single pre-sized array, and whichever input completes
+ * last (tracked by one atomic countdown) completes the combined future, so sequencing is linear in the number of futures and
+ * does not build a nested chain of intermediate futures.
+ *
+ * As with a chain of thenCombine calls, the combined future completes once every input has completed. If any input failed, it
+ * completes exceptionally with the error of the first failed input (in encounter order).
+ */
+@UtilityClass
+public class FutureSequence {
+
+    /**
+     * @param futures Futures to combine
+     * @param finisher Converts the array of results (in encounter order) into the combined result, called once by the last
+     *                 future to complete
+     * @return Future that completes once all supplied futures have completed
+     */
+    public static <T, R> CompletableFuture<R> sequence(final Collection<? extends CompletableFuture<? extends T>> futures,
+            final Function<? super Object[], ? extends R> finisher) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final int size = futures.size();
+        if (size == 0) {
+            complete(new Object[0], result, finisher);
+            return result;
+        }
+        final Object[] values = new Object[size];
+        final AtomicInteger remaining = new AtomicInteger(
+                                                          size);
+        int index = 0;
+        for (final CompletableFuture<? extends T> next : futures) {
+            final int slot = index++;
+            next.whenComplete((value, error) -> {
+                values[slot] = error == null ? value : new Failure(
+                                                                   error);
+                if (remaining.decrementAndGet() == 0)
+                    complete(values, result, finisher);
+            });
+        }
+        return result;
+    }
+
+    private static <R> void complete(final Object[] values, final CompletableFuture<R> result,
+            final Function<? super Object[], ? extends R> finisher) {
+        for (final Object next : values) {
+            if (next instanceof Failure) {
+                result.completeExceptionally(((Failure) next).error);
+                return;
+            }
+        }
+        try {
+            result.complete(finisher.apply(values));
+        } catch (final Throwable t) {
+            result.completeExceptionally(t);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Failure {
+        private final Throwable error;
+    }
+}
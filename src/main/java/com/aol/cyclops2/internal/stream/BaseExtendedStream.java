@@ -2,6 +2,8 @@ package com.aol.cyclops2.internal.stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import com.aol.cyclops2.internal.stream.spliterators.LazyMappingSpliterator;
+import com.aol.cyclops2.internal.stream.operators.BloomDistinctFilter;
+import com.aol.cyclops2.internal.stream.operators.WindowedDistinctFilter;
 import com.aol.cyclops2.types.Unwrapable;
 import com.aol.cyclops2.types.anyM.AnyMSeq;
 import com.aol.cyclops2.types.stream.HeadAndTail;
@@ -429,6 +431,23 @@ public abstract class BaseExtendedStream<T> implements Unwrapable, ReactiveSeq<T
 
     }
     @Override
+    public ReactiveSeq<T> distinctWindowed(final int maxSize) {
+        return filterLazyPredicate(()-> WindowedDistinctFilter.ofSize(maxSize));
+    }
+    @Override
+    public ReactiveSeq<T> distinctWindowed(final long time, final TimeUnit unit) {
+        return distinctWindowed(Integer.MAX_VALUE,time,unit);
+    }
+    @Override
+    public ReactiveSeq<T> distinctWindowed(final int maxSize, final long time, final TimeUnit unit) {
+        final long ttlNanos = unit.toNanos(time);
+        return filterLazyPredicate(()-> new WindowedDistinctFilter<>(maxSize,ttlNanos));
+    }
+    @Override
+    public ReactiveSeq<T> distinctApproximate(final long expectedInsertions, final double falsePositiveRate) {
+        return filterLazyPredicate(()-> new BloomDistinctFilter<>(expectedInsertions,falsePositiveRate));
+    }
+    @Override
     public ReactiveSeq<T> fixedDelay(final long l, final TimeUnit unit) {
         final long elapsedNanos = unit.toNanos(l);
         final long millis = elapsedNanos / 1000000;
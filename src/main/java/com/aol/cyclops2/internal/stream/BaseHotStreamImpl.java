@@ -12,6 +12,8 @@ import cyclops.stream.ReactiveSeq;
 import cyclops.Streams;
 import com.aol.cyclops2.internal.stream.spliterators.ClosingSpliterator;
 import com.aol.cyclops2.types.stream.HotStream;
+import com.aol.cyclops2.util.ExceptionSoftener;
+import com.aol.cyclops2.util.stream.scheduling.cron.CompiledCron;
 
 public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T>implements HotStream<T> {
 
@@ -29,8 +31,10 @@ public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T>implement
     public abstract HotStream<T> init(Executor exec);
 
     public HotStream<T> schedule(final String cron, final ScheduledExecutorService ex) {
+        final CompiledCron compiled = ExceptionSoftener.softenSupplier(() -> CompiledCron.compile(cron))
+                                                       .get();
         final Iterator<T> it = stream.iterator();
-        scheduleInternal(it, cron, ex);
+        scheduleInternal(it, compiled, ex);
         return this;
 
     }
@@ -51,8 +55,7 @@ public abstract class BaseHotStreamImpl<T> extends IteratorHotStream<T>implement
 
     @Override
     public ReactiveSeq<T> connect(final Queue<T> queue) {
-        connections.getAndSet(connected, queue);
-        connected++;
+        addConnection(queue);
         unpause();
         return Streams.reactiveSeq(StreamSupport.stream(new ClosingSpliterator(
                                                                                    Long.MAX_VALUE, queue, open),
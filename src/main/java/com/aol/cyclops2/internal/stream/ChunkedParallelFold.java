@@ -0,0 +1,149 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Parallel fold over a sequential source. The calling thread fills fixed size, array backed chunks from the source and submits
+ * each chunk to a ForkJoinPool as a single task, which folds it with the supplied function. Partial results are combined in
+ * encounter order (ordered) or as soon as they complete (unordered).
+ *
+ * At most two chunks per worker are in flight at once, so memory use is bounded, and chunk arrays are recycled once folded.
+ *
+ * @param <T> Data type of elements in the source
+ * @param <R> Result type
+ */
+public class ChunkedParallelFold<T, R> implements Consumer<T> {
+
+    private static final Object NONE = new Object();
+
+    private final Spliterator<T> source;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final boolean ordered;
+    private final Function<? super Stream<T>, ? extends R> fn;
+    private final BinaryOperator<R> combiner;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final ManyToManyConcurrentArrayQueue<Object[]> chunks;
+    private final AtomicReference<Throwable> error = new AtomicReference<>(null);
+    private Object unorderedResult = NONE;
+    private Object[] filling;
+    private int filled;
+
+    public ChunkedParallelFold(final Spliterator<T> source, final ForkJoinPool pool, final int chunkSize, final boolean ordered,
+                               final Function<? super Stream<T>, ? extends R> fn, final BinaryOperator<R> combiner) {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException(
+                                               "chunkSize must be at least 1 : " + chunkSize);
+        this.source = source;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.ordered = ordered;
+        this.fn = fn;
+        this.combiner = combiner;
+        this.maxInFlight = Math.max(2, pool.getParallelism() * 2);
+        this.inFlight = new Semaphore(
+                                      maxInFlight);
+        this.chunks = new ManyToManyConcurrentArrayQueue<>(
+                                                          maxInFlight);
+    }
+
+    @Override
+    public void accept(final T t) {
+        filling[filled++] = t;
+    }
+
+    private boolean fill() {
+        final Object[] recycled = chunks.poll();
+        filling = recycled != null ? recycled : new Object[chunkSize];
+        filled = 0;
+        while (filled < chunkSize && source.tryAdvance(this)) {
+        }
+        return filled > 0;
+    }
+
+    public R fold() {
+        final ArrayDeque<ChunkTask> running = new ArrayDeque<>();
+        Object result = NONE;
+        int submitted = 0;
+        while (error.get() == null) {
+            inFlight.acquireUninterruptibly();
+            if (!fill()) {
+                inFlight.release();
+                break;
+            }
+            final ChunkTask task = new ChunkTask(
+                                                 filling, filled);
+            filling = null;
+            pool.execute(task);
+            submitted++;
+            if (ordered) {
+                running.add(task);
+                while (!running.isEmpty() && running.peek()
+                                                    .isDone())
+                    result = combine(result, running.poll()
+                                                    .join());
+            }
+        }
+        if (ordered) {
+            for (final ChunkTask task : running)
+                result = combine(result, task.join());
+        } else {
+            inFlight.acquireUninterruptibly(maxInFlight);
+            final Throwable t = error.get();
+            if (t != null)
+                throw ExceptionSoftener.throwSoftenedException(t);
+            result = unorderedResult;
+        }
+        if (submitted == 0)
+            return fn.apply(Stream.empty());
+        return (R) result;
+    }
+
+    private Object combine(final Object acc, final R next) {
+        return acc == NONE ? next : combiner.apply((R) acc, next);
+    }
+
+    private class ChunkTask extends RecursiveTask<R> {
+        private final Object[] chunk;
+        private final int size;
+
+        ChunkTask(final Object[] chunk, final int size) {
+            this.chunk = chunk;
+            this.size = size;
+        }
+
+        @Override
+        protected R compute() {
+            try {
+                final R partial = fn.apply((Stream<T>) Arrays.stream(chunk, 0, size));
+                if (!ordered) {
+                    synchronized (ChunkedParallelFold.this) {
+                        unorderedResult = combine(unorderedResult, partial);
+                    }
+                }
+                return partial;
+            } catch (final Throwable t) {
+                error.compareAndSet(null, t);
+                throw t;
+            } finally {
+                Arrays.fill(chunk, 0, size, null);
+                chunks.offer(chunk);
+                inFlight.release();
+            }
+        }
+    }
+}
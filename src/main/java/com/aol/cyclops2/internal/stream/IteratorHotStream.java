@@ -1,70 +1,111 @@
 package com.aol.cyclops2.internal.stream;
 
-import java.util.Date;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.atomic.AtomicReferenceArray;
 
-import cyclops.Matchables;
-import cyclops.function.FluentFunctions;
 import com.aol.cyclops2.util.ExceptionSoftener;
-import com.aol.cyclops2.util.stream.scheduling.cron.CronExpression;
-
+import com.aol.cyclops2.util.stream.scheduling.cron.CompiledCron;
+
+/**
+ * Shared engine for HotStreams.
+ *
+ * Connections are held in a copy-on-write array, so there is no limit on the number of connected consumers and publishing reads a
+ * single volatile snapshot per element. The publish loop does not allocate. The stream is paused while the current pause
+ * CompletableFuture is incomplete, so pausing and unpausing are single atomic transitions on that future.
+ *
+ * @param <T> Data type of elements in the Stream
+ */
 public class IteratorHotStream<T> {
 
-    protected final AtomicReferenceArray<Queue<T>> connections = new AtomicReferenceArray<>(
-                                                                                            10);
+    private static final Queue[] NONE = new Queue[0];
+
+    protected volatile Queue<T>[] connections = NONE;
     protected final AtomicBoolean open = new AtomicBoolean(
                                                            true);
-    protected volatile int connected = 0;
     protected final AtomicReference<CompletableFuture<Void>> pause = new AtomicReference<>(
                                                                                            CompletableFuture.<Void> completedFuture(null));
 
     public boolean isPaused() {
-        return pause.get()
-                    .isDone();
+        return !pause.get()
+                     .isDone();
     }
 
     protected void unpause() {
+        pause.get()
+             .complete(null);
+    }
+
+    protected void pause() {
+        //an incomplete future may already be parking the publisher, only replace one that has been completed
+        pause.updateAndGet(current -> current.isDone() ? new CompletableFuture<Void>() : current);
+    }
+
+    /**
+     * Block the publishing thread while this stream is paused, free when it is not
+     */
+    protected void awaitUnpaused() {
         final CompletableFuture<Void> current = pause.get();
         if (!current.isDone())
-            current.complete(null);
+            current.join();
     }
 
-    protected void pause() {
-        pause.set(new CompletableFuture<Void>());
+    protected synchronized void addConnection(final Queue<T> queue) {
+        final Queue<T>[] current = connections;
+        final Queue<T>[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = queue;
+        connections = next;
     }
 
-    protected void scheduleInternal(final Iterator<T> it, final String cron, final ScheduledExecutorService ex) {
-        final Date now = new Date();
-        final Date d = ExceptionSoftener.softenSupplier(() -> new CronExpression(
-                                                                                 cron))
-                                        .get()
-                                        .getNextValidTimeAfter(now);
+    protected int connected() {
+        return connections.length;
+    }
+
+    /**
+     * Push the next element to all connected Queues, blocking Queues are written to via put (applying backpressure to this publisher),
+     * other Queues via offer
+     *
+     * @param next Element to publish
+     */
+    protected void publish(final T next) {
+        final Queue<T>[] local = connections;
+        for (int i = 0; i < local.length; i++) {
+            final Queue<T> queue = local[i];
+            if (queue instanceof BlockingQueue)
+                put((BlockingQueue<T>) queue, next);
+            else
+                queue.offer(next);
+        }
+    }
 
-        final long delay = d.getTime() - now.getTime();
+    private void put(final BlockingQueue<T> queue, final T next) {
+        try {
+            queue.put(next);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    protected void scheduleInternal(final Iterator<T> it, final CompiledCron cron, final ScheduledExecutorService ex) {
+        final long delay = cron.delayAfter(System.currentTimeMillis());
+        if (delay < 0) {
+            open.set(false);
+            return;
+        }
 
         ex.schedule(() -> {
             synchronized (it) {
                 if (it.hasNext()) {
                     try {
-                        final T next = it.next();
-                        final int local = connected;
-
-                        for (int i = 0; i < local; i++) {
-
-                            Matchables.blocking(connections.get(i))
-                                      .visit(FluentFunctions.ofChecked(in -> {
-                                in.put(next);
-                                return true;
-                            }), q -> q.offer(next));
-                        }
-
+                        publish(it.next());
                     } finally {
 
                         scheduleInternal(it, cron, ex);
@@ -82,21 +123,7 @@ public class IteratorHotStream<T> {
         ex.scheduleWithFixedDelay(() -> {
             synchronized (it) {
                 if (it.hasNext()) {
-
-                    final T next = it.next();
-
-                    final int local = connected;
-
-                    for (int i = 0; i < local; i++) {
-
-                        Matchables.blocking(connections.get(i))
-                                  .visit(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-
-                    }
-
+                    publish(it.next());
                 } else {
                     open.set(false);
                 }
@@ -110,20 +137,7 @@ public class IteratorHotStream<T> {
         ex.scheduleAtFixedRate(() -> {
             synchronized (it) {
                 if (it.hasNext()) {
-
-                    final T next = it.next();
-
-                    final int local = connected;
-
-                    for (int i = 0; i < local; i++) {
-
-                        Matchables.blocking(connections.get(i))
-                                  .visit(FluentFunctions.ofChecked(in -> {
-                            in.put(next);
-                            return true;
-                        }), q -> q.offer(next));
-                    }
-
+                    publish(it.next());
                 } else {
                     open.set(false);
                 }
@@ -0,0 +1,142 @@
+package com.aol.cyclops2.internal.stream;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+import org.agrona.IoUtil;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An append only log of length prefixed records, stored in a memory mapped temporary file. The file is mapped in fixed size
+ * regions as it grows, so it can be much larger than the heap. Not thread safe.
+ */
+public class MappedSpillFile implements AutoCloseable {
+
+    private static final int DEFAULT_REGION_SIZE = 1 << 26;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int regionSize;
+    private final List<MappedByteBuffer> regions = new ArrayList<>();
+    private final byte[] header = new byte[4];
+    private long end = 0;
+
+    private MappedSpillFile(final Path path, final int regionSize) throws IOException {
+        this.path = path;
+        this.regionSize = regionSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                        StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    public static MappedSpillFile createTemp() {
+        return createTemp(DEFAULT_REGION_SIZE);
+    }
+
+    public static MappedSpillFile createTemp(final int regionSize) {
+        try {
+            return new MappedSpillFile(
+                                       Files.createTempFile("cyclops-replay", ".spill"), regionSize);
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * @param record Data to append
+     * @return Position of the appended record
+     */
+    public long append(final byte[] record) {
+        final long pos = end;
+        final int length = record.length;
+        header[0] = (byte) (length >>> 24);
+        header[1] = (byte) (length >>> 16);
+        header[2] = (byte) (length >>> 8);
+        header[3] = (byte) length;
+        transfer(pos, header, 4, true);
+        transfer(pos + 4, record, length, true);
+        end = pos + 4 + length;
+        return pos;
+    }
+
+    /**
+     * @param pos Position of a record
+     * @return Position of the record that follows it
+     */
+    public long next(final long pos) {
+        return pos + 4 + length(pos);
+    }
+
+    /**
+     * @param pos Position of a record
+     * @return The record's data
+     */
+    public byte[] read(final long pos) {
+        final byte[] record = new byte[length(pos)];
+        transfer(pos + 4, record, record.length, false);
+        return record;
+    }
+
+    private int length(final long pos) {
+        transfer(pos, header, 4, false);
+        return (header[0] & 0xFF) << 24 | (header[1] & 0xFF) << 16 | (header[2] & 0xFF) << 8 | header[3] & 0xFF;
+    }
+
+    /**
+     * @return Number of bytes written
+     */
+    public long size() {
+        return end;
+    }
+
+    private void transfer(long pos, final byte[] data, final int length, final boolean write) {
+        int offset = 0;
+        while (offset < length) {
+            final MappedByteBuffer region = region((int) (pos / regionSize));
+            final int start = (int) (pos % regionSize);
+            final int chunk = Math.min(length - offset, regionSize - start);
+            region.position(start);
+            if (write)
+                region.put(data, offset, chunk);
+            else
+                region.get(data, offset, chunk);
+            offset += chunk;
+            pos += chunk;
+        }
+    }
+
+    private MappedByteBuffer region(final int index) {
+        try {
+            while (regions.size() <= index)
+                regions.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) regions.size() * regionSize, regionSize));
+            return regions.get(index);
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * Unmaps all regions and deletes the file. The spill file must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        regions.forEach(IoUtil::unmap);
+        regions.clear();
+        try {
+            channel.close();
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MappedSpillFile[" + path + ", " + end + " bytes]";
+    }
+}
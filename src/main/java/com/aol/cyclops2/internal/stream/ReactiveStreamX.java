@@ -1,6 +1,8 @@
 package com.aol.cyclops2.internal.stream;
 
 import com.aol.cyclops2.internal.stream.spliterators.IteratableSpliterator;
+import com.aol.cyclops2.internal.stream.spliterators.InvertibleMonoidWindow;
+import com.aol.cyclops2.internal.stream.spliterators.MonoidWindow;
 import com.aol.cyclops2.internal.stream.spliterators.push.*;
 import com.aol.cyclops2.types.Traversable;
 import com.aol.cyclops2.types.futurestream.Continuation;
@@ -245,6 +247,16 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(new SlidingOperator<>( source,Function.identity(), windowSize,increment));
     }
 
+    @Override
+    public final ReactiveSeq<T> slidingReduce(final int windowSize, final Monoid<T> monoid) {
+        return createSeq(new SlidingOperator<T,T,T>( source,Function.identity(),()->new MonoidWindow<>(windowSize,monoid), windowSize,1));
+    }
+
+    @Override
+    public final ReactiveSeq<T> slidingReduce(final int windowSize, final Monoid<T> monoid, final BinaryOperator<T> inverse) {
+        return createSeq(new SlidingOperator<T,T,T>( source,Function.identity(),()->new InvertibleMonoidWindow<>(windowSize,monoid,inverse), windowSize,1));
+    }
+
     @Override
     public ReactiveSeq<ListX<T>> grouped(final int groupSize) {
         return createSeq(new GroupingOperator<T,List<T>,ListX<T>>( source,()->new ArrayList(groupSize), c->ListX.fromIterable(c),groupSize));
@@ -341,7 +353,12 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
 
 
-        return createSeq(new MapOperator<T,R>(this. source,fn));
+        return createSeq(FusedOperator.map(this. source,fn));
+    }
+
+    @Override
+    public final ReactiveSeq<T> peek(final Consumer<? super T> c) {
+        return createSeq(FusedOperator.peek(source,c));
     }
 
 
@@ -498,7 +515,7 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
-        return createSeq(new FilterOperator<T>( source,fn));
+        return createSeq(FusedOperator.filter( source,fn));
 
     }
 
@@ -770,6 +787,25 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
                 Function.identity(),time, t));
     }
     @Override
+    public <C extends Collection<? super T>,R> ReactiveSeq<R> groupedBySizeAndTime(final int size, final long time, final TimeUnit unit,
+                                                                                   final ScheduledExecutorService ex,
+                                                                                   final Supplier<C> factory,
+                                                                                   final Function<? super C, ? extends R> finalizer) {
+        return createSeq(new ScheduledGroupedByTimeAndSizeOperator<>(this.source,factory,finalizer,time,unit,size,ex),timerDriven());
+    }
+
+    /*
+     * Operators that emit from a scheduler thread no longer signal before request returns, so a SYNC Stream becomes
+     * BACKPRESSURE (async) once they are applied.
+     */
+    private Type timerDriven(){
+        return async==Type.SYNC ? Type.BACKPRESSURE : async;
+    }
+    @Override
+    public ReactiveSeq<T> rateLimit(final RateLimiter limiter, final ScheduledExecutorService ex) {
+        return createSeq(new RateLimitOperator<>(this.source,limiter,ex),timerDriven());
+    }
+    @Override
     public ReactiveSeq<T> skip(final long time, final TimeUnit unit) {
         return createSeq(new SkipWhileTimeOperator<>( source, time, unit));
     }
@@ -1041,13 +1077,33 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public <U, R> ReactiveSeq<R> zipS(Stream<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return zipS(other,zipper,ZippingOperator.DEFAULT_PREFETCH);
+    }
+
+    @Override
+    public <U, R> ReactiveSeq<R> zipS(Stream<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper, int prefetch) {
         Operator<U> right;
         if(other instanceof ReactiveStreamX){
             right = ((ReactiveStreamX<U>)other).source;
         }else{
             right = new SpliteratorToOperator<U>(((Stream<U>)other).spliterator());
         }
-        return createSeq(new ZippingOperator<>(source,right,zipper),async);
+        if(isSyncZip(other))
+            return createSeq(new SyncZippingOperator<>(source,right,zipper),Type.SYNC);
+        return createSeq(new ZippingOperator<>(source,right,zipper,prefetch),async);
+    }
+
+    /*
+     * Pull based Streams & synchronous ReactiveStreamX instances signal on the calling thread (operators driven by a
+     * scheduler mark their Streams as BACKPRESSURE), so when this Stream is also
+     * synchronous the two sides can be zipped in lock-step without concurrent queues.
+     */
+    private boolean isSyncZip(Stream<?> other){
+        if(async!=Type.SYNC)
+            return false;
+        if(other instanceof ReactiveStreamX)
+            return ((ReactiveStreamX<?>)other).async==Type.SYNC;
+        return true;
     }
 
 
@@ -1071,11 +1127,11 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public ReactiveSeq<T> limit(long num){
-        return createSeq(new LimitOperator<>(source,num));
+        return createSeq(FusedOperator.limit(source,num));
     }
     @Override
     public ReactiveSeq<T> skip(long num){
-        return createSeq(new SkipOperator<>(source,num));
+        return createSeq(FusedOperator.skip(source,num));
     }
     @Override
     public ReactiveSeq<T> cycle() {
@@ -1244,6 +1300,8 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
             //not replayable
             right = new SpliteratorToOperator<U>(((Stream<U>)other).spliterator());
         }
+        if(isSyncZip(other))
+            return createSeq(new SyncZippingOperator<>(source, right, Tuple::tuple),Type.SYNC);
         ReactiveStreamX<Tuple2<T, U>> res = createSeq(new ZippingOperator<>(source, right, Tuple::tuple));
         if(this.async == Type.SYNC){
             //zip could recieve an asyncrhonous Stream so we force onto the async path
@@ -186,6 +186,16 @@ public abstract class SpliteratorBasedStream<T> extends BaseExtendedStream<T>{
         return createSeq(new SlidingSpliterator<>(get(),Function.identity(), windowSize,increment), reversible);
     }
 
+    @Override
+    public final ReactiveSeq<T> slidingReduce(final int windowSize, final Monoid<T> monoid) {
+        return createSeq(new SlidingSpliterator<T,T,T>(get(),Function.identity(),()->new MonoidWindow<>(windowSize,monoid), windowSize,1), reversible);
+    }
+
+    @Override
+    public final ReactiveSeq<T> slidingReduce(final int windowSize, final Monoid<T> monoid, final BinaryOperator<T> inverse) {
+        return createSeq(new SlidingSpliterator<T,T,T>(get(),Function.identity(),()->new InvertibleMonoidWindow<>(windowSize,monoid,inverse), windowSize,1), reversible);
+    }
+
     @Override
     public ReactiveSeq<ListX<T>> grouped(final int groupSize) {
         return createSeq(new GroupingSpliterator<T,List<T>,ListX<T>>(get(),()->new ArrayList(groupSize), c->ListX.fromIterable(c),groupSize), this.reversible);
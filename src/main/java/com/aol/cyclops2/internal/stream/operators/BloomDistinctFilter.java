@@ -0,0 +1,77 @@
+package com.aol.cyclops2.internal.stream.operators;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Approximate distinct filter backed by a fixed size Bloom filter.
+ *
+ * Memory use is fixed up front (m = -n ln(p) / ln(2)^2 bits for n expected insertions and false positive rate p) and does
+ * not grow with the Stream. Duplicates are always rejected, a new element is wrongly rejected with probability of roughly p
+ * while fewer than n distinct elements have been seen (the rate rises once that is exceeded). Bit positions are derived from
+ * the element's hashCode via double hashing, so elements with colliding hashCodes are treated as duplicates.
+ *
+ * @param <T> Data type of elements being filtered
+ */
+public class BloomDistinctFilter<T> implements Predicate<T> {
+
+    private final long[] bits;
+    private final long numBits;
+    private final int numHashes;
+
+    public BloomDistinctFilter(final long expectedInsertions, final double falsePositiveRate) {
+        if (expectedInsertions < 1)
+            throw new IllegalArgumentException(
+                                               "expectedInsertions must be at least 1 : " + expectedInsertions);
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException(
+                                               "falsePositiveRate must be between 0 and 1 (exclusive) : " + falsePositiveRate);
+        final long m = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.bits = new long[(int) Math.min(Integer.MAX_VALUE - 8, (m + 63) >>> 6)];
+        this.numBits = (long) bits.length << 6;
+        this.numHashes = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Record this element in the filter
+     *
+     * @return true if the element was definitely not seen before, false if it (probably) was
+     */
+    @Override
+    public boolean test(final T t) {
+        final long hash = mix(Objects.hashCode(t));
+        final long h2 = (hash >>> 32) * 0x9E3779B97F4A7C15L | 1;
+        boolean added = false;
+        for (int i = 1; i <= numHashes; i++) {
+            final long index = ((hash + i * h2) & Long.MAX_VALUE) % numBits;
+            final int word = (int) (index >>> 6);
+            final long mask = 1L << index;
+            if ((bits[word] & mask) == 0) {
+                bits[word] |= mask;
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    /*
+     * MurmurHash3 64 bit finalizer, spreads the 32 bit hashCode across all 64 bits before double hashing
+     */
+    private static long mix(final int hashCode) {
+        long h = hashCode * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    long bitSize() {
+        return numBits;
+    }
+
+    int hashFunctions() {
+        return numHashes;
+    }
+}
@@ -0,0 +1,72 @@
+package com.aol.cyclops2.internal.stream.operators;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Stateful filter that only accepts elements that have not been seen within a bounded window.
+ *
+ * Seen elements are tracked in a LinkedHashMap ordered by the time they were last seen, so both the least recently seen
+ * element (size bound) and expired elements (time bound) are always at the head of the map and can be evicted in O(1).
+ * An element that has been evicted will be accepted again the next time it is encountered.
+ *
+ * @param <T> Data type of elements being filtered
+ */
+public class WindowedDistinctFilter<T> implements Predicate<T> {
+
+    private final long ttlNanos;
+    private final Map<T, Long> seen;
+
+    /**
+     * @param maxSize Maximum number of distinct elements to remember
+     * @param ttlNanos Length of time (in nanoseconds) to remember an element for after it was last seen, Long.MAX_VALUE for no time bound
+     */
+    public WindowedDistinctFilter(final int maxSize, final long ttlNanos) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException(
+                                               "maxSize must be at least 1 : " + maxSize);
+        if (ttlNanos <= 0)
+            throw new IllegalArgumentException(
+                                               "time window must be positive : " + ttlNanos);
+        this.ttlNanos = ttlNanos;
+        this.seen = new LinkedHashMap<T, Long>(
+                                               16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<T, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static <T> WindowedDistinctFilter<T> ofSize(final int maxSize) {
+        return new WindowedDistinctFilter<>(
+                                            maxSize, Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean test(final T t) {
+        final long now = ttlNanos == Long.MAX_VALUE ? 0 : System.nanoTime();
+        if (ttlNanos != Long.MAX_VALUE)
+            expire(now);
+        //remove & re-insert to move this element to the tail
+        final Long last = seen.remove(t);
+        seen.put(t, now);
+        return last == null;
+    }
+
+    private void expire(final long now) {
+        final Iterator<Long> it = seen.values()
+                                      .iterator();
+        while (it.hasNext()) {
+            if (now - it.next() < ttlNanos)
+                return;
+            it.remove();
+        }
+    }
+
+    int size() {
+        return seen.size();
+    }
+}
@@ -0,0 +1,63 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import java.util.function.BinaryOperator;
+
+import cyclops.function.Monoid;
+
+/**
+ * Sliding window that keeps a running aggregate, elements leaving the window are removed from the aggregate via an
+ * inverse function (e.g. subtraction for a sum) - O(1) per element.
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class InvertibleMonoidWindow<T> implements SlidingWindow<T,T> {
+
+    private final Monoid<T> monoid;
+    private final BinaryOperator<T> inverse;
+    private final Object[] buffer;
+    private int head = 0;
+    private int size = 0;
+    private T aggregate;
+
+    /**
+     * @param capacity Maximum size of the window
+     * @param monoid Monoid used to add elements to the aggregate
+     * @param inverse Function that removes an element (second parameter) from the aggregate (first parameter)
+     */
+    public InvertibleMonoidWindow(final int capacity, final Monoid<T> monoid, final BinaryOperator<T> inverse) {
+        this.monoid = monoid;
+        this.inverse = inverse;
+        this.buffer = new Object[Math.max(1, capacity)];
+        this.aggregate = monoid.zero();
+    }
+
+    @Override
+    public void add(final T t) {
+        if (size == buffer.length)
+            removeFirst();
+        final int i = head + size;
+        buffer[i >= buffer.length ? i - buffer.length : i] = t;
+        size++;
+        aggregate = monoid.apply(aggregate, t);
+    }
+
+    @Override
+    public void removeFirst() {
+        if (size == 0)
+            return;
+        aggregate = inverse.apply(aggregate, (T) buffer[head]);
+        buffer[head] = null;
+        head = head + 1 == buffer.length ? 0 : head + 1;
+        size--;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T result() {
+        return aggregate;
+    }
+}
@@ -1,10 +1,24 @@
 package com.aol.cyclops2.internal.stream.spliterators;
 
+import com.aol.cyclops2.data.collections.extensions.LazyFluentCollection;
 import com.aol.cyclops2.types.mixins.Printable;
 
+import org.pcollections.PCollection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.TreeSet;
 import java.util.function.Consumer;
 
 /**
@@ -16,21 +30,58 @@ public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T
     private final Iterable<T> source;
 
     Iterator<T> active;
+    private long remaining = -1;
 
     public IteratableSpliterator(final Iterable<T> source) {
-        super(-1,Spliterator.ORDERED);
+        super(-1,isSized(source) ? Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED : Spliterator.ORDERED);
 
         this.source = source;
 
 
     }
+
+    /*
+     * Eager collections know their size up front, so downstream operators & collectors can presize. Only collection types
+     * known to be safe report a size : the single-threaded JDK collections, their fixed and empty / singleton variants and
+     * persistent collections (which can not change at all). Lazy persistent collections are excluded as asking for their
+     * size would force materialization. Any other type (e.g. concurrent or synchronized collections, whose size may change
+     * between binding and traversal) is unsized.
+     */
+    private static final Set<Class<?>> SIZED_TYPES = new HashSet<>(Arrays.asList(ArrayList.class, LinkedList.class,
+            ArrayDeque.class, PriorityQueue.class, HashSet.class, LinkedHashSet.class, TreeSet.class,
+            Arrays.asList().getClass(), Collections.emptyList().getClass(), Collections.emptySet().getClass(),
+            Collections.singletonList(null).getClass(), Collections.singleton(null).getClass()));
+
+    private static boolean isSized(final Iterable<?> source){
+        if(source instanceof LazyFluentCollection)
+            return false;
+        return source instanceof PCollection || SIZED_TYPES.contains(source.getClass());
+    }
+
+    //late-binding : the size is captured along with the Iterator on first use
+    private void bind(){
+        if(hasCharacteristics(Spliterator.SIZED))
+            remaining = ((Collection<T>)source).size();
+        active=source.iterator();
+    }
+
+    @Override
+    public long estimateSize() {
+        if(!hasCharacteristics(Spliterator.SIZED))
+            return super.estimateSize();
+        if(active==null)
+            bind();
+        return remaining;
+    }
+
     @Override
     public void forEachRemaining(Consumer<? super T> action) {
 
         if(active==null)
-            active=source.iterator();
+            bind();
 
         active.forEachRemaining(action);
+        remaining = 0;
 
     }
 
@@ -38,8 +89,9 @@ public class IteratableSpliterator<T> extends Spliterators.AbstractSpliterator<T
     public boolean tryAdvance(Consumer<? super T> action) {
 
         if(active==null)
-            active=source.iterator();
+            bind();
         if (active.hasNext()) {
+            remaining--;
             action.accept(active.next());
             return true;
         }
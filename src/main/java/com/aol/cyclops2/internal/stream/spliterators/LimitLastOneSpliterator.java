@@ -14,7 +14,7 @@ public class LimitLastOneSpliterator<T> extends AbstractSpliterator<T> implement
     private final Spliterator<T> source;
 
     public LimitLastOneSpliterator(final Spliterator<T> source) {
-        super(source.estimateSize(),source.characteristics());
+        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
         buffer = UNSET;
         this.source = source;
         
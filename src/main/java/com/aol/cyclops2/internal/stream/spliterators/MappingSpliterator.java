@@ -16,13 +16,18 @@ public class MappingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
     Spliterator<T> source;
     Function<? super T, ? extends R> mapper;
     public MappingSpliterator(final Spliterator<T> source,Function<? super T, ? extends R> mapper) {
-        super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
+        super(source.estimateSize(),source.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
 
         this.source = source;
         this.mapper = mapper;
 
     }
     @Override
+    public long estimateSize() {
+        //mapping is one to one, so the size (exact or estimated) is that of the source
+        return source.estimateSize();
+    }
+    @Override
     public <R2> MappingSpliterator<T, ?> compose(Function<? super R, ? extends R2> fn) {
         return new MappingSpliterator<T, R2>(CopyableSpliterator.copy(source),mapper.andThen(fn));
     }
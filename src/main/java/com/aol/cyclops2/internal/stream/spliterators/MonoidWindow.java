@@ -0,0 +1,69 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import cyclops.function.Monoid;
+
+/**
+ * Sliding window that reduces its contents with a Monoid in amortized O(1) per element, without requiring an inverse.
+ *
+ * New elements are pushed onto a back stack with a running aggregate. When the front of the window is removed and the
+ * front stack is empty, the back stack is flipped onto the front stack storing suffix aggregates (so the top of the front
+ * stack holds the aggregate of every element in it). The window aggregate is the top front aggregate combined with
+ * the back aggregate, preserving encounter order for non-commutative Monoids.
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class MonoidWindow<T> implements SlidingWindow<T,T> {
+
+    private final Monoid<T> monoid;
+    private final Object[] back;
+    private int backSize = 0;
+    private T backAggregate;
+    private final Object[] front;
+    private int frontSize = 0;
+
+    public MonoidWindow(final int capacity, final Monoid<T> monoid) {
+        this.monoid = monoid;
+        this.back = new Object[Math.max(1, capacity)];
+        this.front = new Object[Math.max(1, capacity)];
+        this.backAggregate = monoid.zero();
+    }
+
+    @Override
+    public void add(final T t) {
+        if (size() == back.length)
+            removeFirst();
+        back[backSize++] = t;
+        backAggregate = monoid.apply(backAggregate, t);
+    }
+
+    @Override
+    public void removeFirst() {
+        if (frontSize == 0)
+            flip();
+        if (frontSize > 0)
+            front[--frontSize] = null;
+    }
+
+    private void flip() {
+        T aggregate = monoid.zero();
+        for (int i = backSize - 1; i >= 0; i--) {
+            aggregate = monoid.apply((T) back[i], aggregate);
+            front[frontSize++] = aggregate;
+            back[i] = null;
+        }
+        backSize = 0;
+        backAggregate = monoid.zero();
+    }
+
+    @Override
+    public int size() {
+        return frontSize + backSize;
+    }
+
+    @Override
+    public T result() {
+        if (frontSize == 0)
+            return backAggregate;
+        return monoid.apply((T) front[frontSize - 1], backAggregate);
+    }
+}
@@ -0,0 +1,56 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+import com.aol.cyclops2.data.collections.extensions.persistent.TriePVector;
+import cyclops.collections.immutable.PVectorX;
+
+/**
+ * Sliding window backed by a circular array. Appending and sliding are O(1) and allocation free, each result is an
+ * immutable snapshot of the window built in a single O(windowSize) pass.
+ *
+ * @param <T> Data type of elements in the window
+ */
+public class RingBufferWindow<T> implements SlidingWindow<T,PVectorX<T>> {
+
+    private final Object[] buffer;
+    private int head = 0;
+    private int size = 0;
+
+    public RingBufferWindow(final int capacity) {
+        this.buffer = new Object[Math.max(1, capacity)];
+    }
+
+    @Override
+    public void add(final T t) {
+        if (size == buffer.length)
+            removeFirst();
+        buffer[index(size)] = t;
+        size++;
+    }
+
+    @Override
+    public void removeFirst() {
+        if (size == 0)
+            return;
+        buffer[head] = null;
+        head = index(1);
+        size--;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public PVectorX<T> result() {
+        final TriePVector.Builder<T> builder = TriePVector.builder();
+        for (int i = 0; i < size; i++)
+            builder.add((T) buffer[index(i)]);
+        return PVectorX.fromIterable(builder.build());
+    }
+
+    private int index(final int offset) {
+        final int i = head + offset;
+        return i >= buffer.length ? i - buffer.length : i;
+    }
+}
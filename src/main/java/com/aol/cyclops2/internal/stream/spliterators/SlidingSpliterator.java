@@ -2,40 +2,48 @@ package com.aol.cyclops2.internal.stream.spliterators;
 
 import cyclops.box.Mutable;
 import cyclops.collections.immutable.PVectorX;
-import org.pcollections.PVector;
-import org.pcollections.TreePVector;
 
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Created by johnmcclean on 22/12/2016.
  */
-public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
-                                implements CopyableSpliterator<R>,ComposableFunction<R,T,SlidingSpliterator<T,?>> {
+public class SlidingSpliterator<T,W,R> extends Spliterators.AbstractSpliterator<R>
+                                implements CopyableSpliterator<R>,ComposableFunction<R,T,SlidingSpliterator<T,W,?>> {
     private final Spliterator<T> source;
 
-    private final Function<? super PVectorX<T>, ? extends R> finalizer;
+    private final Supplier<? extends SlidingWindow<T,W>> windowFactory;
+    private final Function<? super W, ? extends R> finalizer;
     private final int windowSize;
     private final int increment;
-    final Mutable<PVector<T>> list = Mutable.of(TreePVector.empty());
-    public SlidingSpliterator(final Spliterator<T> source,  Function<? super PVectorX<T>, ? extends R> finalizer,
-                                int windowSize, int increment) {
+    final SlidingWindow<T,W> window;
+
+    public SlidingSpliterator(final Spliterator<T> source,  Function<? super W, ? extends R> finalizer,
+                                Supplier<? extends SlidingWindow<T,W>> windowFactory, int windowSize, int increment) {
         super(source.estimateSize(),source.characteristics() & Spliterator.ORDERED);
 
         this.source = source;
 
         this.windowSize = windowSize;
+        this.windowFactory = windowFactory;
+        this.window = windowFactory.get();
         this.finalizer=finalizer;
         this.increment=increment;
 
 
 
     }
-    public <R2> SlidingSpliterator<T,?> compose(Function<? super R,? extends R2> fn){
-        return new SlidingSpliterator<T,R2>(CopyableSpliterator.copy(source),finalizer.andThen(fn), windowSize,increment);
+
+    public SlidingSpliterator(final Spliterator<T> source,  Function<? super PVectorX<T>, ? extends R> finalizer,
+                                int windowSize, int increment) {
+        this(source,(Function)finalizer,()->(SlidingWindow)new RingBufferWindow<T>(windowSize),windowSize,increment);
+    }
+    public <R2> SlidingSpliterator<T,W,?> compose(Function<? super R,? extends R2> fn){
+        return new SlidingSpliterator<T,W,R2>(CopyableSpliterator.copy(source),finalizer.andThen(fn),windowFactory, windowSize,increment);
     }
 
     boolean sent = false;
@@ -46,15 +54,14 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
         source.forEachRemaining(t->{
             if(data==false)
                  data = true;
-            list.mutate(var -> var.plus(Math.max(0, var.size()), t));
-            if(list.get().size()==windowSize){
+            window.add(t);
+            if(window.size()==windowSize){
 
-                action.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                action.accept(finalizer.apply(window.result()));
                 sent = true;
 
-                for (int i = 0; i < increment && list.get()
-                        .size() > 0; i++)
-                list.mutate(var -> var.minus(0));
+                for (int i = 0; i < increment && window.size() > 0; i++)
+                    window.removeFirst();
             }else{
 
                 sent =false;
@@ -63,7 +70,7 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
 
         });
         if(!sent && data){
-            action.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+            action.accept(finalizer.apply(window.result()));
         }
 
     }
@@ -73,11 +80,9 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
        if(!canAdvance)
            return false;
        data = false;
-        for (int i = 0; i < increment && list.get()
-                .size() > 0; i++)
-            list.mutate(var -> var.minus(0));
-        for (; list.get()
-                .size() < windowSize
+        for (int i = 0; i < increment && window.size() > 0; i++)
+            window.removeFirst();
+        for (; window.size() < windowSize
                 && canAdvance;) {
             Mutable<T> box = Mutable.of(null);
             canAdvance = source.tryAdvance(t -> {
@@ -86,19 +91,19 @@ public class SlidingSpliterator<T,R> extends Spliterators.AbstractSpliterator<R>
             });
             if (box.get()!=null) {
                 data =true;
-                list.mutate(var -> var.plus(Math.max(0, var.size()), box.get()));
+                window.add(box.get());
             }
 
         }
         if(data)
-            action.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+            action.accept(finalizer.apply(window.result()));
 
         return canAdvance;
     }
 
     @Override
     public Spliterator<R> copy() {
-        return new SlidingSpliterator<T, R>(CopyableSpliterator.copy(source),finalizer, windowSize,increment);
+        return new SlidingSpliterator<T,W,R>(CopyableSpliterator.copy(source),finalizer,windowFactory, windowSize,increment);
     }
 
 
@@ -0,0 +1,22 @@
+package com.aol.cyclops2.internal.stream.spliterators;
+
+/**
+ * Mutable state for a sliding window, used by SlidingSpliterator (pull) and SlidingOperator (push).
+ * Elements are appended at the end of the window and removed from the front as the window slides.
+ *
+ * @param <T> Data type of elements entering the window
+ * @param <W> Type of the result computed for the current window
+ */
+public interface SlidingWindow<T,W> {
+
+    void add(T t);
+
+    void removeFirst();
+
+    int size();
+
+    /**
+     * @return The result for the elements currently in the window
+     */
+    W result();
+}
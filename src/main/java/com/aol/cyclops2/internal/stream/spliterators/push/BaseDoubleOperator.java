@@ -0,0 +1,12 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Base class for double specialised operators that transform an upstream DoubleOperator
+ */
+@AllArgsConstructor
+public abstract class BaseDoubleOperator implements DoubleOperator {
+    final DoubleOperator source;
+
+}
@@ -0,0 +1,12 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Base class for int specialised operators that transform an upstream IntOperator
+ */
+@AllArgsConstructor
+public abstract class BaseIntOperator implements IntOperator {
+    final IntOperator source;
+
+}
@@ -0,0 +1,12 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Base class for long specialised operators that transform an upstream LongOperator
+ */
+@AllArgsConstructor
+public abstract class BaseLongOperator implements LongOperator {
+    final LongOperator source;
+
+}
@@ -0,0 +1,133 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+import cyclops.async.wait.SpinParkWait;
+import cyclops.async.wait.WaitStrategy;
+import lombok.AllArgsConstructor;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Pull based Iterator over an asynchronous push based Operator.
+ *
+ * Elements are requested from upstream in batches and buffered, with more requested once 75% of a batch has been consumed.
+ * When the buffer is empty the consuming thread waits using the supplied WaitStrategy (by default spinning, then yielding, then
+ * parking), the producer unparks the consuming thread when new data arrives.
+ */
+public class BlockingOperatorIterator<T> implements Iterator<T> {
+
+    public static final int DEFAULT_BATCH = 64;
+    private static final Object NIL = new Object();
+    private static final Object UNSET = new Object();
+
+    private final Consumer<? super Throwable> errorHandler;
+    private final WaitStrategy<Object> wait;
+    private final int batch;
+    private final int replenish;
+    private final OneToOneConcurrentArrayQueue<Object> buffer;
+
+    private volatile boolean done = false;
+    private volatile Thread waiter;
+    private StreamSubscription sub;
+    private boolean requested = false;
+    private int consumed = 0;
+    private Object next = UNSET;
+
+    public BlockingOperatorIterator(Operator<T> source, Consumer<? super Throwable> errorHandler){
+        this(source,errorHandler,DEFAULT_BATCH,new SpinParkWait<>());
+    }
+    public BlockingOperatorIterator(Operator<T> source, Consumer<? super Throwable> errorHandler,
+                                    int batch, WaitStrategy<Object> wait){
+        this.errorHandler = errorHandler;
+        this.wait = wait;
+        this.batch = Math.max(1,batch);
+        this.replenish = Math.max(1,this.batch - (this.batch >> 2));
+        //errors do not consume demand, so leave headroom beyond the requested batch
+        this.buffer = new OneToOneConcurrentArrayQueue<>(this.batch*2);
+        this.sub = source.subscribe(e->{
+            push(e==null ? NIL : e);
+        },e->{
+            push(new ErrorBox(e));
+        },()->{
+            done = true;
+            signal();
+        });
+    }
+
+    private void push(Object e){
+        while(!buffer.offer(e)){
+            LockSupport.parkNanos(1l);
+        }
+        signal();
+    }
+    private void signal(){
+        Thread t = waiter;
+        if(t!=null)
+            LockSupport.unpark(t);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(next!=UNSET)
+            return true;
+        if(!requested){
+            requested = true;
+            sub.request(batch);
+        }
+        for(;;) {
+            //completion is signalled after the last element is buffered
+            boolean finished = done;
+            Object e = buffer.poll();
+            if (e instanceof ErrorBox) {
+                errorHandler.accept(((ErrorBox) e).error);
+                continue;
+            }
+            if (e != null) {
+                next = e;
+                consumed();
+                return true;
+            }
+            if (finished)
+                return false;
+            await();
+        }
+    }
+
+    private void await(){
+        waiter = Thread.currentThread();
+        try {
+            wait.take(() -> done || !buffer.isEmpty() ? Boolean.TRUE : null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            waiter = null;
+        }
+    }
+
+    private void consumed(){
+        if(++consumed==replenish){
+            consumed = 0;
+            sub.request(replenish);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object result = next;
+        next = UNSET;
+        return result == NIL ? null : (T) result;
+    }
+
+    @AllArgsConstructor
+    private static class ErrorBox {
+        private final Throwable error;
+    }
+}
@@ -0,0 +1,44 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleFunction;
+
+/**
+ * Converts a DoubleOperator into an Operator of Objects, this is the only point in a double pipeline where values are boxed
+ *
+ * @param <R> Type of the values emitted downstream
+ */
+public class DoubleBoxingOperator<R> implements Operator<R> {
+
+    private final DoubleOperator source;
+    private final DoubleFunction<? extends R> mapper;
+
+    public DoubleBoxingOperator(DoubleOperator source, DoubleFunction<? extends R> mapper){
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        return source.subscribe(e-> {
+                    try {
+                        onNext.accept(mapper.apply(e));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(mapper.apply(e));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,15 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A push Operator specialised for double values, elements are passed downstream as primitives without boxing
+ */
+public interface DoubleOperator {
+
+
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
@@ -0,0 +1,253 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Collapses adjacent stateless stages (map, filter, peek) and skip / limit counters into a single Operator.
+ *
+ * Rather than each stage wrapping the previous in another Operator (with its own lambda capture and try / catch per element),
+ * stages appended to a FusedOperator are added to its stage array. Each element is passed through the stages in a single loop,
+ * guarded by a single try / catch. Stateful stages (skip / limit) are copied per subscription, so a fused pipeline can be
+ * subscribed to many times.
+ *
+ * As with the standalone LimitOperator, a fused limit completes (and cancels upstream) when the element after the last
+ * permitted one arrives, or when upstream completes. Sources that ignore cancellation (e.g. Spouts.async) may still signal
+ * after an earlier completion, so the limit does not complete ahead of its source.
+ *
+ * @param <T> Input type
+ * @param <R> Output type
+ */
+public class FusedOperator<T,R> extends BaseOperator<T,R> {
+
+    static final Object FILTERED = new Object();
+
+    final Stage[] stages;
+
+    private FusedOperator(Operator<T> source, Stage[] stages){
+        super(source);
+        this.stages = stages;
+    }
+
+    public static <T,R> Operator<R> map(Operator<T> source, Function<? super T, ? extends R> mapper){
+        return fuse(source,new MapStage(mapper));
+    }
+    public static <T> Operator<T> filter(Operator<T> source, Predicate<? super T> predicate){
+        return fuse(source,new FilterStage(predicate));
+    }
+    public static <T> Operator<T> peek(Operator<T> source, Consumer<? super T> consumer){
+        return fuse(source,new PeekStage(consumer));
+    }
+    public static <T> Operator<T> skip(Operator<T> source, long skip){
+        return fuse(source,new SkipStage(skip));
+    }
+    public static <T> Operator<T> limit(Operator<T> source, long limit){
+        return fuse(source,new LimitStage(limit));
+    }
+
+    private static <T,R> Operator<R> fuse(Operator<T> source, Stage stage){
+        if(source instanceof FusedOperator){
+            FusedOperator<?,T> fused = (FusedOperator<?,T>)source;
+            Stage[] stages = Arrays.copyOf(fused.stages,fused.stages.length+1);
+            stages[fused.stages.length]=stage;
+            return new FusedOperator(fused.source,stages);
+        }
+        return new FusedOperator<T,R>(source,new Stage[]{stage});
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Pipeline pipeline = new Pipeline(stages);
+        StreamSubscription[] upstream = {null};
+        boolean[] completed = {false};
+        upstream[0] = source.subscribe(e-> {
+                    if(completed[0])
+                        return;
+                    try {
+                        Object result = pipeline.apply(e);
+                        if(result!=FILTERED)
+                            onNext.accept((R)result);
+                        else if(!pipeline.complete)
+                            upstream[0].request(1);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                    if(pipeline.complete){
+                        completed[0]=true;
+                        //a source may signal before subscribe has returned, cancel once it does
+                        if(upstream[0]!=null)
+                            upstream[0].cancel();
+                        onComplete.run();
+                    }
+                }
+                ,onError,()->{
+                    if(!completed[0]) {
+                        completed[0]=true;
+                        onComplete.run();
+                    }
+                });
+        if(pipeline.complete)
+            upstream[0].cancel();
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Pipeline pipeline = new Pipeline(stages);
+        boolean[] completed = {false};
+        source.subscribeAll(e-> {
+                    if(completed[0])
+                        return;
+                    try {
+                        Object result = pipeline.apply(e);
+                        if(result!=FILTERED)
+                            onNext.accept((R)result);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                    if(pipeline.complete){
+                        completed[0]=true;
+                        onCompleteDs.run();
+                    }
+                }
+                ,onError,()->{
+                    if(!completed[0]) {
+                        completed[0]=true;
+                        onCompleteDs.run();
+                    }
+                });
+    }
+
+    /**
+     * The stages of a single subscription, stateful stages are copied so that their counters are not shared
+     */
+    static final class Pipeline {
+        final Stage[] stages;
+        volatile boolean complete = false; //may be set on an asynchronous source's thread
+
+        Pipeline(Stage[] stages){
+            Stage[] local = stages;
+            for(int i=0;i<stages.length;i++){
+                Stage next = stages[i].forSubscription(this);
+                if(next!=stages[i]){
+                    if(local==stages)
+                        local = Arrays.copyOf(stages,stages.length);
+                    local[i]=next;
+                }
+            }
+            this.stages = local;
+        }
+
+        Object apply(Object value){
+            Object result = value;
+            for(int i=0;i<stages.length;i++){
+                result = stages[i].apply(result);
+                if(result==FILTERED)
+                    return FILTERED;
+            }
+            return result;
+        }
+    }
+
+    static abstract class Stage {
+        abstract Object apply(Object value);
+
+        Stage forSubscription(Pipeline pipeline){
+            return this;
+        }
+    }
+
+    static final class MapStage extends Stage {
+        final Function<Object,Object> mapper;
+
+        MapStage(Function<?,?> mapper){
+            this.mapper = (Function<Object,Object>)mapper;
+        }
+
+        @Override
+        Object apply(Object value){
+            return mapper.apply(value);
+        }
+    }
+
+    static final class FilterStage extends Stage {
+        final Predicate<Object> predicate;
+
+        FilterStage(Predicate<?> predicate){
+            this.predicate = (Predicate<Object>)predicate;
+        }
+
+        @Override
+        Object apply(Object value){
+            return predicate.test(value) ? value : FILTERED;
+        }
+    }
+
+    static final class PeekStage extends Stage {
+        final Consumer<Object> consumer;
+
+        PeekStage(Consumer<?> consumer){
+            this.consumer = (Consumer<Object>)consumer;
+        }
+
+        @Override
+        Object apply(Object value){
+            consumer.accept(value);
+            return value;
+        }
+    }
+
+    static final class SkipStage extends Stage {
+        final long skip;
+        long count = 0;
+
+        SkipStage(long skip){
+            this.skip = skip;
+        }
+
+        @Override
+        Object apply(Object value){
+            if(count<skip){
+                count++;
+                return FILTERED;
+            }
+            return value;
+        }
+
+        @Override
+        Stage forSubscription(Pipeline pipeline){
+            return new SkipStage(skip);
+        }
+    }
+
+    static final class LimitStage extends Stage {
+        final long limit;
+        final Pipeline pipeline;
+        long count = 0;
+
+        LimitStage(long limit){
+            this(limit,null);
+        }
+        private LimitStage(long limit, Pipeline pipeline){
+            this.limit = limit;
+            this.pipeline = pipeline;
+        }
+
+        @Override
+        Object apply(Object value){
+            if(count>=limit){
+                pipeline.complete = true;
+                return FILTERED;
+            }
+            count++;
+            return value;
+        }
+
+        @Override
+        Stage forSubscription(Pipeline pipeline){
+            return new LimitStage(limit,pipeline);
+        }
+    }
+}
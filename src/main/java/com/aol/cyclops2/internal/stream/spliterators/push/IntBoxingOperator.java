@@ -0,0 +1,44 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Converts an IntOperator into an Operator of Objects, this is the only point in an int pipeline where values are boxed
+ *
+ * @param <R> Type of the values emitted downstream
+ */
+public class IntBoxingOperator<R> implements Operator<R> {
+
+    private final IntOperator source;
+    private final IntFunction<? extends R> mapper;
+
+    public IntBoxingOperator(IntOperator source, IntFunction<? extends R> mapper){
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        return source.subscribe(e-> {
+                    try {
+                        onNext.accept(mapper.apply(e));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(mapper.apply(e));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
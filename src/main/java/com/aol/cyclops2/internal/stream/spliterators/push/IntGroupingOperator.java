@@ -0,0 +1,110 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Groups int values into int[] chunks of groupSize (the final chunk may be smaller), values are copied into primitive arrays
+ * rather than boxed into Collections
+ */
+public class IntGroupingOperator implements Operator<int[]> {
+
+    private final IntOperator source;
+    private final int groupSize;
+
+    public IntGroupingOperator(IntOperator source, int groupSize){
+        this.source = source;
+        this.groupSize = groupSize;
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super int[]> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        int[][] next = {new int[groupSize]};
+        int[] size = {0};
+        StreamSubscription[] upstream = {null};
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                upstream[0].request(n);
+
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+
+            }
+        };
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        next[0][size[0]++]=e;
+                        if(size[0]==groupSize){
+                            int[] group = next[0];
+                            next[0] = new int[groupSize];
+                            size[0]=0;
+                            onNext.accept(group);
+                        }else{
+                            upstream[0].request(1l);
+                        }
+
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,t->{onError.accept(t);
+                    sub.requested.decrementAndGet();
+                    if(sub.isActive())
+                        upstream[0].request(1);
+                },()->{
+                    if(size[0]>0) {
+                        try {
+                            onNext.accept(Arrays.copyOf(next[0],size[0]));
+                        } catch(Throwable t){
+                            onError.accept(t);
+                        }
+                        sub.requested.decrementAndGet();
+                    }
+                    onComplete.run();
+                });
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super int[]> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        int[][] next = {new int[groupSize]};
+        int[] size = {0};
+        source.subscribeAll(e-> {
+                    try {
+                        next[0][size[0]++]=e;
+                        if(size[0]==groupSize){
+                            int[] group = next[0];
+                            next[0] = new int[groupSize];
+                            size[0]=0;
+                            onNext.accept(group);
+                        }
+
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(size[0]>0) {
+                        try {
+                            onNext.accept(Arrays.copyOf(next[0],size[0]));
+                        } catch(Throwable t){
+                            onError.accept(t);
+                        }
+                    }
+                    onCompleteDs.run();
+                });
+    }
+}
@@ -0,0 +1,59 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Emits at most limit int values, the upstream subscription is cancelled as soon as the limit is reached
+ */
+public class IntLimitOperator extends BaseIntOperator {
+
+
+    final long limit;
+
+    public IntLimitOperator(IntOperator source, long limit){
+        super(source);
+        this.limit = limit;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        long[] count = {0};
+        StreamSubscription sub[] = {null};
+        boolean completed[] = {false};
+        sub[0] = source.subscribe(e-> {
+                    if(completed[0])
+                        return;
+                    if(count[0]++<limit) {
+                        try {
+                            onNext.accept(e);
+                        } catch (Throwable t) {
+                            onError.accept(t);
+                        }
+                    }
+                    if(count[0]>=limit){
+                        sub[0].cancel();
+                        completed[0]=true;
+                        onComplete.run();
+                    }
+                }
+                ,onError,()->{
+                    if(!completed[0]) {
+                        completed[0]=true;
+                        onComplete.run();
+                    }
+                });
+        return sub[0];
+    }
+
+    /**
+     * Unlike the boxed LimitOperator, the subscription based path is used here so that infinite upstream sources
+     * stop being drained once the limit has been reached
+     */
+    @Override
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
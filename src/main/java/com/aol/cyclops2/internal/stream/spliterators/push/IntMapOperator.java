@@ -0,0 +1,52 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Transforms each int value with an IntUnaryOperator
+ */
+public class IntMapOperator extends BaseIntOperator {
+
+
+    final IntUnaryOperator mapper;
+
+    public IntMapOperator(IntOperator source, IntUnaryOperator mapper){
+        super(source);
+        this.mapper = mapper;
+
+    }
+
+
+    public IntMapOperator compose(IntUnaryOperator fn){
+        return new IntMapOperator(source,mapper.andThen(fn));
+
+    }
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        return source.subscribe(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsInt(e));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(mapper.applyAsInt(e));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
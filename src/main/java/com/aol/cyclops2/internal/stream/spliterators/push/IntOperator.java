@@ -0,0 +1,15 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A push Operator specialised for int values, elements are passed downstream as primitives without boxing
+ */
+public interface IntOperator {
+
+
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
@@ -0,0 +1,89 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * Emits the seed followed by the running accumulation of each int value
+ */
+public class IntScanLeftOperator extends BaseIntOperator {
+
+
+    final int seed;
+    final IntBinaryOperator accumulator;
+
+    public IntScanLeftOperator(IntOperator source, int seed, IntBinaryOperator accumulator){
+        super(source);
+        this.seed = seed;
+        this.accumulator = accumulator;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        int[] current = {seed};
+        boolean[] seeded = {false};
+        StreamSubscription[] upstream = {null};
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                long toRequest = n;
+                if(!seeded[0]){
+                    seeded[0]=true;
+                    try {
+                        onNext.accept(seed);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                    if(n!=Long.MAX_VALUE)
+                        toRequest--;
+                }
+                if(toRequest>0 && isOpen)
+                    upstream[0].request(toRequest);
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        current[0] = accumulator.applyAsInt(current[0],e);
+                        onNext.accept(current[0]);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        int[] current = {seed};
+        try {
+            onNext.accept(seed);
+        } catch (Throwable t) {
+            onError.accept(t);
+        }
+        source.subscribeAll(e-> {
+                    try {
+                        current[0] = accumulator.applyAsInt(current[0],e);
+                        onNext.accept(current[0]);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,77 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * IntOperator backed by a Spliterator.OfInt, values are advanced via an IntConsumer without boxing
+ * A new Spliterator is obtained from the supplier for each subscription
+ */
+public class IntSpliteratorOperator implements IntOperator {
+
+
+    final Supplier<? extends Spliterator.OfInt> split;
+
+
+    public IntSpliteratorOperator(Supplier<? extends Spliterator.OfInt> split){
+        this.split = split;
+    }
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Spliterator.OfInt spliterator = split.get();
+        boolean closed[]= {false};
+        boolean canAdvance[] = {true};
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work = n-> {
+
+                while(isActive() && canAdvance[0]) {
+                    try {
+                        canAdvance[0] = spliterator.tryAdvance(onNext);
+                        if(canAdvance[0])
+                            requested.decrementAndGet();
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                if(!canAdvance[0] && !closed[0]) {
+                    closed[0] = true;
+                    cancel();
+                    onComplete.run();
+                }
+
+            };
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(isOpen)
+                    this.singleActiveRequest(n,work);
+
+            }
+
+        };
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Spliterator.OfInt spliterator = split.get();
+
+        boolean canAdvance = true;
+        while(canAdvance){
+            try {
+                canAdvance = spliterator.tryAdvance(onNext);
+            } catch (Throwable t) {
+                onError.accept(t);
+            }
+        }
+        onCompleteDs.run();
+
+    }
+}
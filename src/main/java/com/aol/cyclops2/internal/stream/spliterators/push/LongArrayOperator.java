@@ -0,0 +1,108 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * LongOperator that emits the values in a long array
+ */
+public class LongArrayOperator implements LongOperator {
+
+
+    final long[] values;
+
+
+    public LongArrayOperator(long... values){
+        this.values = values;
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        int[] index ={0};
+        boolean[] completeSent = {false};
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work = n->{
+                if (n == Long.MAX_VALUE) {
+                    pushAll();
+                    return;
+                }
+                long reqs = n;
+                long delivered = 0;
+                do{
+
+                    while (delivered < reqs && index[0] < values.length) {
+                        if (!isOpen)
+                            return;
+                        try {
+                            onNext.accept(values[index[0]++]);
+                        } catch (Throwable t) {
+                            onError.accept(t);
+                        }
+                        delivered++;
+                    }
+
+                    if (index[0] >= values.length) {
+                        if (!completeSent[0]) {
+                            completeSent[0] = true;
+                            onComplete.run();
+                            cancel();
+                        }
+                        return;
+                    }
+                    reqs = requested.get();
+                    if(reqs==delivered) {
+                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        if(reqs==0)
+                            return;
+                        delivered=0;
+                    }
+
+                }while(true);
+
+            };
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                singleActiveRequest(n,work);
+
+            }
+
+            private void pushAll() {
+                for (; index[0] < values.length; index[0]++) {
+                    if(!isOpen)
+                        return;
+                    try {
+                        onNext.accept(values[index[0]]);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+
+                if(!completeSent[0]) {
+                    completeSent[0] = true;
+                    onComplete.run();
+                    cancel();
+                }
+            }
+
+        };
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        for(int i=0;i<values.length;i++) {
+            try {
+                onNext.accept(values[i]);
+            } catch (Throwable t) {
+                onError.accept(t);
+            }
+        }
+        onCompleteDs.run();
+    }
+}
@@ -0,0 +1,44 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Converts a LongOperator into an Operator of Objects, this is the only point in a long pipeline where values are boxed
+ *
+ * @param <R> Type of the values emitted downstream
+ */
+public class LongBoxingOperator<R> implements Operator<R> {
+
+    private final LongOperator source;
+    private final LongFunction<? extends R> mapper;
+
+    public LongBoxingOperator(LongOperator source, LongFunction<? extends R> mapper){
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        return source.subscribe(e-> {
+                    try {
+                        onNext.accept(mapper.apply(e));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        source.subscribeAll(e-> {
+                    try {
+                        onNext.accept(mapper.apply(e));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,15 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A push Operator specialised for long values, elements are passed downstream as primitives without boxing
+ */
+public interface LongOperator {
+
+
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
@@ -0,0 +1,106 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * LongOperator that emits the long values from start (inclusive) to end (exclusive)
+ */
+public class LongRangeOperator implements LongOperator {
+
+
+    final long start;
+    final long end;
+
+    public LongRangeOperator(long start, long end){
+        this.start = start;
+        this.end = end;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        long[] index = {start};
+        boolean[] completed = {false};
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work =  n ->{
+                if(n==Long.MAX_VALUE) {
+                    pushAll();
+                    return;
+                }
+                long reqs = n;
+                long delivered = 0;
+                do {
+
+                    while (delivered < reqs && index[0] < end) {
+                        if (!isOpen)
+                            return;
+                        try {
+                            onNext.accept(index[0]++);
+                        } catch (Throwable t) {
+                            onError.accept(t);
+                        }
+                        delivered++;
+                    }
+                    if (index[0] >= end) {
+                        if (!completed[0]) {
+                            completed[0] = true;
+                            onComplete.run();
+                            cancel();
+                        }
+                        return;
+                    }
+                    reqs = requested.get();
+                    if(reqs==delivered) {
+                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        if(reqs==0)
+                            return;
+                        delivered=0;
+                    }
+                }while(true);
+
+            };
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                singleActiveRequest(n,work);
+            }
+            private void pushAll() {
+                for(;index[0]<end;index[0]++){
+                    if(!isOpen)
+                        return;
+                    try {
+                        onNext.accept(index[0]);
+                    }catch(Throwable t){
+                        onError.accept(t);
+                    }
+                }
+                if (!completed[0]) {
+                    completed[0] = true;
+                    onComplete.run();
+                    cancel();
+                }
+            }
+
+        };
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+
+        for (long i = start; i < end; i++) {
+            try {
+                onNext.accept(i);
+            } catch (Throwable t) {
+                onError.accept(t);
+            }
+        }
+
+        onCompleteDs.run();
+    }
+}
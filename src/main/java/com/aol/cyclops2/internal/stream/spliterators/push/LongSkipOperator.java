@@ -0,0 +1,77 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Drops the first skip long values
+ */
+public class LongSkipOperator extends BaseLongOperator {
+
+
+    final long skip;
+
+    public LongSkipOperator(LongOperator source, long skip){
+        super(source);
+        this.skip = skip;
+
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        long[] count = {0};
+        StreamSubscription sub[] = {null};
+        StreamSubscription res = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                sub[0].request(n);
+            }
+
+            @Override
+            public void cancel() {
+                sub[0].cancel();
+                super.cancel();
+            }
+        };
+        sub[0] = source.subscribe(e-> {
+                    try {
+                        if(count[0]<skip){
+                            count[0]++;
+                            sub[0].request(1l);
+                        }
+                        else {
+                            onNext.accept(e);
+                        }
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return res;
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        long[] count = {0};
+        source.subscribeAll(e->{
+            try {
+                if (count[0] < skip) {
+                    count[0]++;
+                } else {
+                    onNext.accept(e);
+                }
+            }catch(Throwable t){
+                onError.accept(t);
+            }
+        },onError,onCompleteDs);
+
+    }
+}
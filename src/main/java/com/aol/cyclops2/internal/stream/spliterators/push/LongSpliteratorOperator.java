@@ -0,0 +1,76 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * LongOperator backed by a Spliterator.OfLong, values are advanced via a LongConsumer without boxing
+ * A new Spliterator is obtained from the supplier for each subscription
+ */
+public class LongSpliteratorOperator implements LongOperator {
+
+
+    final Supplier<? extends Spliterator.OfLong> split;
+
+
+    public LongSpliteratorOperator(Supplier<? extends Spliterator.OfLong> split){
+        this.split = split;
+    }
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Spliterator.OfLong spliterator = split.get();
+        boolean closed[]= {false};
+        boolean canAdvance[] = {true};
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work = n-> {
+
+                while(isActive() && canAdvance[0]) {
+                    try {
+                        canAdvance[0] = spliterator.tryAdvance(onNext);
+                        if(canAdvance[0])
+                            requested.decrementAndGet();
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                if(!canAdvance[0] && !closed[0]) {
+                    closed[0] = true;
+                    cancel();
+                    onComplete.run();
+                }
+
+            };
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(isOpen)
+                    this.singleActiveRequest(n,work);
+
+            }
+
+        };
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Spliterator.OfLong spliterator = split.get();
+
+        boolean canAdvance = true;
+        while(canAdvance){
+            try {
+                canAdvance = spliterator.tryAdvance(onNext);
+            } catch (Throwable t) {
+                onError.accept(t);
+            }
+        }
+        onCompleteDs.run();
+
+    }
+}
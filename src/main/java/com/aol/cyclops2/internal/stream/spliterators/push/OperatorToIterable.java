@@ -36,6 +36,8 @@ public class OperatorToIterable<T,R>  implements Iterable<T> {
     }
 
     public Iterator<T> iterator(){
+        if(async)
+            return new BlockingOperatorIterator<>(source,defaultErrorHandler);
         return new Iterator<T>() {
             final Object UNSET = new Object();
             final AtomicReference value = new AtomicReference<>(UNSET);
@@ -0,0 +1,175 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import lombok.AllArgsConstructor;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Batches demand signalled to an (asynchronous) upstream Operator.
+ *
+ * Rather than passing each downstream request(n) (often request(1) from filtering or grouping stages) across to the upstream, a
+ * prefetch batch is requested on the first downstream request and elements are buffered in a single producer / single consumer
+ * queue. Further elements are requested from upstream in bulk, once 75% of the prefetched batch has been consumed downstream.
+ *
+ * Elements are handed over to the downstream thread via a queue-drain loop, only one thread drains at a time and downstream
+ * demand is decremented once per drain pass rather than once per element.
+ *
+ * @param <T> Data type
+ */
+public class PrefetchOperator<T> extends BaseOperator<T,T> {
+
+    public static final int DEFAULT_PREFETCH = 256;
+    private static final Object NIL = new Object();
+
+    private final int prefetch;
+    private final int replenish;
+
+    public PrefetchOperator(Operator<T> source){
+        this(source,DEFAULT_PREFETCH);
+    }
+    public PrefetchOperator(Operator<T> source, int prefetch){
+        super(source);
+        this.prefetch = Math.max(1,prefetch);
+        this.replenish = Math.max(1,this.prefetch - (this.prefetch >> 2));
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Drain drain = new Drain(onNext,onError,onComplete);
+        drain.upstream = source.subscribe(e->drain.offer(e==null ? NIL : e),
+                                         t->drain.offer(new ErrorBox(t)),
+                                         ()->{
+                                             drain.done = true;
+                                             drain.drain();
+                                         });
+        return drain;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        source.subscribeAll(onNext,onError,onCompleteDs);
+    }
+
+    private class Drain extends StreamSubscription {
+        final Consumer<? super T> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+        //errors are delivered in order and consume demand like elements, leave headroom beyond the prefetch for upstreams
+        //that do not count errors against demand, with an unbounded fallback for upstreams that ignore demand entirely
+        final Queue<Object> queue = new OneToOneConcurrentArrayQueue<>(prefetch*2);
+        final Queue<Object> overflow = new ConcurrentLinkedQueue<>();
+        final AtomicInteger wip = new AtomicInteger(0);
+        volatile StreamSubscription upstream;
+        volatile boolean done = false;
+        final AtomicBoolean started = new AtomicBoolean(false);
+        boolean unbounded = false;
+        boolean completed = false;
+        int consumed = 0;
+
+        Drain(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        void offer(Object e){
+            if(!overflow.isEmpty() || !queue.offer(e))
+                overflow.offer(e);
+            drain();
+        }
+        Object poll(){
+            Object e = queue.poll();
+            return e!=null ? e : overflow.poll();
+        }
+
+        @Override
+        public void request(long n) {
+            if(n<=0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            if(!isOpen)
+                return;
+            super.request(n);
+            if(started.compareAndSet(false,true)){
+                if(n==Long.MAX_VALUE) {
+                    unbounded = true;
+                    upstream.request(Long.MAX_VALUE);
+                }
+                else
+                    upstream.request(prefetch);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            upstream.cancel();
+            if(wip.getAndIncrement()==0) {
+                queue.clear();
+                overflow.clear();
+            }
+        }
+
+        void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            int missed = 1;
+            for(;;){
+                long r = requested.get();
+                long emitted = 0;
+                for(;;){
+                    if(!isOpen){
+                        queue.clear();
+                        overflow.clear();
+                        return;
+                    }
+                    boolean finished = done;
+                    Object e = queue.peek();
+                    if(e==null)
+                        e = overflow.peek();
+                    if(e==null){
+                        if(finished && !completed){
+                            completed = true;
+                            onComplete.run();
+                        }
+                        break;
+                    }
+                    if(emitted==r)
+                        break;
+                    poll();
+                    if(e instanceof ErrorBox){
+                        onError.accept(((ErrorBox)e).error);
+                    }else {
+                        try {
+                            onNext.accept(e == NIL ? null : (T) e);
+                        } catch (Throwable t) {
+                            onError.accept(t);
+                        }
+                    }
+                    emitted++;
+                    if(!unbounded && ++consumed==replenish){
+                        consumed = 0;
+                        upstream.request(replenish);
+                    }
+                }
+                if(emitted!=0 && r!=Long.MAX_VALUE)
+                    requested.accumulateAndGet(emitted,(a,b)-> a==Long.MAX_VALUE ? a : a-b);
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class ErrorBox {
+        private final Throwable error;
+    }
+}
@@ -6,6 +6,9 @@ import org.reactivestreams.Subscription;
 
 import java.util.Spliterator;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 /**
@@ -26,45 +29,25 @@ public class PublisherToOperator<T> implements Operator<T> {
 
     @Override
     public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
-        Subscription[] sArray = {null};
-        StreamSubscription sub = new StreamSubscription(){
-
-            @Override
-            public void request(long n) {
-
-                if (sArray[0] != null)
-                    sArray[0].request(n);
-
-
-            }
-
+        UpstreamSubscription sub = new UpstreamSubscription(){
             @Override
             public void cancel() {
                 super.cancel();
                 closed = true;
-                if(sArray[0]!=null)
-                    sArray[0].cancel();
             }
         };
 
             split.subscribe(new Subscriber<T>() {
                 @Override
                 public void onSubscribe(Subscription s) {
-                    sArray[0] = s;
-
-                    if (sub.isActive()) {
-                       s.request(1l);
-
-                    }else if(!sub.isOpen){
-                        s.cancel();
-                    }
+                    sub.onSubscribe(s);
 
                 }
 
                 @Override
                 public void onNext(T t) {
+                   sub.delivered();
                    onNext.accept(t);
-                   sub.requested.decrementAndGet();
 
                 }
 
@@ -84,6 +67,69 @@ public class PublisherToOperator<T> implements Operator<T> {
         return sub;
     }
 
+    /**
+     * requested tracks outstanding demand (incremented by request, decremented as each element is delivered), so isActive
+     * reports whether this Subscription is still waiting on data. Demand not yet passed upstream is tracked separately in
+     * unforwarded, demand signalled before the upstream Subscription arrives (potentially on another thread) is held there
+     * and forwarded in full once it does.
+     * Demand is always recorded first, then the Subscription and unforwarded demand are re-checked in a single-drainer loop, so
+     * no request is lost or forwarded twice and calls to the upstream Subscription stay serial (rule 2.7).
+     */
+    static class UpstreamSubscription extends StreamSubscription {
+        private final AtomicReference<Subscription> upstream = new AtomicReference<>(null);
+        private final AtomicLong unforwarded = new AtomicLong(0);
+        private final AtomicInteger wip = new AtomicInteger(0);
+
+        void onSubscribe(Subscription s) {
+            upstream.set(s);
+            if (!isOpen) {
+                s.cancel();
+                return;
+            }
+            forward();
+        }
+
+        private void forward() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            do {
+                Subscription s = upstream.get();
+                if (s != null && isOpen) {
+                    long pending = unforwarded.getAndSet(0);
+                    if (pending > 0)
+                        s.request(pending);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                Subscription s = upstream.get();
+                if (s != null)
+                    s.request(n); //let upstream signal the 3.9 error
+                return;
+            }
+            super.request(n);
+            unforwarded.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            forward();
+        }
+
+        void delivered() {
+            requested.updateAndGet(r -> r == Long.MAX_VALUE || r == 0 ? r : r - 1);
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            Subscription s = upstream.get();
+            if (s != null)
+                s.cancel();
+        }
+    }
+
     @Override
     public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
 
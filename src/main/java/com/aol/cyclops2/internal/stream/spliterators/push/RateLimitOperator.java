@@ -0,0 +1,191 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import cyclops.async.RateLimiter;
+import lombok.AllArgsConstructor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Limits the rate at which elements are emitted using a (possibly shared) token bucket.
+ *
+ * Elements are requested from upstream in prefetch batches, buffered and emitted via a queue-drain loop.
+ * When no permit is available the drain loop exits and is re-run on the supplied ScheduledExecutorService once the reserved
+ * permit becomes usable, no thread is parked while waiting. Errors are passed on immediately and do not consume permits.
+ *
+ * @param <T> Data type
+ */
+public class RateLimitOperator<T> extends BaseOperator<T,T> {
+
+    private static final Object NIL = new Object();
+    private static final int PREFETCH = 64;
+    private static final int REPLENISH = PREFETCH - (PREFETCH >> 2);
+
+    private final RateLimiter limiter;
+    private final ScheduledExecutorService ex;
+
+    public RateLimitOperator(Operator<T> source, RateLimiter limiter, ScheduledExecutorService ex){
+        super(source);
+        this.limiter = limiter;
+        this.ex = ex;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Drain drain = new Drain(onNext,onError,onComplete);
+        drain.upstream = source.subscribe(e->drain.offer(e==null ? NIL : e),
+                                         t->drain.offer(new ErrorBox(t)),
+                                         ()->{
+                                             drain.done = true;
+                                             drain.drain();
+                                         });
+        return drain;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private class Drain extends StreamSubscription {
+        final Consumer<? super T> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+        final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger wip = new AtomicInteger(0);
+        final Runnable onPermit = this::permitReady;
+        volatile StreamSubscription upstream;
+        volatile boolean done = false;
+        volatile boolean permitReady = false;
+        volatile ScheduledFuture<?> timer;
+        boolean started = false;
+        boolean completed = false;
+        boolean reserved = false;
+        int consumed = 0;
+
+        Drain(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete){
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+        }
+
+        void offer(Object e){
+            queue.offer(e);
+            drain();
+        }
+
+        void permitReady(){
+            permitReady = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if(n<=0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            if(!isOpen)
+                return;
+            super.request(n);
+            boolean first = false;
+            synchronized (this) {
+                if (!started)
+                    started = first = true;
+            }
+            if(first)
+                upstream.request(PREFETCH);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            ScheduledFuture<?> pending = timer;
+            if(pending!=null)
+                pending.cancel(false);
+            if(upstream!=null)
+                upstream.cancel();
+            drain();
+        }
+
+        /**
+         * @return true if the head element may be emitted now, otherwise a permit has been reserved and its timer scheduled
+         */
+        private boolean acquire(){
+            if(reserved) {
+                if(!permitReady)
+                    return false;
+                reserved = false;
+                permitReady = false;
+                return true;
+            }
+            long wait = limiter.reserve();
+            if(wait==0)
+                return true;
+            reserved = true;
+            timer = ex.schedule(onPermit, wait, TimeUnit.NANOSECONDS);
+            return false;
+        }
+
+        void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            int missed = 1;
+            for(;;){
+                long r = requested.get();
+                long emitted = 0;
+                for(;;){
+                    if(!isOpen){
+                        queue.clear();
+                        break;
+                    }
+                    boolean finished = done;
+                    Object e = queue.peek();
+                    if(e==null){
+                        if(finished && !completed){
+                            completed = true;
+                            onComplete.run();
+                        }
+                        break;
+                    }
+                    if(emitted==r)
+                        break;
+                    if(e instanceof ErrorBox){
+                        queue.poll();
+                        onError.accept(((ErrorBox)e).error);
+                    }else {
+                        if(!acquire())
+                            break;
+                        queue.poll();
+                        try {
+                            onNext.accept(e == NIL ? null : (T) e);
+                        } catch (Throwable t) {
+                            onError.accept(t);
+                        }
+                    }
+                    emitted++;
+                    if(++consumed==REPLENISH){
+                        consumed = 0;
+                        upstream.request(REPLENISH);
+                    }
+                }
+                if(emitted!=0 && r!=Long.MAX_VALUE)
+                    requested.accumulateAndGet(emitted,(a,b)-> a==Long.MAX_VALUE ? a : a-b);
+                missed = wip.addAndGet(-missed);
+                if(missed==0)
+                    return;
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class ErrorBox {
+        private final Throwable error;
+    }
+}
@@ -0,0 +1,274 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Groups elements by size and time, using the supplied ScheduledExecutorService to emit the current group
+ * once its time period has elapsed - even if no further elements arrive.
+ *
+ * A group's time period starts when the first element is added to it. Completed groups are swapped out under a per
+ * subscription lock and emitted outside of it, by whichever thread (upstream or timer) is not already emitting, so
+ * downstream signals stay serialized without being delivered while the lock is held. Groups whose deadline fires while
+ * there is no downstream demand are held until demand arrives.
+ */
+public class ScheduledGroupedByTimeAndSizeOperator<T,C extends Collection<? super T>,R> extends BaseOperator<T,R> {
+
+    private final Supplier<? extends C> factory;
+    private final Function<? super C, ? extends R> finalizer;
+    private final long time;
+    private final TimeUnit t;
+    private final int groupSize;
+    private final ScheduledExecutorService ex;
+
+    public ScheduledGroupedByTimeAndSizeOperator(Operator<T> source, Supplier<? extends C> factory,
+                                                 Function<? super C, ? extends R> finalizer, long time,
+                                                 TimeUnit t,
+                                                 int groupSize,
+                                                 ScheduledExecutorService ex){
+        super(source);
+        this.factory = factory;
+        this.finalizer = finalizer;
+        this.time = time;
+        this.t = t;
+        this.groupSize = groupSize;
+        this.ex = ex;
+    }
+
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        AtomicBoolean upstreamRequested = new AtomicBoolean(false);
+        Runnable[] requestUpstream = {null};
+        Window window = new Window(onNext, onError, ()->requestUpstream[0].run());
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                super.request(n);
+                window.emitReady();
+                requestUpstream[0].run();
+
+            }
+
+            @Override
+            public void cancel() {
+                window.cancelTimer();
+                if(upstream[0]!=null)
+                    upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        requestUpstream[0] = ()->{
+            if(sub.isActive() && !window.isReady() && upstreamRequested.compareAndSet(false,true))
+                upstream[0].request(1l);
+        };
+        window.sub = sub;
+        upstream[0] = source.subscribe(e-> {
+                    upstreamRequested.set(false);
+                    try {
+                        window.add(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                    requestUpstream[0].run();
+                }
+                ,t->{
+                    upstreamRequested.set(false);
+                    onError.accept(t);
+                    sub.requested.decrementAndGet();
+                    requestUpstream[0].run();
+                },()->{
+                    window.complete(()->{
+                        sub.cancel();
+                        onComplete.run();
+                    });
+                });
+
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Window window = new Window(onNext,onError,()->{});
+        source.subscribeAll(e-> {
+                    try {
+                        window.add(e);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    window.complete(onCompleteDs);
+                });
+    }
+
+    /**
+     * The current group, shared by the upstream and timer threads
+     */
+    private class Window {
+        private final Consumer<? super R> onNext;
+        private final Consumer<? super Throwable> onError;
+        private final Runnable resume;
+        private final Object lock = new Object();
+        private final long toRun = t.toNanos(time);
+
+        private final ArrayDeque<C> pending = new ArrayDeque<>();
+        private C current = factory.get();
+        private long generation = 0;
+        private boolean ready = false;
+        private boolean completed = false;
+        private boolean emitting = false;
+        private Runnable onComplete;
+        private volatile ScheduledFuture<?> timer;
+        //downstream subscription, null when pushing to subscribeAll (set before upstream is subscribed to)
+        private StreamSubscription sub;
+
+        Window(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable resume){
+            this.onNext = onNext;
+            this.onError = onError;
+            this.resume = resume;
+        }
+
+        void add(T e){
+            synchronized (lock) {
+                current.add(e);
+                if (current.size() == 1 && groupSize > 1) {
+                    final long gen = generation;
+                    timer = ex.schedule(() -> onDeadline(gen), toRun, TimeUnit.NANOSECONDS);
+                }
+                if (current.size() >= groupSize)
+                    markReady();
+            }
+            drain();
+        }
+
+        private void onDeadline(long gen){
+            synchronized (lock) {
+                if (completed || gen != generation || current.size() == 0)
+                    return;
+                markReady();
+            }
+            drain();
+            resume.run();
+        }
+
+        /**
+         * The group is full or its deadline has passed, queue it for emission if there is demand (must hold lock)
+         */
+        private void markReady(){
+            ready = true;
+            swapIfDemand();
+        }
+
+        boolean isReady(){
+            synchronized (lock){
+                return ready;
+            }
+        }
+
+        void emitReady(){
+            synchronized (lock){
+                swapIfDemand();
+            }
+            drain();
+        }
+
+        private void swapIfDemand(){
+            if(!ready || completed)
+                return;
+            if(sub!=null && sub.requested.get()<=0)
+                return;
+            swap();
+        }
+
+        /**
+         * Replace the current group with an empty one, queueing the current group for emission (must hold lock)
+         */
+        private void swap(){
+            pending.add(current);
+            current = factory.get();
+            generation++;
+            ready = false;
+            cancelTimer();
+            if(sub!=null)
+                sub.requested.decrementAndGet();
+        }
+
+        /**
+         * Emit queued groups (and then completion) outside of the lock, only one thread emits at a time
+         */
+        private void drain(){
+            synchronized (lock){
+                if(emitting)
+                    return;
+                emitting = true;
+            }
+            boolean done = false;
+            try {
+                for (;;) {
+                    C toEmit;
+                    Runnable complete = null;
+                    synchronized (lock) {
+                        toEmit = pending.poll();
+                        if (toEmit == null) {
+                            complete = onComplete;
+                            onComplete = null;
+                            emitting = false;
+                            done = true;
+                        }
+                    }
+                    if (done) {
+                        if (complete != null)
+                            complete.run();
+                        return;
+                    }
+                    try {
+                        onNext.accept(finalizer.apply(toEmit));
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+            }finally {
+                if(!done) {
+                    synchronized (lock) {
+                        emitting = false;
+                    }
+                }
+            }
+        }
+
+        void cancelTimer(){
+            ScheduledFuture<?> toCancel = timer;
+            timer = null;
+            if(toCancel!=null)
+                toCancel.cancel(false);
+        }
+
+        void complete(Runnable onComplete){
+            synchronized (lock) {
+                if(completed)
+                    return;
+                if (current.size() > 0)
+                    swap();
+                completed = true;
+                cancelTimer();
+                this.onComplete = onComplete;
+            }
+            drain();
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package com.aol.cyclops2.internal.stream.spliterators.push;
 
-import cyclops.box.Mutable;
+import com.aol.cyclops2.internal.stream.spliterators.RingBufferWindow;
+import com.aol.cyclops2.internal.stream.spliterators.SlidingWindow;
 import cyclops.collections.immutable.PVectorX;
-import org.pcollections.PVector;
-import org.pcollections.TreePVector;
 
-import java.util.Collection;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -13,25 +11,31 @@ import java.util.function.Supplier;
 /**
  * Created by johnmcclean on 12/01/2017.
  */
-public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOperator<T,R> {
+public class SlidingOperator<T,W,R> extends BaseOperator<T,R> {
 
 
 
 
-    private final Function<? super PVectorX<T>, ? extends R> finalizer;
+    private final Function<? super W, ? extends R> finalizer;
+    private final Supplier<? extends SlidingWindow<T,W>> windowFactory;
     private final int windowSize;
     private final int increment;
 
-    public SlidingOperator(Operator<T> source,  Function<? super PVectorX<T>, ? extends R> finalizer,
-                           int windowSize, int increment){
+    public SlidingOperator(Operator<T> source,  Function<? super W, ? extends R> finalizer,
+                           Supplier<? extends SlidingWindow<T,W>> windowFactory, int windowSize, int increment){
         super(source);
 
         this.finalizer = finalizer;
+        this.windowFactory = windowFactory;
         this.windowSize = windowSize;
         this.increment = increment;
 
 
 
+    }
+    public SlidingOperator(Operator<T> source,  Function<? super PVectorX<T>, ? extends R> finalizer,
+                           int windowSize, int increment){
+        this(source,(Function)finalizer,()->(SlidingWindow)new RingBufferWindow<T>(windowSize),windowSize,increment);
     }
 
 
@@ -63,19 +67,18 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
                 super.cancel();
             }
         };
-        final Mutable<PVector<T>> list = cyclops.box.Mutable.of(TreePVector.empty());
+        final SlidingWindow<T,W> window = windowFactory.get();
         boolean[] sent = {false};
         upstream[0] = source.subscribe(e-> {
                     try {
-                        list.mutate(var -> var.plus(Math.max(0, var.size()),e));
-                        if(list.get().size()==windowSize) {
+                        window.add(e);
+                        if(window.size()==windowSize) {
 
-                            onNext.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                            onNext.accept(finalizer.apply(window.result()));
                             sub.requested.decrementAndGet();
                             sent[0] = true;
-                            for (int i = 0; i < increment && list.get()
-                                    .size() > 0; i++)
-                                list.mutate(var -> var.minus(0));
+                            for (int i = 0; i < increment && window.size() > 0; i++)
+                                window.removeFirst();
                         }else if(sub.isOpen){
                             upstream[0].request(1l);
                             sent[0]=false;
@@ -93,8 +96,8 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
                     if(sub.isActive())
                         upstream[0].request(1);
                 },()->{
-                    if(!sent[0] && list.get().size()>0)
-                        onNext.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                    if(!sent[0] && window.size()>0)
+                        onNext.accept(finalizer.apply(window.result()));
                     sub.requested.decrementAndGet();
                     onComplete.run();
                 });
@@ -103,18 +106,17 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
 
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-        final Mutable<PVector<T>> list = cyclops.box.Mutable.of(TreePVector.empty());
+        final SlidingWindow<T,W> window = windowFactory.get();
         boolean[] sent = {false};
         source.subscribeAll(e-> {
                     try {
-                        list.mutate(var -> var.plus(Math.max(0, var.size()),e));
-                        if(list.get().size()==windowSize) {
+                        window.add(e);
+                        if(window.size()==windowSize) {
 
-                            onNext.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                            onNext.accept(finalizer.apply(window.result()));
                             sent[0] = true;
-                            for (int i = 0; i < increment && list.get()
-                                    .size() > 0; i++)
-                                list.mutate(var -> var.minus(0));
+                            for (int i = 0; i < increment && window.size() > 0; i++)
+                                window.removeFirst();
                         }else{
                             sent[0]=false;
                         }
@@ -126,8 +128,8 @@ public class SlidingOperator<T,C extends Collection<? super T>,R> extends BaseOp
                     }
                 }
                 ,onError,()->{
-                    if(!sent[0]  && list.get().size()>0)
-                        onNext.accept(finalizer.apply(PVectorX.fromIterable(list.get())));
+                    if(!sent[0]  && window.size()>0)
+                        onNext.accept(finalizer.apply(window.result()));
                     onCompleteDs.run();
                 });
     }
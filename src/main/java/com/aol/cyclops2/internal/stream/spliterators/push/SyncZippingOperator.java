@@ -0,0 +1,159 @@
+package com.aol.cyclops2.internal.stream.spliterators.push;
+
+import lombok.AllArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Zips two synchronous Operators in lock-step. For each demanded element one value is pulled from the left and then one from
+ * the right (via request(1)). Synchronous Operators signal before request returns, so no buffering queues or atomic
+ * hand-offs between the two sides are required. Asynchronous sources should be zipped with {@link ZippingOperator}.
+ *
+ * Each request(1) is matched with exactly one signal. Should a source nonetheless signal after request has returned, the zip
+ * parks until that signal arrives rather than requesting again.
+ */
+@AllArgsConstructor
+public class SyncZippingOperator<T1,T2,R> implements Operator<R> {
+
+
+    Operator<? super T1> left;
+    Operator<? super T2> right;
+    private final BiFunction<? super T1, ? super T2, ? extends R> fn;
+
+    private static final Object UNSET = new Object();
+
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Object[] leftValue = {UNSET};
+        Object[] rightValue = {UNSET};
+        boolean[] done = {false,false}; //left, right complete
+        boolean[] completed = {false};
+        AtomicLong[] signals = {new AtomicLong(),new AtomicLong()}; //left, right signal counts, published after the value / completion
+        AtomicReference<Thread> waiter = new AtomicReference<>(null);
+        StreamSubscription leftSub[] = {null};
+        StreamSubscription rightSub[] = {null};
+
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work = n->{
+                long reqs = n;
+                long delivered = 0l;
+                do {
+                    while (delivered < reqs) {
+                        if(!isOpen)
+                            return;
+                        //an error consumes the request, so keep pulling until a value (or completion) arrives
+                        while(leftValue[0]==UNSET && !done[0] && isOpen)
+                            pull(0,leftSub[0]);
+                        if(leftValue[0]==UNSET){
+                            complete();
+                            return;
+                        }
+                        while(rightValue[0]==UNSET && !done[1] && isOpen)
+                            pull(1,rightSub[0]);
+                        if(rightValue[0]==UNSET){
+                            complete();
+                            return;
+                        }
+                        T1 l = (T1)leftValue[0];
+                        T2 r = (T2)rightValue[0];
+                        leftValue[0]=UNSET;
+                        rightValue[0]=UNSET;
+                        delivered++;
+                        try {
+                            onNext.accept(fn.apply(l, r));
+                        }catch(Throwable t){
+                            onError.accept(t);
+                        }
+                    }
+                    reqs = requested.get();
+                    if(reqs==delivered) {
+                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        if(reqs==0)
+                            return;
+                        delivered=0;
+                    }
+                }while(true);
+
+            };
+            /*
+             * Request one element from a side, waiting for the matching signal if it was not delivered before request returned
+             */
+            private void pull(int side, StreamSubscription s){
+                long expected = signals[side].get()+1;
+                s.request(1l);
+                if(signals[side].get()>=expected)
+                    return;
+                waiter.set(Thread.currentThread());
+                while(signals[side].get()<expected && isOpen)
+                    LockSupport.park(this);
+                waiter.set(null);
+            }
+            private void complete(){
+                if(!completed[0]) {
+                    completed[0]=true;
+                    cancel();
+                    onComplete.run();
+                }
+            }
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                singleActiveRequest(n,work);
+
+            }
+
+            @Override
+            public void cancel() {
+                if(leftSub[0]!=null)
+                    leftSub[0].cancel();
+                if(rightSub[0]!=null)
+                    rightSub[0].cancel();
+                super.cancel();
+                LockSupport.unpark(waiter.get());
+            }
+        };
+        leftSub[0] = left.subscribe(e->{
+                                        leftValue[0]=e;
+                                        signal(signals[0],waiter);
+                                    },t->{
+                                        onError.accept(t);
+                                        signal(signals[0],waiter);
+                                    },()->{
+                                        done[0]=true;
+                                        signal(signals[0],waiter);
+                                    });
+        rightSub[0] = right.subscribe(e->{
+                                        rightValue[0]=e;
+                                        signal(signals[1],waiter);
+                                    },t->{
+                                        onError.accept(t);
+                                        signal(signals[1],waiter);
+                                    },()->{
+                                        done[1]=true;
+                                        signal(signals[1],waiter);
+                                    });
+        return sub;
+    }
+
+    private static void signal(AtomicLong signals, AtomicReference<Thread> waiter){
+        signals.incrementAndGet();
+        Thread t = waiter.get();
+        if(t!=null)
+            LockSupport.unpark(t);
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        //both sides still have to be pulled in lock-step, so drive the zip with unbounded demand
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
@@ -22,22 +22,31 @@ import java.util.function.LongConsumer;
 
 /**
  * Created by johnmcclean on 12/01/2017.
+ *
+ * Zips potentially asynchronous Operators, buffering up to prefetch values from either side in a concurrent queue while
+ * waiting for the other. When both sides are synchronous use {@link SyncZippingOperator} instead.
  */
 @AllArgsConstructor
 public class ZippingOperator<T1,T2,R> implements Operator<R>{
 
+    public static final int DEFAULT_PREFETCH = 1024;
 
     Operator<? super T1> left;
     Operator<? super T2> right;
     private final BiFunction<? super T1, ? super T2, ? extends R> fn;
+    private final int prefetch;
+
+    public ZippingOperator(Operator<? super T1> left, Operator<? super T2> right, BiFunction<? super T1, ? super T2, ? extends R> fn){
+        this(left,right,fn,DEFAULT_PREFETCH);
+    }
 
 
 
     @Override
     public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
 
-        OneToOneConcurrentArrayQueue<T1> leftQ = new OneToOneConcurrentArrayQueue<T1>(1024);
-        OneToOneConcurrentArrayQueue<T2> rightQ = new OneToOneConcurrentArrayQueue<T2>(1024);
+        OneToOneConcurrentArrayQueue<T1> leftQ = new OneToOneConcurrentArrayQueue<T1>(prefetch);
+        OneToOneConcurrentArrayQueue<T2> rightQ = new OneToOneConcurrentArrayQueue<T2>(prefetch);
         StreamSubscription  leftSub[] = {null};
         StreamSubscription  rightSub[] = {null};
         AtomicBoolean leftComplete = new AtomicBoolean(false); //left & right compelte can be merged into single integer
@@ -250,8 +259,8 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
 
     @Override
     public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
-        OneToOneConcurrentArrayQueue<T1> leftQ = new OneToOneConcurrentArrayQueue<T1>(1024);
-        OneToOneConcurrentArrayQueue<T2> rightQ = new OneToOneConcurrentArrayQueue<T2>(1024);
+        OneToOneConcurrentArrayQueue<T1> leftQ = new OneToOneConcurrentArrayQueue<T1>(prefetch);
+        OneToOneConcurrentArrayQueue<T2> rightQ = new OneToOneConcurrentArrayQueue<T2>(prefetch);
 
         StreamSubscription  rightSub[] = {null};
         AtomicBoolean leftComplete = new AtomicBoolean(false); //left & right compelte can be merged into single integer
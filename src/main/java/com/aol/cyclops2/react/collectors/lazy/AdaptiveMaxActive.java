@@ -0,0 +1,192 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A MaxActive that resizes the window of active tasks at runtime, using additive increase / multiplicative decrease
+ * driven by observed task completion latencies.
+ *
+ * Latencies are averaged over a window of samples (sized to the current limit). If the average latency for a window
+ * exceeds the lowest average seen so far (the baseline) by more than the configured tolerance, the executor is assumed to be
+ * saturated (tasks are queueing) and the limit is reduced by the backoff ratio. Otherwise the limit is increased by one, to probe
+ * for spare capacity. The baseline is periodically reset so that it can track genuine changes in task latency.
+ *
+ * Instances are stateful, a LazyReact configured with an AdaptiveMaxActive shares the limit across all the Streams it creates.
+ *
+ * <pre>
+ * {@code
+ *    AdaptiveMaxActive limiter = MaxActive.adaptive();
+ *    new LazyReact().withMaxActive(limiter)
+ *                   .range(0,100_000)
+ *                   .map(this::loadFromRemoteService)
+ *                   .run();
+ *
+ *    limiter.getLimit(); //current number of active tasks allowed
+ *    limiter.getQueueingDelayNanos(); //time last spent waiting for capacity
+ * }
+ * </pre>
+ */
+public class AdaptiveMaxActive extends MaxActive {
+
+    private static final int BASELINE_RESET_WINDOWS = 100;
+
+    private final int min;
+    private final int max;
+    private final double tolerance;
+    private final double backoffRatio;
+
+    private volatile int limit;
+    private volatile long minLatencyNanos = Long.MAX_VALUE;
+    private volatile long averageLatencyNanos = 0;
+    private volatile long queueingDelayNanos = 0;
+
+    private final AtomicLong sampleSum = new AtomicLong(0);
+    private final AtomicInteger sampleCount = new AtomicInteger(0);
+    private final AtomicLong totalQueueingDelayNanos = new AtomicLong(0);
+    private final AtomicLong samples = new AtomicLong(0);
+    private final Object lock = new Object();
+    private int windows = 0;
+
+    /**
+     * @param min Lowest number of active tasks allowed
+     * @param initial Number of active tasks allowed initially
+     * @param max Highest number of active tasks allowed
+     */
+    public AdaptiveMaxActive(final int min, final int initial, final int max) {
+        this(min, initial, max, 2.0, 0.9);
+    }
+
+    /**
+     * @param min Lowest number of active tasks allowed
+     * @param initial Number of active tasks allowed initially
+     * @param max Highest number of active tasks allowed
+     * @param tolerance Ratio of window average latency to baseline latency above which the limit is reduced
+     * @param backoffRatio Multiplier applied to the limit when latency exceeds the tolerance
+     */
+    public AdaptiveMaxActive(final int min, final int initial, final int max, final double tolerance, final double backoffRatio) {
+        super(initial, reduce(initial));
+        if (min < 1 || min > initial || initial > max)
+            throw new IllegalArgumentException(
+                                               "Limits must satisfy 1 <= min <= initial <= max but were " + min + "," + initial + "," + max);
+        this.min = min;
+        this.max = max;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = initial;
+    }
+
+    private static int reduce(final int limit) {
+        return Math.max(1, limit - Math.max(1, limit / 10));
+    }
+
+    @Override
+    public boolean isAdaptive() {
+        return true;
+    }
+
+    /**
+     * @return Current limit on active tasks
+     */
+    @Override
+    public int getMaxActive() {
+        return limit;
+    }
+
+    /**
+     * @return Number of active tasks to reduce to once the current limit has been exceeded
+     */
+    @Override
+    public int getReduceTo() {
+        return reduce(limit);
+    }
+
+    /**
+     * @return Current limit on active tasks
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return Average task latency over the last completed window of samples
+     */
+    public long getAverageLatencyNanos() {
+        return averageLatencyNanos;
+    }
+
+    /**
+     * @return Baseline (lowest windowed average) task latency
+     */
+    public long getMinLatencyNanos() {
+        return minLatencyNanos == Long.MAX_VALUE ? 0 : minLatencyNanos;
+    }
+
+    /**
+     * @return Time most recently spent waiting for capacity before a task could become active
+     */
+    public long getQueueingDelayNanos() {
+        return queueingDelayNanos;
+    }
+
+    /**
+     * @return Total time spent waiting for capacity
+     */
+    public long getTotalQueueingDelayNanos() {
+        return totalQueueingDelayNanos.get();
+    }
+
+    /**
+     * @return Number of latency samples recorded
+     */
+    public long getSamples() {
+        return samples.get();
+    }
+
+    @Override
+    public void recordQueueingDelay(final long nanos) {
+        queueingDelayNanos = nanos;
+        totalQueueingDelayNanos.addAndGet(nanos);
+    }
+
+    @Override
+    public void recordLatency(final long nanos) {
+        samples.incrementAndGet();
+        sampleSum.addAndGet(nanos);
+        if (sampleCount.incrementAndGet() >= Math.max(10, limit)) {
+            adjust();
+        }
+    }
+
+    private void adjust() {
+        synchronized (lock) {
+            final int count = sampleCount.get();
+            if (count < Math.max(10, limit))
+                return; //another thread adjusted for this window
+            final long sum = sampleSum.getAndSet(0);
+            sampleCount.addAndGet(-count);
+            final long average = sum / count;
+            averageLatencyNanos = average;
+
+            if (++windows >= BASELINE_RESET_WINDOWS) {
+                windows = 0;
+                minLatencyNanos = average;
+            } else if (average < minLatencyNanos) {
+                minLatencyNanos = average;
+            }
+
+            if (average > minLatencyNanos * tolerance) {
+                limit = Math.max(min, (int) (limit * backoffRatio));
+            } else {
+                limit = Math.min(max, limit + 1);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveMaxActive(limit=" + limit + ", min=" + min + ", max=" + max + ", averageLatencyNanos=" + averageLatencyNanos
+                + ", queueingDelayNanos=" + queueingDelayNanos + ")";
+    }
+
+}
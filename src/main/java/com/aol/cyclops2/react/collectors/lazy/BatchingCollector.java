@@ -1,14 +1,20 @@
 package com.aol.cyclops2.react.collectors.lazy;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import com.aol.cyclops2.internal.react.async.future.FastFuture;
 import com.aol.cyclops2.types.futurestream.BlockingStream;
+import com.aol.cyclops2.util.ExceptionSoftener;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -19,6 +25,14 @@ import lombok.experimental.Wither;
  * This class allows a Batch of completable futures to be processed before collecting their results, to increase
  * parallelism.
  * 
+ * Active futures remove themselves from the active set via a completion callback - completed futures are published to a
+ * concurrent queue and counted, and are moved to the results on the collecting thread. When the number of active futures
+ * exceeds maxActive, the collecting thread waits on a latch until enough futures have completed, rather than rescanning
+ * the active set. The wait is bounded, on each timeout the active set is rescanned for completed futures, so progress does
+ * not depend solely on completion callbacks.
+ * 
+ * As before, a future that is accepted more than once is tracked (and added to the results) once per call to accept.
+ * 
  * @author johnmcclean
  *
  * @param <T> Result type
@@ -28,9 +42,17 @@ import lombok.experimental.Wither;
 @Builder
 public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
+    private static final long RESCAN_MILLIS = 10;
+
     @Getter
     private final Collection<FastFuture<T>> results;
-    private final List<FastFuture<T>> active = new ArrayList<>();
+    //active future -> number of times accepted
+    private final Map<FastFuture<T>, Integer> active = new LinkedHashMap<>();
+    private final AtomicInteger activeCount = new AtomicInteger(0);
+    private final ConcurrentLinkedQueue<FastFuture<T>> completed = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger completedCount = new AtomicInteger(0);
+    private final AtomicInteger awaiting = new AtomicInteger(Integer.MAX_VALUE);
+    private final AtomicReference<CountDownLatch> latch = new AtomicReference<>();
     @Getter
     private final MaxActive maxActive;
     @Getter
@@ -51,29 +73,110 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     @Override
     public void accept(final FastFuture<T> t) {
 
-        active.add(t);
+        if (t.isDone()) {
+            if (maxActive.isAdaptive())
+                maxActive.recordLatency(0);
+            results.add(t);
+            return;
+        }
+        activeCount.incrementAndGet();
+        if (active.merge(t, 1, Integer::sum) == 1) //FastFuture holds a single monitor, register it once per distinct future
+            track(t);
+
+        if (activeCount.get() > maxActive.getMaxActive()) {
+            final long start = maxActive.isAdaptive() ? System.nanoTime() : 0;
+
+            drainCompleted();
+            while (activeCount.get() > maxActive.getReduceTo()) {
+                if (!awaitCompletions(activeCount.get() - maxActive.getReduceTo()))
+                    rescan();
+                drainCompleted();
+            }
+            if (maxActive.isAdaptive())
+                maxActive.recordQueueingDelay(System.nanoTime() - start);
+        }
 
-        if (active.size() > maxActive.getMaxActive()) {
+    }
 
-            while (active.size() > maxActive.getReduceTo()) {
+    /**
+     * Register a completion callback that publishes the future to the completed queue exactly once
+     */
+    private void track(final FastFuture<T> t) {
+        final long start = maxActive.isAdaptive() ? System.nanoTime() : 0;
+        final AtomicBoolean fired = new AtomicBoolean(false);
+        t.monitor(c -> {
+            if (!fired.compareAndSet(false, true))
+                return;
+            if (maxActive.isAdaptive())
+                maxActive.recordLatency(System.nanoTime() - start);
+            completed.offer(t);
+            if (completedCount.incrementAndGet() >= awaiting.get()) {
+                final CountDownLatch waiting = latch.get();
+                if (waiting != null)
+                    waiting.countDown();
+            }
+        });
+    }
 
-                final List<FastFuture<T>> toRemove = active.stream()
-                                                           .filter(cf -> cf.isDone())
-                                                           .collect(Collectors.toList());
-                active.removeAll(toRemove);
-                results.addAll(toRemove);
-                if (active.size() > maxActive.getReduceTo()) {
-                    final CompletableFuture promise = new CompletableFuture();
-                    FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-                        promise.complete(true);
-                    } , active.toArray(new FastFuture[0]));
+    /**
+     * Block the collecting thread until at least the specified number of completed futures are waiting to be drained, or
+     * a short timeout elapses
+     * 
+     * @return false if timed out
+     */
+    private boolean awaitCompletions(final int required) {
+        if (completedCount.get() >= required)
+            return true;
+        final CountDownLatch waiting = new CountDownLatch(
+                                                          1);
+        awaiting.set(required);
+        latch.set(waiting);
+        try {
+            //a completion may have been counted before the latch was visible
+            return completedCount.get() >= required || waiting.await(RESCAN_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            latch.set(null);
+            awaiting.set(Integer.MAX_VALUE);
+        }
+    }
 
-                    promise.join();
-                }
+    /**
+     * Move completed futures from the active set to the results (called only on the collecting thread)
+     */
+    private void drainCompleted() {
+        FastFuture<T> next;
+        while ((next = completed.poll()) != null) {
+            completedCount.decrementAndGet();
+            final Integer times = active.remove(next);
+            if (times != null)
+                complete(next, times);
+        }
+    }
 
+    /**
+     * Fallback if completion callbacks are slow to arrive (called only on the collecting thread)
+     */
+    private void rescan() {
+        final Iterator<Map.Entry<FastFuture<T>, Integer>> it = active.entrySet()
+                                                                     .iterator();
+        while (it.hasNext()) {
+            final Map.Entry<FastFuture<T>, Integer> next = it.next();
+            if (next.getKey()
+                    .isDone()) {
+                it.remove();
+                complete(next.getKey(), next.getValue());
             }
         }
+    }
 
+    private void complete(final FastFuture<T> future, final int times) {
+        activeCount.addAndGet(-times);
+        for (int i = 0; i < times; i++)
+            results.add(future);
     }
 
     /* (non-Javadoc)
@@ -83,7 +186,8 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     public void block(final Function<FastFuture<T>, T> safeJoin) {
         if (active.size() == 0)
             return;
-        active.stream()
+        active.keySet()
+              .stream()
               .peek(f -> safeJoin.apply(f))
               .forEach(a -> {
               });
@@ -105,9 +209,10 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
      */
     @Override
     public Collection<FastFuture<T>> getAllResults() {
-        results.addAll(active);
+        drainCompleted();
+        active.forEach(this::complete);
         active.clear();
         return results;
     }
 
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -43,8 +44,11 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
     public void accept(final FastFuture<T> t) {
 
         active.add(t);
+        if (maxActive.isAdaptive())
+            recordLatency(t);
 
         if (active.size() > maxActive.getMaxActive()) {
+            final long start = maxActive.isAdaptive() ? System.nanoTime() : 0;
 
             while (active.size() > maxActive.getReduceTo()) {
 
@@ -62,10 +66,21 @@ public class EmptyCollector<T> implements LazyResultConsumer<T> {
                 }
 
             }
+            if (maxActive.isAdaptive())
+                maxActive.recordQueueingDelay(System.nanoTime() - start);
         }
 
     }
 
+    private void recordLatency(final FastFuture<T> t) {
+        final long start = System.nanoTime();
+        final AtomicBoolean recorded = new AtomicBoolean(false);
+        t.monitor(c -> {
+            if (recorded.compareAndSet(false, true))
+                maxActive.recordLatency(System.nanoTime() - start);
+        });
+    }
+
     public void add(final FastFuture<T> t) {
         active.add(t);
     }
@@ -24,4 +24,51 @@ public class MaxActive {
     public static final MaxActive SEQUENTIAL = new MaxActive(
                                                              10, 1);
 
+    /**
+     * @return A MaxActive that adjusts the number of active tasks at runtime, starting at 100 (as IO) and varying
+     *          between 1 and 1000 depending on observed task completion latencies
+     * @see AdaptiveMaxActive
+     */
+    public static AdaptiveMaxActive adaptive() {
+        return new AdaptiveMaxActive(
+                                     1, 100, 1000);
+    }
+
+    /**
+     * @param min Lowest number of active tasks allowed
+     * @param initial Number of active tasks allowed initially
+     * @param max Highest number of active tasks allowed
+     * @return A MaxActive that adjusts the number of active tasks at runtime
+     * @see AdaptiveMaxActive
+     */
+    public static AdaptiveMaxActive adaptive(final int min, final int initial, final int max) {
+        return new AdaptiveMaxActive(
+                                     min, initial, max);
+    }
+
+    /**
+     * @return true if the limits of this MaxActive change at runtime in response to recorded latencies
+     */
+    public boolean isAdaptive() {
+        return false;
+    }
+
+    /**
+     * Record the time taken for an active task to complete (ignored unless adaptive)
+     *
+     * @param nanos Task latency in nanoseconds
+     */
+    public void recordLatency(final long nanos) {
+
+    }
+
+    /**
+     * Record the time spent waiting for capacity before a new task could become active (ignored unless adaptive)
+     *
+     * @param nanos Time spent waiting in nanoseconds
+     */
+    public void recordQueueingDelay(final long nanos) {
+
+    }
+
 }
@@ -4,8 +4,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
-import cyclops.Matchables;
-import cyclops.function.FluentFunctions;
 import com.aol.cyclops2.internal.stream.BaseHotStreamImpl;
 
 /**
@@ -26,22 +24,8 @@ public class NonPausableHotStream<T> extends BaseHotStreamImpl<T> {
     @Override
     public HotStream<T> init(final Executor exec) {
         CompletableFuture.runAsync(() -> {
-            pause.get()
-                 .join();
-            stream.forEach(a -> {
-
-                final int local = connected;
-
-                for (int i = 0; i < local; i++) {
-
-                    Matchables.blocking(connections.get(i))
-                              .visit(FluentFunctions.ofChecked(in -> {
-                        in.put(a);
-                        return true;
-                    }), q -> q.offer(a));
-                }
-
-            });
+            awaitUnpaused();
+            stream.forEach(this::publish);
 
             open.set(false);
 
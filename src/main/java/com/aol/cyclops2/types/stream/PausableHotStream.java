@@ -17,4 +17,9 @@ public interface PausableHotStream<T> extends HotStream<T> {
      * Pause this HotStream (stop it producing data until unpaused)
      */
     void pause();
+
+    /**
+     * @return true if this HotStream is currently paused
+     */
+    boolean isPaused();
 }
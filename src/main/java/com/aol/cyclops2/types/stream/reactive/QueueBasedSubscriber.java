@@ -111,6 +111,11 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
 
         this.counter = counter;
         queue = new Queue<T>() {
+            @Override
+            protected boolean drainsInBatches() {
+                return false;
+            }
+
             @Override
             public T get() {
                 counter.subscription.forEach(s -> s.request(1));
@@ -133,6 +138,11 @@ public class QueueBasedSubscriber<T> implements Subscriber<T> {
         this.maxConcurrency = maxConcurrency;
         this.queue = new Queue<T>(
                 factory) {
+            @Override
+            protected boolean drainsInBatches() {
+                return false;
+            }
+
             @Override
             public T get() {
 
@@ -71,10 +71,23 @@ public class ReactiveSubscriber<T> implements Subscriber<T> {
      * @return A push-based asychronous event driven Observable-style Stream that implements Backpressure via the reactive-streams API
      */
     public ReactiveSeq<T> reactiveStream(){
-        streamCreated = true;
+        return reactiveStream(Spouts.reactiveStream(getAction()));
+    }
+
+    /**
+     * As {@link #reactiveStream()} but demand is signalled to the Subscription in batches of prefetch elements, with more
+     * requested once 75% of each batch has been consumed. Elements are buffered until the downstream Stream requests them.
+     *
+     * @param prefetch Number of elements to request at a time
+     * @return A push-based asychronous event driven Observable-style Stream with batched demand
+     */
+    public ReactiveSeq<T> reactiveStream(int prefetch){
+        return reactiveStream(Spouts.reactiveStream(getAction(),prefetch));
+    }
 
+    private ReactiveSeq<T> reactiveStream(ReactiveSeq<T> result){
+        streamCreated = true;
 
-        ReactiveSeq<T> result = Spouts.reactiveStream(getAction());
         if(complete)
             return ReactiveSeq.fromIterable(buffer);
         if(error!=null)
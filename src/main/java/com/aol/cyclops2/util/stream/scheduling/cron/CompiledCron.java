@@ -0,0 +1,355 @@
+package com.aol.cyclops2.util.stream.scheduling.cron;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.TimeZone;
+
+/**
+ * A cron expression (in the same Quartz format as {@link CronExpression}) compiled once into bit masks, one per field.
+ *
+ * The next fire time is calculated with primitive arithmetic over the fields of a local date time, skipping directly to the next
+ * permitted month, hour, minute or second, rather than stepping through java.util.Calendar instances and TreeSet views.
+ *
+ * Expressions that use the 'L', 'W' or '#' day modifiers are delegated to a CronExpression, which is also parsed only once.
+ *
+ * <pre>
+ * {@code
+ *    CompiledCron cron = CompiledCron.compile("0 0/5 * * * ?");
+ *    long next = cron.nextFireAfter(System.currentTimeMillis());
+ * }
+ * </pre>
+ */
+public final class CompiledCron {
+
+    private static final int MIN_YEAR = 1970;
+    private static final int MAX_YEAR = 2299;
+    private static final int[] SAKAMOTO = { 0, 3, 2, 5, 0, 3, 5, 1, 4, 6, 2, 4 };
+
+    private static final Map<String, Integer> MONTHS = new HashMap<>();
+    private static final Map<String, Integer> DAYS = new HashMap<>();
+    static {
+        final String[] months = { "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC" };
+        for (int i = 0; i < months.length; i++)
+            MONTHS.put(months[i], i + 1);
+        final String[] days = { "SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT" };
+        for (int i = 0; i < days.length; i++)
+            DAYS.put(days[i], i + 1);
+    }
+
+    private final String expression;
+    private final ZoneId zone;
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final BitSet years;
+    private final boolean dayOfWeekRule;
+    private final CronExpression fallback;
+
+    private CompiledCron(final String expression, final ZoneId zone, final long seconds, final long minutes, final long hours,
+            final long daysOfMonth, final long months, final long daysOfWeek, final BitSet years, final boolean dayOfWeekRule,
+            final CronExpression fallback) {
+        this.expression = expression;
+        this.zone = zone;
+        this.seconds = seconds;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.daysOfMonth = daysOfMonth;
+        this.months = months;
+        this.daysOfWeek = daysOfWeek;
+        this.years = years;
+        this.dayOfWeekRule = dayOfWeekRule;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Compile a cron expression, evaluated in the system default time zone
+     *
+     * @param expression Cron expression in Quartz format
+     * @return Compiled cron expression
+     * @throws ParseException If the expression is invalid
+     */
+    public static CompiledCron compile(final String expression) throws ParseException {
+        return compile(expression, ZoneId.systemDefault());
+    }
+
+    /**
+     * Compile a cron expression, evaluated in the supplied time zone
+     *
+     * @param expression Cron expression in Quartz format
+     * @param zone Time zone used to evaluate the expression
+     * @return Compiled cron expression
+     * @throws ParseException If the expression is invalid
+     */
+    public static CompiledCron compile(final String expression, final ZoneId zone) throws ParseException {
+        final String upper = expression.trim()
+                                       .toUpperCase(java.util.Locale.US);
+        final StringTokenizer tokens = new StringTokenizer(
+                                                           upper, " \t", false);
+        final int count = tokens.countTokens();
+        if (count < 6 || count > 7)
+            throw new ParseException(
+                                     "Unexpected end of expression.", upper.length());
+        final String sec = tokens.nextToken();
+        final String min = tokens.nextToken();
+        final String hour = tokens.nextToken();
+        final String dom = tokens.nextToken();
+        final String month = tokens.nextToken();
+        final String dow = tokens.nextToken();
+        final String year = count == 7 ? tokens.nextToken() : "*";
+
+        if (dom.indexOf('L') >= 0 || dom.indexOf('W') >= 0 || dow.indexOf('L') >= 0 || dow.indexOf('#') >= 0) {
+            final CronExpression fallback = new CronExpression(
+                                                               expression);
+            fallback.setTimeZone(TimeZone.getTimeZone(zone));
+            return new CompiledCron(
+                                    expression, zone, 0, 0, 0, 0, 0, 0, null, false, fallback);
+        }
+
+        final boolean domAny = "?".equals(dom);
+        final boolean dowAny = "?".equals(dow);
+        if (domAny == dowAny)
+            throw new ParseException(
+                                     domAny ? "'?' can only be specfied for Day-of-Month -OR- Day-of-Week."
+                                             : "Support for specifying both a day-of-week AND a day-of-month parameter is not implemented.",
+                                     0);
+
+        final BitSet yearBits = parse(year, MIN_YEAR, MAX_YEAR, null);
+        return new CompiledCron(
+                                expression, zone, mask(parse(sec, 0, 59, null)), mask(parse(min, 0, 59, null)),
+                                mask(parse(hour, 0, 23, null)), domAny ? 0 : mask(parse(dom, 1, 31, null)),
+                                mask(parse(month, 1, 12, MONTHS)), dowAny ? 0 : mask(parse(dow, 1, 7, DAYS)),
+                                yearBits.cardinality() == MAX_YEAR - MIN_YEAR + 1 ? null : yearBits, domAny, null);
+    }
+
+    private static long mask(final BitSet bits) {
+        final long[] words = bits.toLongArray();
+        return words.length == 0 ? 0 : words[0];
+    }
+
+    private static BitSet parse(final String field, final int min, final int max, final Map<String, Integer> names) throws ParseException {
+        final BitSet bits = new BitSet();
+        for (final String part : field.split(",")) {
+            if (part.isEmpty())
+                throw new ParseException(
+                                         "Empty value in field " + field, 0);
+            final int slash = part.indexOf('/');
+            final String range = slash < 0 ? part : part.substring(0, slash);
+            final int step = slash < 0 ? 1 : value(part.substring(slash + 1), 1, max - min + 1, null);
+            final int from;
+            final int to;
+            if ("*".equals(range)) {
+                from = min;
+                to = max;
+            } else {
+                final int dash = range.indexOf('-', 1);
+                from = value(dash < 0 ? range : range.substring(0, dash), min, max, names);
+                to = dash < 0 ? (slash < 0 ? from : max) : value(range.substring(dash + 1), min, max, names);
+            }
+            final int size = max - min + 1;
+            final int length = (to - from + size) % size;
+            for (int i = 0; i <= length; i += step)
+                bits.set(min + (from - min + i) % size);
+        }
+        return bits;
+    }
+
+    private static int value(final String value, final int min, final int max, final Map<String, Integer> names) throws ParseException {
+        final Integer named = names == null ? null : names.get(value);
+        final int result;
+        if (named != null) {
+            result = named;
+        } else {
+            try {
+                result = Integer.parseInt(value);
+            } catch (final NumberFormatException e) {
+                throw new ParseException(
+                                         "Illegal characters for this position: '" + value + "'", 0);
+            }
+        }
+        if (result < min || result > max)
+            throw new ParseException(
+                                     "Value " + result + " out of range " + min + "-" + max, 0);
+        return result;
+    }
+
+    private static boolean isSet(final long mask, final int bit) {
+        return (mask & (1L << bit)) != 0;
+    }
+
+    /**
+     * @return Next set bit at or after from, or -1 if there are none
+     */
+    private static int nextSet(final long mask, final int from) {
+        if (from > 63)
+            return -1;
+        final long remaining = mask & (-1L << from);
+        return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
+    }
+
+    /**
+     * @return Day of week for the supplied date, 1 (Sunday) to 7 (Saturday) as in the cron expression
+     */
+    private static int dayOfWeek(final int year, final int month, final int day) {
+        final int y = month < 3 ? year - 1 : year;
+        return (y + y / 4 - y / 100 + y / 400 + SAKAMOTO[month - 1] + day) % 7 + 1;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        return Month.of(month)
+                    .length(Year.isLeap(year));
+    }
+
+    /**
+     * Calculate the next time this expression fires, strictly after the supplied time
+     *
+     * @param afterMillis Epoch millis to search from
+     * @return Epoch millis of the next fire time, or -1 if this expression does not fire again
+     */
+    public long nextFireAfter(final long afterMillis) {
+        if (fallback != null) {
+            final Date next = fallback.getNextValidTimeAfter(new Date(
+                                                                      afterMillis));
+            return next == null ? -1 : next.getTime();
+        }
+        final long epochSecond = Math.floorDiv(afterMillis, 1000) + 1;
+        final ZoneOffset offset = zone.getRules()
+                                      .getOffset(Instant.ofEpochSecond(epochSecond));
+        final LocalDateTime start = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+        int year = start.getYear();
+        int month = start.getMonthValue();
+        int day = start.getDayOfMonth();
+        int hour = start.getHour();
+        int minute = start.getMinute();
+        int second = start.getSecond();
+
+        for (;;) {
+            if (second > 59) {
+                second = 0;
+                minute++;
+            }
+            if (minute > 59) {
+                minute = 0;
+                hour++;
+            }
+            if (hour > 23) {
+                hour = 0;
+                day++;
+            }
+            if (month > 12) {
+                month = 1;
+                year++;
+            }
+            if (day > lengthOfMonth(year, month)) {
+                day = 1;
+                month++;
+                if (month > 12) {
+                    month = 1;
+                    year++;
+                }
+            }
+            if (year > MAX_YEAR)
+                return -1;
+            if (years != null && !years.get(year)) {
+                final int nextYear = years.nextSetBit(year);
+                if (nextYear < 0)
+                    return -1;
+                year = nextYear;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            final int nextMonth = nextSet(months, month);
+            if (nextMonth != month) {
+                month = nextMonth < 0 ? 13 : nextMonth;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (dayOfWeekRule) {
+                if (!isSet(daysOfWeek, dayOfWeek(year, month, day))) {
+                    day++;
+                    hour = minute = second = 0;
+                    continue;
+                }
+            } else {
+                final int nextDay = nextSet(daysOfMonth, day);
+                if (nextDay != day) {
+                    day = nextDay < 0 ? 32 : nextDay;
+                    hour = minute = second = 0;
+                    continue;
+                }
+            }
+            final int nextHour = nextSet(hours, hour);
+            if (nextHour != hour) {
+                hour = nextHour < 0 ? 24 : nextHour;
+                minute = second = 0;
+                continue;
+            }
+            final int nextMinute = nextSet(minutes, minute);
+            if (nextMinute != minute) {
+                minute = nextMinute < 0 ? 60 : nextMinute;
+                second = 0;
+                continue;
+            }
+            final int nextSecond = nextSet(seconds, second);
+            if (nextSecond != second) {
+                second = nextSecond < 0 ? 60 : nextSecond;
+                continue;
+            }
+            final LocalDateTime candidate = LocalDateTime.of(year, month, day, hour, minute, second);
+            final List<ZoneOffset> offsets = zone.getRules()
+                                                 .getValidOffsets(candidate);
+            //local times repeated by a daylight savings transition fire on their first occurrence after afterMillis
+            for (int i = 0; i < offsets.size(); i++) {
+                final long result = candidate.toEpochSecond(offsets.get(i)) * 1000;
+                if (result > afterMillis)
+                    return result;
+            }
+            //a local time skipped by a daylight savings transition, or already passed, continue from the next second
+            second++;
+        }
+    }
+
+    /**
+     * @param date Date to search from
+     * @return Next fire time after the supplied Date, or null if this expression does not fire again
+     */
+    public Date getNextValidTimeAfter(final Date date) {
+        final long next = nextFireAfter(date.getTime());
+        return next < 0 ? null : new Date(
+                                          next);
+    }
+
+    /**
+     * @param afterMillis Epoch millis to search from
+     * @return Delay in milliseconds from afterMillis until the next fire time, or -1 if this expression does not fire again
+     */
+    public long delayAfter(final long afterMillis) {
+        final long next = nextFireAfter(afterMillis);
+        return next < 0 ? -1 : next - afterMillis;
+    }
+
+    public String getCronExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
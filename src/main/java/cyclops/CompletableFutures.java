@@ -6,9 +6,11 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.hkt.Higher;
+import com.aol.cyclops2.internal.react.async.future.FutureSequence;
 import com.aol.cyclops2.types.Completable;
 import cyclops.async.Future;
 import cyclops.function.Fn3;
@@ -27,12 +29,10 @@ import cyclops.typeclasses.instances.General;
 import cyclops.typeclasses.monad.*;
 import org.reactivestreams.Publisher;
 
-import cyclops.monads.AnyM;
 import cyclops.stream.ReactiveSeq;
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import cyclops.collections.ListX;
 import com.aol.cyclops2.types.Value;
-import cyclops.monads.Witness;
 
 import lombok.experimental.UtilityClass;
 
@@ -203,7 +203,7 @@ public class CompletableFutures {
      * @return Future with a List
      */
     public static <T> CompletableFuture<ListX<T>> sequence(final CollectionX<CompletableFuture<T>> fts) {
-        return sequence(fts.stream()).thenApply(s -> s.toListX());
+        return FutureSequence.sequence(fts, values -> ListX.of((T[]) values));
     }
     /**
      * Asynchronous sequence operation that convert a Stream of FutureWs to a Future with a Stream
@@ -223,10 +223,7 @@ public class CompletableFutures {
      * @return Future with a Stream
      */
     public static <T> CompletableFuture<ReactiveSeq<T>> sequence(final Stream<CompletableFuture<T>> fts) {
-        return AnyM.sequence(fts.map(AnyM::fromCompletableFuture), Witness.completableFuture.INSTANCE)
-                .map(ReactiveSeq::fromStream)
-                .to(Witness::completableFuture);
-        
+        return FutureSequence.sequence(fts.collect(Collectors.toList()), values -> ReactiveSeq.of((T[]) values));
     }
     /**
      * 
@@ -1,14 +1,13 @@
 package cyclops;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import cyclops.function.Monoid;
 import cyclops.function.Reducer;
 import org.pcollections.AmortizedPQueue;
 import org.pcollections.ConsPStack;
 import org.pcollections.HashTreePBag;
-import org.pcollections.HashTreePMap;
-import org.pcollections.HashTreePSet;
 import org.pcollections.OrderedPSet;
 import org.pcollections.PBag;
 import org.pcollections.PMap;
@@ -17,7 +16,6 @@ import org.pcollections.PQueue;
 import org.pcollections.PSet;
 import org.pcollections.PStack;
 import org.pcollections.PVector;
-import org.pcollections.TreePVector;
 
 import cyclops.collections.immutable.PBagX;
 import cyclops.collections.immutable.PMapX;
@@ -26,6 +24,9 @@ import cyclops.collections.immutable.PQueueX;
 import cyclops.collections.immutable.PSetX;
 import cyclops.collections.immutable.PStackX;
 import cyclops.collections.immutable.PVectorX;
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampPMap;
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampPSet;
+import com.aol.cyclops2.data.collections.extensions.persistent.TriePVector;
 import com.aol.cyclops2.types.mixins.TupleWrapper;
 
 import lombok.experimental.UtilityClass;
@@ -102,7 +103,28 @@ public class Reducers {
      * @return Reducer for PSetX
      */
     public static <T> Reducer<PSetX<T>> toPSetX() {
-        return Reducer.<PSetX<T>> of(PSetX.empty(), (final PSetX<T> a) -> b -> a.plusAll(b), (final T x) -> PSetX.singleton(x));
+        return new Reducer<PSetX<T>>() {
+            @Override
+            public PSetX<T> zero() {
+                return PSetX.empty();
+            }
+
+            @Override
+            public PSetX<T> apply(final PSetX<T> a, final PSetX<T> b) {
+                return a.plusAll(b);
+            }
+
+            @Override
+            public Stream<PSetX<T>> mapToType(final Stream<?> stream) {
+                return stream.map(x -> PSetX.singleton((T) x));
+            }
+
+            @Override
+            public PSetX<T> mapReduce(final Stream<?> toReduce) {
+                //build directly into a single set rather than reducing per element singletons
+                return PSetX.fromCollection(ChampPSet.fromStream((Stream<T>) toReduce));
+            }
+        };
     }
 
     /**
@@ -130,7 +152,28 @@ public class Reducers {
      * @return Reducer for PVectorX
      */
     public static <T> Reducer<PVectorX<T>> toPVectorX() {
-        return Reducer.<PVectorX<T>> of(PVectorX.empty(), (final PVectorX<T> a) -> b -> a.plusAll(b), (final T x) -> PVectorX.singleton(x));
+        return new Reducer<PVectorX<T>>() {
+            @Override
+            public PVectorX<T> zero() {
+                return PVectorX.empty();
+            }
+
+            @Override
+            public PVectorX<T> apply(final PVectorX<T> a, final PVectorX<T> b) {
+                return a.plusAll(b);
+            }
+
+            @Override
+            public Stream<PVectorX<T>> mapToType(final Stream<?> stream) {
+                return stream.map(x -> PVectorX.singleton((T) x));
+            }
+
+            @Override
+            public PVectorX<T> mapReduce(final Stream<?> toReduce) {
+                //build directly into a single vector rather than reducing per element singletons
+                return PVectorX.fromCollection(TriePVector.fromStream((Stream<T>) toReduce));
+            }
+        };
     }
 
 
@@ -205,7 +248,28 @@ public class Reducers {
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(HashTreePSet.empty(), (final PSet<T> a) -> b -> a.plusAll(b), (final T x) -> HashTreePSet.singleton(x));
+        return new Reducer<PSet<T>>() {
+            @Override
+            public PSet<T> zero() {
+                return ChampPSet.empty();
+            }
+
+            @Override
+            public PSet<T> apply(final PSet<T> a, final PSet<T> b) {
+                return a.plusAll(b);
+            }
+
+            @Override
+            public Stream<PSet<T>> mapToType(final Stream<?> stream) {
+                return stream.map(x -> ChampPSet.singleton((T) x));
+            }
+
+            @Override
+            public PSet<T> mapReduce(final Stream<?> toReduce) {
+                //build directly into a single set rather than reducing per element singletons
+                return ChampPSet.fromStream((Stream<T>) toReduce);
+            }
+        };
     }
     /**
      * <pre>
@@ -218,7 +282,28 @@ public class Reducers {
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(TreePVector.empty(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> TreePVector.singleton(x));
+        return new Reducer<PVector<T>>() {
+            @Override
+            public PVector<T> zero() {
+                return TriePVector.empty();
+            }
+
+            @Override
+            public PVector<T> apply(final PVector<T> a, final PVector<T> b) {
+                return a.plusAll(b);
+            }
+
+            @Override
+            public Stream<PVector<T>> mapToType(final Stream<?> stream) {
+                return stream.map(x -> TriePVector.singleton((T) x));
+            }
+
+            @Override
+            public PVector<T> mapReduce(final Stream<?> toReduce) {
+                //build directly into a single vector rather than reducing per element singletons
+                return TriePVector.fromStream((Stream<T>) toReduce);
+            }
+        };
     }
     /**
      * <pre>
@@ -231,7 +316,32 @@ public class Reducers {
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(ConsPStack.empty(), (final PStack<T> a) -> b -> a.plusAll(a.size(), b), (final T x) -> ConsPStack.singleton(x));
+        return new Reducer<PStack<T>>() {
+            @Override
+            public PStack<T> zero() {
+                return ConsPStack.empty();
+            }
+
+            @Override
+            public PStack<T> apply(final PStack<T> a, final PStack<T> b) {
+                return a.plusAll(a.size(), b);
+            }
+
+            @Override
+            public Stream<PStack<T>> mapToType(final Stream<?> stream) {
+                return stream.map(x -> ConsPStack.singleton((T) x));
+            }
+
+            @Override
+            public PStack<T> mapReduce(final Stream<?> toReduce) {
+                //appending singletons copies the stack each time, instead buffer (presized for sized Streams) & cons from the end
+                final Object[] values = toReduce.toArray();
+                PStack<T> result = ConsPStack.empty();
+                for (int i = values.length - 1; i >= 0; i--)
+                    result = result.plus((T) values[i]);
+                return result;
+            }
+        };
     }
     /**
      * <pre>
@@ -257,10 +367,31 @@ public class Reducers {
      * @return Reducer for PMap
      */
     public static <K, V> Reducer<PMap<K, V>> toPMap() {
-        return Reducer.<PMap<K, V>> of(HashTreePMap.empty(), (final PMap<K, V> a) -> b -> a.plusAll(b), (in) -> {  
-            final List w = ((TupleWrapper) () -> in).values();
-            return HashTreePMap.singleton((K) w.get(0), (V) w.get(1));
-        });
+        return new Reducer<PMap<K, V>>() {
+            @Override
+            public PMap<K, V> zero() {
+                return ChampPMap.empty();
+            }
+
+            @Override
+            public PMap<K, V> apply(final PMap<K, V> a, final PMap<K, V> b) {
+                return a.plusAll(b);
+            }
+
+            @Override
+            public Stream<PMap<K, V>> mapToType(final Stream<?> stream) {
+                return stream.map(in -> {
+                    final List w = ((TupleWrapper) () -> in).values();
+                    return ChampPMap.singleton((K) w.get(0), (V) w.get(1));
+                });
+            }
+
+            @Override
+            public PMap<K, V> mapReduce(final Stream<?> toReduce) {
+                //build directly into a single map rather than reducing per element singletons
+                return toChampPMap(toReduce);
+            }
+        };
     }
     /**
      * <pre>
@@ -273,10 +404,39 @@ public class Reducers {
      * @return Reducer for PMapX
      */
     public static <K, V> Reducer<PMapX<K, V>> toPMapX() {
-        return Reducer.<PMapX<K, V>> of(PMapX.empty(), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
+        return new Reducer<PMapX<K, V>>() {
+            @Override
+            public PMapX<K, V> zero() {
+                return PMapX.empty();
+            }
+
+            @Override
+            public PMapX<K, V> apply(final PMapX<K, V> a, final PMapX<K, V> b) {
+                return a.plusAll(b);
+            }
+
+            @Override
+            public Stream<PMapX<K, V>> mapToType(final Stream<?> stream) {
+                return stream.map(in -> {
+                    final List w = ((TupleWrapper) () -> in).values();
+                    return PMapX.singleton((K) w.get(0), (V) w.get(1));
+                });
+            }
+
+            @Override
+            public PMapX<K, V> mapReduce(final Stream<?> toReduce) {
+                //build directly into a single map rather than reducing per element singletons
+                return PMapX.fromMap(Reducers.<K, V> toChampPMap(toReduce));
+            }
+        };
+    }
+
+    private static <K, V> ChampPMap<K, V> toChampPMap(final Stream<?> toReduce) {
+        return toReduce.collect(ChampPMap::<K, V> builder, (b, in) -> {
             final List w = ((TupleWrapper) () -> in).values();
-            return PMapX.singleton((K) w.get(0), (V) w.get(1));
-        });
+            b.put((K) w.get(0), (V) w.get(1));
+        } , (a, b) -> a.putAll(b))
+                       .build();
     }
 
     /**
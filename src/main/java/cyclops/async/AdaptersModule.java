@@ -18,6 +18,7 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.agrona.concurrent.Pipe;
 import org.jooq.lambda.Seq;
 
 import cyclops.async.Queue.ClosedQueueException;
@@ -259,13 +260,20 @@ public interface AdaptersModule {
         @Override
         public int drainTo(final Collection c) {
 
-            return 0;
+            return drainTo(c, Integer.MAX_VALUE);
         }
 
         @Override
         public int drainTo(final Collection c, final int maxElements) {
-
-            return 0;
+            if (queue instanceof Pipe)
+                return ((Pipe) queue).drainTo(c, maxElements);
+            int drained = 0;
+            Object next;
+            while (drained < maxElements && (next = queue.poll()) != null) {
+                c.add(next);
+                drained++;
+            }
+            return drained;
         }
 
     }
@@ -1,6 +1,7 @@
 package cyclops.async;
 
 import com.aol.cyclops2.hkt.Higher;
+import com.aol.cyclops2.internal.react.async.future.FutureSequence;
 import com.aol.cyclops2.types.*;
 import cyclops.Monoids;
 import cyclops.box.Mutable;
@@ -12,14 +13,12 @@ import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import cyclops.collections.ListX;
 import com.aol.cyclops2.react.Status;
 import com.aol.cyclops2.react.collectors.lazy.Blocker;
-import cyclops.monads.Witness;
 import cyclops.monads.WitnessType;
 import com.aol.cyclops2.types.stream.reactive.ValueSubscriber;
 import cyclops.CompletableFutures;
 import com.aol.cyclops2.util.ExceptionSoftener;
 import cyclops.function.Fn3;
 import cyclops.function.Fn4;
-import cyclops.monads.AnyM;
 import cyclops.stream.ReactiveSeq;
 import cyclops.typeclasses.Pure;
 import cyclops.typeclasses.comonad.Comonad;
@@ -485,7 +484,10 @@ public class Future<T> implements To<Future<T>>,MonadicValue<T>, Completable<T>,
      * @return Future with a List
      */
     public static <T> Future<ListX<T>> sequence(final CollectionX<Future<T>> fts) {
-        return sequence(fts.stream()).map(s -> s.toListX());
+        return Future.of(FutureSequence.sequence(fts.stream()
+                                                    .map(Future::getFuture)
+                                                    .collect(Collectors.toList()),
+                                                 values -> ListX.of((T[]) values)));
 
     }
 
@@ -505,9 +507,9 @@ public class Future<T> implements To<Future<T>>,MonadicValue<T>, Completable<T>,
      * @return Future with a Stream
      */
     public static <T> Future<ReactiveSeq<T>> sequence(final Stream<? extends Future<T>> fts) {
-        return AnyM.sequence(fts.map(AnyM::fromFutureW), Witness.future.INSTANCE)
-                   .map(ReactiveSeq::fromStream)
-                   .to(Witness::future);
+        return Future.of(FutureSequence.sequence(fts.map(Future::getFuture)
+                                                    .collect(Collectors.toList()),
+                                                 values -> ReactiveSeq.of((T[]) values)));
     }
 
     /**
@@ -822,6 +824,28 @@ public class Future<T> implements To<Future<T>>,MonadicValue<T>, Completable<T>,
                               future.thenApplyAsync(fn,ex));
     }
 
+    /**
+     * Retry a transformation if it fails, without blocking. Failed attempts are rescheduled on the supplied
+     * ScheduledExecutorService according to the RetryPolicy
+     *
+     * <pre>
+     * {@code
+     *   Future<String> result = Future.ofResult(10)
+     *                                 .retry(this::loadById, RetryPolicy.exponential(100, TimeUnit.MILLISECONDS)
+     *                                                                   .withMaxElapsed(5, TimeUnit.SECONDS), ex);
+     * }
+     * </pre>
+     *
+     * @param fn Function to retry if fails
+     * @param policy Backoff, jitter, retry limit and retry-on settings
+     * @param ex ScheduledExecutorService used to schedule retries
+     * @return Future populated with the first successful result, or the last error if the policy gives up
+     */
+    public <R> Future<R> retry(final Function<? super T, ? extends R> fn, final RetryPolicy policy, final ScheduledExecutorService ex) {
+        return flatMapCf(t -> policy.retry(fn, t, ex)
+                                    .getFuture());
+    }
+
 
 
     /*
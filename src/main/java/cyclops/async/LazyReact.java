@@ -29,6 +29,7 @@ import com.aol.cyclops2.internal.react.stream.ReactBuilder;
 import com.aol.cyclops2.react.RetryBuilder;
 import com.aol.cyclops2.react.ThreadPools;
 import com.aol.cyclops2.react.async.subscription.Subscription;
+import com.aol.cyclops2.react.collectors.lazy.AdaptiveMaxActive;
 import com.aol.cyclops2.react.collectors.lazy.MaxActive;
 import cyclops.function.Cacheable;
 import com.nurkiewicz.asyncretry.AsyncRetryExecutor;
@@ -100,12 +101,13 @@ public class LazyReact implements ReactBuilder {
 
     /**
      * Turn automatic caching of values on for the FutureStream to be generated
-     * by this Stream builder
+     * by this Stream builder. A Map based cache will grow without limit, use a
+     * {@link cyclops.function.BoundedCache} to cap the number of cached values.
      * 
      * <pre>
      * {@code 
-     *  Map cache = new ConcurrentHashMap<>();
-        LazyReact builder = new LazyReact().autoMemoizeOn((key,fn)-> cache.computeIfAbsent(key,fn));
+     *  BoundedCache<Integer> cache = BoundedCache.tinyLfu(10_000);
+        LazyReact builder = new LazyReact().autoMemoizeOn(cache);
         Set<Integer> result = builder.of(1,1,1,1)
                                      .capture(e->e.printStackTrace())
                                      .map(i->calc(i))
@@ -397,6 +399,31 @@ public class LazyReact implements ReactBuilder {
         return withAsync(false);
     }
 
+    /**
+     * Adjust the number of active tasks at runtime, in response to observed task completion latencies, rather than
+     * using a fixed MaxActive. The limit grows while latencies remain stable and is cut back when latencies rise
+     * (indicating tasks are queueing in the executor).
+     *
+     * <pre>
+     * {@code
+     *   LazyReact react = new LazyReact().adaptiveMaxActive();
+     *   react.range(0,100_000)
+     *        .map(this::callRemoteService)
+     *        .run();
+     *
+     *   AdaptiveMaxActive limiter = (AdaptiveMaxActive)react.getMaxActive();
+     *   limiter.getLimit();
+     *   limiter.getQueueingDelayNanos();
+     * }
+     * </pre>
+     *
+     * @see AdaptiveMaxActive
+     * @return LazyReact that creates Streams with an adaptive limit on active tasks (shared across those Streams)
+     */
+    public LazyReact adaptiveMaxActive() {
+        return withMaxActive(MaxActive.adaptive());
+    }
+
     /**
      * Construct a FutureStream from an Publisher
      * 
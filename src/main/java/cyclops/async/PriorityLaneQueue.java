@@ -0,0 +1,250 @@
+package cyclops.async;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import org.agrona.concurrent.ManyToManyConcurrentArrayQueue;
+
+/**
+ * A concurrent, multi-lane queue. Each element is routed to a lane by a selector function, lane 0 has the highest priority.
+ * Every lane is an independent lock-free queue (a JDK ConcurrentLinkedQueue when unbounded, an Agrona
+ * ManyToManyConcurrentArrayQueue when bounded), so producers on different lanes do not contend with each other.
+ *
+ * Lanes are polled either
+ * <ul>
+ *     <li>strictly : the highest priority non-empty lane is always polled first</li>
+ *     <li>weighted : lanes are visited in a smooth weighted round robin order, so a lane with weight 3 is polled three times as
+ *     often as a lane with weight 1 while both have data. An empty lane gives up its turn to the next non-empty lane in priority
+ *     order</li>
+ * </ul>
+ * Elements are FIFO within a lane. Close signals from an async.Queue are held back until all lanes have been drained.
+ *
+ * Normally used via {@link QueueFactories#priorityQueue(int, ToIntFunction)} and related factory methods
+ * <pre>
+ * {@code
+ *   Queue<Event> events = QueueFactories.<Event>weightedQueue(e->e.isUrgent() ? 0 : 1, 4, 1)
+ *                                       .build();
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the queue
+ */
+public class PriorityLaneQueue<T> extends AbstractQueue<T> {
+
+    private final java.util.Queue<T>[] lanes;
+    private final ToIntFunction<? super T> laneSelector;
+    private final int[] schedule;
+    private final AtomicLong tick = new AtomicLong(0);
+    private final java.util.Queue<T> signals = new ConcurrentLinkedQueue<>();
+
+    private PriorityLaneQueue(final java.util.Queue<T>[] lanes, final ToIntFunction<? super T> laneSelector, final int[] schedule) {
+        this.lanes = lanes;
+        this.laneSelector = laneSelector;
+        this.schedule = schedule;
+    }
+
+    /**
+     * Construct a PriorityLaneQueue with unbounded lanes, that always polls the highest priority non-empty lane
+     *
+     * @param lanes Number of lanes
+     * @param laneSelector Function that determines the lane of each element, 0 is the highest priority. Out of range values are
+     *                     clamped to the nearest lane
+     * @return PriorityLaneQueue
+     */
+    public static <T> PriorityLaneQueue<T> strict(final int lanes, final ToIntFunction<? super T> laneSelector) {
+        return new PriorityLaneQueue<>(
+                                       unboundedLanes(lanes), laneSelector, null);
+    }
+
+    /**
+     * Construct a PriorityLaneQueue with bounded lanes, that always polls the highest priority non-empty lane
+     *
+     * @param laneSize Capacity of each lane (rounded up to a power of 2)
+     * @param lanes Number of lanes
+     * @param laneSelector Function that determines the lane of each element, 0 is the highest priority
+     * @return PriorityLaneQueue
+     */
+    public static <T> PriorityLaneQueue<T> strict(final int laneSize, final int lanes, final ToIntFunction<? super T> laneSelector) {
+        return new PriorityLaneQueue<>(
+                                       boundedLanes(laneSize, lanes), laneSelector, null);
+    }
+
+    /**
+     * Construct a PriorityLaneQueue with one unbounded lane per weight, lanes are polled in proportion to their weights
+     *
+     * @param laneSelector Function that determines the lane of each element, 0 is the highest priority
+     * @param weights Relative share of polls for each lane
+     * @return PriorityLaneQueue
+     */
+    public static <T> PriorityLaneQueue<T> weighted(final ToIntFunction<? super T> laneSelector, final int... weights) {
+        return new PriorityLaneQueue<>(
+                                       unboundedLanes(weights.length), laneSelector, schedule(weights));
+    }
+
+    /**
+     * Construct a PriorityLaneQueue with one bounded lane per weight, lanes are polled in proportion to their weights
+     *
+     * @param laneSize Capacity of each lane (rounded up to a power of 2)
+     * @param laneSelector Function that determines the lane of each element, 0 is the highest priority
+     * @param weights Relative share of polls for each lane
+     * @return PriorityLaneQueue
+     */
+    public static <T> PriorityLaneQueue<T> weighted(final int laneSize, final ToIntFunction<? super T> laneSelector,
+            final int... weights) {
+        return new PriorityLaneQueue<>(
+                                       boundedLanes(laneSize, weights.length), laneSelector, schedule(weights));
+    }
+
+    private static <T> java.util.Queue<T>[] unboundedLanes(final int lanes) {
+        final java.util.Queue<T>[] result = new java.util.Queue[checkLanes(lanes)];
+        for (int i = 0; i < lanes; i++)
+            result[i] = new ConcurrentLinkedQueue<>();
+        return result;
+    }
+
+    private static <T> java.util.Queue<T>[] boundedLanes(final int laneSize, final int lanes) {
+        final java.util.Queue<T>[] result = new java.util.Queue[checkLanes(lanes)];
+        for (int i = 0; i < lanes; i++)
+            result[i] = new ManyToManyConcurrentArrayQueue<>(
+                                                             laneSize);
+        return result;
+    }
+
+    private static int checkLanes(final int lanes) {
+        if (lanes < 1)
+            throw new IllegalArgumentException(
+                                               "At least one lane is required : " + lanes);
+        return lanes;
+    }
+
+    /**
+     * Smooth weighted round robin : each step every lane gains its weight in credit, the lane with most credit is chosen and
+     * pays back the total. Spreads polls of each lane evenly over a cycle of sum(weights) steps
+     */
+    private static int[] schedule(final int[] weights) {
+        checkLanes(weights.length);
+        int total = 0;
+        for (final int w : weights) {
+            if (w < 1)
+                throw new IllegalArgumentException(
+                                                   "Lane weights must be at least 1 : " + Arrays.toString(weights));
+            total += w;
+        }
+        final int[] result = new int[total];
+        final int[] credit = new int[weights.length];
+        for (int step = 0; step < total; step++) {
+            int best = 0;
+            for (int lane = 0; lane < weights.length; lane++) {
+                credit[lane] += weights[lane];
+                if (credit[lane] > credit[best])
+                    best = lane;
+            }
+            credit[best] -= total;
+            result[step] = best;
+        }
+        return result;
+    }
+
+    private java.util.Queue<T> laneFor(final T e) {
+        if (Queue.isCloseSignal(e))
+            return signals;
+        if (e == Queue.NILL)
+            return lanes[lanes.length - 1];
+        final int lane = laneSelector.applyAsInt(e);
+        return lanes[Math.max(0, Math.min(lanes.length - 1, lane))];
+    }
+
+    @Override
+    public boolean offer(final T e) {
+        return laneFor(e).offer(e);
+    }
+
+    @Override
+    public T poll() {
+        if (schedule != null) {
+            final T next = lanes[schedule[(int) (tick.getAndIncrement() % schedule.length)]].poll();
+            if (next != null)
+                return next;
+        }
+        for (final java.util.Queue<T> lane : lanes) {
+            final T next = lane.poll();
+            if (next != null)
+                return next;
+        }
+        return signals.poll();
+    }
+
+    /**
+     * @return The head of the highest priority non-empty lane
+     */
+    @Override
+    public T peek() {
+        for (final java.util.Queue<T> lane : lanes) {
+            final T next = lane.peek();
+            if (next != null)
+                return next;
+        }
+        return signals.peek();
+    }
+
+    @Override
+    public int size() {
+        int size = signals.size();
+        for (final java.util.Queue<T> lane : lanes)
+            size += lane.size();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (final java.util.Queue<T> lane : lanes)
+            if (!lane.isEmpty())
+                return false;
+        return signals.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        for (final java.util.Queue<T> lane : lanes)
+            lane.clear();
+        signals.clear();
+    }
+
+    /**
+     * @return Weakly consistent iterator over each lane in priority order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Stream.concat(Arrays.stream(lanes), Stream.of(signals))
+                     .flatMap(java.util.Queue::stream)
+                     .iterator();
+    }
+
+    /**
+     * @param lane Lane index
+     * @return Number of elements currently held in the specified lane
+     */
+    public int laneSize(final int lane) {
+        return lanes[lane].size();
+    }
+
+    /**
+     * @return Number of lanes
+     */
+    public int lanes() {
+        return lanes.length;
+    }
+
+    @Override
+    public String toString() {
+        final int[] sizes = new int[lanes.length];
+        for (int i = 0; i < lanes.length; i++)
+            sizes[i] = lanes[i].size();
+        return "PriorityLaneQueue[" + (schedule == null ? "strict" : "weighted") + ", lanes=" + Arrays.toString(sizes) + "]";
+    }
+}
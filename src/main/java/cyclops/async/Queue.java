@@ -3,10 +3,12 @@ package cyclops.async;
 import java.util.*;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -86,9 +88,22 @@ public class Queue<T> implements Adapter<T> {
 
     private final static PoisonPill POISON_PILL = new PoisonPill();
     private final static PoisonPill CLEAR_PILL = new PoisonPill();
+    private final static Object CLOSED_SIGNAL = new Object();
+    private final static Object TIMEOUT_SIGNAL = new Object();
+
+    /**
+     * Returned by {@link #drain(Consumer, int)} and {@link #drainTo(Collection, int)} once this Queue is closed and all data has been consumed
+     */
+    public static final int CLOSED = -1;
+    private static final int DRAIN_BATCH = 256;
 
     private volatile boolean open = true;
     private final AtomicInteger listeningStreams = new AtomicInteger();
+    /*
+     * Data removed in bulk but not delivered (left after a close signal, or after the consumer failed), read before the
+     * backing queue so that it keeps its place in line
+     */
+    private final Deque<Object> undelivered = new ConcurrentLinkedDeque<>();
     private final int timeout;
     private final TimeUnit timeUnit;
 
@@ -181,7 +196,7 @@ public class Queue<T> implements Adapter<T> {
     @Override
     public ReactiveSeq<T> stream() {
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
-        return ReactiveSeq.fromStream(closingStream(this::get, new AlwaysContinue()));
+        return ReactiveSeq.fromStream(connectedStream(new AlwaysContinue()));
     }
     /**
      * Return a standard (unextended) JDK Stream connected to this Queue
@@ -236,7 +251,7 @@ public class Queue<T> implements Adapter<T> {
     public ReactiveSeq<T> stream(final Continueable s) {
         this.sub = s;
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
-        return ReactiveSeq.fromStream(closingStream(this::get, s));
+        return ReactiveSeq.fromStream(connectedStream(s));
     }
 
     public ReactiveSeq<Collection<T>> streamBatchNoTimeout(final Continueable s, final Function<Supplier<T>, Supplier<Collection<T>>> batcher) {
@@ -282,6 +297,24 @@ public class Queue<T> implements Adapter<T> {
         return st;
     }
 
+    /**
+     * Streams connected to this Queue remove data in batches, bypassing {@link #get()}. Subclasses that override get()
+     * to act on each read (e.g. to request more data) should return false, so connected Streams read via get().
+     *
+     * @return true if connected Streams may drain this Queue in batches
+     */
+    protected boolean drainsInBatches() {
+        return true;
+    }
+
+    private Stream<T> connectedStream(final Continueable sub) {
+        if (!drainsInBatches())
+            return closingStream(this::get, sub);
+        return StreamSupport.stream(new DrainingSpliterator(
+                                                            sub),
+                                    false);
+    }
+
     private Stream<CompletableFuture<T>> closingStreamFutures(final Supplier<CompletableFuture<T>> s, final Continueable sub) {
 
         final Stream<CompletableFuture<T>> st = StreamSupport.stream(new ClosingSpliterator<>(
@@ -315,65 +348,70 @@ public class Queue<T> implements Adapter<T> {
     }
 
     private T ensureOpen(final long timeout, final TimeUnit timeUnit) {
-        if (!open && queue.size() == 0)
+        final Object next = next(timeout, timeUnit);
+        if (next == CLOSED_SIGNAL)
             throw new ClosedQueueException();
-        
-        final SimpleTimer timer = new SimpleTimer();
-        final long timeoutNanos = timeUnit.toNanos(timeout);
+        if (next == TIMEOUT_SIGNAL)
+            throw new QueueTimeoutException();
+        return (T) next;
+    }
+
+    /**
+     * Take the next value from this Queue, signalling closure or timeout by returning CLOSED_SIGNAL / TIMEOUT_SIGNAL
+     * rather than throwing an Exception. Continuations may still throw ClosedQueueException.
+     */
+    private Object next(final long timeout, final TimeUnit timeUnit) {
+        final Object carried = undelivered.poll();
+        if (carried == CLEAR_PILL) {
+            this.undelivered.clear();
+            this.queue.clear();
+        }
+        if (carried != null)
+            return carried instanceof PoisonPill ? CLOSED_SIGNAL : nillSafe((T) carried);
+        if (!open && queue.size() == 0)
+            return CLOSED_SIGNAL;
+
         T data = null;
         try {
             if (this.continuationStrategy != null) {
-
+                final SimpleTimer timer = timeout != -1 ? new SimpleTimer() : null;
+                final long timeoutNanos = timeUnit.toNanos(timeout);
                 while (open && (data = ensureClear(queue.poll())) == null) {
 
                     this.continuationStrategy.handleContinuation();
 
-                    if (timeout != -1)
-                        handleTimeout(timer, timeoutNanos);
+                    if (timeout != -1 && timer.getElapsedNanoseconds() > timeoutNanos)
+                        return TIMEOUT_SIGNAL;
 
                 }
                 if (data != null)
-                    return (T) nillSafe(ensureNotPoisonPill(ensureClear(data)));
+                    return data instanceof PoisonPill ? CLOSED_SIGNAL : nillSafe(data);
             }
             if (!open && queue.size() == 0)
-                throw new ClosedQueueException();
+                return CLOSED_SIGNAL;
 
             if (timeout == -1) {
-                if (this.sub != null && this.sub.timeLimit() > -1) {
+                if (this.sub != null && this.sub.timeLimit() > -1)
                     data = ensureClear(consumerWait.take(() -> queue.poll(sub.timeLimit(), TimeUnit.NANOSECONDS)));
-                    if (data == null)
-                        throw new QueueTimeoutException();
-            }
-
-                else {
+                else
                     data = ensureClear(consumerWait.take(() -> queue.poll()));
-                    if (data == null)
-                        throw new QueueTimeoutException();
-                }
             } else {
                 data = ensureClear(consumerWait.take(() -> queue.poll(timeout, timeUnit)));
-                if (data == null)
-                    throw new QueueTimeoutException();
             }
+            if (data == null)
+                return TIMEOUT_SIGNAL;
         } catch (final InterruptedException e) {
             Thread.currentThread()
                   .interrupt();
             throw ExceptionSoftener.throwSoftenedException(e);
         }
 
-        ensureNotPoisonPill(data);
+        if (data instanceof PoisonPill)
+            return CLOSED_SIGNAL;
         if (sizeSignal != null)
             this.sizeSignal.set(queue.size());
 
-        return (T) nillSafe(data);
-
-    }
-
-    private void handleTimeout(final SimpleTimer timer, final long timeout) {
-        if (timer.getElapsedNanoseconds() > timeout) {
-
-            throw new QueueTimeoutException();
-        }
+        return nillSafe(data);
 
     }
 
@@ -388,14 +426,6 @@ public class Queue<T> implements Adapter<T> {
         return poll;
     }
 
-    private T ensureNotPoisonPill(final T data) {
-        if (data instanceof PoisonPill) {
-            throw new ClosedQueueException();
-        }
-
-        return data;
-    }
-
     /**
      * Exception thrown if Queue closed
      * 
@@ -442,6 +472,194 @@ public class Queue<T> implements Adapter<T> {
     private static class PoisonPill {
     }
 
+    static boolean isCloseSignal(final Object o) {
+        return o instanceof PoisonPill;
+    }
+
+    /**
+     * Remove up to limit elements that are currently available in this Queue, passing each to the supplied Consumer.
+     * Does not block, elements are removed in bulk via the drain methods of the underlying JDK BlockingQueue or Agrona queue.
+     *
+     * <pre>
+     * {@code
+     *   int drained;
+     *   while((drained = queue.drain(this::process, 256)) != Queue.CLOSED){
+     *       if(drained==0)
+     *           Thread.yield();
+     *   }
+     * }
+     * </pre>
+     *
+     * @param consumer Consumer to pass each element to
+     * @param limit Maximum number of elements to remove
+     * @return Number of elements removed, or {@link #CLOSED} if this Queue has been closed and all data consumed
+     */
+    public int drain(final Consumer<? super T> consumer, final int limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException(
+                                               "Drain limit must not be negative : " + limit);
+        return drain(consumer, limit, new DrainBuffer(
+                                                      Math.min(limit, DRAIN_BATCH)));
+    }
+
+    /**
+     * Remove up to limit elements that are currently available in this Queue, adding them to the supplied Collection.
+     * Does not block.
+     *
+     * @see #drain(Consumer, int)
+     * @param collection Collection to add elements to
+     * @param limit Maximum number of elements to remove
+     * @return Number of elements removed, or {@link #CLOSED} if this Queue has been closed and all data consumed
+     */
+    public int drainTo(final Collection<? super T> collection, final int limit) {
+        return drain(collection::add, limit);
+    }
+
+    /**
+     * Bulk remove into buffer, then pass data to the consumer once the underlying queue has returned (so the consumer
+     * never runs while the queue holds its locks). Delivery stops at the first poison pill, or if the consumer throws.
+     * Anything removed but not delivered is put back ahead of the backing queue, so it is read next and in order.
+     */
+    private int drain(final Consumer<? super T> consumer, final int limit, final DrainBuffer buffer) {
+        if (!open && queue.size() == 0 && undelivered.isEmpty())
+            return CLOSED;
+        buffer.clear();
+        buffer.closed = false;
+        Object carried;
+        while (buffer.size() < limit && (carried = undelivered.poll()) != null)
+            buffer.add(carried);
+        if (buffer.size() < limit)
+            queue.drainTo((Collection) buffer, limit - buffer.size());
+        final int size = buffer.size();
+        int delivered = 0;
+        int next = 0;
+        try {
+            while (next < size) {
+                final Object value = buffer.get(next++);
+                if (value == CLEAR_PILL) {
+                    this.undelivered.clear();
+                    this.queue.clear();
+                    buffer.closed = true;
+                    next = size;
+                    break;
+                }
+                if (value instanceof PoisonPill) {
+                    buffer.closed = true; //one poison pill per connected Stream, the rest are put back for other Streams
+                    break;
+                }
+                consumer.accept((T) nillSafe((T) value));
+                delivered++;
+            }
+        } finally {
+            for (int i = size - 1; i >= next; i--)
+                this.undelivered.offerFirst(buffer.get(i));
+            buffer.clear();
+        }
+        if (sizeSignal != null && delivered > 0)
+            this.sizeSignal.set(size());
+        if (delivered == 0 && (buffer.closed || (!open && queue.size() == 0 && undelivered.isEmpty())))
+            return CLOSED;
+        return delivered;
+    }
+
+    /**
+     * Reusable buffer for bulk removal, records whether a close signal (poison pill) was removed
+     */
+    private static final class DrainBuffer extends ArrayList<Object> {
+        boolean closed = false;
+
+        DrainBuffer(final int capacity) {
+            super(capacity);
+        }
+    }
+
+    /**
+     * Spliterator for Streams connected to this Queue. Closure is signalled without Exceptions, and forEachRemaining
+     * removes data in batches (only blocking via the configured WaitStrategy when the queue is empty).
+     */
+    private final class DrainingSpliterator extends Spliterators.AbstractSpliterator<T> {
+        private final Continueable subscription;
+        private boolean closed = false;
+        private List<T> ancillaryData = null;
+        private final DrainBuffer buffer = new DrainBuffer(
+                                                           DRAIN_BATCH);
+
+        DrainingSpliterator(final Continueable subscription) {
+            super(Long.MAX_VALUE, IMMUTABLE);
+            this.subscription = subscription;
+            subscription.addQueue(Queue.this);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (ancillaryData != null)
+                return tryAncillary(action);
+            try {
+                while (!closed) {
+                    final Object next = next(timeout, timeUnit);
+                    if (next == TIMEOUT_SIGNAL)
+                        continue;
+                    if (next == CLOSED_SIGNAL)
+                        break;
+                    action.accept((T) next);
+                    subscription.closeQueueIfFinished(Queue.this);
+                    return true;
+                }
+            } catch (final ClosedQueueException e) {
+                //thrown by continuations, which may hand over remaining data
+                if (e.isDataPresent()) {
+                    ancillaryData = e.getCurrentData();
+                    return tryAncillary(action);
+                }
+            } catch (final Exception e) {
+
+            }
+            closed = true;
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            final Consumer<T> deliver = t -> {
+                action.accept(t);
+                subscription.closeQueueIfFinished(Queue.this);
+            };
+            try {
+                while (!closed) {
+                    if (ancillaryData == null) {
+                        final int drained = drain(deliver, DRAIN_BATCH, buffer);
+                        if (drained == CLOSED || buffer.closed) {
+                            closed = true;
+                            return;
+                        }
+                        if (drained > 0)
+                            continue;
+                    }
+                    if (!tryAdvance(action))
+                        return;
+                }
+            } catch (final Exception e) {
+                closed = true;
+            }
+        }
+
+        private boolean tryAncillary(final Consumer<? super T> action) {
+            if (ancillaryData.size() == 0) {
+                closed = true;
+                return false;
+            }
+            action.accept(ancillaryData.remove(0));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+    }
+
     public T poll(final long time, final TimeUnit unit) throws QueueTimeoutException {
         return this.ensureOpen(time, unit);
     }
@@ -663,7 +881,7 @@ public class Queue<T> implements Adapter<T> {
     }
 
     public int size() {
-        return queue.size();
+        return queue.size() + undelivered.size();
     }
 
     public boolean isOpen() {
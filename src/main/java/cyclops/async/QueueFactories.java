@@ -3,6 +3,7 @@ package cyclops.async;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
+import java.util.function.ToIntFunction;
 
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
@@ -200,6 +201,83 @@ public class QueueFactories {
 
     }
 
+    /**
+     * Creates an async.Queue backed by a {@link PriorityLaneQueue} with the specified number of unbounded, lock-free lanes.
+     * The highest priority non-empty lane is always polled first, so urgent data overtakes bulk traffic on the same channel.
+     * Wait strategy used is NoWaitRetry by default for both Consumers and Producers
+     *
+     * <pre>
+     * {@code
+     *   Queue<Order> orders = QueueFactories.<Order>priorityQueue(2, o->o.isCancel() ? 0 : 1)
+     *                                       .build();
+     *
+     *   new LazyReact().withQueueFactory(QueueFactories.priorityQueue(2, o->o.isCancel() ? 0 : 1))
+     *                  .fromStream(orders.stream())
+     *                  .forEach(this::process);
+     * }
+     * </pre>
+     *
+     * @param lanes Number of lanes
+     * @param laneSelector Determines the lane for each element, 0 is the highest priority
+     * @return Factory for strict priority, multi-lane Queues
+     */
+    public static <T> QueueFactory<T> priorityQueue(final int lanes, final ToIntFunction<? super T> laneSelector) {
+        return () -> new Queue<T>(
+                                  PriorityLaneQueue.strict(lanes, laneSelector), new NoWaitRetry<>(), new NoWaitRetry<>());
+    }
+
+    /**
+     * Creates an async.Queue backed by a {@link PriorityLaneQueue} with the specified number of lanes, each an Agrona
+     * ManyToManyConcurrentArrayQueue bounded by laneSize. The highest priority non-empty lane is always polled first.
+     *
+     * @param laneSize Max size of each lane
+     * @param lanes Number of lanes
+     * @param laneSelector Determines the lane for each element, 0 is the highest priority
+     * @return Factory for bounded, strict priority, multi-lane Queues
+     */
+    public static <T> QueueFactory<T> boundedPriorityQueue(final int laneSize, final int lanes,
+            final ToIntFunction<? super T> laneSelector) {
+        return () -> new Queue<T>(
+                                  PriorityLaneQueue.strict(laneSize, lanes, laneSelector), new NoWaitRetry<>(), new NoWaitRetry<>());
+    }
+
+    /**
+     * Creates an async.Queue backed by a {@link PriorityLaneQueue} with one unbounded, lock-free lane per weight. While lanes
+     * have data they are polled in proportion to their weights, so lower priority lanes are never starved.
+     *
+     * <pre>
+     * {@code
+     *   //urgent events get 4 out of every 5 polls while there is bulk traffic waiting
+     *   Topic<Event> events = new Topic<>(QueueFactories.<Event>weightedQueue(e->e.isUrgent() ? 0 : 1, 4, 1)
+     *                                                   .build());
+     * }
+     * </pre>
+     *
+     * @param laneSelector Determines the lane for each element
+     * @param weights Relative share of polls for each lane
+     * @return Factory for weighted fair, multi-lane Queues
+     */
+    public static <T> QueueFactory<T> weightedQueue(final ToIntFunction<? super T> laneSelector, final int... weights) {
+        return () -> new Queue<T>(
+                                  PriorityLaneQueue.weighted(laneSelector, weights), new NoWaitRetry<>(), new NoWaitRetry<>());
+    }
+
+    /**
+     * Creates an async.Queue backed by a {@link PriorityLaneQueue} with one lane per weight, each an Agrona
+     * ManyToManyConcurrentArrayQueue bounded by laneSize. While lanes have data they are polled in proportion to their weights.
+     *
+     * @param laneSize Max size of each lane
+     * @param laneSelector Determines the lane for each element
+     * @param weights Relative share of polls for each lane
+     * @return Factory for bounded, weighted fair, multi-lane Queues
+     */
+    public static <T> QueueFactory<T> boundedWeightedQueue(final int laneSize, final ToIntFunction<? super T> laneSelector,
+            final int... weights) {
+        return () -> new Queue<T>(
+                                  PriorityLaneQueue.weighted(laneSize, laneSelector, weights), new NoWaitRetry<>(),
+                                  new NoWaitRetry<>());
+    }
+
     /**
      * @return async.Queue backed by a Synchronous Queue
      */
@@ -0,0 +1,168 @@
+package cyclops.async;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe token bucket, permits are refilled at a steady rate up to a maximum (burst) capacity.
+ *
+ * A single RateLimiter can be shared by many Streams to enforce a global rate limit (e.g. on calls to a downstream system).
+ * Callers never block - {@link #reserve()} claims the next permit and returns how long the caller should wait before using it,
+ * so that waiting can be scheduled (see {@link cyclops.stream.ReactiveSeq#rateLimit(RateLimiter, java.util.concurrent.ScheduledExecutorService)}).
+ * Permits are handed out in the order they are reserved.
+ *
+ * <pre>
+ * {@code
+ *   RateLimiter limiter = RateLimiter.of(100, 1, TimeUnit.SECONDS)
+ *                                    .withBurst(10);
+ *
+ *   Spouts.from(requests)
+ *         .rateLimit(limiter, ex)
+ *         .forEach(this::send);
+ *
+ *   limiter.availablePermits();
+ *   limiter.getThrottled();
+ * }
+ * </pre>
+ *
+ * Implemented as a generic cell rate algorithm : the only shared state is the time at which the next permit becomes free.
+ */
+public class RateLimiter {
+
+    private final int permits;
+    private final long periodNanos;
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final long start = System.nanoTime();
+    private final AtomicLong nextFree = new AtomicLong(
+                                                      0);
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    private RateLimiter(final int permits, final long periodNanos, final int capacity) {
+        if (permits < 1)
+            throw new IllegalArgumentException(
+                                               "permits must be at least 1 : " + permits);
+        if (capacity < 1)
+            throw new IllegalArgumentException(
+                                               "burst capacity must be at least 1 : " + capacity);
+        this.permits = permits;
+        this.periodNanos = periodNanos;
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, periodNanos / permits);
+        this.burstNanos = (capacity - 1) * intervalNanos;
+    }
+
+    /**
+     * Create a RateLimiter that allows the specified number of permits per time period, up to all of those permits may be used in a
+     * single burst
+     *
+     * @param permits Number of permits per time period
+     * @param period Time period
+     * @param unit TimeUnit of the time period
+     * @return RateLimiter
+     */
+    public static RateLimiter of(final int permits, final long period, final TimeUnit unit) {
+        return new RateLimiter(
+                               permits, unit.toNanos(period), permits);
+    }
+
+    /**
+     * @param permits Number of permits per second
+     * @return RateLimiter
+     */
+    public static RateLimiter perSecond(final int permits) {
+        return of(permits, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param capacity Maximum number of permits that can be used at once, after a period of inactivity
+     * @return New RateLimiter with the same rate and the supplied burst capacity (and no permits used)
+     */
+    public RateLimiter withBurst(final int capacity) {
+        return new RateLimiter(
+                               permits, periodNanos, capacity);
+    }
+
+    private long now() {
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Claim the next permit
+     *
+     * @return Nanoseconds the caller should wait before using the permit, 0 if it may be used immediately
+     */
+    public long reserve() {
+        final long now = now();
+        for (;;) {
+            final long current = nextFree.get();
+            final long base = Math.max(current, now);
+            if (nextFree.compareAndSet(current, base + intervalNanos)) {
+                acquired.increment();
+                final long wait = base - burstNanos - now;
+                if (wait > 0) {
+                    throttled.increment();
+                    return wait;
+                }
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Claim a permit, only if one is available now
+     *
+     * @return true if a permit was claimed
+     */
+    public boolean tryAcquire() {
+        final long now = now();
+        for (;;) {
+            final long current = nextFree.get();
+            final long base = Math.max(current, now);
+            if (base - burstNanos > now) {
+                throttled.increment();
+                return false;
+            }
+            if (nextFree.compareAndSet(current, base + intervalNanos)) {
+                acquired.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return Number of permits that could be used immediately
+     */
+    public int availablePermits() {
+        final long now = now();
+        final long base = Math.max(nextFree.get(), now);
+        final long available = Math.floorDiv(now + burstNanos - base, intervalNanos) + 1;
+        return (int) Math.max(0, Math.min(capacity, available));
+    }
+
+    /**
+     * @return Total number of permits handed out
+     */
+    public long getAcquired() {
+        return acquired.sum();
+    }
+
+    /**
+     * @return Number of requests for a permit that could not be satisfied immediately
+     */
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter[" + permits + " per " + periodNanos + "ns, burst " + capacity + "]";
+    }
+}
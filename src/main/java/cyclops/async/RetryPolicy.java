@@ -0,0 +1,254 @@
+package cyclops.async;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * An immutable description of how a failed task should be retried : exponential backoff with optional jitter, capped
+ * by a maximum number of retries, a maximum delay between attempts and a maximum elapsed time, for errors that match a retry predicate.
+ *
+ * Retries are scheduled on a ScheduledExecutorService, rather than blocking the thread on which the failure occured while waiting
+ * to try again.
+ *
+ * <pre>
+ * {@code
+ *   RetryPolicy policy = RetryPolicy.exponential(100, TimeUnit.MILLISECONDS)
+ *                                   .withMaxRetries(5)
+ *                                   .withJitter(0.2)
+ *                                   .withMaxElapsed(10, TimeUnit.SECONDS)
+ *                                   .retryOn(IOException.class);
+ *
+ *   Future<String> result = policy.retry(this::loadFromRemote, ex);
+ *
+ *   ReactiveSeq<String> results = ReactiveSeq.of(1,2,3)
+ *                                            .retry(this::loadById, policy, ex);
+ * }
+ * </pre>
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class RetryPolicy {
+
+    private final int maxRetries;
+    private final long initialDelayMillis;
+    private final double multiplier;
+    private final long maxDelayMillis;
+    private final double jitter;
+    private final long maxElapsedMillis;
+    private final Predicate<? super Throwable> retryOn;
+
+    /**
+     * The same settings as the blocking {@link com.aol.cyclops2.types.Transformable#retry(Function)} operator : up to 7 retries with
+     * a doubling backoff period, starting at 2 seconds.
+     *
+     * @return Default RetryPolicy
+     */
+    public static RetryPolicy defaultPolicy() {
+        return exponential(2, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Retry up to 7 times, doubling the delay between attempts each time
+     *
+     * @param initialDelay Delay before the first retry
+     * @param unit TimeUnit of the delay
+     * @return RetryPolicy with exponential backoff
+     */
+    public static RetryPolicy exponential(final long initialDelay, final TimeUnit unit) {
+        return new RetryPolicy(
+                               7, unit.toMillis(initialDelay), 2.0, Long.MAX_VALUE, 0.0, Long.MAX_VALUE, t -> true);
+    }
+
+    /**
+     * Retry up to 7 times, with the same delay between each attempt
+     *
+     * @param delay Delay between attempts
+     * @param unit TimeUnit of the delay
+     * @return RetryPolicy with a fixed backoff
+     */
+    public static RetryPolicy fixed(final long delay, final TimeUnit unit) {
+        return exponential(delay, unit).withMultiplier(1.0);
+    }
+
+    /**
+     * @param maxRetries Maximum number of retries (after the initial attempt)
+     * @return New RetryPolicy
+     */
+    public RetryPolicy withMaxRetries(final int maxRetries) {
+        return new RetryPolicy(
+                               maxRetries, initialDelayMillis, multiplier, maxDelayMillis, jitter, maxElapsedMillis, retryOn);
+    }
+
+    /**
+     * @param multiplier Factor the delay is multiplied by after each attempt
+     * @return New RetryPolicy
+     */
+    public RetryPolicy withMultiplier(final double multiplier) {
+        return new RetryPolicy(
+                               maxRetries, initialDelayMillis, multiplier, maxDelayMillis, jitter, maxElapsedMillis, retryOn);
+    }
+
+    /**
+     * @param maxDelay Upper bound on the delay between any two attempts
+     * @param unit TimeUnit of the max delay
+     * @return New RetryPolicy
+     */
+    public RetryPolicy withMaxDelay(final long maxDelay, final TimeUnit unit) {
+        return new RetryPolicy(
+                               maxRetries, initialDelayMillis, multiplier, unit.toMillis(maxDelay), jitter, maxElapsedMillis, retryOn);
+    }
+
+    /**
+     * Randomize each delay by up to the specified proportion (e.g. 0.2 results in delays between 80% and 120% of the calculated backoff),
+     * so that tasks that failed together do not all retry at the same time.
+     *
+     * @param jitter Proportion of each delay to randomize, between 0 and 1
+     * @return New RetryPolicy
+     */
+    public RetryPolicy withJitter(final double jitter) {
+        if (jitter < 0 || jitter > 1)
+            throw new IllegalArgumentException(
+                                               "Jitter must be between 0 and 1, was " + jitter);
+        return new RetryPolicy(
+                               maxRetries, initialDelayMillis, multiplier, maxDelayMillis, jitter, maxElapsedMillis, retryOn);
+    }
+
+    /**
+     * @param maxElapsed Give up if the next attempt would start after this period has elapsed since the first attempt
+     * @param unit TimeUnit of the max elapsed time
+     * @return New RetryPolicy
+     */
+    public RetryPolicy withMaxElapsed(final long maxElapsed, final TimeUnit unit) {
+        return new RetryPolicy(
+                               maxRetries, initialDelayMillis, multiplier, maxDelayMillis, jitter, unit.toMillis(maxElapsed), retryOn);
+    }
+
+    /**
+     * @param retryOn Predicate that determines which errors should be retried, other errors fail immediately
+     * @return New RetryPolicy
+     */
+    public RetryPolicy retryOn(final Predicate<? super Throwable> retryOn) {
+        return new RetryPolicy(
+                               maxRetries, initialDelayMillis, multiplier, maxDelayMillis, jitter, maxElapsedMillis, retryOn);
+    }
+
+    /**
+     * Only retry errors of the specified types (or errors caused by them)
+     *
+     * @param types Error types to retry
+     * @return New RetryPolicy
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(final Class<? extends Throwable>... types) {
+        return retryOn(t -> {
+            for (Throwable next = t; next != null; next = next.getCause() == next ? null : next.getCause()) {
+                for (final Class<? extends Throwable> type : types) {
+                    if (type.isInstance(next))
+                        return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Calculate the delay before the next attempt
+     *
+     * @param retry Number of the retry about to be scheduled (starting at 1)
+     * @param elapsedMillis Time elapsed since the first attempt
+     * @param error Error from the last attempt
+     * @return Delay in milliseconds, or -1 if no further attempts should be made
+     */
+    public long nextDelay(final int retry, final long elapsedMillis, final Throwable error) {
+        if (retry > maxRetries || !retryOn.test(error))
+            return -1;
+        final double backoff = Math.min((double) maxDelayMillis, initialDelayMillis * Math.pow(multiplier, retry - 1));
+        double delay = backoff;
+        if (jitter > 0)
+            delay = backoff * (1 - jitter + 2 * jitter * ThreadLocalRandom.current()
+                                                                        .nextDouble());
+        final long result = Math.max(0, Math.min(maxDelayMillis, (long) delay));
+        if (maxElapsedMillis != Long.MAX_VALUE && elapsedMillis + result > maxElapsedMillis)
+            return -1;
+        return result;
+    }
+
+    /**
+     * Execute the supplied task, retrying on failure according to this policy. The first attempt is made on the calling thread,
+     * retries are scheduled on the provided ScheduledExecutorService. No thread is blocked between attempts.
+     *
+     * @param task Task to execute
+     * @param ex ScheduledExecutorService used to schedule retries
+     * @return Future populated with the first successful result, or the last error if all attempts fail
+     */
+    public <R> Future<R> retry(final Supplier<? extends R> task, final ScheduledExecutorService ex) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        new Attempt<R>(
+                       task, ex, result).run();
+        return Future.of(result);
+    }
+
+    /**
+     * Apply the supplied function to the value, retrying on failure according to this policy
+     *
+     * @see RetryPolicy#retry(Supplier, ScheduledExecutorService)
+     *
+     * @param fn Function to apply
+     * @param value Value to apply the function to
+     * @param ex ScheduledExecutorService used to schedule retries
+     * @return Future populated with the first successful result, or the last error if all attempts fail
+     */
+    public <T, R> Future<R> retry(final Function<? super T, ? extends R> fn, final T value, final ScheduledExecutorService ex) {
+        return retry(() -> fn.apply(value), ex);
+    }
+
+    private class Attempt<R> implements Runnable {
+        private final Supplier<? extends R> task;
+        private final ScheduledExecutorService ex;
+        private final CompletableFuture<R> result;
+        private final long start = System.currentTimeMillis();
+        private int retries = 0;
+
+        Attempt(final Supplier<? extends R> task, final ScheduledExecutorService ex, final CompletableFuture<R> result) {
+            this.task = task;
+            this.ex = ex;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone())
+                return;
+            final R value;
+            try {
+                value = task.get();
+            } catch (final Throwable t) {
+                final long delay = nextDelay(++retries, System.currentTimeMillis() - start, t);
+                if (delay < 0)
+                    result.completeExceptionally(t);
+                else
+                    schedule(delay, t);
+                return;
+            }
+            result.complete(value);
+        }
+
+        private void schedule(final long delay, final Throwable error) {
+            try {
+                ex.schedule(this, delay, TimeUnit.MILLISECONDS);
+            } catch (final Throwable t) {
+                error.addSuppressed(t);
+                result.completeExceptionally(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package cyclops.async;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampPMap;
+import org.pcollections.PMap;
+
+import com.aol.cyclops2.react.async.subscription.AlwaysContinue;
+import com.aol.cyclops2.react.async.subscription.Continueable;
+import com.aol.cyclops2.types.futurestream.Continuation;
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+import cyclops.async.Queue.ClosedQueueException;
+import cyclops.async.wait.SpinWait;
+import cyclops.async.wait.WaitStrategy;
+import cyclops.stream.ReactiveSeq;
+import lombok.Synchronized;
+
+/**
+ * A Topic backed by a single pre-allocated ring buffer that is shared by all subscribers.
+ *
+ * Rather than copying each message into a Queue per connected Stream (as {@link Topic} does), every connected
+ * Stream tracks its own read sequence (cursor) into the shared buffer. Publishing a message is a single write, regardless
+ * of the number of subscribers. The slowest connected subscriber acts as backpressure - offer will wait (via the producer
+ * WaitStrategy) until that subscriber has moved far enough along the buffer to free a slot.
+ *
+ * <pre>
+ * {@code
+ *  Topic<String> topic = Topic.ringBuffer(1024);
+ *
+ *  ReactiveSeq<String> s1 = topic.stream();
+ *  ReactiveSeq<String> s2 = topic.stream();
+ *
+ *  topic.offer("hello");
+ *
+ *  //both s1 and s2 will see "hello"
+ * }
+ * </pre>
+ *
+ * As with Topic, the first connected Stream receives messages offered before it connected (up to the capacity of the
+ * buffer), subsequent Streams receive only messages offered after they connect. Streams that are finished with the Topic
+ * should be disconnected, so that they no longer hold back producers.
+ *
+ * @param <T> Data type for the Topic
+ */
+public class RingBufferTopic<T> extends Topic<T> {
+
+    private static final Object NIL = new Object();
+    private static final Object CLOSED = new Object();
+
+    private final Object[] buffer;
+    private final int mask;
+    private final WaitStrategy<Object> consumerWait;
+    private final WaitStrategy<Object> producerWait;
+
+    /**
+     * Sequence of the next slot to be published, all slots below this value are visible to subscribers
+     */
+    private final AtomicLong published = new AtomicLong(0);
+    private volatile Cursor[] cursors = new Cursor[0];
+    private volatile PMap<ReactiveSeq<?>, Cursor> streamToCursor = ChampPMap.empty();
+    private volatile boolean open = true;
+
+    private volatile boolean sizeSignals = false;
+
+    private volatile Continuation continuation;
+    private final AtomicBoolean continuing = new AtomicBoolean(false);
+
+    private final Object lock = new Object();
+    private final Object producerLock = new Object();
+
+    /**
+     * Construct a RingBufferTopic with the supplied capacity (rounded up to the next power of 2)
+     *
+     * @param capacity Number of messages that can be buffered before producers are held back by the slowest subscriber
+     */
+    public RingBufferTopic(final int capacity) {
+        this(capacity, new SpinWait<>(), new SpinWait<>());
+    }
+
+    /**
+     * Construct a RingBufferTopic with the supplied capacity (rounded up to the next power of 2)
+     *
+     * @param capacity Number of messages that can be buffered before producers are held back by the slowest subscriber
+     * @param consumerWait WaitStrategy to employ when a subscriber has caught up with the producers
+     * @param producerWait WaitStrategy to employ when the buffer is full
+     */
+    public RingBufferTopic(final int capacity, final WaitStrategy<T> consumerWait, final WaitStrategy<T> producerWait) {
+        super(QueueFactories.unboundedQueue(), false);
+        if (capacity < 1)
+            throw new IllegalArgumentException(
+                                               "Capacity must be at least 1 but was " + capacity);
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+        this.consumerWait = (WaitStrategy) consumerWait;
+        this.producerWait = (WaitStrategy) producerWait;
+        //reserved for the first subscriber, so data sent before any Stream connects is retained (up to the capacity). It does
+        //not hold back producers until claimed, the oldest messages are overwritten instead
+        this.cursors = new Cursor[] { new Cursor(
+                                                 0) };
+    }
+
+    /**
+     * @return Total number of slots in the ring buffer
+     */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * Add a single datapoint to this Topic, waiting for space if the slowest connected subscriber is a full buffer behind.
+     * If no Stream has connected yet, the oldest retained message is overwritten instead.
+     *
+     * @param data data to add
+     * @return true if published
+     */
+    @Override
+    public boolean offer(final T data) {
+        if (!open)
+            throw new ClosedQueueException();
+        synchronized (producerLock) {
+            final long seq = published.get();
+            final long wrapPoint = seq - buffer.length;
+            try {
+                if (wrapPoint >= minimumSequence(seq))
+                    producerWait.offer(() -> !open || wrapPoint < minimumSequence(seq));
+            } catch (final InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+            if (!open)
+                throw new ClosedQueueException();
+            for (final Cursor next : cursors) {
+                if (!next.claimed && next.sequence.get() <= wrapPoint)
+                    next.sequence.set(wrapPoint + 1);
+            }
+            buffer[(int) seq & mask] = data == null ? NIL : data;
+            published.lazySet(seq + 1);
+            if (sizeSignals)
+                signalSizes(seq + 1);
+        }
+        return true;
+    }
+
+    /**
+     * @param stream Input data from provided Stream
+     */
+    @Override
+    public boolean fromStream(final Stream<T> stream) {
+        stream.forEach(this::offer);
+        return true;
+    }
+
+    @Override
+    public ReactiveSeq<T> stream() {
+        return connect(new AlwaysContinue(), Function.identity());
+    }
+
+    @Override
+    public ReactiveSeq<T> stream(final Continueable s) {
+        return connect(s, Function.identity());
+    }
+
+    @Override
+    public ReactiveSeq<CompletableFuture<T>> streamCompletableFutures() {
+        return connect(new AlwaysContinue(), s -> s.map(CompletableFuture::completedFuture));
+    }
+
+    /**
+     * Disconnect a Stream from this Topic, it will no longer hold back producers and will complete without consuming
+     * any further messages (once producers are free to move past it, unread slots may be overwritten).
+     *
+     * @param stream Stream to disconnect
+     */
+    @Override
+    @Synchronized("lock")
+    public void disconnect(final Stream<T> stream) {
+        final Cursor cursor = streamToCursor.get(stream);
+        if (cursor == null)
+            return;
+        cursor.connected = false;
+        this.cursors = Arrays.stream(cursors)
+                             .filter(c -> c != cursor)
+                             .toArray(n -> new Cursor[n]);
+        this.streamToCursor = streamToCursor.minus(stream);
+    }
+
+    /**
+     * Close this Topic, connected Streams will complete once they have consumed all previously published messages
+     *
+     * @return true if closed
+     */
+    @Override
+    public boolean close() {
+        this.open = false;
+        return true;
+    }
+
+    @Override
+    public void addContinuation(final Continuation cont) {
+        this.continuation = cont;
+    }
+
+    /**
+     * @param index of the connected subscriber (in connection order)
+     * @return Signal tracking the number of published messages the subscriber has yet to consume, or null if none has been set
+     */
+    @Override
+    public Signal<Integer> getSizeSignal(final int index) {
+        return cursors[index].sizeSignal;
+    }
+
+    /**
+     * @param index of the connected subscriber (in connection order)
+     * @param s Signal to publish the number of messages the subscriber has yet to consume to
+     */
+    @Override
+    public void setSizeSignal(final int index, final Signal<Integer> s) {
+        cursors[index].sizeSignal = s;
+        if (s != null)
+            sizeSignals = true;
+    }
+
+    private void signalSizes(final long published) {
+        for (final Cursor next : cursors) {
+            final Signal<Integer> signal = next.sizeSignal;
+            if (signal != null)
+                signal.set((int) Math.min(Integer.MAX_VALUE, published - next.sequence.get()));
+        }
+    }
+
+    @Synchronized("lock")
+    private <R> ReactiveSeq<R> connect(final Continueable sub, final Function<ReactiveSeq<T>, ReactiveSeq<R>> streamCreator) {
+        final Cursor cursor = nextCursor();
+        final ReactiveSeq<R> stream = streamCreator.apply(ReactiveSeq.fromSpliterator(new CursorSpliterator(
+                                                                                                            cursor, sub)));
+        this.streamToCursor = streamToCursor.plus(stream, cursor);
+        return stream;
+    }
+
+    private Cursor nextCursor() {
+        for (final Cursor next : cursors) {
+            if (!next.claimed) {
+                synchronized (producerLock) { //producers trim unclaimed cursors, so claim in between publications
+                    next.claimed = true;
+                }
+                return next;
+            }
+        }
+        final Cursor cursor = new Cursor(
+                                         published.get());
+        cursor.claimed = true;
+        final Cursor[] current = cursors;
+        final Cursor[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = cursor;
+        this.cursors = updated;
+        //producers may have moved on before this cursor became visible to them, so start from a sequence they must respect
+        cursor.sequence.set(published.get());
+        return cursor;
+    }
+
+    private long minimumSequence(final long defaultValue) {
+        long min = defaultValue;
+        for (final Cursor next : cursors) {
+            if (next.claimed)
+                min = Math.min(min, next.sequence.get());
+        }
+        return min;
+    }
+
+    private Object next(final Cursor cursor) throws InterruptedException {
+        return consumerWait.take(() -> {
+            if (!cursor.connected)
+                return CLOSED;
+            final long seq = cursor.sequence.get();
+            final long available = published.get();
+            if (seq < available) {
+                final Object value = buffer[(int) seq & mask];
+                if (!cursor.connected) //disconnected while reading, producers may already have overwritten the slot
+                    return CLOSED;
+                cursor.sequence.lazySet(seq + 1);
+                final Signal<Integer> signal = cursor.sizeSignal;
+                if (signal != null)
+                    signal.set((int) Math.min(Integer.MAX_VALUE, available - seq - 1));
+                return value;
+            }
+            if (!open)
+                return seq < published.get() ? null : CLOSED;
+            handleContinuation();
+            return null;
+        });
+    }
+
+    private void handleContinuation() {
+        if (continuation != null && continuing.compareAndSet(false, true)) {
+            try {
+                continuation = continuation.proceed();
+            } finally {
+                continuing.set(false);
+            }
+        }
+    }
+
+    private static class Cursor {
+        private final AtomicLong sequence;
+        private volatile boolean claimed = false;
+        private volatile boolean connected = true;
+        private volatile Signal<Integer> sizeSignal;
+
+        Cursor(final long start) {
+            this.sequence = new AtomicLong(
+                                           start);
+        }
+    }
+
+    private class CursorSpliterator extends Spliterators.AbstractSpliterator<T> {
+        private final Cursor cursor;
+        private final Continueable sub;
+        private boolean closed = false;
+
+        CursorSpliterator(final Cursor cursor, final Continueable sub) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.cursor = cursor;
+            this.sub = sub;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (closed || sub.closed())
+                return false;
+            final Object value;
+            try {
+                value = next(cursor);
+            } catch (final InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+                throw ExceptionSoftener.throwSoftenedException(e);
+            } catch (final ClosedQueueException e) {
+                closed = true;
+                return false;
+            }
+            if (value == CLOSED) {
+                closed = true;
+                return false;
+            }
+            action.accept(value == NIL ? null : (T) value);
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+    }
+
+}
@@ -9,7 +9,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.aol.cyclops2.types.futurestream.Continuation;
-import org.pcollections.HashTreePMap;
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampPMap;
 import org.pcollections.PMap;
 import org.pcollections.PVector;
 import org.pcollections.TreePVector;
@@ -34,7 +34,7 @@ public class Topic<T> implements Adapter<T> {
     @Getter(AccessLevel.PACKAGE)
     private final DistributingCollection<T> distributor = new DistributingCollection<T>();
     @Getter(AccessLevel.PACKAGE)
-    private volatile PMap<ReactiveSeq<?>, Queue<T>> streamToQueue = HashTreePMap.empty();
+    private volatile PMap<ReactiveSeq<?>, Queue<T>> streamToQueue = ChampPMap.empty();
     private final Object lock = new Object();
     private volatile int index = 0;
     private final QueueFactory<T> factory;
@@ -61,6 +61,24 @@ public class Topic<T> implements Adapter<T> {
         distributor.addQueue(q);
     }
 
+    Topic(final QueueFactory<T> factory, final boolean createInitialQueue) {
+        this.factory = factory;
+        if (createInitialQueue)
+            distributor.addQueue(factory.build());
+    }
+
+    /**
+     * Construct a Topic backed by a single shared ring buffer, rather than a Queue per subscriber.
+     * Each subscriber tracks its own position in the buffer, the slowest subscriber holds back producers.
+     *
+     * @see RingBufferTopic
+     * @param capacity Size of the ring buffer (rounded up to the next power of 2)
+     * @return Ring buffer backed Topic
+     */
+    public static <T> Topic<T> ringBuffer(final int capacity) {
+        return new RingBufferTopic<>(capacity);
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice to disconnect from the Topic 
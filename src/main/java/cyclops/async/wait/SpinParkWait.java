@@ -0,0 +1,69 @@
+package cyclops.async.wait;
+
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Adaptive wait strategy : will busy spin for a number of retries, then yield for a number of retries before finally
+ * parking the waiting thread between retries.
+ *
+ * Parked threads wake up when unparked (e.g. by a producer that has just made data available) or
+ * when the park time elapses, so this strategy is best suited to cases where producers unpark waiting consumers.
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+@AllArgsConstructor
+public class SpinParkWait<T> implements WaitStrategy<T> {
+
+    private final int spinTries;
+    private final int yieldTries;
+    private final long parkNanos;
+
+    public SpinParkWait() {
+        this.spinTries = 100;
+        this.yieldTries = 10;
+        this.parkNanos = 1_000_000;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#take(cyclops2.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        T result;
+        int retries = 0;
+        while ((result = t.take()) == null) {
+            retries = backoff(retries);
+        }
+
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#offer(cyclops2.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        int retries = 0;
+        while (!o.offer()) {
+            retries = backoff(retries);
+        }
+        return true;
+    }
+
+    private int backoff(final int retries) throws InterruptedException {
+        if (retries < spinTries) {
+            return retries + 1;
+        }
+        if (retries < spinTries + yieldTries) {
+            Thread.yield();
+            return retries + 1;
+        }
+        LockSupport.parkNanos(parkNanos);
+        if (Thread.interrupted())
+            throw new InterruptedException();
+        return retries;
+    }
+
+}
@@ -88,6 +88,13 @@ public interface WaitStrategy<T> {
         return new ExponentialBackofWaitStrategy<>();
     }
 
+    /**
+     * @return SpinParkWait strategy {@see SpinParkWait}
+     */
+    static <T> SpinParkWait<T> spinPark() {
+        return new SpinParkWait<>();
+    }
+
     /**
      * @return DirectWaitStrategy {@see DirectWaitStrategy}
      */
@@ -9,11 +9,11 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampPMap;
 import com.aol.cyclops2.data.collections.extensions.persistent.PMapXImpl;
 import com.aol.cyclops2.types.*;
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
-import org.pcollections.HashTreePMap;
 import org.pcollections.PMap;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -31,17 +31,17 @@ public interface PMapX<K, V>
 
     public static <K, V> PMapX<K, V> empty() {
         return new PMapXImpl<K, V>(
-                                   HashTreePMap.empty());
+                                   ChampPMap.empty());
     }
 
     public static <K, V> PMapX<K, V> singleton(final K key, final V value) {
         return new PMapXImpl<K, V>(
-                                   HashTreePMap.singleton(key, value));
+                                   ChampPMap.singleton(key, value));
     }
 
     public static <K, V> PMapX<K, V> fromMap(final Map<? extends K, ? extends V> map) {
         return new PMapXImpl<K, V>(
-                                   HashTreePMap.from(map));
+                                   ChampPMap.fromMap(map));
     }
 
     default PMapX<K, V> fromStream(final ReactiveSeq<Tuple2<K, V>> stream) {
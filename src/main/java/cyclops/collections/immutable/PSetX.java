@@ -17,7 +17,7 @@ import cyclops.stream.Spouts;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
-import org.pcollections.HashTreePSet;
+import com.aol.cyclops2.data.collections.extensions.persistent.ChampPSet;
 import org.pcollections.PSet;
 import org.reactivestreams.Publisher;
 
@@ -125,17 +125,17 @@ public interface PSetX<T> extends To<PSetX<T>>,PSet<T>, PersistentCollectionX<T>
     public static <T> PSetX<T> of(final T... values) {
 
         return new LazyPSetX<>(
-                               HashTreePSet.from(Arrays.asList(values)));
+                               ChampPSet.of(values));
     }
 
     public static <T> PSetX<T> empty() {
         return new LazyPSetX<>(
-                               HashTreePSet.empty());
+                               ChampPSet.empty());
     }
 
     public static <T> PSetX<T> singleton(final T value) {
         return new LazyPSetX<>(
-                               HashTreePSet.singleton(value));
+                               ChampPSet.singleton(value));
     }
 
     public static <T> PSetX<T> fromIterable(final Iterable<T> iterable) {
@@ -144,13 +144,8 @@ public interface PSetX<T> extends To<PSetX<T>>,PSet<T>, PersistentCollectionX<T>
         if (iterable instanceof PSet)
             return new LazyPSetX<>(
                                    (PSet) iterable);
-        PSet<T> res = HashTreePSet.<T> empty();
-        final Iterator<T> it = iterable.iterator();
-        while (it.hasNext())
-            res = res.plus(it.next());
-
         return new LazyPSetX<>(
-                               res);
+                               ChampPSet.fromIterable(iterable));
     }
 
     /**
@@ -172,7 +167,7 @@ public interface PSetX<T> extends To<PSetX<T>>,PSet<T>, PersistentCollectionX<T>
             return new LazyPSetX<>(
                                    (PSet) stream);
         return new LazyPSetX<>(
-                               HashTreePSet.from(stream));
+                               ChampPSet.fromIterable(stream));
     }
 
     public static <T> PSetX<T> fromStream(final Stream<T> stream) {
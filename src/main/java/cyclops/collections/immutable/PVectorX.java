@@ -28,7 +28,7 @@ import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
 import org.pcollections.PVector;
-import org.pcollections.TreePVector;
+import com.aol.cyclops2.data.collections.extensions.persistent.TriePVector;
 import org.reactivestreams.Publisher;
 
 import java.util.*;
@@ -202,7 +202,7 @@ public interface PVectorX<T> extends To<PVectorX<T>>,
      */
     public static <T> PVectorX<T> of(final T... values) {
         return new LazyPVectorX<>(
-                                  TreePVector.from(Arrays.asList(values)));
+                                  TriePVector.of(values));
     }
     /**
      * 
@@ -227,7 +227,7 @@ public interface PVectorX<T> extends To<PVectorX<T>>,
      */
     public static <T> PVectorX<T> empty() {
         return new LazyPVectorX<>(
-                                  TreePVector.empty());
+                                  TriePVector.empty());
     }
 
     /**
@@ -248,7 +248,7 @@ public interface PVectorX<T> extends To<PVectorX<T>>,
      */
     public static <T> PVectorX<T> singleton(final T value) {
         return new LazyPVectorX<>(
-                                  TreePVector.singleton(value));
+                                  TriePVector.singleton(value));
     }
 
     /**
@@ -269,13 +269,8 @@ public interface PVectorX<T> extends To<PVectorX<T>>,
         if (iterable instanceof PVector)
             return new LazyPVectorX<>(
                                       (PVector) iterable);
-        PVector<T> res = TreePVector.<T> empty();
-        final Iterator<T> it = iterable.iterator();
-        while (it.hasNext())
-            res = res.plus(it.next());
-
         return new LazyPVectorX<>(
-                                  res);
+                                  TriePVector.fromIterable(iterable));
     }
 
     /**
@@ -297,7 +292,7 @@ public interface PVectorX<T> extends To<PVectorX<T>>,
             return new LazyPVectorX<>(
                                       (PVector) values);
         return new LazyPVectorX<>(
-                                  TreePVector.from(values));
+                                  TriePVector.fromIterable(values));
     }
 
     /**
@@ -6,7 +6,6 @@ import com.aol.cyclops2.types.*;
 import com.aol.cyclops2.types.stream.reactive.ValueSubscriber;
 import cyclops.async.Future;
 import cyclops.box.Mutable;
-import cyclops.collections.DequeX;
 import cyclops.collections.ListX;
 import cyclops.collections.immutable.PVectorX;
 import cyclops.function.*;
@@ -33,13 +32,14 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.*;
 import java.util.stream.Stream;
 
@@ -721,31 +721,59 @@ public interface Eval<T> extends    To<Eval<T>>,
             return value.toEvalAlways();
         }
 
+        /**
+         * A memoized Eval. Each Later holds a single cell for its value, which is populated the first time it is evaluated. The step
+         * that computes it (the supplier, a map function or a flatMap function) is run under this Later's monitor, so it is only
+         * executed once even when first evaluated concurrently.
+         */
         public static class Later<T> extends Rec<T> implements Eval<T> {
 
+            private volatile Object value = UNSET;
+            private Object step = UNSET;
+
             Later(final Function<Object, ? extends T> s) {
-                super(PVectorX.of(Rec.raw(Memoize.memoizeFunction(s))));
+                super(SOURCE, null, s);
             }
 
-            Later(final PVectorX<Function<Object, Object>> s) {
-                super(s);
+            private Later(final int kind, final Rec<?> prev, final Function<?, ?> fn) {
+                super(kind, prev, fn);
+            }
 
+            @Override
+            Object memo() {
+                return value;
             }
 
             @Override
-            public <R> Eval<R> map(final Function<? super T, ? extends R> mapper) {
+            Object compute(final Object input) {
+                synchronized (this) {
+                    if (step == UNSET)
+                        step = fn.apply(input);
+                    return step;
+                }
+            }
 
+            @Override
+            Object memoize(final Object result) {
+                if (value == UNSET) {
+                    synchronized (this) {
+                        if (value == UNSET)
+                            value = result;
+                    }
+                }
+                return value;
+            }
+
+            @Override
+            public <R> Eval<R> map(final Function<? super T, ? extends R> mapper) {
                 return new Later<R>(
-                                    super.fns.plus(Rec.raw(Memoize.memoizeFunction(mapper))));
+                                    MAP, this, mapper);
             }
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                final RecFunction s = __ -> asEval(mapper.apply(super.applyRec())).steps();
-
                 return new Later<R>(
-                                    PVectorX.of(s));
-
+                                    FLAT_MAP, this, mapper);
             }
 
             @Override
@@ -794,31 +822,50 @@ public interface Eval<T> extends    To<Eval<T>>,
 
         }
 
+        /**
+         * An Eval that is recomputed on every access. As nothing is cached, consecutive map steps are fused into a single array
+         * of functions, which is shared with (and extended in place by) later map calls wherever possible.
+         */
         public static class Always<T> extends Rec<T>implements Eval<T> {
 
             Always(final Function<Object, ? extends T> s) {
-                super(PVectorX.of(Rec.raw(s)));
+                super(SOURCE, null, s);
             }
 
-            Always(final PVectorX<Function<Object, Object>> s) {
-                super(s);
+            private Always(final int kind, final Rec<?> prev, final Function<?, ?> fn) {
+                super(kind, prev, fn);
+            }
 
+            private Always(final Rec<?> prev, final Function<Object, Object>[] fns, final int count, final AtomicInteger tip) {
+                super(prev, fns, count, tip);
             }
 
             @Override
             public <R> Eval<R> map(final Function<? super T, ? extends R> mapper) {
-
+                if (kind != MAPS) {
+                    final Function<Object, Object>[] fns = new Function[4];
+                    fns[0] = raw(mapper);
+                    return new Always<R>(
+                                         this, fns, 1, new AtomicInteger(
+                                                                         1));
+                }
+                if (tip.compareAndSet(count, count + 1)) {
+                    final Function<Object, Object>[] next = count < fns.length ? fns : Arrays.copyOf(fns, count * 2);
+                    next[count] = raw(mapper);
+                    return new Always<R>(
+                                         prev, next, count + 1, tip);
+                }
+                final Function<Object, Object>[] copy = Arrays.copyOf(fns, count + 4);
+                copy[count] = raw(mapper);
                 return new Always<R>(
-                                     fns.plus(Rec.raw(mapper)));
-
+                                     prev, copy, count + 1, new AtomicInteger(
+                                                                              count + 1));
             }
 
             @Override
             public <R> Eval<R> flatMap(final Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
-                final RecFunction s = __ -> asEval(mapper.apply(apply())).steps();
-
                 return new Always<R>(
-                                     PVectorX.of(s));
+                                     FLAT_MAP, this, mapper);
             }
 
             @Override
@@ -1060,47 +1107,134 @@ public interface Eval<T> extends    To<Eval<T>>,
 
         }
 
-        private static class Rec<T> {
-            final PVectorX<Function<Object, Object>> fns;
-            private final static Object VOID = new Object();
+        /**
+         * A node in an Eval graph : a source, a map (or fused run of maps) or a flatMap over a previous node.
+         *
+         * Evaluation is a trampolined interpreter over an array based stack. It walks back to the nearest node that already has
+         * a value (or to a source), then applies the pending steps in order. A flatMap pushes a marker and continues with the Eval
+         * returned by its function, so neither deep chains nor recursive flatMaps consume the call stack.
+         */
+        private static abstract class Rec<T> {
+            static final Object UNSET = new Object();
+            private static final Object VOID = new Object();
+            private static final Object FLATTEN = new Object();
+            static final int SOURCE = 0;
+            static final int MAP = 1;
+            static final int MAPS = 2;
+            static final int FLAT_MAP = 3;
+
+            final int kind;
+            final Rec<?> prev;
+            final Function<Object, Object> fn;
+            final Function<Object, Object>[] fns;
+            final int count;
+            final AtomicInteger tip;
+
+            Rec(final int kind, final Rec<?> prev, final Function<?, ?> fn) {
+                this.kind = kind;
+                this.prev = prev;
+                this.fn = raw(fn);
+                this.fns = null;
+                this.count = 0;
+                this.tip = null;
+            }
 
-            Rec(final PVectorX<Function<Object, Object>> s) {
-                fns = s;
+            Rec(final Rec<?> prev, final Function<Object, Object>[] fns, final int count, final AtomicInteger tip) {
+                this.kind = MAPS;
+                this.prev = prev;
+                this.fn = null;
+                this.fns = fns;
+                this.count = count;
+                this.tip = tip;
             }
 
-            private static Function<Object, Object> raw(final Function<?, ?> fn) {
+            static Function<Object, Object> raw(final Function<?, ?> fn) {
                 return (Function<Object, Object>) fn;
             }
 
-            static interface RecFunction extends Function<Object, Object> {
+            /**
+             * @return The cached value of this node, or UNSET
+             */
+            Object memo() {
+                return UNSET;
+            }
 
+            /**
+             * @return Result of applying this node's function to the supplied input
+             */
+            Object compute(final Object input) {
+                return fn.apply(input);
             }
 
-            public PVectorX<Function<Object, Object>> steps() {
-                return fns;
+            /**
+             * @return The value of this node, once computed from the supplied result
+             */
+            Object memoize(final Object result) {
+                return result;
             }
 
-            public Object init(){
-                return VOID;
+            public T get() {
+                return (T) evaluate(this);
             }
-            T applyRec() {
-                Object input = init();
-                for (final Function<Object, Object> n : fns) {
-                    final DequeX<Function<Object, Object>> newFns = DequeX.of(n);
-                    while (newFns.size() > 0) {
-                        final Function<Object, Object> next = newFns.pop();
-                        if (next instanceof RecFunction) {
-                            newFns.plusAll((List) ((RecFunction) next).apply(VOID));
-                        } else
-                            input = next.apply(input);
 
+            private static Object evaluate(Rec<?> node) {
+                Object[] stack = null;
+                int sp = 0;
+                Object value;
+                for (;;) {
+                    for (;;) {
+                        final Object memo = node.memo();
+                        if (memo != UNSET) {
+                            value = memo;
+                            break;
+                        }
+                        if (node.kind == SOURCE) {
+                            value = node.memoize(node.compute(VOID));
+                            break;
+                        }
+                        if (stack == null)
+                            stack = new Object[16];
+                        else if (sp == stack.length)
+                            stack = Arrays.copyOf(stack, sp * 2);
+                        stack[sp++] = node;
+                        node = node.prev;
                     }
+                    Rec<?> inner = null;
+                    while (sp > 0 && inner == null) {
+                        final Object top = stack[--sp];
+                        stack[sp] = null;
+                        if (top == FLATTEN) {
+                            final Rec<?> owner = (Rec<?>) stack[--sp];
+                            stack[sp] = null;
+                            value = owner.memoize(value);
+                            continue;
+                        }
+                        final Rec<?> next = (Rec<?>) top;
+                        final Object memo = next.memo();
+                        if (memo != UNSET) {
+                            value = memo;
+                        } else if (next.kind == MAP) {
+                            value = next.memoize(next.compute(value));
+                        } else if (next.kind == MAPS) {
+                            for (int i = 0; i < next.count; i++)
+                                value = next.fns[i].apply(value);
+                        } else {
+                            final Eval<?> result = asEval((MonadicValue<?>) next.compute(value));
+                            if (result instanceof Rec) {
+                                if (sp + 2 > stack.length)
+                                    stack = Arrays.copyOf(stack, stack.length * 2);
+                                stack[sp++] = next;
+                                stack[sp++] = FLATTEN;
+                                inner = (Rec<?>) result;
+                            } else {
+                                value = next.memoize(result.get());
+                            }
+                        }
+                    }
+                    if (inner == null)
+                        return value;
+                    node = inner;
                 }
-                return (T) input;
-            }
-
-            public T get() {
-                return applyRec();
             }
 
         }
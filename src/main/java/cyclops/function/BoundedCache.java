@@ -0,0 +1,472 @@
+package cyclops.function;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+import lombok.Value;
+
+/**
+ * A size bounded, in-memory {@link Cacheable} with optional time based expiry, for use with {@link Memoize} and
+ * LazyReact#autoMemoizeOn where an unbounded Map would grow without limit.
+ *
+ * Two eviction policies are available
+ * <ul>
+ *  <li>{@link #lru(int)} evicts the least recently used entry</li>
+ *  <li>{@link #tinyLfu(int)} (W-TinyLFU) admits new entries via a small LRU window, and only moves them into the main
+ *  (segmented LRU) region if they have been requested more often than the entry they would displace. Access frequency is
+ *  tracked approximately in a compact, periodically aged count-min sketch. This protects frequently used entries from being
+ *  flushed out by scans over one-off keys.</li>
+ * </ul>
+ *
+ * Concurrent requests for the same absent key are de-duplicated : one thread computes the value and the others wait for it.
+ * Values are computed outside of the cache lock, so a slow computation does not block access to other keys.
+ *
+ * <pre>
+ * {@code
+ *  BoundedCache<Integer> cache = BoundedCache.<Integer>tinyLfu(10_000)
+ *                                            .withExpireAfterWrite(10, TimeUnit.MINUTES);
+ *  Fn1<Integer,Integer> fn = Memoize.memoizeFunction(this::expensive, cache);
+ *
+ *  cache.stats(); //Stats(hits=..,misses=..,evictions=..)
+ * }
+ * </pre>
+ *
+ * @param <OUT> Type of cached values
+ */
+public class BoundedCache<OUT> implements Cacheable<OUT> {
+
+    public static enum Policy {LRU, TINY_LFU}
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final Object NULL_KEY = new Object();
+
+    private final Policy policy;
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final LongSupplier ticker;
+
+    private final int windowMax;
+    private final int protectedMax;
+    private final Object lock = new Object();
+    private final Map<Object, Node<OUT>> data = new HashMap<>();
+    private final LinkedHashMap<Object, Node<OUT>>[] segments;
+    private final FrequencySketch sketch;
+    private final Map<Object, CompletableFuture<OUT>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private BoundedCache(final Policy policy, final int maximumSize, final long expireAfterWriteNanos,
+            final long expireAfterAccessNanos, final LongSupplier ticker) {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive, was " + maximumSize);
+        this.policy = policy;
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.ticker = ticker;
+        if (policy == Policy.LRU) {
+            windowMax = maximumSize;
+            protectedMax = 0;
+            sketch = null;
+        } else {
+            //1% admission window, the main region is split 20 / 80 between probation & protected
+            windowMax = Math.max(1, maximumSize / 100);
+            protectedMax = (int) ((maximumSize - windowMax) * 0.8);
+            sketch = new FrequencySketch(
+                                         maximumSize);
+        }
+        segments = new LinkedHashMap[] { new LinkedHashMap<>(16, 0.75f, true), new LinkedHashMap<>(16, 0.75f, true),
+                                         new LinkedHashMap<>(16, 0.75f, true) };
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries to retain
+     * @return Cache that evicts the least recently used entry once maximumSize is exceeded
+     */
+    public static <OUT> BoundedCache<OUT> lru(final int maximumSize) {
+        return new BoundedCache<>(Policy.LRU, maximumSize, 0, 0, System::nanoTime);
+    }
+
+    /**
+     * @param maximumSize Maximum number of entries to retain
+     * @return Cache that uses the frequency aware W-TinyLFU policy to select entries to evict once maximumSize is exceeded
+     */
+    public static <OUT> BoundedCache<OUT> tinyLfu(final int maximumSize) {
+        return new BoundedCache<>(Policy.TINY_LFU, maximumSize, 0, 0, System::nanoTime);
+    }
+
+    /**
+     * @param duration Time after an entry is computed at which it expires
+     * @param unit TimeUnit for duration
+     * @return New, empty cache with the same configuration as this one, whose entries expire after they have been written
+     */
+    public BoundedCache<OUT> withExpireAfterWrite(final long duration, final TimeUnit unit) {
+        return new BoundedCache<>(policy, maximumSize, unit.toNanos(duration), expireAfterAccessNanos, ticker);
+    }
+
+    /**
+     * @param duration Time since an entry was last read (or written) at which it expires
+     * @param unit TimeUnit for duration
+     * @return New, empty cache with the same configuration as this one, whose entries expire when they are not accessed
+     */
+    public BoundedCache<OUT> withExpireAfterAccess(final long duration, final TimeUnit unit) {
+        return new BoundedCache<>(policy, maximumSize, expireAfterWriteNanos, unit.toNanos(duration), ticker);
+    }
+
+    /**
+     * @param ticker Source of the current time in nanoseconds, used for expiry (defaults to System::nanoTime)
+     * @return New, empty cache with the same configuration as this one, using the supplied time source
+     */
+    public BoundedCache<OUT> withTicker(final LongSupplier ticker) {
+        return new BoundedCache<>(policy, maximumSize, expireAfterWriteNanos, expireAfterAccessNanos, ticker);
+    }
+
+    @Override
+    public OUT computeIfAbsent(final Object key, final Function<Object, OUT> fn) {
+        final Object k = key == null ? NULL_KEY : key;
+        OUT cached;
+        synchronized (lock) {
+            if (sketch != null)
+                sketch.increment(k);
+            cached = read(k);
+        }
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        final CompletableFuture<OUT> inFlight = new CompletableFuture<>();
+        final CompletableFuture<OUT> existing = loading.putIfAbsent(k, inFlight);
+        if (existing != null) { //another thread is computing this value already
+            hits.increment();
+            return join(existing);
+        }
+        try {
+            synchronized (lock) { //dbl check - another thread may have finished loading since our first read
+                cached = read(k);
+            }
+            if (cached != null) {
+                hits.increment();
+                inFlight.complete(cached);
+                return cached;
+            }
+            misses.increment();
+            final OUT value = fn.apply(key);
+            if (value != null) {
+                synchronized (lock) {
+                    write(k, value);
+                }
+            }
+            inFlight.complete(value);
+            return value;
+        } catch (final Throwable t) {
+            inFlight.completeExceptionally(t);
+            throw ExceptionSoftener.throwSoftenedException(t);
+        } finally {
+            loading.remove(k, inFlight);
+        }
+    }
+
+    /**
+     * Look up a cached value without computing one. A hit is recorded as such, a miss is not recorded (it is expected to be
+     * followed by a call to computeIfAbsent).
+     *
+     * @param key To lookup cached value
+     * @return Cached value, or null if there is none
+     */
+    @Override
+    public OUT getIfPresent(final Object key) {
+        final Object k = key == null ? NULL_KEY : key;
+        final OUT cached;
+        synchronized (lock) {
+            if (sketch != null)
+                sketch.increment(k);
+            cached = read(k);
+        }
+        if (cached != null)
+            hits.increment();
+        return cached;
+    }
+
+    /**
+     * Remove the entry for the supplied key, if present
+     *
+     * @param key Key to remove
+     */
+    public void invalidate(final Object key) {
+        final Object k = key == null ? NULL_KEY : key;
+        synchronized (lock) {
+            final Node<OUT> node = data.remove(k);
+            if (node != null)
+                segments[node.segment].remove(k);
+        }
+    }
+
+    /**
+     * Remove all entries
+     */
+    public void invalidateAll() {
+        synchronized (lock) {
+            data.clear();
+            for (final Map<Object, Node<OUT>> segment : segments)
+                segment.clear();
+        }
+    }
+
+    /**
+     * Expired entries are otherwise removed lazily when they are next read (or evicted by size). This method removes all
+     * expired entries immediately.
+     */
+    public void cleanUp() {
+        synchronized (lock) {
+            final long now = ticker.getAsLong();
+            for (final Map<Object, Node<OUT>> segment : segments) {
+                final Iterator<Node<OUT>> it = segment.values()
+                                                      .iterator();
+                while (it.hasNext()) {
+                    final Node<OUT> next = it.next();
+                    if (isExpired(next, now)) {
+                        it.remove();
+                        data.remove(next.key);
+                        evictions.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Number of entries currently retained (including any expired entries not yet removed)
+     */
+    public int size() {
+        synchronized (lock) {
+            return data.size();
+        }
+    }
+
+    /**
+     * @return Snapshot of the hit, miss and eviction counts for this cache
+     */
+    public Stats stats() {
+        return new Stats(
+                         hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache[" + policy + ", maximumSize=" + maximumSize + ", " + stats() + "]";
+    }
+
+    /**
+     * Hit, miss & eviction counts for a BoundedCache. Requests that wait for a concurrent computation of the same key count
+     * as hits, expired entries count as evictions.
+     */
+    @Value
+    public static class Stats {
+        long hits;
+        long misses;
+        long evictions;
+
+        public long requests() {
+            return hits + misses;
+        }
+
+        public double hitRate() {
+            final long requests = requests();
+            return requests == 0 ? 1.0 : (double) hits / requests;
+        }
+    }
+
+    private static <OUT> OUT join(final CompletableFuture<OUT> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            throw ExceptionSoftener.throwSoftenedException(e.getCause());
+        }
+    }
+
+    private boolean isExpired(final Node<OUT> node, final long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    //must hold lock
+    private OUT read(final Object key) {
+        final Node<OUT> node = data.get(key);
+        if (node == null)
+            return null;
+        final long now = ticker.getAsLong();
+        if (isExpired(node, now)) {
+            data.remove(key);
+            segments[node.segment].remove(key);
+            evictions.increment();
+            return null;
+        }
+        node.accessTime = now;
+        if (node.segment == PROBATION) { //2nd hit, promote to the protected region
+            segments[PROBATION].remove(key);
+            node.segment = PROTECTED;
+            segments[PROTECTED].put(key, node);
+            if (segments[PROTECTED].size() > protectedMax) {
+                final Node<OUT> demoted = eldest(segments[PROTECTED]);
+                segments[PROTECTED].remove(demoted.key);
+                demoted.segment = PROBATION;
+                segments[PROBATION].put(demoted.key, demoted);
+            }
+        } else {
+            segments[node.segment].get(key); //move to most recently used
+        }
+        return node.value;
+    }
+
+    //must hold lock
+    private void write(final Object key, final OUT value) {
+        final long now = ticker.getAsLong();
+        final Node<OUT> existing = data.get(key);
+        if (existing != null) {
+            existing.value = value;
+            existing.writeTime = now;
+            existing.accessTime = now;
+            return;
+        }
+        final Node<OUT> node = new Node<>(
+                                          key, value, now);
+        data.put(key, node);
+        segments[WINDOW].put(key, node);
+        if (segments[WINDOW].size() <= windowMax)
+            return;
+        final Node<OUT> candidate = eldest(segments[WINDOW]);
+        segments[WINDOW].remove(candidate.key);
+        if (policy == Policy.LRU) {
+            evict(candidate);
+            return;
+        }
+        candidate.segment = PROBATION;
+        segments[PROBATION].put(candidate.key, candidate);
+        if (data.size() <= maximumSize)
+            return;
+        //main region is full : the window candidate competes with the probation LRU entry on access frequency
+        final Node<OUT> victim = eldest(segments[PROBATION]);
+        if (victim == candidate) {
+            evict(candidate);
+            return;
+        }
+        final Node<OUT> loser = sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+        segments[PROBATION].remove(loser.key);
+        evict(loser);
+    }
+
+    private void evict(final Node<OUT> node) {
+        data.remove(node.key);
+        evictions.increment();
+    }
+
+    private static <OUT> Node<OUT> eldest(final LinkedHashMap<Object, Node<OUT>> segment) {
+        return segment.values()
+                      .iterator()
+                      .next();
+    }
+
+    private static final class Node<OUT> {
+        final Object key;
+        OUT value;
+        long writeTime;
+        long accessTime;
+        int segment = WINDOW;
+
+        Node(final Object key, final OUT value, final long now) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4 rows of 4 bit counters (16 to a long), with 8 counters per row for each cache entry. Once the
+     * number of recorded accesses reaches 10x the cache size all counters are halved, so that the popularity of keys decays
+     * over time.
+     */
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = { 0x97cb3127, 0xc4ceb9fe, 0x85ebca6b, 0x27d4eb2f };
+        private static final long HALVE_MASK = 0x7777777777777777L;
+        private final long[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(final int maximumSize) {
+            final int entries = Integer.highestOneBit(Math.max(2, Math.min(maximumSize, 1 << 26)) * 2 - 1);
+            final int width = entries * 8;
+            table = new long[SEEDS.length][width >>> 4];
+            mask = width - 1;
+            sampleSize = (int) Math.min(Integer.MAX_VALUE, 10L * maximumSize);
+        }
+
+        private int index(final int hash, final int row) {
+            int h = hash * SEEDS[row];
+            h ^= h >>> 16;
+            return h & mask;
+        }
+
+        private static int spread(final Object key) {
+            final int h = key.hashCode() * 0x9e3779b9;
+            return h ^ (h >>> 16);
+        }
+
+        void increment(final Object key) {
+            final int hash = spread(key);
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                final int i = index(hash, row);
+                final int shift = (i & 15) << 2;
+                if (((table[row][i >>> 4] >>> shift) & 15) < 15) {
+                    table[row][i >>> 4] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize)
+                reset();
+        }
+
+        int frequency(final Object key) {
+            final int hash = spread(key);
+            int min = 15;
+            for (int row = 0; row < SEEDS.length; row++) {
+                final int i = index(hash, row);
+                min = Math.min(min, (int) ((table[row][i >>> 4] >>> ((i & 15) << 2)) & 15));
+            }
+            return min;
+        }
+
+        private void reset() {
+            for (final long[] row : table)
+                for (int i = 0; i < row.length; i++)
+                    row[i] = (row[i] >>> 1) & HALVE_MASK;
+            additions /= 2;
+        }
+    }
+}
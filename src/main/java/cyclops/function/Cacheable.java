@@ -46,4 +46,15 @@ public interface Cacheable<OUT> {
      * @return Cached (or computed) result
      */
     public OUT computeIfAbsent(Object key, Function<Object, OUT> fn) throws Throwable;
+
+    /**
+     * Look up a cached value without computing one. The default implementation calls {@link #computeIfAbsent(Object, Function)}
+     * with a Function that returns null, caches that store null results should override it.
+     *
+     * @param key To lookup cached value
+     * @return Cached result, or null if there is none
+     */
+    default OUT getIfPresent(final Object key) throws Throwable {
+        return computeIfAbsent(key, k -> null);
+    }
 }
@@ -3,18 +3,20 @@ package cyclops.function;
 import static org.jooq.lambda.tuple.Tuple.tuple;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-import org.jooq.lambda.tuple.Tuple2;
-import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
 
+import cyclops.async.Future;
 import cyclops.box.LazyImmutable;
 import com.aol.cyclops2.util.ExceptionSoftener;
 
@@ -41,9 +43,8 @@ public class Memoize {
      * @return Memoised Supplier
      */
     public static <T> Fn0<T> memoizeSupplier(final Supplier<T> s, final Cacheable<T> cache) {
-
-        return () -> cache.soften()
-                          .computeIfAbsent("k", a -> s.get());
+        final SoftenedCacheable<T> softened = cache.soften();
+        return () -> softened.computeIfAbsent("k", a -> s.get());
     }
 
     /**
@@ -54,9 +55,8 @@ public class Memoize {
      * @return Memoised Callable
      */
     public static <T> Callable<T> memoizeCallable(final Callable<T> s, final Cacheable<T> cache) {
-
-        return () -> cache.soften()
-                          .computeIfAbsent("k", a -> {
+        final SoftenedCacheable<T> softened = cache.soften();
+        return () -> softened.computeIfAbsent("k", a -> {
 
                               return ExceptionSoftener.softenCallable(s)
                                                       .get();
@@ -118,8 +118,113 @@ public class Memoize {
      */
     public static <T, R> Fn1<T, R> memoizeFunction(final Function<T, R> fn, final Cacheable<R> cache) {
         LazyImmutable<R> nullR = LazyImmutable.def();
-        return t -> t==null? nullR.computeIfAbsent(()->fn.apply(null)) : (R)cache.soften()
-                         .computeIfAbsent(t, (Function) fn);
+        final SoftenedCacheable<R> softened = cache.soften();
+        return t -> t==null? nullR.computeIfAbsent(()->fn.apply(null)) : (R)softened.computeIfAbsent(t, (Function) fn);
+    }
+
+    /**
+     * Convert a Function into one that caches it's result asynchronously. The result for each input is computed once on the
+     * supplied Executor, concurrent calls for an input that is still being computed share the same (in-flight) Future.
+     * Failed computations are not cached, the next call for that input will recompute it. Completed results are held for
+     * the lifetime of the returned Function, use {@link #memoizeFunctionAsync(Function, Executor, Cacheable)} to bound them.
+     *
+     * <pre>
+     * {@code
+     *  Fn1<Integer,Future<Integer>> fn = Memoize.memoizeFunctionAsync(this::expensive, ex);
+     *  Future<Integer> a = fn.apply(10);
+     *  Future<Integer> b = fn.apply(10); //shares the computation started by a
+     * }
+     * </pre>
+     *
+     * @param fn Function to memoise
+     * @param ex Executor to compute results on
+     * @return Memoised Function that returns a (possibly still in-flight) Future
+     */
+    public static <T, R> Fn1<T, Future<R>> memoizeFunctionAsync(final Function<T, R> fn, final Executor ex) {
+        final Map<Object, Future<R>> lazy = new ConcurrentHashMap<>();
+        return t -> {
+            final Object key = t == null ? NULL_KEY : t;
+            final Future<R> cached = lazy.get(key);
+            if (cached != null)
+                return cached;
+            final CompletableFuture<R> cf = new CompletableFuture<>();
+            final Future<R> future = Future.of(cf);
+            final Future<R> existing = lazy.putIfAbsent(key, future);
+            if (existing != null)
+                return existing;
+            try {
+                ex.execute(() -> {
+                    try {
+                        cf.complete(fn.apply(t));
+                    } catch (final Throwable e) {
+                        lazy.remove(key, future);
+                        cf.completeExceptionally(e);
+                    }
+                });
+            } catch (final Throwable e) { //e.g. RejectedExecutionException
+                lazy.remove(key, future);
+                cf.completeExceptionally(e);
+            }
+            return future;
+        };
+    }
+
+    /**
+     * Convert a Function into one that caches it's result asynchronously, storing completed results in the supplied Cacheable.
+     * Cached results are returned directly as completed Futures, without using the Executor. Only computations that are still
+     * in-flight are tracked outside of the cache (so that concurrent calls share them), once complete they are held (or
+     * evicted) according to the Cacheable's policy. Failed computations are not cached.
+     *
+     * <pre>
+     * {@code
+     *  Fn1<Integer,Future<Integer>> fn = Memoize.memoizeFunctionAsync(this::expensive, ex, BoundedCache.lru(10_000));
+     * }
+     * </pre>
+     *
+     * @param fn Function to memoise
+     * @param ex Executor to compute results on
+     * @param cache Cachable to store the completed results
+     * @return Memoised Function that returns a (possibly still in-flight) Future
+     */
+    public static <T, R> Fn1<T, Future<R>> memoizeFunctionAsync(final Function<T, R> fn, final Executor ex,
+                                                                final Cacheable<R> cache) {
+        final SoftenedCacheable<R> softened = cache.soften();
+        final Map<Object, Future<R>> inFlight = new ConcurrentHashMap<>();
+        return t -> {
+            final Object key = t == null ? NULL_KEY : t;
+            final R cached;
+            try {
+                cached = cache.getIfPresent(key);
+            } catch (final Throwable e) {
+                throw ExceptionSoftener.throwSoftenedException(e);
+            }
+            if (cached != null)
+                return Future.ofResult(cached);
+            final Future<R> running = inFlight.get(key);
+            if (running != null)
+                return running;
+            final CompletableFuture<R> cf = new CompletableFuture<>();
+            final Future<R> future = Future.of(cf);
+            final Future<R> existing = inFlight.putIfAbsent(key, future);
+            if (existing != null)
+                return existing;
+            try {
+                ex.execute(() -> {
+                    try {
+                        final R result = softened.computeIfAbsent(key, k -> fn.apply(t));
+                        inFlight.remove(key, future);
+                        cf.complete(result);
+                    } catch (final Throwable e) {
+                        inFlight.remove(key, future);
+                        cf.completeExceptionally(e);
+                    }
+                });
+            } catch (final Throwable e) { //e.g. RejectedExecutionException
+                inFlight.remove(key, future);
+                cf.completeExceptionally(e);
+            }
+            return future;
+        };
     }
 
     /**
@@ -129,8 +234,16 @@ public class Memoize {
      * @return Memoised BiFunction
      */
     public static <T1, T2, R> Fn2<T1, T2, R> memoizeBiFunction(final BiFunction<T1, T2, R> fn) {
-        val memoise2 = memoizeFunction((final Tuple2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2));
-        return (t1, t2) -> memoise2.apply(tuple(t1, t2));
+        //results are stored in nested maps keyed by each argument in turn, so a cache hit allocates no composite key
+        final ConcurrentHashMap<Object, ConcurrentHashMap<Object, Object>> lazy = new ConcurrentHashMap<>();
+        return (t1, t2) -> {
+            final ConcurrentHashMap<Object, Object> level2 = level(lazy, t1);
+            final Object k2 = t2 == null ? NULL_KEY : t2;
+            final Object cached = level2.get(k2);
+            if (cached != null)
+                return unmask(cached);
+            return unmask(level2.computeIfAbsent(k2, k -> mask(fn.apply(t1, t2))));
+        };
     }
 
     /**
@@ -141,8 +254,8 @@ public class Memoize {
      * @return Memoised BiFunction
      */
     public static <T1, T2, R> Fn2<T1, T2, R> memoizeBiFunction(final BiFunction<T1, T2, R> fn, final Cacheable<R> cache) {
-        val memoise2 = memoizeFunction((final Tuple2<T1, T2> pair) -> fn.apply(pair.v1, pair.v2), cache);
-        return (t1, t2) -> memoise2.apply(tuple(t1, t2));
+        final SoftenedCacheable<R> softened = cache.soften();
+        return (t1, t2) -> softened.computeIfAbsent(new Key2(t1, t2), k -> fn.apply(t1, t2));
     }
 
     /**
@@ -152,8 +265,15 @@ public class Memoize {
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, R> Fn3<T1, T2, T3, R> memoizeTriFunction(final Fn3<T1, T2, T3, R> fn) {
-        val memoise2 = memoizeFunction((final Tuple3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3));
-        return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
+        final ConcurrentHashMap<Object, ConcurrentHashMap<Object, ConcurrentHashMap<Object, Object>>> lazy = new ConcurrentHashMap<>();
+        return (t1, t2, t3) -> {
+            final ConcurrentHashMap<Object, Object> level3 = level(level(lazy, t1), t2);
+            final Object k3 = t3 == null ? NULL_KEY : t3;
+            final Object cached = level3.get(k3);
+            if (cached != null)
+                return unmask(cached);
+            return unmask(level3.computeIfAbsent(k3, k -> mask(fn.apply(t1, t2, t3))));
+        };
     }
 
     /**
@@ -164,8 +284,8 @@ public class Memoize {
      * @return Memoised TriFunction
      */
     public static <T1, T2, T3, R> Fn3<T1, T2, T3, R> memoizeTriFunction(final Fn3<T1, T2, T3, R> fn, final Cacheable<R> cache) {
-        val memoise2 = memoizeFunction((final Tuple3<T1, T2, T3> triple) -> fn.apply(triple.v1, triple.v2, triple.v3), cache);
-        return (t1, t2, t3) -> memoise2.apply(tuple(t1, t2, t3));
+        final SoftenedCacheable<R> softened = cache.soften();
+        return (t1, t2, t3) -> softened.computeIfAbsent(new Key3(t1, t2, t3), k -> fn.apply(t1, t2, t3));
     }
 
     /**
@@ -217,4 +337,81 @@ public class Memoize {
         return (t) -> t==null? nullR.computeIfAbsent(()->p.test(null)) : memoised.apply(t);
     }
 
+    private static final Object NULL_KEY = new Object();
+
+    private static <V> ConcurrentHashMap<Object, V> level(final ConcurrentHashMap<Object, ConcurrentHashMap<Object, V>> map,
+                                                          final Object key) {
+        final Object k = key == null ? NULL_KEY : key;
+        final ConcurrentHashMap<Object, V> next = map.get(k);
+        return next != null ? next : map.computeIfAbsent(k, a -> new ConcurrentHashMap<>());
+    }
+
+    private static Object mask(final Object value) {
+        return value == null ? NULL_KEY : value;
+    }
+
+    private static <R> R unmask(final Object value) {
+        return value == NULL_KEY ? null : (R) value;
+    }
+
+    /**
+     * Composite cache keys for multi-argument functions memoised via a Cacheable. The hash is computed once, on creation.
+     */
+    private static final class Key2 {
+        private final Object v1;
+        private final Object v2;
+        private final int hash;
+
+        Key2(final Object v1, final Object v2) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.hash = 31 * Objects.hashCode(v1) + Objects.hashCode(v2);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key2))
+                return false;
+            final Key2 other = (Key2) o;
+            return hash == other.hash && Objects.equals(v1, other.v1) && Objects.equals(v2, other.v2);
+        }
+    }
+
+    private static final class Key3 {
+        private final Object v1;
+        private final Object v2;
+        private final Object v3;
+        private final int hash;
+
+        Key3(final Object v1, final Object v2, final Object v3) {
+            this.v1 = v1;
+            this.v2 = v2;
+            this.v3 = v3;
+            this.hash = 31 * (31 * Objects.hashCode(v1) + Objects.hashCode(v2)) + Objects.hashCode(v3);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof Key3))
+                return false;
+            final Key3 other = (Key3) o;
+            return hash == other.hash && Objects.equals(v1, other.v1) && Objects.equals(v2, other.v2)
+                    && Objects.equals(v3, other.v3);
+        }
+    }
+
 }
@@ -47,10 +47,12 @@ import org.jooq.lambda.function.Function5;
 import org.jooq.lambda.tuple.Tuple2;
 import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
+import org.pcollections.PVector;
 import org.reactivestreams.Publisher;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import cyclops.collections.ListX;
+import com.aol.cyclops2.data.collections.extensions.persistent.TriePVector;
 import com.aol.cyclops2.internal.monads.AnyMSeqImpl;
 import com.aol.cyclops2.internal.monads.AnyMValueImpl;
 
@@ -1204,15 +1206,25 @@ public interface AnyM<W extends WitnessType<W>,T> extends   Unwrapable,
         }
 
     }
+    /**
+     * Convert a Stream of Monads to a Monad with a Stream. Values are accumulated into a persistent vector (constant time append,
+     * safe to share between the branches of non-deterministic monads such as List), rather than a nested chain of concatenated
+     * Streams, so sequencing is linear in the number of Monads.
+     *
+     * @param stream Stream of monads to convert
+     * @param witness Witness type of the monads
+     * @return Monad with a Stream
+     */
     public static  <W extends WitnessType<W>,T> AnyM<W,Stream<T>> sequence(Stream<? extends AnyM<W,T>> stream, W witness) {
         FunctionalAdapter<W> c = witness.adapter();
-        AnyM<W,Stream<T>> identity = c.unit(ReactiveSeq.empty());
-       
-        BiFunction<AnyM<W,Stream<T>>,AnyM<W,T>,AnyM<W,Stream<T>>> combineToStream = (acc,next) -> c.ap2(c.unit(Lambda.l2((Stream<T> a)->(T b)->ReactiveSeq.concat(a,ReactiveSeq.of(b)))),acc,next);
+        AnyM<W,PVector<T>> identity = c.unit(TriePVector.empty());
+
+        BiFunction<AnyM<W,PVector<T>>,AnyM<W,T>,AnyM<W,PVector<T>>> combineToVector = (acc,next) -> c.ap2(c.unit(Lambda.l2((PVector<T> a)->(T b)->a.plus(b))),acc,next);
 
-        BinaryOperator<AnyM<W,Stream<T>>> combineStreams = (a,b)-> (AnyM<W,Stream<T>>)a.zip(b,(z1,z2)->(Stream<T>)ReactiveSeq.concat(z1,z2)); // a.apply(b, (s1,s2)->s1);
+        BinaryOperator<AnyM<W,PVector<T>>> combineVectors = (a,b)-> (AnyM<W,PVector<T>>)a.zip(b,(z1,z2)->z1.plusAll(z2));
 
-        return stream.reduce(identity,combineToStream,combineStreams);
+        return stream.reduce(identity,combineToVector,combineVectors)
+                     .map(v->(Stream<T>)ReactiveSeq.fromIterable(v));
     }
     public static  <W extends WitnessType<W>,T,R> AnyM<W,Stream<R>> traverse(Function<T,R> fn,Stream<AnyM<W,T>> stream, W witness) {
        return sequence(stream.map(h->h.map(fn)),witness);
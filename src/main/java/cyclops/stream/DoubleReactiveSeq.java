@@ -0,0 +1,335 @@
+package cyclops.stream;
+
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+import com.aol.cyclops2.internal.stream.ReactiveStreamX;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleArrayOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleBoxingOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleFilterOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleGroupingOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleLimitOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleMapOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleScanLeftOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleSkipOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.DoubleSpliteratorOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+/**
+ * A sequential, push based Stream of double values.
+ *
+ * Unlike {@link ReactiveSeq#ofDoubles(double...)} and friends, which box each value into a {@code ReactiveSeq<Double>} between
+ * stages, a DoubleReactiveSeq is built from double specialised push Operators and values remain unboxed across map / filter /
+ * scanLeft / limit / skip / grouped stages and terminal folds. Values are only boxed on explicit conversion via
+ * {@link #boxed()} or {@link #mapToObj(DoubleFunction)}.
+ *
+ * Like ReactiveSeq, a DoubleReactiveSeq is lazy and may be replayed (each terminal operation reruns the pipeline). The
+ * exception is a DoubleReactiveSeq created directly from a DoubleStream via {@link #fromStream(DoubleStream)}, which, like the DoubleStream
+ * itself, can only be traversed once.
+ *
+ * <pre>
+ * {@code
+ *   double sum = DoubleReactiveSeq.of(1d,2d,3d)
+ *                          .map(i->i*2)
+ *                          .filter(i->i>2)
+ *                          .sum();
+ * }
+ * </pre>
+ */
+public final class DoubleReactiveSeq {
+
+    private static final Consumer<Throwable> RETHROW = e -> {
+        throw ExceptionSoftener.throwSoftenedException(e);
+    };
+
+    private final DoubleOperator source;
+
+    private DoubleReactiveSeq(final DoubleOperator source) {
+        this.source = source;
+    }
+
+    /**
+     * @return An empty DoubleReactiveSeq
+     */
+    public static DoubleReactiveSeq empty() {
+        return of();
+    }
+
+    /**
+     * @param values double values to emit
+     * @return DoubleReactiveSeq of the supplied values
+     */
+    public static DoubleReactiveSeq of(final double... values) {
+        return new DoubleReactiveSeq(
+                                 new DoubleArrayOperator(values));
+    }
+
+    /**
+     * Create an infinite DoubleReactiveSeq by repeatedly applying the supplied function, starting with the seed
+     *
+     * @param seed Initial value
+     * @param f Function to generate the next value from the previous one
+     * @return Infinite DoubleReactiveSeq
+     */
+    public static DoubleReactiveSeq iterate(final double seed, final DoubleUnaryOperator f) {
+        return fromStream(() -> DoubleStream.iterate(seed, f));
+    }
+
+    /**
+     * Construct a DoubleReactiveSeq from a DoubleStream, values are advanced from the DoubleStream's Spliterator without boxing.
+     * As a DoubleStream can only be traversed once, so can the resulting DoubleReactiveSeq, see {@link #fromStream(Supplier)}
+     * for a replayable alternative.
+     *
+     * @param stream DoubleStream to convert
+     * @return DoubleReactiveSeq of the DoubleStream's values
+     */
+    public static DoubleReactiveSeq fromStream(final DoubleStream stream) {
+        final Spliterator.OfDouble split = stream.spliterator();
+        return new DoubleReactiveSeq(
+                                 new DoubleSpliteratorOperator(() -> split));
+    }
+
+    /**
+     * Construct a DoubleReactiveSeq from the DoubleStreams created by the supplied Supplier. A new DoubleStream is created for each
+     * terminal operation, so the resulting DoubleReactiveSeq may be replayed.
+     *
+     * @param streams Supplier of the DoubleStreams to convert
+     * @return DoubleReactiveSeq of the supplied DoubleStreams' values
+     */
+    public static DoubleReactiveSeq fromStream(final Supplier<? extends DoubleStream> streams) {
+        return new DoubleReactiveSeq(
+                                 new DoubleSpliteratorOperator(() -> streams.get().spliterator()));
+    }
+
+    /**
+     * @param mapper Function to transform each value
+     * @return DoubleReactiveSeq of transformed values
+     */
+    public DoubleReactiveSeq map(final DoubleUnaryOperator mapper) {
+        if (source instanceof DoubleMapOperator)
+            return new DoubleReactiveSeq(
+                                     ((DoubleMapOperator) source).compose(mapper));
+        return new DoubleReactiveSeq(
+                                 new DoubleMapOperator(source, mapper));
+    }
+
+    /**
+     * @param predicate Values that do not match the predicate are removed
+     * @return Filtered DoubleReactiveSeq
+     */
+    public DoubleReactiveSeq filter(final DoublePredicate predicate) {
+        return new DoubleReactiveSeq(
+                                 new DoubleFilterOperator(source, predicate));
+    }
+
+    /**
+     * @param consumer Consumer to be called with each value as it passes through the Stream
+     * @return DoubleReactiveSeq of the same values
+     */
+    public DoubleReactiveSeq peek(final DoubleConsumer consumer) {
+        return map(i -> {
+            consumer.accept(i);
+            return i;
+        });
+    }
+
+    /**
+     * Scan left, emitting the seed followed by each intermediate result (consistent with {@link ReactiveSeq#scanLeft(Object, java.util.function.BiFunction)})
+     *
+     * <pre>
+     * {@code
+     *   DoubleReactiveSeq.of(1d,2d,3d)
+     *                .scanLeft(0d,(a,b)->a+b)
+     *   //[0,1,3,6]
+     * }
+     * </pre>
+     *
+     * @param seed Initial value
+     * @param accumulator Function to combine the running result with the next value
+     * @return DoubleReactiveSeq of intermediate results
+     */
+    public DoubleReactiveSeq scanLeft(final double seed, final DoubleBinaryOperator accumulator) {
+        return new DoubleReactiveSeq(
+                                 new DoubleScanLeftOperator(source, seed, accumulator));
+    }
+
+    /**
+     * @param num Maximum number of values to emit
+     * @return DoubleReactiveSeq limited to num values
+     */
+    public DoubleReactiveSeq limit(final long num) {
+        return new DoubleReactiveSeq(
+                                 new DoubleLimitOperator(source, num));
+    }
+
+    /**
+     * @param num Number of values to skip
+     * @return DoubleReactiveSeq without the first num values
+     */
+    public DoubleReactiveSeq skip(final long num) {
+        return new DoubleReactiveSeq(
+                                 new DoubleSkipOperator(source, num));
+    }
+
+    /**
+     * Group values into double[] arrays of the specified size (the last group may be smaller)
+     *
+     * @param groupSize Size of each group
+     * @return ReactiveSeq of double arrays
+     */
+    public ReactiveSeq<double[]> grouped(final int groupSize) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException(
+                                               "Batch size must be 1 or more");
+        return new ReactiveStreamX<>(
+                                     new DoubleGroupingOperator(source, groupSize));
+    }
+
+    /**
+     * Convert to a ReactiveSeq, this is the point at which values are boxed
+     *
+     * @param mapper Function to transform each value into an Object
+     * @return ReactiveSeq of transformed values
+     */
+    public <R> ReactiveSeq<R> mapToObj(final DoubleFunction<? extends R> mapper) {
+        return new ReactiveStreamX<>(
+                                     new DoubleBoxingOperator<R>(source, mapper));
+    }
+
+    /**
+     * @return A ReactiveSeq of boxed values
+     */
+    public ReactiveSeq<Double> boxed() {
+        return mapToObj(i -> i);
+    }
+
+    /**
+     * Perform the supplied action on each value, errors are rethrown
+     *
+     * @param action Action to perform
+     */
+    public void forEach(final DoubleConsumer action) {
+        source.subscribeAll(action, RETHROW, () -> {
+        });
+    }
+
+    /**
+     * @param identity Initial value
+     * @param accumulator Function to combine values
+     * @return Result of folding all values from the left
+     */
+    public double foldLeft(final double identity, final DoubleBinaryOperator accumulator) {
+        final double[] result = { identity };
+        forEach(e -> result[0] = accumulator.applyAsDouble(result[0], e));
+        return result[0];
+    }
+
+    /**
+     * @param accumulator Function to combine values
+     * @return Result of reducing all values, or empty if there are none
+     */
+    public OptionalDouble reduce(final DoubleBinaryOperator accumulator) {
+        final double[] result = { 0d };
+        final boolean[] found = { false };
+        forEach(e -> {
+            if (found[0]) {
+                result[0] = accumulator.applyAsDouble(result[0], e);
+            } else {
+                found[0] = true;
+                result[0] = e;
+            }
+        });
+        return found[0] ? OptionalDouble.of(result[0]) : OptionalDouble.empty();
+    }
+
+    /**
+     * @return Sum of all values
+     */
+    public double sum() {
+        return foldLeft(0d, Double::sum);
+    }
+
+    /**
+     * @return Number of values
+     */
+    public long count() {
+        final long[] count = { 0 };
+        forEach(e -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * @return Smallest value, or empty if there are none
+     */
+    public OptionalDouble min() {
+        return reduce(Math::min);
+    }
+
+    /**
+     * @return Largest value, or empty if there are none
+     */
+    public OptionalDouble max() {
+        return reduce(Math::max);
+    }
+
+    /**
+     * @return The average of the values in this DoubleReactiveSeq, or empty if there are none
+     */
+    public OptionalDouble average() {
+        final DoubleSummaryStatistics stats = summaryStatistics();
+        return stats.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(stats.getAverage());
+    }
+
+    /**
+     * @return Count, sum, min, max and average of the values in this DoubleReactiveSeq
+     */
+    public DoubleSummaryStatistics summaryStatistics() {
+        final DoubleSummaryStatistics stats = new DoubleSummaryStatistics();
+        forEach(stats);
+        return stats;
+    }
+
+    /**
+     * Find the first value, no further values are requested from upstream once it has been found
+     *
+     * @return First value, or empty if there are none
+     */
+    public OptionalDouble findFirst() {
+        final OptionalDouble[] result = { OptionalDouble.empty() };
+        final StreamSubscription[] sub = { null };
+        sub[0] = source.subscribe(e -> {
+            result[0] = OptionalDouble.of(e);
+            sub[0].cancel();
+        } , RETHROW, () -> {
+        });
+        sub[0].request(1l);
+        return result[0];
+    }
+
+    /**
+     * @return A double array of all values
+     */
+    public double[] toArray() {
+        final double[][] buffer = { new double[16] };
+        final int[] size = { 0 };
+        forEach(e -> {
+            if (size[0] == buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+            buffer[0][size[0]++] = e;
+        });
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiConsumer;
@@ -145,6 +146,34 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
         return fromStream(stream().retry(fn,retries,delay,timeUnit));
     }
 
+    /**
+     * Retry a transformation if it fails, without blocking a task executor thread while waiting to try again. The first attempt is made
+     * on the task executor, failed attempts are rescheduled on the supplied ScheduledExecutorService according to the RetryPolicy.
+     *
+     * @see ReactiveSeq#retry(Function, RetryPolicy, ScheduledExecutorService)
+     *
+     * @param fn Function to retry if fails
+     * @param policy Backoff, jitter, retry limit and retry-on settings
+     * @param ex ScheduledExecutorService used to schedule retries
+     * @return FutureStream with the results of the transformation
+     */
+    @Override
+    default <R> FutureStream<R> retry(final Function<? super U, ? extends R> fn, final RetryPolicy policy, final ScheduledExecutorService ex) {
+        return (FutureStream<R>) LazySimpleReactStream.super.flatMapToCompletableFuture(t -> policy.retry(fn, t, ex)
+                                                                                                  .getFuture());
+    }
+
+    /**
+     * The number of elements in flight is governed by this FutureStream's MaxActive settings, maxConcurrency is ignored
+     *
+     * @see FutureStream#retry(Function, RetryPolicy, ScheduledExecutorService)
+     */
+    @Override
+    default <R> FutureStream<R> retry(final Function<? super U, ? extends R> fn, final RetryPolicy policy, final ScheduledExecutorService ex,
+                                      final int maxConcurrency) {
+        return retry(fn, policy, ex);
+    }
+
 
     @Override
     default FutureStream<ReactiveSeq<U>> combinations(final int size) {
@@ -1544,6 +1573,38 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
         return fromStream(Streams.xPer(stream(),x, time, unit));
     }
 
+    /**
+     * Limit the rate of emission to the permits available from the supplied RateLimiter, without blocking a task executor thread
+     * while waiting for a permit.
+     *
+     * @see ReactiveSeq#rateLimit(RateLimiter, ScheduledExecutorService)
+     *
+     * @param limiter RateLimiter to acquire a permit from for each element
+     * @param ex ScheduledExecutorService used to resume emission once a permit is available
+     * @return FutureStream with emissions limited by the RateLimiter
+     */
+    @Override
+    default FutureStream<U> rateLimit(final RateLimiter limiter, final ScheduledExecutorService ex) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .rateLimit(limiter, ex));
+    }
+
+    /**
+     * @see ReactiveSeq#onePer(long, TimeUnit, ScheduledExecutorService)
+     */
+    @Override
+    default FutureStream<U> onePer(final long time, final TimeUnit unit, final ScheduledExecutorService ex) {
+        return rateLimit(RateLimiter.of(1, time, unit), ex);
+    }
+
+    /**
+     * @see ReactiveSeq#xPer(int, long, TimeUnit, ScheduledExecutorService)
+     */
+    @Override
+    default FutureStream<U> xPer(final int x, final long time, final TimeUnit unit, final ScheduledExecutorService ex) {
+        return rateLimit(RateLimiter.of(x, time, unit), ex);
+    }
+
     /**
      * Organise elements in a Stream into a Collections based on the time period
      * they pass through this stage
@@ -2106,6 +2167,38 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
                                    .distinct());
     }
 
+    /*
+     * @see cyclops2.reactiveStream.ReactiveSeq#distinctWindowed(int)
+     */
+    @Override
+    default FutureStream<U> distinctWindowed(final int maxSize) {
+        return fromStream(stream().distinctWindowed(maxSize));
+    }
+
+    /*
+     * @see cyclops2.reactiveStream.ReactiveSeq#distinctWindowed(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    default FutureStream<U> distinctWindowed(final long time, final TimeUnit unit) {
+        return fromStream(stream().distinctWindowed(time, unit));
+    }
+
+    /*
+     * @see cyclops2.reactiveStream.ReactiveSeq#distinctWindowed(int, long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    default FutureStream<U> distinctWindowed(final int maxSize, final long time, final TimeUnit unit) {
+        return fromStream(stream().distinctWindowed(maxSize, time, unit));
+    }
+
+    /*
+     * @see cyclops2.reactiveStream.ReactiveSeq#distinctApproximate(long, double)
+     */
+    @Override
+    default FutureStream<U> distinctApproximate(final long expectedInsertions, final double falsePositiveRate) {
+        return fromStream(stream().distinctApproximate(expectedInsertions, falsePositiveRate));
+    }
+
     /**
      * Create a sliding view over this Stream
      *
@@ -2159,6 +2252,24 @@ public interface FutureStream<U> extends LazySimpleReactStream<U>,
 
     }
 
+    /*
+     * @see cyclops2.reactiveStream.ReactiveSeq#slidingReduce(int, cyclops.function.Monoid)
+     */
+    @Override
+    default FutureStream<U> slidingReduce(final int size, final Monoid<U> monoid) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .slidingReduce(size, monoid));
+    }
+
+    /*
+     * @see cyclops2.reactiveStream.ReactiveSeq#slidingReduce(int, cyclops.function.Monoid, java.util.function.BinaryOperator)
+     */
+    @Override
+    default FutureStream<U> slidingReduce(final int size, final Monoid<U> monoid, final BinaryOperator<U> inverse) {
+        return fromStream(ReactiveSeq.oneShotStream(stream())
+                                     .slidingReduce(size, monoid, inverse));
+    }
+
 
 
     /*
@@ -0,0 +1,349 @@
+package cyclops.stream;
+
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import com.aol.cyclops2.internal.stream.ReactiveStreamX;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntArrayOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntBoxingOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntFilterOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntGroupingOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntLimitOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntMapOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntRangeOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntScanLeftOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntSkipOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.IntSpliteratorOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+/**
+ * A sequential, push based Stream of int values.
+ *
+ * Unlike {@link ReactiveSeq#ofInts(int...)} and friends, which box each value into a {@code ReactiveSeq<Integer>} between
+ * stages, an IntReactiveSeq is built from int specialised push Operators and values remain unboxed across map / filter /
+ * scanLeft / limit / skip / grouped stages and terminal folds. Values are only boxed on explicit conversion via
+ * {@link #boxed()} or {@link #mapToObj(IntFunction)}.
+ *
+ * Like ReactiveSeq, an IntReactiveSeq is lazy and may be replayed (each terminal operation reruns the pipeline). The
+ * exception is an IntReactiveSeq created directly from an IntStream via {@link #fromStream(IntStream)}, which, like the IntStream
+ * itself, can only be traversed once.
+ *
+ * <pre>
+ * {@code
+ *   int sum = IntReactiveSeq.of(1,2,3)
+ *                          .map(i->i*2)
+ *                          .filter(i->i>2)
+ *                          .sum();
+ * }
+ * </pre>
+ */
+public final class IntReactiveSeq {
+
+    private static final Consumer<Throwable> RETHROW = e -> {
+        throw ExceptionSoftener.throwSoftenedException(e);
+    };
+
+    private final IntOperator source;
+
+    private IntReactiveSeq(final IntOperator source) {
+        this.source = source;
+    }
+
+    /**
+     * @return An empty IntReactiveSeq
+     */
+    public static IntReactiveSeq empty() {
+        return of();
+    }
+
+    /**
+     * @param values int values to emit
+     * @return IntReactiveSeq of the supplied values
+     */
+    public static IntReactiveSeq of(final int... values) {
+        return new IntReactiveSeq(
+                                 new IntArrayOperator(values));
+    }
+
+    /**
+     * Create an IntReactiveSeq of the int values from start (inclusive) to end (exclusive)
+     *
+     * @param start Start of range (inclusive)
+     * @param end End of range (exclusive)
+     * @return IntReactiveSeq of the range
+     */
+    public static IntReactiveSeq range(final int start, final int end) {
+        return new IntReactiveSeq(
+                                 new IntRangeOperator(start, end));
+    }
+
+    /**
+     * Create an infinite IntReactiveSeq by repeatedly applying the supplied function, starting with the seed
+     *
+     * @param seed Initial value
+     * @param f Function to generate the next value from the previous one
+     * @return Infinite IntReactiveSeq
+     */
+    public static IntReactiveSeq iterate(final int seed, final IntUnaryOperator f) {
+        return fromStream(() -> IntStream.iterate(seed, f));
+    }
+
+    /**
+     * Construct an IntReactiveSeq from an IntStream, values are advanced from the IntStream's Spliterator without boxing.
+     * As an IntStream can only be traversed once, so can the resulting IntReactiveSeq, see {@link #fromStream(Supplier)}
+     * for a replayable alternative.
+     *
+     * @param stream IntStream to convert
+     * @return IntReactiveSeq of the IntStream's values
+     */
+    public static IntReactiveSeq fromStream(final IntStream stream) {
+        final Spliterator.OfInt split = stream.spliterator();
+        return new IntReactiveSeq(
+                                 new IntSpliteratorOperator(() -> split));
+    }
+
+    /**
+     * Construct an IntReactiveSeq from the IntStreams created by the supplied Supplier. A new IntStream is created for each
+     * terminal operation, so the resulting IntReactiveSeq may be replayed.
+     *
+     * @param streams Supplier of the IntStreams to convert
+     * @return IntReactiveSeq of the supplied IntStreams' values
+     */
+    public static IntReactiveSeq fromStream(final Supplier<? extends IntStream> streams) {
+        return new IntReactiveSeq(
+                                 new IntSpliteratorOperator(() -> streams.get().spliterator()));
+    }
+
+    /**
+     * @param mapper Function to transform each value
+     * @return IntReactiveSeq of transformed values
+     */
+    public IntReactiveSeq map(final IntUnaryOperator mapper) {
+        if (source instanceof IntMapOperator)
+            return new IntReactiveSeq(
+                                     ((IntMapOperator) source).compose(mapper));
+        return new IntReactiveSeq(
+                                 new IntMapOperator(source, mapper));
+    }
+
+    /**
+     * @param predicate Values that do not match the predicate are removed
+     * @return Filtered IntReactiveSeq
+     */
+    public IntReactiveSeq filter(final IntPredicate predicate) {
+        return new IntReactiveSeq(
+                                 new IntFilterOperator(source, predicate));
+    }
+
+    /**
+     * @param consumer Consumer to be called with each value as it passes through the Stream
+     * @return IntReactiveSeq of the same values
+     */
+    public IntReactiveSeq peek(final IntConsumer consumer) {
+        return map(i -> {
+            consumer.accept(i);
+            return i;
+        });
+    }
+
+    /**
+     * Scan left, emitting the seed followed by each intermediate result (consistent with {@link ReactiveSeq#scanLeft(Object, java.util.function.BiFunction)})
+     *
+     * <pre>
+     * {@code
+     *   IntReactiveSeq.of(1,2,3)
+     *                .scanLeft(0,(a,b)->a+b)
+     *   //[0,1,3,6]
+     * }
+     * </pre>
+     *
+     * @param seed Initial value
+     * @param accumulator Function to combine the running result with the next value
+     * @return IntReactiveSeq of intermediate results
+     */
+    public IntReactiveSeq scanLeft(final int seed, final IntBinaryOperator accumulator) {
+        return new IntReactiveSeq(
+                                 new IntScanLeftOperator(source, seed, accumulator));
+    }
+
+    /**
+     * @param num Maximum number of values to emit
+     * @return IntReactiveSeq limited to num values
+     */
+    public IntReactiveSeq limit(final long num) {
+        return new IntReactiveSeq(
+                                 new IntLimitOperator(source, num));
+    }
+
+    /**
+     * @param num Number of values to skip
+     * @return IntReactiveSeq without the first num values
+     */
+    public IntReactiveSeq skip(final long num) {
+        return new IntReactiveSeq(
+                                 new IntSkipOperator(source, num));
+    }
+
+    /**
+     * Group values into int[] arrays of the specified size (the last group may be smaller)
+     *
+     * @param groupSize Size of each group
+     * @return ReactiveSeq of int arrays
+     */
+    public ReactiveSeq<int[]> grouped(final int groupSize) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException(
+                                               "Batch size must be 1 or more");
+        return new ReactiveStreamX<>(
+                                     new IntGroupingOperator(source, groupSize));
+    }
+
+    /**
+     * Convert to a ReactiveSeq, this is the point at which values are boxed
+     *
+     * @param mapper Function to transform each value into an Object
+     * @return ReactiveSeq of transformed values
+     */
+    public <R> ReactiveSeq<R> mapToObj(final IntFunction<? extends R> mapper) {
+        return new ReactiveStreamX<>(
+                                     new IntBoxingOperator<R>(source, mapper));
+    }
+
+    /**
+     * @return A ReactiveSeq of boxed values
+     */
+    public ReactiveSeq<Integer> boxed() {
+        return mapToObj(i -> i);
+    }
+
+    /**
+     * Perform the supplied action on each value, errors are rethrown
+     *
+     * @param action Action to perform
+     */
+    public void forEach(final IntConsumer action) {
+        source.subscribeAll(action, RETHROW, () -> {
+        });
+    }
+
+    /**
+     * @param identity Initial value
+     * @param accumulator Function to combine values
+     * @return Result of folding all values from the left
+     */
+    public int foldLeft(final int identity, final IntBinaryOperator accumulator) {
+        final int[] result = { identity };
+        forEach(e -> result[0] = accumulator.applyAsInt(result[0], e));
+        return result[0];
+    }
+
+    /**
+     * @param accumulator Function to combine values
+     * @return Result of reducing all values, or empty if there are none
+     */
+    public OptionalInt reduce(final IntBinaryOperator accumulator) {
+        final int[] result = { 0 };
+        final boolean[] found = { false };
+        forEach(e -> {
+            if (found[0]) {
+                result[0] = accumulator.applyAsInt(result[0], e);
+            } else {
+                found[0] = true;
+                result[0] = e;
+            }
+        });
+        return found[0] ? OptionalInt.of(result[0]) : OptionalInt.empty();
+    }
+
+    /**
+     * @return Sum of all values
+     */
+    public int sum() {
+        return foldLeft(0, Integer::sum);
+    }
+
+    /**
+     * @return Number of values
+     */
+    public long count() {
+        final long[] count = { 0 };
+        forEach(e -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * @return Smallest value, or empty if there are none
+     */
+    public OptionalInt min() {
+        return reduce(Math::min);
+    }
+
+    /**
+     * @return Largest value, or empty if there are none
+     */
+    public OptionalInt max() {
+        return reduce(Math::max);
+    }
+
+    /**
+     * @return The average of the values in this IntReactiveSeq, or empty if there are none
+     */
+    public OptionalDouble average() {
+        final IntSummaryStatistics stats = summaryStatistics();
+        return stats.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(stats.getAverage());
+    }
+
+    /**
+     * @return Count, sum, min, max and average of the values in this IntReactiveSeq
+     */
+    public IntSummaryStatistics summaryStatistics() {
+        final IntSummaryStatistics stats = new IntSummaryStatistics();
+        forEach(stats);
+        return stats;
+    }
+
+    /**
+     * Find the first value, no further values are requested from upstream once it has been found
+     *
+     * @return First value, or empty if there are none
+     */
+    public OptionalInt findFirst() {
+        final OptionalInt[] result = { OptionalInt.empty() };
+        final StreamSubscription[] sub = { null };
+        sub[0] = source.subscribe(e -> {
+            result[0] = OptionalInt.of(e);
+            sub[0].cancel();
+        } , RETHROW, () -> {
+        });
+        sub[0].request(1l);
+        return result[0];
+    }
+
+    /**
+     * @return An int array of all values
+     */
+    public int[] toArray() {
+        final int[][] buffer = { new int[16] };
+        final int[] size = { 0 };
+        forEach(e -> {
+            if (size[0] == buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+            buffer[0][size[0]++] = e;
+        });
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+}
@@ -0,0 +1,349 @@
+package cyclops.stream;
+
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import com.aol.cyclops2.internal.stream.ReactiveStreamX;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongArrayOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongBoxingOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongFilterOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongGroupingOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongLimitOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongMapOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongRangeOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongScanLeftOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongSkipOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.LongSpliteratorOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+import com.aol.cyclops2.util.ExceptionSoftener;
+
+/**
+ * A sequential, push based Stream of long values.
+ *
+ * Unlike {@link ReactiveSeq#ofLongs(long...)} and friends, which box each value into a {@code ReactiveSeq<Long>} between
+ * stages, a LongReactiveSeq is built from long specialised push Operators and values remain unboxed across map / filter /
+ * scanLeft / limit / skip / grouped stages and terminal folds. Values are only boxed on explicit conversion via
+ * {@link #boxed()} or {@link #mapToObj(LongFunction)}.
+ *
+ * Like ReactiveSeq, a LongReactiveSeq is lazy and may be replayed (each terminal operation reruns the pipeline). The
+ * exception is a LongReactiveSeq created directly from a LongStream via {@link #fromStream(LongStream)}, which, like the LongStream
+ * itself, can only be traversed once.
+ *
+ * <pre>
+ * {@code
+ *   long sum = LongReactiveSeq.of(1l,2l,3l)
+ *                          .map(i->i*2)
+ *                          .filter(i->i>2)
+ *                          .sum();
+ * }
+ * </pre>
+ */
+public final class LongReactiveSeq {
+
+    private static final Consumer<Throwable> RETHROW = e -> {
+        throw ExceptionSoftener.throwSoftenedException(e);
+    };
+
+    private final LongOperator source;
+
+    private LongReactiveSeq(final LongOperator source) {
+        this.source = source;
+    }
+
+    /**
+     * @return An empty LongReactiveSeq
+     */
+    public static LongReactiveSeq empty() {
+        return of();
+    }
+
+    /**
+     * @param values long values to emit
+     * @return LongReactiveSeq of the supplied values
+     */
+    public static LongReactiveSeq of(final long... values) {
+        return new LongReactiveSeq(
+                                 new LongArrayOperator(values));
+    }
+
+    /**
+     * Create a LongReactiveSeq of the long values from start (inclusive) to end (exclusive)
+     *
+     * @param start Start of range (inclusive)
+     * @param end End of range (exclusive)
+     * @return LongReactiveSeq of the range
+     */
+    public static LongReactiveSeq range(final long start, final long end) {
+        return new LongReactiveSeq(
+                                 new LongRangeOperator(start, end));
+    }
+
+    /**
+     * Create an infinite LongReactiveSeq by repeatedly applying the supplied function, starting with the seed
+     *
+     * @param seed Initial value
+     * @param f Function to generate the next value from the previous one
+     * @return Infinite LongReactiveSeq
+     */
+    public static LongReactiveSeq iterate(final long seed, final LongUnaryOperator f) {
+        return fromStream(() -> LongStream.iterate(seed, f));
+    }
+
+    /**
+     * Construct a LongReactiveSeq from a LongStream, values are advanced from the LongStream's Spliterator without boxing.
+     * As a LongStream can only be traversed once, so can the resulting LongReactiveSeq, see {@link #fromStream(Supplier)}
+     * for a replayable alternative.
+     *
+     * @param stream LongStream to convert
+     * @return LongReactiveSeq of the LongStream's values
+     */
+    public static LongReactiveSeq fromStream(final LongStream stream) {
+        final Spliterator.OfLong split = stream.spliterator();
+        return new LongReactiveSeq(
+                                 new LongSpliteratorOperator(() -> split));
+    }
+
+    /**
+     * Construct a LongReactiveSeq from the LongStreams created by the supplied Supplier. A new LongStream is created for each
+     * terminal operation, so the resulting LongReactiveSeq may be replayed.
+     *
+     * @param streams Supplier of the LongStreams to convert
+     * @return LongReactiveSeq of the supplied LongStreams' values
+     */
+    public static LongReactiveSeq fromStream(final Supplier<? extends LongStream> streams) {
+        return new LongReactiveSeq(
+                                 new LongSpliteratorOperator(() -> streams.get().spliterator()));
+    }
+
+    /**
+     * @param mapper Function to transform each value
+     * @return LongReactiveSeq of transformed values
+     */
+    public LongReactiveSeq map(final LongUnaryOperator mapper) {
+        if (source instanceof LongMapOperator)
+            return new LongReactiveSeq(
+                                     ((LongMapOperator) source).compose(mapper));
+        return new LongReactiveSeq(
+                                 new LongMapOperator(source, mapper));
+    }
+
+    /**
+     * @param predicate Values that do not match the predicate are removed
+     * @return Filtered LongReactiveSeq
+     */
+    public LongReactiveSeq filter(final LongPredicate predicate) {
+        return new LongReactiveSeq(
+                                 new LongFilterOperator(source, predicate));
+    }
+
+    /**
+     * @param consumer Consumer to be called with each value as it passes through the Stream
+     * @return LongReactiveSeq of the same values
+     */
+    public LongReactiveSeq peek(final LongConsumer consumer) {
+        return map(i -> {
+            consumer.accept(i);
+            return i;
+        });
+    }
+
+    /**
+     * Scan left, emitting the seed followed by each intermediate result (consistent with {@link ReactiveSeq#scanLeft(Object, java.util.function.BiFunction)})
+     *
+     * <pre>
+     * {@code
+     *   LongReactiveSeq.of(1l,2l,3l)
+     *                .scanLeft(0l,(a,b)->a+b)
+     *   //[0,1,3,6]
+     * }
+     * </pre>
+     *
+     * @param seed Initial value
+     * @param accumulator Function to combine the running result with the next value
+     * @return LongReactiveSeq of intermediate results
+     */
+    public LongReactiveSeq scanLeft(final long seed, final LongBinaryOperator accumulator) {
+        return new LongReactiveSeq(
+                                 new LongScanLeftOperator(source, seed, accumulator));
+    }
+
+    /**
+     * @param num Maximum number of values to emit
+     * @return LongReactiveSeq limited to num values
+     */
+    public LongReactiveSeq limit(final long num) {
+        return new LongReactiveSeq(
+                                 new LongLimitOperator(source, num));
+    }
+
+    /**
+     * @param num Number of values to skip
+     * @return LongReactiveSeq without the first num values
+     */
+    public LongReactiveSeq skip(final long num) {
+        return new LongReactiveSeq(
+                                 new LongSkipOperator(source, num));
+    }
+
+    /**
+     * Group values into long[] arrays of the specified size (the last group may be smaller)
+     *
+     * @param groupSize Size of each group
+     * @return ReactiveSeq of long arrays
+     */
+    public ReactiveSeq<long[]> grouped(final int groupSize) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException(
+                                               "Batch size must be 1 or more");
+        return new ReactiveStreamX<>(
+                                     new LongGroupingOperator(source, groupSize));
+    }
+
+    /**
+     * Convert to a ReactiveSeq, this is the point at which values are boxed
+     *
+     * @param mapper Function to transform each value into an Object
+     * @return ReactiveSeq of transformed values
+     */
+    public <R> ReactiveSeq<R> mapToObj(final LongFunction<? extends R> mapper) {
+        return new ReactiveStreamX<>(
+                                     new LongBoxingOperator<R>(source, mapper));
+    }
+
+    /**
+     * @return A ReactiveSeq of boxed values
+     */
+    public ReactiveSeq<Long> boxed() {
+        return mapToObj(i -> i);
+    }
+
+    /**
+     * Perform the supplied action on each value, errors are rethrown
+     *
+     * @param action Action to perform
+     */
+    public void forEach(final LongConsumer action) {
+        source.subscribeAll(action, RETHROW, () -> {
+        });
+    }
+
+    /**
+     * @param identity Initial value
+     * @param accumulator Function to combine values
+     * @return Result of folding all values from the left
+     */
+    public long foldLeft(final long identity, final LongBinaryOperator accumulator) {
+        final long[] result = { identity };
+        forEach(e -> result[0] = accumulator.applyAsLong(result[0], e));
+        return result[0];
+    }
+
+    /**
+     * @param accumulator Function to combine values
+     * @return Result of reducing all values, or empty if there are none
+     */
+    public OptionalLong reduce(final LongBinaryOperator accumulator) {
+        final long[] result = { 0l };
+        final boolean[] found = { false };
+        forEach(e -> {
+            if (found[0]) {
+                result[0] = accumulator.applyAsLong(result[0], e);
+            } else {
+                found[0] = true;
+                result[0] = e;
+            }
+        });
+        return found[0] ? OptionalLong.of(result[0]) : OptionalLong.empty();
+    }
+
+    /**
+     * @return Sum of all values
+     */
+    public long sum() {
+        return foldLeft(0l, Long::sum);
+    }
+
+    /**
+     * @return Number of values
+     */
+    public long count() {
+        final long[] count = { 0 };
+        forEach(e -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * @return Smallest value, or empty if there are none
+     */
+    public OptionalLong min() {
+        return reduce(Math::min);
+    }
+
+    /**
+     * @return Largest value, or empty if there are none
+     */
+    public OptionalLong max() {
+        return reduce(Math::max);
+    }
+
+    /**
+     * @return The average of the values in this LongReactiveSeq, or empty if there are none
+     */
+    public OptionalDouble average() {
+        final LongSummaryStatistics stats = summaryStatistics();
+        return stats.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(stats.getAverage());
+    }
+
+    /**
+     * @return Count, sum, min, max and average of the values in this LongReactiveSeq
+     */
+    public LongSummaryStatistics summaryStatistics() {
+        final LongSummaryStatistics stats = new LongSummaryStatistics();
+        forEach(stats);
+        return stats;
+    }
+
+    /**
+     * Find the first value, no further values are requested from upstream once it has been found
+     *
+     * @return First value, or empty if there are none
+     */
+    public OptionalLong findFirst() {
+        final OptionalLong[] result = { OptionalLong.empty() };
+        final StreamSubscription[] sub = { null };
+        sub[0] = source.subscribe(e -> {
+            result[0] = OptionalLong.of(e);
+            sub[0].cancel();
+        } , RETHROW, () -> {
+        });
+        sub[0].request(1l);
+        return result[0];
+    }
+
+    /**
+     * @return A long array of all values
+     */
+    public long[] toArray() {
+        final long[][] buffer = { new long[16] };
+        final int[] size = { 0 };
+        forEach(e -> {
+            if (size[0] == buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+            buffer[0][size[0]++] = e;
+        });
+        return Arrays.copyOf(buffer[0], size[0]);
+    }
+
+}
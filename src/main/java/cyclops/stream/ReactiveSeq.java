@@ -3,6 +3,7 @@ package cyclops.stream;
 
 import com.aol.cyclops2.data.collections.extensions.CollectionX;
 import com.aol.cyclops2.hkt.Higher;
+import com.aol.cyclops2.internal.stream.ChunkedParallelFold;
 import com.aol.cyclops2.internal.stream.OneShotStreamX;
 import com.aol.cyclops2.internal.stream.ReactiveSeqFutureOpterationsImpl;
 import com.aol.cyclops2.internal.stream.spliterators.*;
@@ -185,6 +186,8 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     }
 
     /**
+     * Note values are boxed, see {@link IntReactiveSeq} for a Stream of ints that remains unboxed across operations
+     *
      * @param values ints to populate Stream from
      * @return ReactiveSeq of multiple Integers
      */
@@ -307,6 +310,7 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     }
 
        /**
+     * Note values are boxed, see {@link LongReactiveSeq} for a Stream of longs that remains unboxed across operations
      *
      * @param values longs to populate Stream from
      * @return ReactiveSeq of multiple Longs
@@ -431,9 +435,10 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     }
 
     /**
+     * Note values are boxed, see {@link DoubleReactiveSeq} for a Stream of doubles that remains unboxed across operations
      *
-     * @param values longs to populate Stream from
-     * @return ReactiveSeq of multiple Longs
+     * @param values doubles to populate Stream from
+     * @return ReactiveSeq of multiple Doubles
      */
     public static ReactiveSeq<Double> ofDoubles(double... values){
         return fromSpliterator(new ReversingDoubleArraySpliterator<>(values,0,values.length,false));
@@ -821,6 +826,46 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * Perform a parallel fold over this Stream in fixed size chunks. This Stream is split into array backed chunks (on the
+     * calling thread), each chunk is folded as a single task on the common ForkJoinPool and the partial results combined.
+     * This avoids the per element handoff of {@link ReactiveSeq#foldParallel(Function)} and is better suited to CPU heavy
+     * workloads.
+     *
+     * <pre>
+     * {@code
+     *   double total = ReactiveSeq.range(0,1_000_000)
+     *                             .foldParallel(1024,false,s->s.mapToDouble(this::expensive)
+     *                                                         .sum(),Double::sum);
+     * }
+     * </pre>
+     *
+     * @param chunkSize Number of elements per chunk
+     * @param ordered true to combine partial results in encounter order, false to combine them as soon as they are available
+     * @param fn Function that folds a single chunk, it must consume the Stream before returning
+     * @param combiner Combines partial results
+     * @return Result of the fold
+     */
+    default <R> R foldParallel(int chunkSize, boolean ordered, Function<? super Stream<T>,? extends R> fn, BinaryOperator<R> combiner){
+        return foldParallel(ForkJoinPool.commonPool(),chunkSize,ordered,fn,combiner);
+    }
+
+    /**
+     * Perform a parallel fold over this Stream in fixed size chunks, on the supplied ForkJoinPool
+     *
+     * @see ReactiveSeq#foldParallel(int, boolean, Function, BinaryOperator)
+     * @param fj ForkJoinPool to fold chunks on
+     * @param chunkSize Number of elements per chunk
+     * @param ordered true to combine partial results in encounter order, false to combine them as soon as they are available
+     * @param fn Function that folds a single chunk, it must consume the Stream before returning
+     * @param combiner Combines partial results
+     * @return Result of the fold
+     */
+    default <R> R foldParallel(ForkJoinPool fj,int chunkSize, boolean ordered, Function<? super Stream<T>,? extends R> fn,
+                               BinaryOperator<R> combiner){
+        return new ChunkedParallelFold<T,R>(this.spliterator(),fj,chunkSize,ordered,fn,combiner).fold();
+    }
+
 
     /* (non-Javadoc)
      * @see org.jooq.lambda.Seq#foldRight(java.lang.Object, java.util.function.BiFunction)
@@ -858,6 +903,32 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     <U, R> ReactiveSeq<R> zipS(final Stream<? extends U> other, final BiFunction<? super T, ? super U, ? extends R> zipper);
 
+    /**
+     * Zip this Stream with another, configuring how many elements may be buffered from either side while waiting for the other.
+     * The buffer is only used when one of the Streams is asynchronous (e.g. created via Spouts.async or Spouts.from) -
+     * synchronous Streams are zipped in lock-step and pull one element at a time from each side.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.of(1,2,3)
+     *        .zipS(Spouts.from(publisher),(a,b)->a+b,256)
+     *        .toListX();
+     * }
+     * </pre>
+     *
+     * The default implementation ignores prefetch and delegates to {@link #zipS(Stream, BiFunction)}, only push based
+     * (reactive-streams) implementations buffer while zipping. Pull based ReactiveSeqs advance both sides together and
+     * never buffer.
+     *
+     * @param other Stream to zip with
+     * @param zipper Function to combine elements from each Stream
+     * @param prefetch Maximum number of elements buffered from either side for asynchronous Streams
+     * @return Zipped Stream
+     */
+    default <U, R> ReactiveSeq<R> zipS(final Stream<? extends U> other, final BiFunction<? super T, ? super U, ? extends R> zipper, final int prefetch){
+        return zipS(other,zipper);
+    }
+
 
 
     /**
@@ -1262,6 +1333,49 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<PVectorX<T>> sliding(int windowSize, int increment);
 
+    /**
+     * Reduce each sliding window (of windowSize, moving forward 1 element at a time) using the supplied Monoid,
+     * without materializing the windows. Each element is combined a constant number of times (amortized), regardless of the
+     * window size. If this Stream has fewer elements than windowSize, a single reduction of all elements is emitted.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5)
+     *             .slidingReduce(3, Monoids.intSum)
+     *             .toList();
+     *
+     *  //[6, 9, 12]
+     * }
+     * </pre>
+     *
+     * @param windowSize Size of the sliding window
+     * @param monoid Monoid used to reduce each window
+     * @return ReactiveSeq with the reduction of each window
+     */
+    ReactiveSeq<T> slidingReduce(int windowSize, Monoid<T> monoid);
+
+    /**
+     * Reduce each sliding window (of windowSize, moving forward 1 element at a time) using the supplied Monoid,
+     * keeping a running aggregate that elements leaving the window are removed from via the supplied inverse function -
+     * O(1) per element.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1, 2, 3, 4, 5)
+     *             .slidingReduce(3, Monoids.intSum, (total, removed) -> total - removed)
+     *             .toList();
+     *
+     *  //[6, 9, 12]
+     * }
+     * </pre>
+     *
+     * @param windowSize Size of the sliding window
+     * @param monoid Monoid used to add elements to the running aggregate
+     * @param inverse Function that removes an element (second parameter) from the running aggregate (first parameter)
+     * @return ReactiveSeq with the reduction of each window
+     */
+    ReactiveSeq<T> slidingReduce(int windowSize, Monoid<T> monoid, BinaryOperator<T> inverse);
+
     /**
      * Group elements in a Stream
      *
@@ -1403,6 +1517,64 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     <C extends Collection<? super T>> ReactiveSeq<C> groupedByTime(long time, TimeUnit unit, Supplier<C> factory);
 
+    /**
+     * Batch elements by size and time, using the supplied ScheduledExecutorService to emit a partially filled batch
+     * as soon as its time period has elapsed (even if no further elements arrive). The time period for a batch
+     * starts when its first element arrives.
+     *
+     * <pre>
+     * {@code
+     *   Spouts.async(sparseEvents)
+     *         .groupedBySizeAndTime(100,10,TimeUnit.MILLISECONDS,Executors.newScheduledThreadPool(1))
+     *         .forEach(this::write);
+     *
+     *   //batches of up to 100 elements, written at most 10ms after the first element in the batch arrived
+     * }
+     * </pre>
+     *
+     * @param size Max size of a batch
+     * @param time Max time period to build a single batch in
+     * @param t time unit for batch
+     * @param ex ScheduledExecutorService used to flush batches when their time period elapses
+     * @return ReactiveSeq batched by size and time
+     */
+    default ReactiveSeq<ListX<T>> groupedBySizeAndTime(int size, long time, TimeUnit t, ScheduledExecutorService ex){
+        return groupedBySizeAndTime(size,time,t,ex,()->ListX.fromIterable(new ArrayList<>(size)),Function.identity());
+    }
+
+    /**
+     * Batch elements by size and time into collections created by the supplied factory, using the supplied ScheduledExecutorService
+     * to emit a partially filled batch as soon as its time period has elapsed.
+     *
+     * Pull based Streams are converted to push based Streams (via Spouts#from) so that batches can be emitted from the timer.
+     *
+     * @see ReactiveSeq#groupedBySizeAndTime(int, long, TimeUnit, ScheduledExecutorService)
+     * @param size Max size of a batch
+     * @param time Max time period to build a single batch in
+     * @param unit time unit for batch
+     * @param ex ScheduledExecutorService used to flush batches when their time period elapses
+     * @param factory Collection factory
+     * @param finalizer Function to convert each completed collection
+     * @return ReactiveSeq batched by size and time
+     */
+    default <C extends Collection<? super T>,R> ReactiveSeq<R> groupedBySizeAndTime(int size, long time, TimeUnit unit, ScheduledExecutorService ex,
+                                                                                    Supplier<C> factory, Function<? super C, ? extends R> finalizer){
+        return Spouts.from(this).groupedBySizeAndTime(size,time,unit,ex,factory,finalizer);
+    }
+
+    /**
+     * Batch elements by time, using the supplied ScheduledExecutorService to emit the current batch as soon as its time period
+     * has elapsed (even if no further elements arrive). The time period for a batch starts when its first element arrives.
+     *
+     * @param time Time period to build a single batch in
+     * @param t time unit for batch
+     * @param ex ScheduledExecutorService used to flush batches when their time period elapses
+     * @return ReactiveSeq batched into lists by time period
+     */
+    default ReactiveSeq<ListX<T>> groupedByTime(long time, TimeUnit t, ScheduledExecutorService ex){
+        return groupedBySizeAndTime(Integer.MAX_VALUE,time,t,ex,()->ListX.fromIterable(new ArrayList<>(100)),Function.identity());
+    }
+
     /**
      * Batch elements in a Stream by size into a collection created by the
      * supplied factory
@@ -1561,6 +1733,79 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
     @Override
     ReactiveSeq<T> distinct();
 
+    /**
+     * Remove duplicates within a sliding window of the most recently seen distinct elements, suitable for infinite Streams.
+     * Memory use is bounded by maxSize, once more than maxSize distinct elements have been seen the least recently seen
+     * is forgotten (and will be emitted again if it reappears).
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1,2,1,3,1,2)
+     *             .distinctWindowed(2)
+     *             .toList();
+     *  //[1,2,3,2]
+     * }
+     * </pre>
+     *
+     * @param maxSize Maximum number of distinct elements to remember
+     * @return ReactiveSeq with duplicates within the window removed
+     */
+    ReactiveSeq<T> distinctWindowed(int maxSize);
+
+    /**
+     * Remove elements that have already been seen within the specified time period, suitable for infinite Streams.
+     * An element is forgotten once it has not been seen for the time period (and will be emitted again if it reappears).
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.of(1,2,1,3,1,2)
+     *             .distinctWindowed(1,TimeUnit.SECONDS)
+     *             .toList();
+     *  //[1,2,3]
+     * }
+     * </pre>
+     *
+     * @param time Time period to remember elements for
+     * @param unit Time unit for the time period
+     * @return ReactiveSeq with duplicates within the time window removed
+     */
+    ReactiveSeq<T> distinctWindowed(long time, TimeUnit unit);
+
+    /**
+     * Remove duplicates seen within the specified time period, remembering at most maxSize distinct elements at any one time
+     *
+     * @see #distinctWindowed(int)
+     * @see #distinctWindowed(long, TimeUnit)
+     *
+     * @param maxSize Maximum number of distinct elements to remember
+     * @param time Time period to remember elements for
+     * @param unit Time unit for the time period
+     * @return ReactiveSeq with duplicates within the window removed
+     */
+    ReactiveSeq<T> distinctWindowed(int maxSize, long time, TimeUnit unit);
+
+    /**
+     * Remove duplicates using a fixed size Bloom filter, suitable for very large or infinite Streams.
+     * Memory use is fixed up front by expectedInsertions and falsePositiveRate (roughly 9.6 bits per expected element at 1%).
+     * Duplicates are always removed, but distinct elements may also be dropped at (approximately) the false positive rate
+     * - this rate rises once more than expectedInsertions distinct elements have been seen.
+     *
+     * <pre>
+     * {@code
+     *  ReactiveSeq.range(0,1_000_000)
+     *             .map(i->i%1000)
+     *             .distinctApproximate(1000,0.01)
+     *             .count();
+     *  //~1000
+     * }
+     * </pre>
+     *
+     * @param expectedInsertions Number of distinct elements expected
+     * @param falsePositiveRate Acceptable rate at which distinct elements may be wrongly dropped (between 0 and 1)
+     * @return ReactiveSeq with duplicates removed
+     */
+    ReactiveSeq<T> distinctApproximate(long expectedInsertions, double falsePositiveRate);
+
     /**
      * Scan left using supplied Monoid
      *
@@ -3752,6 +3997,59 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
      */
     ReactiveSeq<T> fixedDelay(long l, TimeUnit unit);
 
+    /**
+     * Emit elements no faster than the supplied RateLimiter allows, without blocking. When no permit is available emission is
+     * rescheduled on the supplied ScheduledExecutorService (rather than parking the emitting thread). A RateLimiter may be shared
+     * across Streams to enforce a global rate, and exposes the number of permits used and requests throttled.
+     *
+     * Pull based Streams are converted to push based Streams (via Spouts#from) so that elements can be emitted from the timer.
+     *
+     * <pre>
+     * {@code
+     *   RateLimiter limiter = RateLimiter.of(100, 1, TimeUnit.SECONDS)
+     *                                    .withBurst(10);
+     *
+     *   ReactiveSeq.of(1,2,3,4,5,6)
+     *              .rateLimit(limiter, ex)
+     *              .forEach(this::send);
+     * }
+     * </pre>
+     *
+     * @param limiter Token bucket that controls the rate
+     * @param ex ScheduledExecutorService used to resume emission once a permit is available
+     * @return ReactiveSeq that emits elements at the rate allowed by the RateLimiter
+     */
+    default ReactiveSeq<T> rateLimit(RateLimiter limiter, ScheduledExecutorService ex){
+        return Spouts.from(this).rateLimit(limiter,ex);
+    }
+
+    /**
+     * Emit one element per time period, without blocking
+     *
+     * @see ReactiveSeq#rateLimit(RateLimiter, ScheduledExecutorService)
+     * @param time period
+     * @param t Time unit
+     * @param ex ScheduledExecutorService used to resume emission once the time period has elapsed
+     * @return ReactiveSeq that emits 1 element per time period
+     */
+    default ReactiveSeq<T> onePer(long time, TimeUnit t, ScheduledExecutorService ex){
+        return rateLimit(RateLimiter.of(1,time,t),ex);
+    }
+
+    /**
+     * Emit x elements per time period, without blocking. Up to x elements may be emitted in a single burst.
+     *
+     * @see ReactiveSeq#rateLimit(RateLimiter, ScheduledExecutorService)
+     * @param x number of elements to emit
+     * @param time period
+     * @param t Time unit
+     * @param ex ScheduledExecutorService used to resume emission once permits are available
+     * @return ReactiveSeq that emits x elements per time period
+     */
+    default ReactiveSeq<T> xPer(int x, long time, TimeUnit t, ScheduledExecutorService ex){
+        return rateLimit(RateLimiter.of(x,time,t),ex);
+    }
+
     /**
      * Introduce a random jitter / time delay between the emission of elements
      *
@@ -3877,6 +4175,45 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return (ReactiveSeq) FoldableTraversable.super.retry(fn, retries, delay, timeUnit);
     }
 
+    /**
+     * Retry a transformation if it fails, without blocking. Failed attempts are rescheduled on the supplied ScheduledExecutorService
+     * according to the RetryPolicy, while other elements continue to flow. Results are emitted as they complete, and so may
+     * arrive out of order. Up to 256 elements may be in the process of being retried at once.
+     *
+     * <pre>
+     * {@code
+     *   ReactiveSeq.of(1,2,3)
+     *              .retry(this::loadById, RetryPolicy.exponential(100, TimeUnit.MILLISECONDS)
+     *                                                .withJitter(0.2)
+     *                                                .retryOn(IOException.class), ex);
+     * }
+     * </pre>
+     *
+     * @param fn Function to retry if fails
+     * @param policy Backoff, jitter, retry limit and retry-on settings
+     * @param ex ScheduledExecutorService used to schedule retries
+     * @return ReactiveSeq with the results of the transformation, errors are propagated once the policy gives up on an element
+     */
+    default <R> ReactiveSeq<R> retry(final Function<? super T, ? extends R> fn, final RetryPolicy policy, final ScheduledExecutorService ex) {
+        return retry(fn, policy, ex, 256);
+    }
+
+    /**
+     * Retry a transformation if it fails, without blocking, with at most maxConcurrency elements being retried at once
+     *
+     * @see ReactiveSeq#retry(Function, RetryPolicy, ScheduledExecutorService)
+     *
+     * @param fn Function to retry if fails
+     * @param policy Backoff, jitter, retry limit and retry-on settings
+     * @param ex ScheduledExecutorService used to schedule retries
+     * @param maxConcurrency Maximum number of elements in flight
+     * @return ReactiveSeq with the results of the transformation
+     */
+    default <R> ReactiveSeq<R> retry(final Function<? super T, ? extends R> fn, final RetryPolicy policy, final ScheduledExecutorService ex,
+                                     final int maxConcurrency) {
+        return flatMapP(maxConcurrency, t -> policy.retry(fn, t, ex));
+    }
+
     /**
      * Remove all occurances of the specified element from the ReactiveSeq
      *
@@ -4652,6 +4989,28 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
         return Streams.toBufferingCopier(() -> iterator(),num,()->new ArrayDeque<T>(100))
                 .map(ReactiveSeq::fromIterable);
     }
+    /**
+     * Broadcast the contents of this Stream to multiple downstream Streams, buffering at most maxInMemory elements on the heap.
+     * The overflow policy determines what happens when a fast downstream Stream gets maxInMemory elements ahead of a slow one
+     * (block the fast Stream, drop the oldest elements or spill them to a memory mapped temporary file).
+     *
+     * <pre>
+     * {@code
+     *   ListX<ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,10_000_000)
+     *                                                   .multicast(2,1000, ReplayCache.Overflow.SPILL);
+     * }
+     * </pre>
+     *
+     * @see ReplayCache
+     * @param num Number of downstream Streams to multicast to
+     * @param maxInMemory Maximum number of elements held in memory
+     * @param overflow Policy to apply once maxInMemory elements are held (BLOCK requires the Streams to be consumed on separate threads)
+     * @return List of Streams that recieve data from this Stream, the cache (and any spill file) is released once all of them complete
+     */
+    default ListX<ReactiveSeq<T>> multicast(int num, int maxInMemory, ReplayCache.Overflow overflow){
+        return ReplayCache.of(this,maxInMemory,overflow)
+                          .copiesClosedOnCompletion(num);
+    }
     default <R1,R2,R3> ReactiveSeq<R3> fanOutZipIn(Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R1>> path1,
                                                     Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R2>> path2,
                                                      BiFunction<? super R1, ? super R2, ? extends R3> zipFn){
@@ -0,0 +1,518 @@
+package cyclops.stream;
+
+import com.aol.cyclops2.internal.stream.MappedSpillFile;
+import com.aol.cyclops2.internal.stream.StreamableImpl;
+import com.aol.cyclops2.util.ExceptionSoftener;
+import cyclops.collections.ListX;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread safe cache that records the elements of a single (one-shot) source, so that they can be replayed by any number of
+ * readers. Elements are pulled from the source by whichever reader is furthest ahead.
+ *
+ * At most maxInMemory elements are held on the heap, what happens to older elements once that bound is reached is determined
+ * by the {@link Overflow} policy
+ * <ul>
+ *     <li>BLOCK : the leading reader waits until every other reader has consumed the oldest element</li>
+ *     <li>DROP_OLDEST : the oldest element is discarded, readers that had not yet consumed it skip ahead</li>
+ *     <li>SPILL : the oldest element is serialized to a memory mapped temporary file, and replayed from there</li>
+ * </ul>
+ *
+ * Readers that start after elements have been discarded (BLOCK / DROP_OLDEST) begin from the oldest element still held.
+ *
+ * Readers are tracked weakly, a reader that is abandoned before reaching the end (e.g. by findFirst or limit) stops holding
+ * back the BLOCK policy once it has been garbage collected. A leading reader that is blocked re-checks for abandoned readers
+ * periodically, and if a block timeout is configured ({@link #withBlockTimeout(long, TimeUnit)}) it discards the oldest
+ * element once the timeout has elapsed, so that slow readers skip ahead rather than holding the leader indefinitely.
+ *
+ * <pre>
+ * {@code
+ *  try(ReplayCache<Trade> cache = ReplayCache.spill(trades, 10_000, ReplayCache.Serializer.javaSerialization())){
+ *      Streamable<Trade> replayable = cache.streamable();
+ *
+ *      replayable.reactiveSeq().forEach(this::price);
+ *      replayable.reactiveSeq().forEach(this::audit);
+ *  }
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in the cache
+ */
+public class ReplayCache<T> implements Iterable<T>, AutoCloseable {
+
+    /**
+     * What to do with the oldest element held in memory, once maxInMemory elements are held
+     */
+    public static enum Overflow {
+        BLOCK, DROP_OLDEST, SPILL
+    }
+
+    /**
+     * Converts elements to and from bytes, when spilling them to disk
+     *
+     * @param <T> Data type of element to serialize
+     */
+    public static interface Serializer<T> {
+
+        byte[] serialize(T value);
+
+        T deserialize(byte[] data);
+
+        /**
+         * @return Serializer that uses standard Java serialization
+         */
+        static <T extends Serializable> Serializer<T> javaSerialization() {
+            return new Serializer<T>() {
+                @Override
+                public byte[] serialize(final T value) {
+                    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    try (ObjectOutputStream out = new ObjectOutputStream(
+                                                                         bytes)) {
+                        out.writeObject(value);
+                    } catch (final Exception e) {
+                        throw ExceptionSoftener.throwSoftenedException(e);
+                    }
+                    return bytes.toByteArray();
+                }
+
+                @Override
+                public T deserialize(final byte[] data) {
+                    try (ObjectInputStream in = new ObjectInputStream(
+                                                                      new ByteArrayInputStream(
+                                                                                               data))) {
+                        return (T) in.readObject();
+                    } catch (final Exception e) {
+                        throw ExceptionSoftener.throwSoftenedException(e);
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * A Streamable that replays a ReplayCache, closing it releases the memory and spill file held by the cache
+     *
+     * @param <T> Data type of elements in the cache
+     */
+    public static class CloseableStreamable<T> extends StreamableImpl<T> implements AutoCloseable {
+        private final ReplayCache<T> cache;
+
+        CloseableStreamable(final ReplayCache<T> cache) {
+            super(cache);
+            this.cache = cache;
+        }
+
+        @Override
+        public void close() {
+            cache.close();
+        }
+    }
+
+    private static final int CHECKPOINT = 1024;
+    private static final long RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition consumed = lock.newCondition();
+    private final Iterable<T> sourceFactory;
+    private final Overflow overflow;
+    private final Serializer<T> serializer;
+    private final Object[] ring;
+    private final long blockTimeoutNanos;
+    private final List<ReaderRef> readers = new ArrayList<>();
+    private final ReferenceQueue<Reader> abandoned = new ReferenceQueue<>();
+    private Iterator<T> source;
+    private boolean complete = false;
+    private long memBase = 0;
+    private long end = 0;
+    private long dropped = 0;
+    private MappedSpillFile spill;
+    private long[] checkpoints = new long[16];
+    private boolean closed = false;
+    private boolean closeWhenDone = false;
+    private boolean blocked = false;
+    private long blockedSince = 0;
+
+    private ReplayCache(final Iterable<T> source, final int maxInMemory, final Overflow overflow, final Serializer<T> serializer,
+            final long blockTimeoutNanos) {
+        if (maxInMemory < 1)
+            throw new IllegalArgumentException(
+                                               "maxInMemory must be at least 1 : " + maxInMemory);
+        this.sourceFactory = source;
+        this.overflow = overflow;
+        this.serializer = serializer;
+        this.ring = new Object[maxInMemory];
+        this.blockTimeoutNanos = blockTimeoutNanos;
+    }
+
+    /**
+     * Construct a ReplayCache, when the SPILL policy is used elements must be Serializable
+     *
+     * @param source Iterable to cache, its iterator is requested once (on first use) so a Stream can be passed as stream::iterator
+     * @param maxInMemory Maximum number of elements held in memory
+     * @param overflow Policy to apply once maxInMemory elements are held
+     * @return ReplayCache
+     */
+    public static <T> ReplayCache<T> of(final Iterable<T> source, final int maxInMemory, final Overflow overflow) {
+        return new ReplayCache<>(
+                                 source, maxInMemory, overflow, (Serializer) Serializer.javaSerialization(), -1);
+    }
+
+    /**
+     * Construct a ReplayCache that holds at most maxInMemory elements in memory, and spills older elements to a memory mapped
+     * temporary file using the supplied Serializer
+     *
+     * @param source Iterable to cache, its iterator is requested once (on first use) so a Stream can be passed as stream::iterator
+     * @param maxInMemory Maximum number of elements held in memory
+     * @param serializer Serializer used to spill elements to disk
+     * @return ReplayCache
+     */
+    public static <T> ReplayCache<T> spill(final Iterable<T> source, final int maxInMemory, final Serializer<T> serializer) {
+        return new ReplayCache<>(
+                                 source, maxInMemory, Overflow.SPILL, serializer, -1);
+    }
+
+    /**
+     * Configure the maximum time a leading reader waits under the BLOCK policy for slower readers to consume the oldest
+     * element. Once it elapses the oldest element is discarded (and counted as dropped), readers that had not yet consumed it
+     * skip ahead. By default the leading reader waits until every live reader has consumed the element.
+     *
+     * Should be called before any readers are created.
+     *
+     * @param time Maximum time to wait
+     * @param unit Time unit
+     * @return ReplayCache over the same source with the block timeout set
+     */
+    public ReplayCache<T> withBlockTimeout(final long time, final TimeUnit unit) {
+        if (time < 0)
+            throw new IllegalArgumentException(
+                                               "block timeout must not be negative : " + time);
+        return new ReplayCache<>(
+                                 sourceFactory, ring.length, overflow, serializer, unit.toNanos(time));
+    }
+
+    /**
+     * @return A new reader over this cache
+     */
+    @Override
+    public Iterator<T> iterator() {
+        lock.lock();
+        try {
+            checkOpen();
+            purge();
+            final Reader reader = new Reader(
+                                             overflow == Overflow.SPILL ? 0 : memBase);
+            readers.add(reader.ref);
+            return reader;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Create a number of readers at once, so that the first elements are not discarded (BLOCK / DROP_OLDEST) before all of
+     * them have been created
+     *
+     * @param num Number of copies
+     * @return List of ReactiveSeq's, each of which replays this cache
+     */
+    public ListX<ReactiveSeq<T>> copies(final int num) {
+        final ListX<ReactiveSeq<T>> result = ListX.empty();
+        for (int i = 0; i < num; i++) {
+            final Iterator<T> it = iterator();
+            result.add(ReactiveSeq.fromIterator(it));
+        }
+        return result;
+    }
+
+    /**
+     * Create a number of readers at once, and close this cache (releasing its memory and spill file) once every one of them
+     * has reached the end or been garbage collected. No further readers can be created.
+     *
+     * @param num Number of copies
+     * @return List of ReactiveSeq's, each of which replays this cache
+     */
+    ListX<ReactiveSeq<T>> copiesClosedOnCompletion(final int num) {
+        lock.lock();
+        try {
+            final ListX<ReactiveSeq<T>> result = copies(num);
+            closeWhenDone = true;
+            closeIfDone();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Streamable that replays this cache, closing it closes this cache
+     */
+    public CloseableStreamable<T> streamable() {
+        return new CloseableStreamable<>(
+                                         this);
+    }
+
+    /**
+     * @return Number of elements currently held in memory
+     */
+    public int inMemory() {
+        lock.lock();
+        try {
+            return (int) (end - memBase);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of elements spilled to disk
+     */
+    public long spilled() {
+        lock.lock();
+        try {
+            return overflow == Overflow.SPILL ? memBase : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of elements discarded by the DROP_OLDEST policy, or by the BLOCK policy once the block timeout elapsed
+     */
+    public long dropped() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release the memory and spill file held by this cache, readers can no longer be used once closed
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            readers.clear();
+            Arrays.fill(ring, null);
+            if (spill != null)
+                spill.close();
+            spill = null;
+            consumed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop tracking readers that have been garbage collected without reaching the end
+     */
+    private void purge() {
+        Reference<? extends Reader> next;
+        while ((next = abandoned.poll()) != null)
+            readers.remove(next);
+        closeIfDone();
+    }
+
+    private void closeIfDone() {
+        if (closeWhenDone && !closed && readers.isEmpty())
+            close();
+    }
+
+    private int slot(final long index) {
+        return (int) (index % ring.length);
+    }
+
+    /**
+     * Move the oldest element out of memory, or wait for it to be consumed (BLOCK)
+     *
+     * @return false if the caller had to wait, and should re-check the state of the cache
+     */
+    private boolean evict() {
+        purge();
+        if (overflow == Overflow.BLOCK) {
+            long min = end;
+            for (final ReaderRef ref : readers) {
+                final Reader r = ref.get();
+                if (r != null)
+                    min = Math.min(min, r.index);
+            }
+            if (min > memBase) {
+                blocked = false;
+            } else {
+                final long now = System.nanoTime();
+                if (!blocked) {
+                    blocked = true;
+                    blockedSince = now;
+                }
+                final long waited = now - blockedSince;
+                if (blockTimeoutNanos < 0 || waited < blockTimeoutNanos) {
+                    //wake periodically to re-check for readers that have been abandoned
+                    awaitConsumed(blockTimeoutNanos < 0 ? RECHECK_NANOS : Math.min(RECHECK_NANOS, blockTimeoutNanos - waited));
+                    return false;
+                }
+                //timed out, readers that have not consumed the oldest element skip ahead
+                min = memBase + 1;
+                dropped++;
+            }
+            while (memBase < min)
+                ring[slot(memBase++)] = null;
+            return true;
+        }
+        if (overflow == Overflow.SPILL) {
+            if (spill == null)
+                spill = MappedSpillFile.createTemp();
+            final long pos = spill.append(serializer.serialize((T) ring[slot(memBase)]));
+            if (memBase % CHECKPOINT == 0) {
+                final int cp = (int) (memBase / CHECKPOINT);
+                if (cp == checkpoints.length)
+                    checkpoints = Arrays.copyOf(checkpoints, cp * 2);
+                checkpoints[cp] = pos;
+            }
+        } else {
+            dropped++;
+        }
+        ring[slot(memBase++)] = null;
+        return true;
+    }
+
+    private void awaitConsumed(final long nanos) {
+        try {
+            consumed.awaitNanos(nanos);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+    }
+
+    /**
+     * @return Position in the spill file of the element at the supplied index
+     */
+    private long locate(final long index) {
+        long pos = checkpoints[(int) (index / CHECKPOINT)];
+        for (long i = index - index % CHECKPOINT; i < index; i++)
+            pos = spill.next(pos);
+        return pos;
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException(
+                                            "ReplayCache has been closed");
+    }
+
+    /**
+     * Weak reference to a reader, so that readers abandoned before reaching the end can be garbage collected
+     */
+    private class ReaderRef extends WeakReference<Reader> {
+        ReaderRef(final Reader reader) {
+            super(reader, abandoned);
+        }
+    }
+
+    private class Reader implements Iterator<T> {
+        final ReaderRef ref = new ReaderRef(
+                                            this);
+        long index;
+        long pos = -1;
+        boolean done = false;
+
+        Reader(final long index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            lock.lock();
+            try {
+                if (done)
+                    return false;
+                for (;;) {
+                    checkOpen();
+                    if (index < memBase && overflow != Overflow.SPILL)
+                        index = memBase;
+                    if (index < end)
+                        return true;
+                    if (complete) {
+                        finish();
+                        return false;
+                    }
+                    if (source == null)
+                        source = sourceFactory.iterator();
+                    if (!source.hasNext()) {
+                        complete = true;
+                        continue;
+                    }
+                    if (end - memBase == ring.length && !evict())
+                        continue;
+                    ring[slot(end)] = source.next();
+                    end++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void finish() {
+            done = true;
+            readers.remove(ref);
+            if (overflow == Overflow.BLOCK)
+                consumed.signalAll();
+            closeIfDone();
+        }
+
+        @Override
+        public T next() {
+            byte[] data;
+            lock.lock();
+            try {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                if (index >= memBase) {
+                    final T value = (T) ring[slot(index++)];
+                    pos = -1;
+                    if (overflow == Overflow.BLOCK)
+                        consumed.signalAll();
+                    return value;
+                }
+                if (pos < 0)
+                    pos = locate(index);
+                data = spill.read(pos);
+                pos += 4 + data.length;
+                index++;
+            } finally {
+                lock.unlock();
+            }
+            return serializer.deserialize(data);
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return "ReplayCache[" + overflow + ", inMemory=" + (end - memBase) + ", spilled=" + spilled() + ", dropped=" + dropped + "]";
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -145,6 +145,19 @@ public interface Spouts {
     static <T> ReactiveSeq<T> reactiveStream(Operator<T> s){
         return new ReactiveStreamX<>(s).withAsync(Type.BACKPRESSURE);
     }
+
+    /**
+     * Create a backpressure aware Stream that batches the demand it signals to the supplied Operator.
+     * A batch of prefetch elements is requested up front and buffered, with more requested once 75% of that batch has been
+     * consumed, rather than each downstream request being passed upstream individually.
+     *
+     * @param s Operator to Stream from
+     * @param prefetch Number of elements to request from the Operator at a time
+     * @return Backpressure aware Stream with batched demand
+     */
+    static <T> ReactiveSeq<T> reactiveStream(Operator<T> s, int prefetch){
+        return reactiveStream(new PrefetchOperator<>(s,prefetch));
+    }
     static <T> ReactiveSeq<T> asyncStream(Operator<T> s){
         return new ReactiveStreamX<>(s).withAsync(Type.NO_BACKPRESSURE);
     }
@@ -204,6 +217,17 @@ public interface Spouts {
     static <T> ReactiveSeq<T> from(Publisher<? extends T> pub){
         return new ReactiveStreamX<T>(new PublisherToOperator<T>((Publisher<T>)pub), Type.BACKPRESSURE);
     }
+
+    /**
+     * Connect to a Publisher, requesting data from it in batches of prefetch elements (see {@link #reactiveStream(Operator, int)})
+     *
+     * @param pub Publisher to connect to
+     * @param prefetch Number of elements to request from the Publisher at a time
+     * @return Backpressure aware Stream with batched demand
+     */
+    static <T> ReactiveSeq<T> from(Publisher<? extends T> pub, int prefetch){
+        return reactiveStream(new PublisherToOperator<T>((Publisher<T>)pub),prefetch);
+    }
     static <T> ReactiveSeq<T> merge(Publisher<? extends Publisher<T>> publisher){
         return mergeLatest((Publisher[])Spouts.from(publisher).toArray());
     }
@@ -71,6 +71,35 @@ public interface Streamable<T> extends  To<Streamable<T>>,
                                   Impl.collectStream(stream));
     }
 
+    /**
+     * (Lazily) Construct a Streamable from a Stream, holding at most maxInMemory elements on the heap
+     *
+     * @see ReplayCache
+     * @param stream to construct Streamable from
+     * @param maxInMemory Maximum number of elements held in memory
+     * @param overflow Policy to apply once maxInMemory elements are held (SPILL uses Java serialization)
+     * @return Streamable, close it to release the cached elements and any spill file
+     */
+    public static <T> ReplayCache.CloseableStreamable<T> fromStream(final Stream<T> stream, final int maxInMemory, final ReplayCache.Overflow overflow) {
+        return ReplayCache.<T>of(stream::iterator, maxInMemory, overflow)
+                          .streamable();
+    }
+
+    /**
+     * (Lazily) Construct a Streamable from a Stream, holding at most maxInMemory elements on the heap and spilling older elements
+     * to a memory mapped temporary file
+     *
+     * @see ReplayCache
+     * @param stream to construct Streamable from
+     * @param maxInMemory Maximum number of elements held in memory
+     * @param serializer Serializer used to spill elements to disk
+     * @return Streamable, close it to release the cached elements and the spill file
+     */
+    public static <T> ReplayCache.CloseableStreamable<T> fromStream(final Stream<T> stream, final int maxInMemory, final ReplayCache.Serializer<T> serializer) {
+        return ReplayCache.<T>spill(stream::iterator, maxInMemory, serializer)
+                          .streamable();
+    }
+
     /**
      * (Lazily) Construct a Streamable from an Iterable.
      * 
@@ -151,6 +151,66 @@ public class EvalTest {
 		assertThat(Eval.always(()->1).map(i->i+2)
 						.flatMap(i->Eval.now(i*3)).get(),equalTo(9));
 	}
+	@Test
+	public void laterSharesIntermediateSteps(){
+		count = 0;
+		Eval<Integer> shared = Eval.later(()->1).map(i->{
+			count++;
+			return i+1;
+		});
+		assertThat(shared.map(i->i*10).get(),equalTo(20));
+		assertThat(shared.map(i->i*100).get(),equalTo(200));
+		assertThat(count,equalTo(1));
+	}
+	@Test
+	public void laterFlatMapCaches(){
+		count = 0;
+		Eval<Integer> eval = Eval.later(()->2).flatMap(i->{
+			count++;
+			return Eval.always(()->i*2);
+		});
+		eval.get();
+		assertThat(eval.get(),equalTo(4));
+		assertThat(count,equalTo(1));
+	}
+	@Test
+	public void alwaysBranchesFromSharedMaps(){
+		Eval<Integer> base = Eval.always(()->1).map(i->i+1);
+		Eval<Integer> a = base.map(i->i*10);
+		Eval<Integer> b = base.map(i->i*100);
+		assertThat(a.map(i->i+5).get(),equalTo(25));
+		assertThat(b.get(),equalTo(200));
+		assertThat(base.get(),equalTo(2));
+	}
+	@Test
+	public void deepMapChainsAreStackSafe(){
+		Eval<Integer> later = Eval.later(()->0);
+		Eval<Integer> always = Eval.always(()->0);
+		for(int i=0;i<100_000;i++){
+			later = later.map(this::addOne);
+			always = always.map(this::addOne);
+		}
+		assertThat(later.get(),equalTo(100_000));
+		assertThat(always.get(),equalTo(100_000));
+	}
+	@Test
+	public void deepFlatMapChainsAreStackSafe(){
+		Eval<Integer> later = Eval.later(()->0);
+		Eval<Integer> always = Eval.always(()->0);
+		for(int i=0;i<100_000;i++){
+			later = later.flatMap(v->Eval.later(()->v+1));
+			always = always.flatMap(v->Eval.now(v+1));
+		}
+		assertThat(later.get(),equalTo(100_000));
+		assertThat(always.get(),equalTo(100_000));
+	}
+	private Eval<Long> sum(long n, long acc){
+		return n==0 ? Eval.now(acc) : Eval.later(()->n).flatMap(i->sum(n-1,acc+i));
+	}
+	@Test
+	public void recursiveFlatMapIsStackSafe(){
+		assertThat(sum(100_000,0).get(),equalTo(5_000_050_000l));
+	}
 	public int addOne(Integer i){
 		return i+1;
 	}
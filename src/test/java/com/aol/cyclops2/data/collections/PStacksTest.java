@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.stream.Stream;
 
 import org.junit.Test;
+import org.pcollections.PStack;
 
 import cyclops.Reducers;
 import cyclops.stream.ReactiveSeq;
@@ -54,6 +55,16 @@ public class PStacksTest {
 		assertThat(ReactiveSeq.of("a","b","c").mapReduce(Reducers.toPStack()),
 				equalTo(Arrays.asList("a","b","c")));
 	}
+	@Test
+	public void testToPStackLarge() {
+		PStack<Integer> stack = ReactiveSeq.range(0,100_000).mapReduce(Reducers.toPStack());
+		assertThat(stack.size(),equalTo(100_000));
+		assertThat(stack.get(0),equalTo(0));
+		Integer last = null;
+		for(Integer next : stack) //get(n) on a ConsPStack recurses n deep
+			last = next;
+		assertThat(last,equalTo(99_999));
+	}
 	
 
 }
@@ -0,0 +1,145 @@
+package com.aol.cyclops2.data.collections.extensions.persistent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.pcollections.PMap;
+
+public class ChampPMapTest {
+
+	static final class Colliding {
+		final int value;
+		Colliding(int value){
+			this.value = value;
+		}
+		@Override
+		public int hashCode() {
+			return value % 3;
+		}
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Colliding && ((Colliding)o).value==value;
+		}
+	}
+
+	private Object randomKey(Random r){
+		return r.nextInt(4)==0 ? new Colliding(r.nextInt(200)) : (Object)(r.nextInt(3000) * (r.nextBoolean() ? 1 : 65536));
+	}
+
+	@Test
+	public void matchesHashMap(){
+		Random r = new Random(0);
+		Map<Object,Integer> expected = new HashMap<>();
+		PMap<Object,Integer> map = ChampPMap.empty();
+		List<PMap<Object,Integer>> snapshots = new ArrayList<>();
+		List<Map<Object,Integer>> expectedSnapshots = new ArrayList<>();
+		for(int i=0;i<10_000;i++){
+			Object key = randomKey(r);
+			if(r.nextInt(3)==0){
+				expected.remove(key);
+				map = map.minus(key);
+			}else{
+				expected.put(key,i);
+				map = map.plus(key,i);
+			}
+			assertThat(map.size(),equalTo(expected.size()));
+			if(i%1000==0){
+				snapshots.add(map);
+				expectedSnapshots.add(new HashMap<>(expected));
+			}
+		}
+		assertThat(map,equalTo(expected));
+		assertThat(expected,equalTo(map));
+		for(Map.Entry<Object,Integer> e : expected.entrySet())
+			assertThat(map.get(e.getKey()),equalTo(e.getValue()));
+		for(int i=0;i<snapshots.size();i++)
+			assertThat(snapshots.get(i),equalTo(expectedSnapshots.get(i)));
+	}
+	@Test
+	public void structuralEquality(){
+		Random r = new Random(1);
+		Map<Object,Integer> expected = new HashMap<>();
+		ChampPMap<Object,Integer> map = ChampPMap.empty();
+		for(int i=0;i<5000;i++){
+			Object key = randomKey(r);
+			expected.put(key,i);
+			map = map.plus(key,i);
+		}
+		List<Object> keys = new ArrayList<>(expected.keySet()).subList(0,expected.size()/2);
+		ChampPMap<Object,Integer> removed = map.minusAll(keys);
+		keys.forEach(expected::remove);
+		ChampPMap<Object,Integer> built = ChampPMap.fromMap(expected);
+		assertThat(removed,equalTo(built));
+		assertThat(built,equalTo(removed));
+		assertThat(removed.hashCode(),equalTo(expected.hashCode()));
+	}
+	@Test
+	public void plusAllAndMinusAll(){
+		ChampPMap<Integer,String> map = ChampPMap.<Integer,String>empty().plus(1,"a").plus(2,"b");
+		Map<Integer,String> more = new HashMap<>();
+		more.put(2,"c");
+		more.put(3,"d");
+		ChampPMap<Integer,String> all = map.plusAll(more);
+		assertThat(all.size(),equalTo(3));
+		assertThat(all.get(2),equalTo("c"));
+		assertThat(map.get(2),equalTo("b"));
+		assertThat(all.minusAll(more.keySet()),equalTo(ChampPMap.singleton(1,"a")));
+		assertThat(map.plusAll(new HashMap<>()),sameInstance(map));
+		assertThat(map.minus(10),sameInstance(map));
+		assertThat(map.plus(1,"a"),sameInstance(map));
+	}
+	@Test
+	public void builderDoesNotAffectSource(){
+		ChampPMap<Integer,Integer> base = ChampPMap.empty();
+		for(int i=0;i<1000;i++)
+			base = base.plus(i,i);
+		ChampPMap.Builder<Integer,Integer> builder = base.toBuilder();
+		for(int i=0;i<2000;i++)
+			builder.put(i,-i);
+		ChampPMap<Integer,Integer> first = builder.build();
+		builder.remove(0);
+		ChampPMap<Integer,Integer> second = builder.build();
+		assertThat(base.size(),equalTo(1000));
+		assertThat(base.get(10),equalTo(10));
+		assertThat(first.size(),equalTo(2000));
+		assertThat(first.get(10),equalTo(-10));
+		assertThat(first.get(0),equalTo(0));
+		assertThat(second.size(),equalTo(1999));
+		assertFalse(second.containsKey(0));
+	}
+	@Test
+	public void nulls(){
+		ChampPMap<Integer,Integer> map = ChampPMap.<Integer,Integer>singleton(null,1).plus(2,null);
+		assertThat(map.get(null),equalTo(1));
+		assertThat(map.get(2),nullValue());
+		assertTrue(map.containsKey(2));
+		assertFalse(map.containsKey(3));
+		assertThat(map.minus(null).size(),equalTo(1));
+	}
+	@Test
+	public void iteration(){
+		Map<Integer,Integer> expected = new HashMap<>();
+		ChampPMap.Builder<Integer,Integer> builder = ChampPMap.builder();
+		for(int i=0;i<50_000;i++){
+			expected.put(i,i*2);
+			builder.put(i,i*2);
+		}
+		Map<Integer,Integer> iterated = new HashMap<>();
+		builder.build().entrySet().forEach(e->iterated.put(e.getKey(),e.getValue()));
+		Map<Integer,Integer> forEach = new HashMap<>();
+		builder.build().forEach(forEach::put);
+		assertThat(iterated,equalTo(expected));
+		assertThat(forEach,equalTo(expected));
+	}
+}
@@ -0,0 +1,62 @@
+package com.aol.cyclops2.data.collections.extensions.persistent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.pcollections.PSet;
+
+public class ChampPSetTest {
+
+	private Set<Integer> range(int size){
+		return IntStream.range(0,size).boxed().collect(Collectors.toSet());
+	}
+
+	@Test
+	public void of(){
+		assertThat(ChampPSet.of(1,2,2,3),equalTo(new HashSet<>(Arrays.asList(1,2,3))));
+	}
+	@Test
+	public void parallelStream(){
+		assertThat(ChampPSet.fromStream(IntStream.range(0,100_000).boxed().parallel()),equalTo(range(100_000)));
+	}
+	@Test
+	public void plusAndMinus(){
+		PSet<Integer> set = ChampPSet.empty();
+		for(int i=0;i<10_000;i++)
+			set = set.plus(i);
+		PSet<Integer> odd = set;
+		for(int i=0;i<10_000;i+=2)
+			odd = odd.minus(i);
+		assertThat(set,equalTo(range(10_000)));
+		assertThat(odd.size(),equalTo(5000));
+		assertFalse(odd.contains(2));
+		assertTrue(odd.contains(3));
+		assertThat(odd,equalTo(ChampPSet.fromIterable(IntStream.range(0,10_000).filter(i->i%2==1).boxed().collect(Collectors.toList()))));
+	}
+	@Test
+	public void plusAllMinusAll(){
+		ChampPSet<Integer> set = ChampPSet.of(1,2,3);
+		assertThat(set.plusAll(Arrays.asList(3,4)),equalTo(ChampPSet.of(1,2,3,4)));
+		assertThat(set.minusAll(Arrays.asList(1,2)),equalTo(ChampPSet.of(3)));
+		assertThat(set.plusAll(Arrays.asList(1,2)),sameInstance(set));
+		assertThat(set.minusAll(Arrays.asList(5)),sameInstance(set));
+		assertThat(ChampPSet.<Integer>empty().plusAll(set),sameInstance(set));
+	}
+	@Test
+	public void iteration(){
+		Set<Integer> iterated = new HashSet<>();
+		for(Integer next : ChampPSet.fromIterable(range(50_000)))
+			iterated.add(next);
+		assertThat(iterated,equalTo(range(50_000)));
+	}
+}
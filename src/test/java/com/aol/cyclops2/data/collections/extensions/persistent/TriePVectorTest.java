@@ -0,0 +1,159 @@
+package com.aol.cyclops2.data.collections.extensions.persistent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.pcollections.PVector;
+
+public class TriePVectorTest {
+
+	private static final int[] SIZES = {0,1,31,32,33,1023,1024,1025,1056,32*32*32+33,40_000};
+
+	private List<Integer> range(int size){
+		return IntStream.range(0,size).boxed().collect(Collectors.toList());
+	}
+	private PVector<Integer> plusEach(int size){
+		PVector<Integer> vec = TriePVector.empty();
+		for(int i=0;i<size;i++)
+			vec = vec.plus(i);
+		return vec;
+	}
+
+	@Test
+	public void plusMatchesList(){
+		for(int size : SIZES){
+			PVector<Integer> vec = plusEach(size);
+			assertThat(vec.size(),equalTo(size));
+			for(int i=0;i<size;i++)
+				assertThat(vec.get(i),equalTo(i));
+			assertThat(vec,equalTo(range(size)));
+		}
+	}
+	@Test
+	public void builderMatchesPlus(){
+		for(int size : SIZES){
+			assertThat(TriePVector.fromIterable(range(size)),equalTo(plusEach(size)));
+		}
+	}
+	@Test
+	public void parallelStream(){
+		assertThat(TriePVector.fromStream(range(100_000).parallelStream()),equalTo(range(100_000)));
+	}
+	@Test
+	public void persistence(){
+		TriePVector<Integer> base = TriePVector.fromIterable(range(1056));
+		TriePVector<Integer> appended = base.plus(-1);
+		TriePVector<Integer> updated = base.with(5,-5).with(1050,-1050);
+		assertThat(base,equalTo(range(1056)));
+		assertThat(appended.size(),equalTo(1057));
+		assertThat(appended.get(1056),equalTo(-1));
+		assertThat(updated.get(5),equalTo(-5));
+		assertThat(updated.get(1050),equalTo(-1050));
+		assertThat(base.get(5),equalTo(5));
+	}
+	@Test
+	public void builderFromVectorDoesNotAffectSource(){
+		for(int size : SIZES){
+			TriePVector<Integer> base = TriePVector.fromIterable(range(size));
+			TriePVector.Builder<Integer> builder = base.toBuilder();
+			for(int i=0;i<2000;i++)
+				builder.add(-i);
+			TriePVector<Integer> first = builder.build();
+			builder.add(1);
+			TriePVector<Integer> second = builder.build();
+			assertThat(base,equalTo(range(size)));
+			assertThat(first.size(),equalTo(size+2000));
+			assertThat(second.size(),equalTo(size+2001));
+			assertThat(first.subList(0,size),equalTo(range(size)));
+			assertThat(second.get(size+2000),equalTo(1));
+		}
+	}
+	@Test
+	public void plusAll(){
+		TriePVector<Integer> vec = TriePVector.fromIterable(range(40));
+		assertThat(vec.plusAll(range(2000)).subList(40,2040),equalTo(range(2000)));
+		assertThat(vec.plusAll(range(2000)).subList(0,40),equalTo(range(40)));
+	}
+	@Test
+	public void minusLastRepeatedly(){
+		for(int size : SIZES){
+			PVector<Integer> vec = TriePVector.fromIterable(range(size));
+			for(int i=size-1;i>=0;i--){
+				vec = vec.minus(i);
+				assertThat(vec.size(),equalTo(i));
+				if(i>0)
+					assertThat(vec.get(i-1),equalTo(i-1));
+			}
+			assertThat(vec.plus(1),equalTo(Arrays.asList(1)));
+		}
+	}
+	@Test
+	public void insertAndRemoveMatchList(){
+		Random r = new Random(0);
+		List<Integer> expected = new ArrayList<>(range(100));
+		PVector<Integer> vec = TriePVector.fromIterable(expected);
+		for(int i=0;i<500;i++){
+			int index = r.nextInt(expected.size()+1);
+			if(r.nextBoolean() || expected.isEmpty()){
+				expected.add(index,i);
+				vec = vec.plus(index,i);
+			}else{
+				index = Math.min(index,expected.size()-1);
+				expected.remove(index);
+				vec = vec.minus(index);
+			}
+			assertThat(vec,equalTo(expected));
+		}
+	}
+	@Test
+	public void minusObjectAndMinusAll(){
+		PVector<Integer> vec = TriePVector.fromIterable(range(100));
+		assertThat(vec.minus((Object)50).size(),equalTo(99));
+		assertThat(vec.minus((Object)500),equalTo(vec));
+		assertThat(vec.minusAll(range(50)),equalTo(range(100).subList(50,100)));
+	}
+	@Test
+	public void subList(){
+		PVector<Integer> vec = TriePVector.fromIterable(range(2000));
+		assertThat(vec.subList(10,1500),equalTo(range(2000).subList(10,1500)));
+		assertThat(vec.subList(0,1990),equalTo(range(1990)));
+		assertThat(vec.subList(5,5).size(),equalTo(0));
+	}
+	@Test
+	public void iteratorAndForEach(){
+		for(int size : SIZES){
+			PVector<Integer> vec = TriePVector.fromIterable(range(size));
+			List<Integer> iterated = new ArrayList<>();
+			Iterator<Integer> it = vec.iterator();
+			while(it.hasNext())
+				iterated.add(it.next());
+			List<Integer> forEach = new ArrayList<>();
+			vec.forEach(forEach::add);
+			assertThat(iterated,equalTo(range(size)));
+			assertThat(forEach,equalTo(range(size)));
+		}
+	}
+	@Test
+	public void nulls(){
+		PVector<Integer> vec = TriePVector.of(1,null,3);
+		assertThat(vec,equalTo(Arrays.asList(1,null,3)));
+		assertThat(vec.minus((Object)null),equalTo(Arrays.asList(1,3)));
+	}
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void getOutOfBounds(){
+		TriePVector.of(1,2,3).get(3);
+	}
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void withOutOfBounds(){
+		TriePVector.of(1,2,3).with(3,1);
+	}
+}
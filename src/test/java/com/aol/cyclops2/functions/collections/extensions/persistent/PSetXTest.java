@@ -4,6 +4,7 @@ import com.aol.cyclops2.data.collections.extensions.FluentCollectionX;
 import cyclops.collections.ListX;
 import cyclops.collections.immutable.PSetX;
 import com.aol.cyclops2.functions.collections.extensions.AbstractCollectionXTest;
+import cyclops.Reducers;
 import org.jooq.lambda.tuple.Tuple2;
 import org.junit.Test;
 
@@ -14,6 +15,7 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
@@ -63,6 +65,11 @@ public class PSetXTest extends AbstractCollectionXTest {
                    equalTo(12));
     }
     @Test
+    @Override
+    public void testScanLeftStringConcatMonoid() {
+        assertThat(of("a", "b", "c").scanLeft(Reducers.toString("")).toList(), containsInAnyOrder("", "a", "ab", "abc"));
+    }
+    @Test
     public void coflatMap(){
        assertThat(PSetX.of(1,2,3)
                    .coflatMap(s->s.sumInt(i->i))
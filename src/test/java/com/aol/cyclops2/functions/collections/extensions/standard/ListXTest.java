@@ -4,6 +4,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -17,6 +18,7 @@ import org.junit.Test;
 import cyclops.Semigroups;
 import com.aol.cyclops2.data.collections.extensions.FluentCollectionX;
 import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
 import com.aol.cyclops2.functions.collections.extensions.CollectionXTestsWithNulls;
 import com.aol.cyclops2.types.Zippable;
 
@@ -43,6 +45,69 @@ public class ListXTest extends CollectionXTestsWithNulls {
 
     }
 
+    @Test
+    public void mapChainKeepsExactSize(){
+        ListX<Integer> list = ListX.range(0,1000)
+                                   .materialize()
+                                   .map(i->i*2)
+                                   .map(i->i+1);
+
+        assertThat(list.stream().spliterator().getExactSizeIfKnown(),equalTo(1000l));
+        assertThat(list.size(),equalTo(1000));
+        assertThat(list.get(999),equalTo(1999));
+    }
+    @Test
+    public void limitLastOnSizedSource(){
+        List<Integer> list = new ArrayList<>(Arrays.asList(1,2,3,4,5));
+
+        assertThat(ReactiveSeq.fromIterable(list).limitLast(1).toArray(),equalTo(new Object[]{5}));
+        assertThat(ReactiveSeq.fromIterable(list).limitLast(1).toList(),equalTo(Arrays.asList(5)));
+        assertThat(ReactiveSeq.fromIterable(list).limitLast(1).count(),equalTo(1l));
+        assertThat(ReactiveSeq.fromIterable(list).limitLast(2).toArray(),equalTo(new Object[]{4,5}));
+        assertThat(ReactiveSeq.fromIterable(list).skipLast(1).toArray(),equalTo(new Object[]{1,2,3,4}));
+    }
+    @Test
+    public void concurrentCollectionsNotSized(){
+        assertThat(ReactiveSeq.fromIterable(new ArrayList<>(Arrays.asList(1,2,3))).spliterator().getExactSizeIfKnown(),equalTo(3l));
+        assertThat(ReactiveSeq.fromIterable(new java.util.concurrent.ConcurrentLinkedQueue<>(Arrays.asList(1,2,3)))
+                              .spliterator().getExactSizeIfKnown(),equalTo(-1l));
+        assertThat(ReactiveSeq.fromIterable(new java.util.concurrent.CopyOnWriteArrayList<>(Arrays.asList(1,2,3)))
+                              .spliterator().getExactSizeIfKnown(),equalTo(-1l));
+        assertThat(ReactiveSeq.fromIterable(Collections.synchronizedList(new ArrayList<>(Arrays.asList(1,2,3))))
+                              .spliterator().getExactSizeIfKnown(),equalTo(-1l));
+    }
+    @Test
+    public void onlyKnownCollectionTypesSized(){
+        assertThat(ReactiveSeq.fromIterable(Arrays.asList(1,2,3)).spliterator().getExactSizeIfKnown(),equalTo(3l));
+        assertThat(ReactiveSeq.fromIterable(new HashSet<>(Arrays.asList(1,2,3))).spliterator().getExactSizeIfKnown(),equalTo(3l));
+        assertThat(ReactiveSeq.fromIterable(Collections.unmodifiableList(new ArrayList<>(Arrays.asList(1,2,3))))
+                              .spliterator().getExactSizeIfKnown(),equalTo(-1l));
+        assertThat(ReactiveSeq.fromIterable(new ArrayList<Integer>(Arrays.asList(1,2,3)){})
+                              .spliterator().getExactSizeIfKnown(),equalTo(-1l));
+    }
+    @Test
+    public void concurrentMaterializationRunsOnce() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger(0);
+        ListX<Integer> list = ListX.range(0,100_000)
+                                   .materialize()
+                                   .map(i->{
+                                       calls.incrementAndGet();
+                                       return i;
+                                   });
+        List<Thread> threads = new ArrayList<>();
+        List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+        for(int i=0;i<4;i++){
+            Thread t = new Thread(()->sizes.add(list.size()));
+            threads.add(t);
+            t.start();
+        }
+        for(Thread t : threads)
+            t.join();
+
+        assertThat(sizes,equalTo(Arrays.asList(100_000,100_000,100_000,100_000)));
+        assertThat(calls.get(),equalTo(100_000));
+    }
+
     @Test
     public void coflatMapTest(){
         ListX<ListX<Integer>> list = ListX.of(1, 2, 3)
@@ -0,0 +1,81 @@
+package com.aol.cyclops2.internal.stream;
+
+import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkedParallelFoldTest {
+
+    static ForkJoinPool fj = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutdown(){
+        fj.shutdown();
+    }
+
+    @Test
+    public void orderedPreservesEncounterOrder(){
+        List<Integer> result = ReactiveSeq.range(0,100_000)
+                                          .foldParallel(fj,128,true,s->s.map(i->i*2).collect(Collectors.toList()),
+                                                        (a,b)->ListX.fromIterable(a).plusAll(b));
+        assertThat(result,equalTo(ReactiveSeq.range(0,100_000).map(i->i*2).toList()));
+    }
+    @Test
+    public void unorderedSum(){
+        long sum = ReactiveSeq.range(0,100_000)
+                              .foldParallel(fj,100,false,s->s.mapToLong(i->i).sum(),Long::sum);
+        assertThat(sum,equalTo(ReactiveSeq.range(0,100_000).mapToLong(i->i).sum()));
+    }
+    @Test
+    public void commonPool(){
+        assertThat(Spouts.range(0,10_000)
+                         .foldParallel(1000,true,s->s.count(),Long::sum),equalTo(10_000l));
+    }
+    @Test
+    public void empty(){
+        assertThat(ReactiveSeq.<Integer>empty()
+                              .foldParallel(fj,64,true,s->s.count(),Long::sum),equalTo(0l));
+    }
+    @Test
+    public void chunksAreWholeUnits(){
+        Set<Long> sizes = ConcurrentHashMap.newKeySet();
+        ReactiveSeq.range(0,1000)
+                   .foldParallel(fj,300,false,s->{
+                        long count = s.count();
+                        sizes.add(count);
+                        return count;
+                   },Long::sum);
+        assertThat(sizes,equalTo(new HashSet<>(Arrays.asList(300l,100l))));
+    }
+    @Test
+    public void errorsArePropagated(){
+        for(boolean ordered : new boolean[]{true,false}) {
+            boolean failed = false;
+            try {
+                ReactiveSeq.range(0, 10_000)
+                           .foldParallel(fj, 100, ordered, s -> {
+                               if (s.anyMatch(i -> i == 5_000))
+                                   throw new IllegalStateException("boom");
+                               return 1l;
+                           }, Long::sum);
+            } catch (RuntimeException e) {
+                failed = true;
+            }
+            assertTrue(failed);
+        }
+    }
+}
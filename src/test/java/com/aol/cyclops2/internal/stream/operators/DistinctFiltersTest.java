@@ -0,0 +1,152 @@
+package com.aol.cyclops2.internal.stream.operators;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+
+public class DistinctFiltersTest {
+
+    @Test
+    public void windowedForgetsLeastRecentlySeen() {
+        assertThat(ReactiveSeq.of(1, 2, 1, 3, 1, 2)
+                              .distinctWindowed(2)
+                              .toList(),
+                   equalTo(Arrays.asList(1, 2, 3, 2)));
+    }
+
+    @Test
+    public void windowedForgetsLeastRecentlySeenPush() {
+        assertThat(Spouts.of(1, 2, 1, 3, 1, 2)
+                         .distinctWindowed(2)
+                         .toList(),
+                   equalTo(Arrays.asList(1, 2, 3, 2)));
+    }
+
+    @Test
+    public void windowedLargeEnoughIsDistinct() {
+        assertThat(ReactiveSeq.of(1, 2, 1, 3, 1, 2)
+                              .distinctWindowed(100)
+                              .toList(),
+                   equalTo(ReactiveSeq.of(1, 2, 1, 3, 1, 2)
+                                      .distinct()
+                                      .toList()));
+    }
+
+    @Test
+    public void windowedIsBounded() {
+        WindowedDistinctFilter<Integer> filter = WindowedDistinctFilter.ofSize(10);
+        for (int i = 0; i < 1000; i++)
+            assertTrue(filter.test(i));
+        assertThat(filter.size(), equalTo(10));
+        assertFalse(filter.test(999));
+        assertTrue(filter.test(0));
+    }
+
+    @Test
+    public void windowedHandlesNull() {
+        assertThat(ReactiveSeq.of(1, null, null, 1)
+                              .distinctWindowed(10)
+                              .toList(),
+                   equalTo(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void timedRemovesDuplicatesWithinWindow() {
+        assertThat(ReactiveSeq.of(1, 2, 1, 3, 1, 2)
+                              .distinctWindowed(1, TimeUnit.MINUTES)
+                              .toList(),
+                   equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(Spouts.of(1, 2, 1, 3, 1, 2)
+                         .distinctWindowed(1, TimeUnit.MINUTES)
+                         .toList(),
+                   equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void timedExpires() {
+        assertThat(ReactiveSeq.of(1, 2, 1, 2)
+                              .peek(i -> {
+                                  if (i == 2)
+                                      sleep(50);
+                              })
+                              .distinctWindowed(20, TimeUnit.MILLISECONDS)
+                              .toList(),
+                   equalTo(Arrays.asList(1, 2, 1, 2)));
+    }
+
+    @Test
+    public void sizeAndTime() {
+        assertThat(ReactiveSeq.of(1, 2, 1, 3, 1, 2)
+                              .distinctWindowed(2, 1, TimeUnit.MINUTES)
+                              .toList(),
+                   equalTo(Arrays.asList(1, 2, 3, 2)));
+    }
+
+    @Test
+    public void stateIsPerSubscription() {
+        ReactiveSeq<Integer> stream = Spouts.of(1, 1, 2)
+                                            .distinctWindowed(10);
+        assertThat(stream.toList(), equalTo(Arrays.asList(1, 2)));
+        assertThat(stream.toList(), equalTo(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    public void approximateRemovesDuplicates() {
+        assertThat(ReactiveSeq.of(1, 2, 1, 3, 1, 2)
+                              .distinctApproximate(100, 0.01)
+                              .toList(),
+                   equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(Spouts.of(1, 2, 1, 3, 1, 2)
+                         .distinctApproximate(100, 0.01)
+                         .toList(),
+                   equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void approximateFalsePositiveRate() {
+        long count = ReactiveSeq.range(0, 100_000)
+                                .distinctApproximate(100_000, 0.01)
+                                .count();
+        assertThat(count, greaterThan(98_000l));
+        assertThat(ReactiveSeq.range(0, 1_000_000)
+                              .map(i -> i % 1000)
+                              .distinctApproximate(1000, 0.01)
+                              .count(),
+                   lessThan(1001l));
+    }
+
+    @Test
+    public void bloomSizing() {
+        BloomDistinctFilter<Integer> filter = new BloomDistinctFilter<>(
+                                                                        1_000_000, 0.01);
+        assertThat(filter.bitSize(), greaterThan(9_500_000l));
+        assertThat(filter.bitSize(), lessThan(9_700_000l));
+        assertThat(filter.hashFunctions(), equalTo(7));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bloomRejectsInvalidRate() {
+        new BloomDistinctFilter<>(
+                                  100, 1.0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+}
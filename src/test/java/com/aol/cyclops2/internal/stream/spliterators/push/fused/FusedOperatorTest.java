@@ -0,0 +1,117 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.fused;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.collections.ListX;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the standard Operator checks against a map / filter / peek / skip / limit pipeline collapsed into one FusedOperator
+ */
+public class FusedOperatorTest extends AbstractOperatorTest {
+
+    private Operator<Integer> fused(Operator<Integer> source){
+        Operator<Integer> mapped = FusedOperator.map(source, i->i*2);
+        Operator<Integer> filtered = FusedOperator.filter(mapped, i->true);
+        Operator<Integer> peeked = FusedOperator.peek(filtered, i->{});
+        Operator<Integer> skipped = FusedOperator.skip(peeked, 0);
+        return FusedOperator.limit(skipped, 100);
+    }
+
+    public Operator<Integer> createEmpty(){
+       return fused(new ArrayOfValuesOperator<>());
+    }
+    public Operator<Integer> createOne(){
+        return fused(new SingleValueOperator<>(1));
+    }
+
+    public Operator<Integer> createThree(){
+        return fused(new ArrayOfValuesOperator<>(1,2,3));
+    }
+    public Operator<Integer> createTwoAndError(){
+        return fused(Fixtures.twoAndErrorSource);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return fused(Fixtures.threeErrorsSource);
+    }
+
+    @Test
+    public void stagesAppliedInOrder(){
+        Operator<Integer> op = FusedOperator.limit(
+                                    FusedOperator.filter(
+                                        FusedOperator.skip(
+                                            FusedOperator.map(new ArrayOfValuesOperator<>(1,2,3,4,5,6,7,8),i->i*10),
+                                        2),
+                                    i->i%20==0),
+                               2);
+        op.subscribeAll(values::add,errors::add,()->onComplete=true);
+        assertThat(values,equalTo(ListX.of(40,60)));
+        assertTrue(onComplete);
+    }
+    @Test
+    public void filteredElementsRequestMore(){
+        Subscription sub = FusedOperator.filter(new ArrayOfValuesOperator<>(1,2,3,4),i->i>2)
+                                        .subscribe(values::add,errors::add,()->onComplete=true);
+        sub.request(1l);
+        assertThat(values,equalTo(ListX.of(3)));
+        assertFalse(onComplete);
+        sub.request(1l);
+        assertThat(values,equalTo(ListX.of(3,4)));
+    }
+    @Test
+    public void limitCompletesOnNextElement(){
+        Subscription sub = FusedOperator.limit(new ArrayOfValuesOperator<>(1,2,3,4),2)
+                                        .subscribe(values::add,errors::add,()->onComplete=true);
+        sub.request(1l);
+        sub.request(1l);
+        assertThat(values,equalTo(ListX.of(1,2)));
+        assertFalse(onComplete);
+        sub.request(1l);
+        assertThat(values,equalTo(ListX.of(1,2)));
+        assertTrue(onComplete);
+    }
+    @Test
+    public void countersAreNotSharedBetweenSubscriptions(){
+        Operator<Integer> op = FusedOperator.limit(FusedOperator.skip(new ArrayOfValuesOperator<>(1,2,3,4),1),2);
+        op.subscribeAll(values::add,errors::add,()->{});
+        op.subscribeAll(values::add,errors::add,()->{});
+        assertThat(values,equalTo(ListX.of(2,3,2,3)));
+    }
+    @Test
+    public void errorInStageSkipsElement(){
+        FusedOperator.map(FusedOperator.map(new ArrayOfValuesOperator<>(1,2,3),i->{
+                                                if(i==2)
+                                                    throw new RuntimeException();
+                                                return i;
+                                            }),i->i*2)
+                     .subscribeAll(values::add,errors::add,()->onComplete=true);
+        assertThat(values,equalTo(ListX.of(2,6)));
+        assertThat(errors.size(),equalTo(1));
+        assertTrue(onComplete);
+    }
+    @Test
+    public void reactiveStreamXPipeline(){
+        assertThat(Spouts.of(1,2,3,4,5,6,7,8,9,10)
+                         .map(i->i+1)
+                         .filter(i->i%2==0)
+                         .peek(i->{})
+                         .skip(1)
+                         .map(i->i*10)
+                         .limit(3)
+                         .toList(),equalTo(ListX.of(40,60,80)));
+    }
+    @Test
+    public void infiniteSourceLimited(){
+        assertThat(Spouts.iterate(1,i->i+1)
+                         .filter(i->i%3==0)
+                         .limit(3)
+                         .toList(),equalTo(ListX.of(3,6,9)));
+    }
+
+}
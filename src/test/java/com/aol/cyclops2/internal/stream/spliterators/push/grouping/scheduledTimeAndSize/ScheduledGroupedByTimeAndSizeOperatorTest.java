@@ -0,0 +1,173 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.grouping.scheduledTimeAndSize;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.collections.ListX;
+import cyclops.stream.Spouts;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.*;
+
+public class ScheduledGroupedByTimeAndSizeOperatorTest extends AbstractOperatorTest {
+
+    static ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+
+    @AfterClass
+    public static void shutdown(){
+        ex.shutdownNow();
+    }
+
+    public Operator<Integer> createEmpty(){
+        return new MapOperator<List<Integer>,Integer>(new ScheduledGroupedByTimeAndSizeOperator(new ArrayOfValuesOperator<>(),
+                ()->new ArrayList<Integer>(),i->i,1, TimeUnit.SECONDS,2,ex),i->i.get(0));
+    }
+    public Operator<Integer> createOne(){
+        return new MapOperator<List<Integer>,Integer>(new ScheduledGroupedByTimeAndSizeOperator(new ArrayOfValuesOperator<>(1),
+                ()->new ArrayList<Integer>(),i->i,1, TimeUnit.SECONDS,2,ex),i->i.get(0));
+
+    }
+
+    public Operator<Integer> createThree(){
+        List<Integer> list = Arrays.asList(1,2,3,4,5,6,7,8,9);
+        return new MapOperator<List<Integer>,Integer>(new ScheduledGroupedByTimeAndSizeOperator(new IterableSourceOperator(list),
+                ()->new ArrayList<Integer>(),i->i,3, TimeUnit.SECONDS,3,ex),i->i.get(0));
+    }
+    public Operator<Integer> createTwoAndError(){
+
+        return new MapOperator<List<Integer>,Integer>(new ScheduledGroupedByTimeAndSizeOperator(Fixtures.twoAndErrorSource,
+                ()->new ArrayList<Integer>(),i->i,1, TimeUnit.SECONDS,1,ex),i->i.get(0));
+    }
+    public Operator<Integer> createThreeErrors(){
+        return new MapOperator<List<Integer>,Integer>(new ScheduledGroupedByTimeAndSizeOperator(Fixtures.threeErrorsSource,
+                ()->new ArrayList<Integer>(),i->i,1, TimeUnit.SECONDS,6,ex),i->i.get(0));
+    }
+
+    /**
+     * A source that emits one element per request, and never completes
+     */
+    private Operator<Integer> sparse(int elements){
+        return new Operator<Integer>() {
+            @Override
+            public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                return new StreamSubscription(){
+                    int index = 0;
+                    @Override
+                    public void request(long n) {
+                        if(index<elements)
+                            onNext.accept(index++);
+                    }
+                };
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                for(int i=0;i<elements;i++)
+                    onNext.accept(i);
+            }
+        };
+    }
+
+    @Test
+    public void partialGroupFlushedOnDeadline() throws InterruptedException {
+        ListX<List<Integer>> groups = ListX.empty();
+        Operator<List<Integer>> op = new ScheduledGroupedByTimeAndSizeOperator<Integer,List<Integer>,List<Integer>>(sparse(2),
+                ()->new ArrayList<>(),i->i,10, TimeUnit.MILLISECONDS,100,ex);
+        Subscription sub = op.subscribe(groups::add,errors::add,()->onComplete=true);
+        sub.request(1l);
+        Thread.sleep(200);
+        assertThat(groups,equalTo(ListX.of(Arrays.asList(0,1))));
+        assertFalse(onComplete);
+    }
+    @Test
+    public void partialGroupHeldUntilDemand() throws InterruptedException {
+        ListX<List<Integer>> groups = ListX.empty();
+        Operator<List<Integer>> op = new ScheduledGroupedByTimeAndSizeOperator<Integer,List<Integer>,List<Integer>>(sparse(4),
+                ()->new ArrayList<>(),i->i,10, TimeUnit.MILLISECONDS,2,ex);
+        Subscription sub = op.subscribe(groups::add,errors::add,()->onComplete=true);
+        sub.request(1l);
+        Thread.sleep(100);
+        assertThat(groups,equalTo(ListX.of(Arrays.asList(0,1))));
+        sub.request(1l);
+        Thread.sleep(100);
+        assertThat(groups,equalTo(ListX.of(Arrays.asList(0,1),Arrays.asList(2,3))));
+    }
+    @Test
+    public void subscribeAllFlushedOnDeadline() throws InterruptedException {
+        ListX<List<Integer>> groups = ListX.empty();
+        new ScheduledGroupedByTimeAndSizeOperator<Integer,List<Integer>,List<Integer>>(sparse(3),
+                ()->new ArrayList<>(),i->i,10, TimeUnit.MILLISECONDS,2,ex)
+                .subscribeAll(groups::add,errors::add,()->onComplete=true);
+        assertThat(groups,equalTo(ListX.of(Arrays.asList(0,1))));
+        Thread.sleep(200);
+        assertThat(groups,equalTo(ListX.of(Arrays.asList(0,1),Arrays.asList(2))));
+    }
+    @Test
+    public void timerEmissionDoesNotBlockUpstream() throws InterruptedException {
+        List<Consumer<? super Integer>> push = new ArrayList<>();
+        Operator<Integer> source = new Operator<Integer>() {
+            @Override
+            public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                push.add(onNext);
+            }
+        };
+        List<List<Integer>> groups = new ArrayList<>();
+        CountDownLatch inOnNext = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch emitted = new CountDownLatch(2);
+        new ScheduledGroupedByTimeAndSizeOperator<Integer,List<Integer>,List<Integer>>(source,
+                ()->new ArrayList<>(),i->i,10, TimeUnit.MILLISECONDS,2,ex)
+                .subscribeAll(g->{
+                    synchronized (groups) {
+                        groups.add(g);
+                    }
+                    inOnNext.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    emitted.countDown();
+                },errors::add,()->onComplete=true);
+
+        push.get(0).accept(0);
+        assertTrue(inOnNext.await(1,TimeUnit.SECONDS)); //timer thread is emitting [0]
+
+        CountDownLatch pushed = new CountDownLatch(1);
+        new Thread(()->{
+            push.get(0).accept(1);
+            push.get(0).accept(2);
+            pushed.countDown();
+        }).start();
+        assertTrue(pushed.await(1,TimeUnit.SECONDS));
+
+        release.countDown();
+        assertTrue(emitted.await(1,TimeUnit.SECONDS));
+        assertThat(groups,equalTo(Arrays.asList(Arrays.asList(0),Arrays.asList(1,2))));
+    }
+    @Test
+    public void groupedByTimeWithExecutor(){
+        assertThat(Spouts.of(1,2,3,4,5,6)
+                         .groupedBySizeAndTime(3,10,TimeUnit.SECONDS,ex)
+                         .toList(),equalTo(ListX.of(ListX.of(1,2,3),ListX.of(4,5,6))));
+        assertThat(Spouts.of(1,2,3,4,5,6)
+                         .groupedByTime(10,TimeUnit.SECONDS,ex)
+                         .toList(),equalTo(ListX.of(ListX.of(1,2,3,4,5,6))));
+    }
+
+}
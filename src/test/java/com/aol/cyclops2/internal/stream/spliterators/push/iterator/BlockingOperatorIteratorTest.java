@@ -0,0 +1,69 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.iterator;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.BlockingOperatorIterator;
+import com.aol.cyclops2.internal.stream.spliterators.push.Fixtures;
+import com.aol.cyclops2.internal.stream.spliterators.push.PublisherToOperator;
+import cyclops.async.wait.SpinParkWait;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BlockingOperatorIteratorTest {
+
+    private <T> List<T> drain(Iterator<T> it){
+        List<T> result = new ArrayList<>();
+        while(it.hasNext())
+            result.add(it.next());
+        return result;
+    }
+
+    @Test
+    public void asyncSource(){
+        for(int i=0;i<100;i++) {
+            Flux<Integer> flux = Flux.range(0, 1000)
+                                     .subscribeOn(Schedulers.fromExecutor(ForkJoinPool.commonPool()));
+            Iterator<Integer> it = new BlockingOperatorIterator<>(new PublisherToOperator<>(flux), e -> {
+            });
+            assertThat(drain(it), equalTo(ReactiveSeq.range(0, 1000).toList()));
+        }
+    }
+    @Test
+    public void batchSmallerThanSource(){
+        Flux<Integer> flux = Flux.range(0, 100)
+                                 .subscribeOn(Schedulers.fromExecutor(ForkJoinPool.commonPool()));
+        Iterator<Integer> it = new BlockingOperatorIterator<>(new PublisherToOperator<>(flux), e -> {
+        },4,new SpinParkWait<>(1,1,1000));
+        assertThat(drain(it), equalTo(ReactiveSeq.range(0, 100).toList()));
+    }
+    @Test
+    public void asyncStreamIterator(){
+        Iterator<Integer> it = Spouts.from(Flux.just(1,2,3)
+                                               .subscribeOn(Schedulers.fromExecutor(ForkJoinPool.commonPool())))
+                                     .iterator();
+        assertThat(drain(it),equalTo(ReactiveSeq.of(1,2,3).toList()));
+    }
+    @Test
+    public void errorsPassedToHandler(){
+        AtomicInteger errors = new AtomicInteger(0);
+        Iterator<Integer> it = new BlockingOperatorIterator<>(Fixtures.twoAndErrorSource, e -> errors.incrementAndGet());
+        assertThat(drain(it),equalTo(ReactiveSeq.of(1,2).toList()));
+        assertThat(errors.get(),equalTo(1));
+    }
+    @Test(expected = NoSuchElementException.class)
+    public void nextWhenEmpty(){
+        Iterator<Integer> it = new BlockingOperatorIterator<>(new PublisherToOperator<>(Flux.<Integer>empty()), e -> {});
+        it.next();
+    }
+}
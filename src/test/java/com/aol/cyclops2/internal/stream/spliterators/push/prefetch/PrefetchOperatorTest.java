@@ -0,0 +1,154 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.prefetch;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class PrefetchOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new PrefetchOperator<>(new ArrayOfValuesOperator<>(),2);
+    }
+    public Operator<Integer> createOne(){
+        return new PrefetchOperator<>(new SingleValueOperator<>(1),2);
+    }
+
+    public Operator<Integer> createThree(){
+        return new PrefetchOperator<>(new ArrayOfValuesOperator<>(1,2,3),2);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return new PrefetchOperator<>(Fixtures.twoAndErrorSource,2);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return new PrefetchOperator<>(Fixtures.threeErrorsSource,2);
+    }
+
+    private Operator<Integer> countingRequests(List<Long> requests, int size){
+        ArrayOfValuesOperator<Integer> values = new ArrayOfValuesOperator<>(ReactiveSeq.range(0,size).toArray(Integer[]::new));
+        return new Operator<Integer>() {
+            @Override
+            public StreamSubscription subscribe(java.util.function.Consumer<? super Integer> onNext, java.util.function.Consumer<? super Throwable> onError, Runnable onComplete) {
+                StreamSubscription sub = values.subscribe(onNext,onError,onComplete);
+                return new StreamSubscription(){
+                    @Override
+                    public void request(long n) {
+                        requests.add(n);
+                        sub.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        sub.cancel();
+                    }
+                };
+            }
+
+            @Override
+            public void subscribeAll(java.util.function.Consumer<? super Integer> onNext, java.util.function.Consumer<? super Throwable> onError, Runnable onComplete) {
+                values.subscribeAll(onNext,onError,onComplete);
+            }
+        };
+    }
+
+    @Test
+    public void demandIsBatched(){
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Subscription sub = new PrefetchOperator<>(countingRequests(requests,100),8)
+                                                    .subscribe(values::add,errors::add,()->onComplete=true);
+        for(int i=0;i<100;i++)
+            sub.request(1);
+        assertThat(values.size(),equalTo(100));
+        assertThat(requests.get(0),equalTo(8l));
+        assertTrue(requests.stream().skip(1).allMatch(n->n==6l));
+        assertThat(requests.size(),lessThan(20));
+        sub.request(1);
+        assertTrue(onComplete);
+    }
+    @Test
+    public void filteredPipelineRequestsInBatches(){
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        assertThat(Spouts.reactiveStream(countingRequests(requests,1000),64)
+                         .filter(i->i%10==0)
+                         .map(i->i/10)
+                         .iterator()
+                         .next(),equalTo(0));
+        assertThat(Spouts.reactiveStream(countingRequests(requests,1000),64)
+                         .filter(i->i%10==0)
+                         .map(i->i/10)
+                         .collect(Collectors.toList()),equalTo(ReactiveSeq.range(0,100).toList()));
+    }
+    @Test
+    public void asyncPublisher() throws InterruptedException {
+        ExecutorService exec = Executors.newSingleThreadExecutor();
+        AtomicLong requestCalls = new AtomicLong(0);
+        Publisher<Integer> pub = new Publisher<Integer>() {
+            @Override
+            public void subscribe(Subscriber<? super Integer> s) {
+                AtomicLong demand = new AtomicLong(0);
+                AtomicInteger next = new AtomicInteger(0);
+                s.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                        requestCalls.incrementAndGet();
+                        if(demand.getAndAdd(n)==0)
+                            exec.execute(()->{
+                                long d = demand.get();
+                                while(d>0){
+                                    for(long i=0;i<d && next.get()<10_000;i++)
+                                        s.onNext(next.getAndIncrement());
+                                    if(next.get()==10_000){
+                                        s.onComplete();
+                                        return;
+                                    }
+                                    d = demand.addAndGet(-d);
+                                }
+                            });
+                    }
+
+                    @Override
+                    public void cancel() {
+
+                    }
+                });
+            }
+        };
+        List<Integer> result = Spouts.from(pub,128)
+                                     .filter(i->i%2==0)
+                                     .collect(Collectors.toList());
+        assertThat(result.size(),equalTo(5_000));
+        assertThat(result.get(4_999),equalTo(9_998));
+        assertThat(requestCalls.get(),lessThan(200l));
+        exec.shutdown();
+    }
+    @Test
+    public void cancelStopsDelivery(){
+        Subscription sub = new PrefetchOperator<>(new ArrayOfValuesOperator<>(1,2,3,4,5),4)
+                                                    .subscribe(values::add,errors::add,()->onComplete=true);
+        sub.request(2);
+        sub.cancel();
+        sub.request(2);
+        assertThat(values,equalTo(ListX.of(1,2)));
+        assertFalse(onComplete);
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.publisher;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.PublisherToOperator;
+import com.aol.cyclops2.internal.stream.spliterators.push.StreamSubscription;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PublisherToOperatorTest {
+
+    /**
+     * Publisher that signals onSubscribe from a new thread, once start is released. Each request(n) synchronously emits n
+     * values (completing after size values) and is added to the requested total.
+     */
+    private Publisher<Integer> onSubscribeFromThread(CountDownLatch start, AtomicLong requested, List<Thread> threads, int size){
+        return s -> {
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                s.onSubscribe(new Subscription() {
+                    int index = 0;
+                    boolean done = false;
+                    @Override
+                    public void request(long n) {
+                        requested.addAndGet(n);
+                        for (long i = 0; i < n && !done; i++) {
+                            if (index == size) {
+                                done = true;
+                                s.onComplete();
+                                return;
+                            }
+                            s.onNext(index++);
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        done = true;
+                    }
+                });
+            });
+            threads.add(t);
+            t.start();
+        };
+    }
+
+    @Test
+    public void demandRacingOnSubscribeFromSeparateThread() throws InterruptedException {
+        for(int run=0;run<1000;run++) {
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicLong requested = new AtomicLong(0);
+            List<Thread> threads = new ArrayList<>();
+            AtomicInteger received = new AtomicInteger(0);
+            StreamSubscription sub = new PublisherToOperator<Integer>(onSubscribeFromThread(start, requested, threads, Integer.MAX_VALUE))
+                                                .subscribe(e -> received.incrementAndGet(), e -> {}, () -> {});
+            start.countDown();
+            for (int i = 0; i < 10; i++)
+                sub.request(1);
+            threads.get(0).join();
+
+            assertThat(requested.get(), equalTo(10l));
+            assertThat(received.get(), equalTo(10));
+        }
+    }
+
+    @Test
+    public void requestBeforeOnSubscribe() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong requested = new AtomicLong(0);
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger received = new AtomicInteger(0);
+        StreamSubscription sub = new PublisherToOperator<Integer>(onSubscribeFromThread(start, requested, threads, Integer.MAX_VALUE))
+                                            .subscribe(e -> received.incrementAndGet(), e -> {}, () -> {});
+        sub.request(5);
+        sub.request(3);
+        start.countDown();
+        threads.get(0).join();
+
+        assertThat(requested.get(), equalTo(8l));
+        assertThat(received.get(), equalTo(8));
+    }
+
+    @Test
+    public void activeUntilDemandDelivered() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong requested = new AtomicLong(0);
+        List<Thread> threads = new ArrayList<>();
+        StreamSubscription sub = new PublisherToOperator<Integer>(onSubscribeFromThread(start, requested, threads, Integer.MAX_VALUE))
+                                            .subscribe(e -> {}, e -> {}, () -> {});
+        sub.request(2);
+        assertThat(sub.isActive(), equalTo(true));
+        start.countDown();
+        threads.get(0).join();
+
+        assertThat(requested.get(), equalTo(2l));
+        assertThat(sub.isActive(), equalTo(false));
+    }
+
+    @Test
+    public void cancelBeforeOnSubscribe() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong requested = new AtomicLong(0);
+        List<Thread> threads = new ArrayList<>();
+        StreamSubscription sub = new PublisherToOperator<Integer>(onSubscribeFromThread(start, requested, threads, Integer.MAX_VALUE))
+                                            .subscribe(e -> {}, e -> {}, () -> {});
+        sub.request(5);
+        sub.cancel();
+        start.countDown();
+        threads.get(0).join();
+
+        assertThat(requested.get(), equalTo(0l));
+    }
+
+    @Test
+    public void spoutsFromOnSubscribeFromSeparateThread(){
+        for(int run=0;run<100;run++) {
+            CountDownLatch start = new CountDownLatch(0);
+            List<Integer> result = Spouts.from(onSubscribeFromThread(start, new AtomicLong(0), new ArrayList<>(), 100))
+                                         .toList();
+            assertThat(result, equalTo(ReactiveSeq.range(0, 100).toList()));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.ratelimit;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import cyclops.async.RateLimiter;
+import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimitOperatorTest extends AbstractOperatorTest {
+
+    static ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+
+    @AfterClass
+    public static void shutdown(){
+        ex.shutdownNow();
+    }
+
+    private RateLimiter unlimited(){
+        return RateLimiter.perSecond(1_000_000);
+    }
+
+    public Operator<Integer> createEmpty(){
+        return new RateLimitOperator<>(new ArrayOfValuesOperator<>(),unlimited(),ex);
+    }
+    public Operator<Integer> createOne(){
+        return new RateLimitOperator<>(new SingleValueOperator<>(1),unlimited(),ex);
+    }
+
+    public Operator<Integer> createThree(){
+        return new RateLimitOperator<>(new ArrayOfValuesOperator<>(1,2,3),unlimited(),ex);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return new RateLimitOperator<>(Fixtures.twoAndErrorSource,unlimited(),ex);
+    }
+    public Operator<Integer> createThreeErrors(){
+        return new RateLimitOperator<>(Fixtures.threeErrorsSource,unlimited(),ex);
+    }
+
+    @Test
+    public void burstEmittedImmediatelyRestScheduled() throws InterruptedException {
+        RateLimiter limiter = RateLimiter.of(1,50,TimeUnit.MILLISECONDS).withBurst(2);
+        Subscription sub = new RateLimitOperator<>(new ArrayOfValuesOperator<>(1,2,3,4),limiter,ex)
+                                                    .subscribe(values::add,errors::add,()->onComplete=true);
+        sub.request(Long.MAX_VALUE);
+        assertThat(values,equalTo(ListX.of(1,2)));
+        assertFalse(onComplete);
+        Thread.sleep(400);
+        assertThat(values,equalTo(ListX.of(1,2,3,4)));
+        assertTrue(onComplete);
+        assertThat(limiter.getAcquired(),equalTo(4l));
+        assertThat(limiter.getThrottled(),equalTo(2l));
+    }
+    @Test
+    public void cancelStopsScheduledEmission() throws InterruptedException {
+        Subscription sub = new RateLimitOperator<>(new ArrayOfValuesOperator<>(1,2,3),RateLimiter.of(1,50,TimeUnit.MILLISECONDS),ex)
+                                                    .subscribe(values::add,errors::add,()->onComplete=true);
+        sub.request(3);
+        sub.cancel();
+        Thread.sleep(200);
+        assertThat(values,equalTo(ListX.of(1)));
+        assertFalse(onComplete);
+    }
+    @Test
+    public void demandIsRespected() throws InterruptedException {
+        Subscription sub = new RateLimitOperator<>(new ArrayOfValuesOperator<>(1,2,3),RateLimiter.of(1,10,TimeUnit.MILLISECONDS),ex)
+                                                    .subscribe(values::add,errors::add,()->onComplete=true);
+        sub.request(2);
+        Thread.sleep(100);
+        assertThat(values,equalTo(ListX.of(1,2)));
+        sub.request(1);
+        Thread.sleep(100);
+        assertThat(values,equalTo(ListX.of(1,2,3)));
+        sub.request(1);
+        assertTrue(onComplete);
+    }
+    @Test
+    public void onePerWithExecutor(){
+        long start = System.nanoTime();
+        assertThat(ReactiveSeq.of(1,2,3,4)
+                              .onePer(20,TimeUnit.MILLISECONDS,ex)
+                              .toList(),equalTo(ListX.of(1,2,3,4)));
+        assertThat(System.nanoTime()-start,greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(55)));
+    }
+    @Test
+    public void xPerWithExecutor(){
+        assertThat(Spouts.of(1,2,3,4,5,6)
+                         .xPer(3,20,TimeUnit.MILLISECONDS,ex)
+                         .toList(),equalTo(ListX.of(1,2,3,4,5,6)));
+    }
+    @Test
+    public void limiterSharedAcrossStreams(){
+        RateLimiter limiter = RateLimiter.of(100,1,TimeUnit.SECONDS).withBurst(5);
+        List<Integer> all = new CopyOnWriteArrayList<>();
+        Spouts.range(0,10).rateLimit(limiter,ex).forEach(all::add);
+        Spouts.range(0,10).rateLimit(limiter,ex).forEach(all::add);
+        assertThat(all.size(),equalTo(20));
+        assertThat(limiter.getAcquired(),equalTo(20l));
+        assertThat(limiter.getThrottled(),greaterThan(0l));
+    }
+
+}
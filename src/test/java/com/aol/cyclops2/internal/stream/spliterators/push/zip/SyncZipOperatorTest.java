@@ -0,0 +1,94 @@
+package com.aol.cyclops2.internal.stream.spliterators.push.zip;
+
+import com.aol.cyclops2.internal.stream.spliterators.push.*;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Lock-step zip of synchronous Operators against the same fixtures as ZipOperatorTest
+ */
+public class SyncZipOperatorTest extends AbstractOperatorTest {
+
+
+    public Operator<Integer> createEmpty(){
+       return new SyncZippingOperator<Integer,Integer,Integer>(new ArrayOfValuesOperator<>(),new ArrayOfValuesOperator<>(),(a,b)->a+b);
+    }
+    public Operator<Integer> createOne(){
+        return new SyncZippingOperator<Integer,Integer,Integer>(new ArrayOfValuesOperator<>(1),new ArrayOfValuesOperator<>(2),(a,b)->a+b);
+    }
+
+    public Operator<Integer> createThree(){
+        return new SyncZippingOperator<Integer,Integer,Integer>(new ArrayOfValuesOperator<>(1,2,3),new ArrayOfValuesOperator<>(10,11,12),(a,b)->a+b);
+    }
+    public Operator<Integer> createTwoAndError(){
+        return new SyncZippingOperator<Integer,Integer,Integer>(Fixtures.twoAndErrorSource,new ArrayOfValuesOperator<>(10,11,12),(a,b)->a+b);
+
+    }
+    public Operator<Integer> createThreeErrors(){
+        return new SyncZippingOperator<Integer,Integer,Integer>(new ArrayOfValuesOperator<>(10,11,12),Fixtures.threeErrorsSource,(a,b)->a+b);
+
+    }
+
+    /*
+     * Signals each element from another Thread, after request has returned
+     */
+    static Operator<Integer> delayedSource(int... values){
+        return new Operator<Integer>(){
+            @Override
+            public StreamSubscription subscribe(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                int[] index = {0};
+                return new StreamSubscription(){
+                    @Override
+                    public void request(long n) {
+                        Thread t = new Thread(()->{
+                            if(index[0]<values.length)
+                                onNext.accept(values[index[0]++]);
+                            else
+                                onComplete.run();
+                        });
+                        t.start();
+                    }
+                };
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super Integer> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                subscribe(onNext,onError,onComplete).request(Long.MAX_VALUE);
+            }
+        };
+    }
+
+    @Test(timeout=10000)
+    public void waitsForDelayedSignalWithoutRerequesting() throws Exception {
+        List<Integer> result = new ArrayList<>();
+        boolean[] completed = {false};
+        new SyncZippingOperator<Integer,Integer,Integer>(delayedSource(1,2,3),new ArrayOfValuesOperator<>(10,11,12),(a,b)->a+b)
+                .subscribeAll(result::add,errors::add,()->completed[0]=true);
+        assertThat(result,equalTo(Arrays.asList(11,13,15)));
+        assertThat(errors.size(),equalTo(0));
+        assertTrue(completed[0]);
+    }
+
+    @Test
+    public void subscribeThreeErrors() throws Exception {
+        Subscription sub = threeErrors.subscribe(values::add,errors::add,()->onComplete =true);
+        sub.request(1l);
+        assertThat(values.size(),equalTo(0));
+        assertThat(errors.size(),equalTo(3));
+        assertTrue(onComplete);
+
+    }
+
+
+
+}
\ No newline at end of file
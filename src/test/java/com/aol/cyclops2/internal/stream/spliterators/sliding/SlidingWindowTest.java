@@ -0,0 +1,123 @@
+package com.aol.cyclops2.internal.stream.spliterators.sliding;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.aol.cyclops2.internal.stream.spliterators.MonoidWindow;
+import com.aol.cyclops2.internal.stream.spliterators.RingBufferWindow;
+
+import cyclops.Monoids;
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+
+public class SlidingWindowTest {
+
+    @Test
+    public void ringBufferWraps() {
+        RingBufferWindow<Integer> window = new RingBufferWindow<>(3);
+        for (int i = 0; i < 10; i++)
+            window.add(i);
+        assertThat(window.result(), equalTo(Arrays.asList(7, 8, 9)));
+        window.removeFirst();
+        window.add(10);
+        assertThat(window.result(), equalTo(Arrays.asList(8, 9, 10)));
+    }
+
+    @Test
+    public void snapshotsAreImmutable() {
+        List<List<Integer>> windows = ReactiveSeq.of(1, 2, 3, 4)
+                                                 .sliding(2)
+                                                 .collect(Collectors.toList());
+        assertThat(windows, equalTo(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(2, 3), Arrays.asList(3, 4))));
+    }
+
+    @Test
+    public void largeWindow() {
+        assertThat(ReactiveSeq.range(0, 5000)
+                              .sliding(1000)
+                              .map(l -> l.get(0) + l.get(999))
+                              .toList(),
+                   equalTo(ReactiveSeq.range(0, 4001)
+                                      .map(i -> 2 * i + 999)
+                                      .toList()));
+    }
+
+    @Test
+    public void monoidPreservesOrder() {
+        MonoidWindow<String> window = new MonoidWindow<>(
+                                                         3, Monoids.stringConcat);
+        window.add("a");
+        window.add("b");
+        window.add("c");
+        window.removeFirst();
+        window.add("d");
+        assertThat(window.result(), equalTo("bcd"));
+        window.removeFirst();
+        window.add("e");
+        assertThat(window.result(), equalTo("cde"));
+    }
+
+    @Test
+    public void slidingReduce() {
+        assertThat(ReactiveSeq.of(1, 2, 3, 4, 5)
+                              .slidingReduce(3, Monoids.intSum)
+                              .toList(),
+                   equalTo(Arrays.asList(6, 9, 12)));
+        assertThat(Spouts.of(1, 2, 3, 4, 5)
+                         .slidingReduce(3, Monoids.intSum)
+                         .toList(),
+                   equalTo(Arrays.asList(6, 9, 12)));
+    }
+
+    @Test
+    public void slidingReduceInvertible() {
+        assertThat(ReactiveSeq.of(1, 2, 3, 4, 5)
+                              .slidingReduce(3, Monoids.intSum, (a, b) -> a - b)
+                              .toList(),
+                   equalTo(Arrays.asList(6, 9, 12)));
+        assertThat(Spouts.of(1, 2, 3, 4, 5)
+                         .slidingReduce(3, Monoids.intSum, (a, b) -> a - b)
+                         .toList(),
+                   equalTo(Arrays.asList(6, 9, 12)));
+    }
+
+    @Test
+    public void slidingReduceMatchesSliding() {
+        List<Integer> expected = ReactiveSeq.range(0, 2000)
+                                            .sliding(100)
+                                            .map(l -> l.stream()
+                                                       .mapToInt(i -> i)
+                                                       .sum())
+                                            .toList();
+        assertThat(ReactiveSeq.range(0, 2000)
+                              .slidingReduce(100, Monoids.intSum)
+                              .toList(),
+                   equalTo(expected));
+        assertThat(Spouts.range(0, 2000)
+                         .slidingReduce(100, Monoids.intSum, (a, b) -> a - b)
+                         .toList(),
+                   equalTo(expected));
+    }
+
+    @Test
+    public void slidingReduceShortStream() {
+        assertThat(ReactiveSeq.of(1, 2)
+                              .slidingReduce(3, Monoids.intSum)
+                              .toList(),
+                   equalTo(Arrays.asList(3)));
+        assertThat(Spouts.of(1, 2)
+                         .slidingReduce(3, Monoids.intSum)
+                         .toList(),
+                   equalTo(Arrays.asList(3)));
+        assertThat(ReactiveSeq.<Integer> empty()
+                              .slidingReduce(3, Monoids.intSum)
+                              .toList(),
+                   equalTo(Arrays.asList()));
+    }
+}
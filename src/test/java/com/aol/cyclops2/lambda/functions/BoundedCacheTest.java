@@ -0,0 +1,229 @@
+package com.aol.cyclops2.lambda.functions;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import cyclops.function.BoundedCache;
+import cyclops.function.Fn1;
+import cyclops.function.Memoize;
+
+public class BoundedCacheTest {
+
+    int called = 0;
+    AtomicLong time = new AtomicLong(0);
+    @Before
+    public void setup(){
+        called = 0;
+        time.set(0);
+    }
+
+    private Integer compute(Object key){
+        called++;
+        return key==null ? -1 : (Integer)key * 2;
+    }
+
+    @Test
+    public void lruEvictsLeastRecentlyUsed(){
+        BoundedCache<Integer> cache = BoundedCache.lru(2);
+        Fn1<Integer,Integer> fn = Memoize.memoizeFunction(this::compute,cache);
+
+        assertThat(fn.apply(1),equalTo(2));
+        assertThat(fn.apply(2),equalTo(4));
+        assertThat(fn.apply(1),equalTo(2)); //2 is now least recently used
+        assertThat(fn.apply(3),equalTo(6));
+        assertThat(cache.size(),equalTo(2));
+        assertThat(called,equalTo(3));
+
+        assertThat(fn.apply(1),equalTo(2));
+        assertThat(called,equalTo(3));
+        assertThat(fn.apply(2),equalTo(4));
+        assertThat(called,equalTo(4));
+    }
+
+    @Test
+    public void getIfPresentDoesNotCompute(){
+        BoundedCache<Integer> cache = BoundedCache.lru(2);
+        assertThat(cache.getIfPresent(1),equalTo(null));
+        assertThat(cache.size(),equalTo(0));
+        assertThat(cache.computeIfAbsent(1,this::compute),equalTo(2));
+        assertThat(cache.getIfPresent(1),equalTo(2));
+        assertThat(called,equalTo(1));
+        assertThat(cache.stats().getHits(),equalTo(1l));
+        assertThat(cache.stats().getMisses(),equalTo(1l));
+    }
+
+    @Test
+    public void stats(){
+        BoundedCache<Integer> cache = BoundedCache.lru(1);
+        Fn1<Integer,Integer> fn = Memoize.memoizeFunction(this::compute,cache);
+        fn.apply(1);
+        fn.apply(1);
+        fn.apply(1);
+        fn.apply(2);
+
+        assertThat(cache.stats(),equalTo(new BoundedCache.Stats(2,2,1)));
+        assertThat(cache.stats().requests(),equalTo(4l));
+        assertThat(cache.stats().hitRate(),equalTo(0.5));
+    }
+
+    //10,000 one-off keys, with 50 hot keys each re-requested after every 200 scan keys
+    private int hotMissesDuringScan(Fn1<Integer,Integer> fn){
+        for(int i=0;i<50;i++)
+            fn.apply(i);
+        int hotMisses = 0;
+        for(int i=0;i<10_000;i++){
+            fn.apply(1000+i);
+            if(i%4==0){
+                int before = called;
+                fn.apply((i/4)%50);
+                hotMisses += called-before;
+            }
+        }
+        return hotMisses;
+    }
+
+    @Test
+    public void tinyLfuRetainsFrequentKeysDuringScan(){
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(100);
+        Fn1<Integer,Integer> fn = Memoize.memoizeFunction(this::compute,cache);
+
+        assertThat(hotMissesDuringScan(fn),lessThan(100));
+        assertThat(cache.size(),equalTo(100));
+    }
+
+    @Test
+    public void lruFlushedByScan(){
+        BoundedCache<Integer> cache = BoundedCache.lru(100);
+        Fn1<Integer,Integer> fn = Memoize.memoizeFunction(this::compute,cache);
+
+        assertThat(hotMissesDuringScan(fn),greaterThan(2400));
+    }
+
+    @Test
+    public void expireAfterWrite(){
+        BoundedCache<Integer> cache = BoundedCache.<Integer>lru(10)
+                                                  .withExpireAfterWrite(10, TimeUnit.SECONDS)
+                                                  .withTicker(time::get);
+        Fn1<Integer,Integer> fn = Memoize.memoizeFunction(this::compute,cache);
+        fn.apply(1);
+        time.set(TimeUnit.SECONDS.toNanos(9));
+        fn.apply(1);
+        assertThat(called,equalTo(1));
+        time.set(TimeUnit.SECONDS.toNanos(10));
+        fn.apply(1);
+        assertThat(called,equalTo(2));
+        assertThat(cache.stats().getEvictions(),equalTo(1l));
+    }
+
+    @Test
+    public void expireAfterAccess(){
+        BoundedCache<Integer> cache = BoundedCache.<Integer>tinyLfu(10)
+                                                  .withExpireAfterAccess(10, TimeUnit.SECONDS)
+                                                  .withTicker(time::get);
+        Fn1<Integer,Integer> fn = Memoize.memoizeFunction(this::compute,cache);
+        fn.apply(1);
+        fn.apply(2);
+        for(int i=1;i<=3;i++){
+            time.set(TimeUnit.SECONDS.toNanos(9*i));
+            fn.apply(1);
+        }
+        assertThat(called,equalTo(2));
+
+        cache.cleanUp();
+        assertThat(cache.size(),equalTo(1));
+        fn.apply(2);
+        assertThat(called,equalTo(3));
+    }
+
+    @Test
+    public void nullKeysAndValues(){
+        BoundedCache<Integer> cache = BoundedCache.lru(10);
+        assertThat(cache.computeIfAbsent(null,this::compute),equalTo(-1));
+        assertThat(cache.computeIfAbsent(null,this::compute),equalTo(-1));
+        assertThat(called,equalTo(1));
+
+        assertThat(cache.computeIfAbsent(5,k->null),equalTo(null));
+        assertThat(cache.size(),equalTo(1));
+    }
+
+    @Test
+    public void invalidate(){
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(10);
+        Fn1<Integer,Integer> fn = Memoize.memoizeFunction(this::compute,cache);
+        fn.apply(1);
+        fn.apply(2);
+        cache.invalidate(1);
+        fn.apply(1);
+        fn.apply(2);
+        assertThat(called,equalTo(3));
+        cache.invalidateAll();
+        assertThat(cache.size(),equalTo(0));
+    }
+
+    @Test
+    public void failuresNotCached(){
+        BoundedCache<Integer> cache = BoundedCache.lru(10);
+        try {
+            cache.computeIfAbsent(1, k -> {
+                throw new IllegalStateException("boom");
+            });
+            fail("exception expected");
+        }catch(IllegalStateException e){
+
+        }
+        assertThat(cache.computeIfAbsent(1,this::compute),equalTo(2));
+        assertThat(cache.size(),equalTo(1));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void invalidSize(){
+        BoundedCache.lru(0);
+    }
+
+    @Test
+    public void concurrentLoadsDeduplicated() throws Exception {
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(100);
+        AtomicInteger count = new AtomicInteger(0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService ex = Executors.newFixedThreadPool(8);
+        List<java.util.concurrent.Future<Integer>> results = new ArrayList<>();
+        results.add(ex.submit(() -> cache.computeIfAbsent(10, k -> {
+            count.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return 20;
+        })));
+        started.await();
+        for(int i=0;i<7;i++)
+            results.add(ex.submit(() -> cache.computeIfAbsent(10, k -> count.incrementAndGet())));
+        Thread.sleep(50);
+        release.countDown();
+        for(java.util.concurrent.Future<Integer> next : results)
+            assertThat(next.get(),equalTo(20));
+
+        assertThat(count.get(),equalTo(1));
+        assertThat(cache.stats().getMisses(),equalTo(1l));
+        assertThat(cache.stats().getHits(),greaterThan(0l));
+        ex.shutdown();
+    }
+}
@@ -3,13 +3,20 @@ package com.aol.cyclops2.lambda.functions;
 import static cyclops.function.Memoize.memoizeBiFunction;
 import static cyclops.function.Memoize.memoizeCallable;
 import static cyclops.function.Memoize.memoizeFunction;
+import static cyclops.function.Memoize.memoizeFunctionAsync;
 import static cyclops.function.Memoize.memoizePredicate;
 import static cyclops.function.Memoize.memoizeQuadFunction;
 import static cyclops.function.Memoize.memoizeSupplier;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -18,6 +25,9 @@ import java.util.function.Supplier;
 import org.junit.Before;
 import org.junit.Test;
 
+import cyclops.async.Future;
+import cyclops.function.BoundedCache;
+import cyclops.function.Fn1;
 import cyclops.function.Memoize;
 
 import lombok.val;
@@ -117,6 +127,125 @@ public class MemoiseTest {
 		assertThat(called,equalTo(1));
 	}
 	
+	@Test
+	public void testMemoiseBiFunctionNulls() {
+		BiFunction<Integer,Integer,String> s = memoizeBiFunction( (a,b)->{++called; return a==null ? null : "" + a + b;});
+		assertThat(s.apply(null,1),equalTo(null));
+		assertThat(s.apply(null,1),equalTo(null));
+		assertThat(s.apply(1,null),equalTo("1null"));
+		assertThat(s.apply(1,null),equalTo("1null"));
+		assertThat(s.apply(null,null),equalTo(null));
+		assertThat(called,equalTo(3));
+	}
+	@Test
+	public void testMemoiseTriFunctionDistinctKeys(){
+		val cached = Memoize.memoizeTriFunction(this::mult);
+
+		assertThat(cached.apply(1,2,3),equalTo(6));
+		assertThat(cached.apply(3,2,1),equalTo(6));
+		assertThat(cached.apply(1,3,2),equalTo(6));
+		assertThat(cached.apply(1,2,3),equalTo(6));
+		assertThat(called,equalTo(3));
+	}
+	@Test
+	public void testMemoiseBiFunctionBoundedCache() {
+		BoundedCache<Integer> cache = BoundedCache.lru(2);
+		BiFunction<Integer,Integer,Integer> s = memoizeBiFunction( (a,b)->a + b + ++called,cache);
+		assertThat(s.apply(0,1),equalTo(2));
+		assertThat(s.apply(0,1),equalTo(2));
+		assertThat(s.apply(1,0),equalTo(3));
+		assertThat(s.apply(2,2),equalTo(7));
+		assertThat(s.apply(0,1),equalTo(5));
+		assertThat(cache.size(),equalTo(2));
+		assertThat(cache.stats().getHits(),equalTo(1l));
+	}
+	@Test
+	public void testMemoiseTriFunctionBoundedCache(){
+		BoundedCache<Integer> cache = BoundedCache.tinyLfu(100);
+		val cached = Memoize.memoizeTriFunction(this::mult,cache);
+
+		assertThat(cached.apply(1,2,3),equalTo(6));
+		assertThat(cached.apply(1,2,3),equalTo(6));
+		assertThat(cached.apply(3,2,1),equalTo(6));
+		assertThat(called,equalTo(2));
+	}
+	@Test
+	public void testMemoiseFunctionAsync() throws InterruptedException {
+		ExecutorService ex = Executors.newFixedThreadPool(4);
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicInteger count = new AtomicInteger(0);
+		Fn1<Integer,Future<Integer>> fn = memoizeFunctionAsync(i->{
+			count.incrementAndGet();
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+			return i*2;
+		},ex);
+
+		Future<Integer> first = fn.apply(10);
+		Future<Integer> second = fn.apply(10);
+		latch.countDown();
+		assertThat(first.get(),equalTo(20));
+		assertThat(second.get(),equalTo(20));
+		assertThat(fn.apply(10).get(),equalTo(20));
+		assertThat(count.get(),equalTo(1));
+		ex.shutdown();
+	}
+	@Test
+	public void testMemoiseFunctionAsyncBoundedCache() {
+		ExecutorService ex = Executors.newSingleThreadExecutor();
+		BoundedCache<Integer> cache = BoundedCache.lru(2);
+		Fn1<Integer,Future<Integer>> fn = memoizeFunctionAsync(i->i + ++called,ex,cache);
+
+		assertThat(fn.apply(0).get(),equalTo(1));
+		assertThat(fn.apply(0).get(),equalTo(1));
+		assertThat(fn.apply(10).get(),equalTo(12));
+		assertThat(fn.apply(20).get(),equalTo(23));
+		assertThat(fn.apply(0).get(),equalTo(4));
+		assertThat(cache.size(),equalTo(2));
+		assertThat(called,equalTo(4));
+		ex.shutdown();
+	}
+	@Test
+	public void testMemoiseFunctionAsyncCacheHitSkipsExecutor() {
+		ExecutorService ex = Executors.newSingleThreadExecutor();
+		BoundedCache<Integer> cache = BoundedCache.lru(10);
+		Fn1<Integer,Future<Integer>> fn = memoizeFunctionAsync(i->i + ++called,ex,cache);
+
+		assertThat(fn.apply(0).get(),equalTo(1));
+		assertThat(fn.apply(10).get(),equalTo(12));
+		ex.shutdown();
+
+		Future<Integer> hit = fn.apply(10);
+		assertTrue(hit.isSuccess());
+		assertThat(hit.get(),equalTo(12));
+		assertThat(fn.apply(0).get(),equalTo(1));
+		assertThat(called,equalTo(2));
+		assertThat(cache.stats().getHits(),equalTo(2l));
+	}
+	@Test
+	public void testMemoiseFunctionAsyncFailureNotCached() {
+		ExecutorService ex = Executors.newSingleThreadExecutor();
+		Fn1<Integer,Future<Integer>> fn = memoizeFunctionAsync(i->{
+			if(++called==1)
+				throw new IllegalStateException("boom");
+			return i;
+		},ex);
+
+		try {
+			fn.apply(5).get();
+			fail("exception expected");
+		}catch(IllegalStateException e){
+
+		}
+		assertThat(fn.apply(5).get(),equalTo(5));
+		assertThat(fn.apply(5).get(),equalTo(5));
+		assertThat(called,equalTo(2));
+		ex.shutdown();
+	}
+
 	private int addAll(int a,int b,int c, int d){
 		called++;
 		return a+b+c+d;
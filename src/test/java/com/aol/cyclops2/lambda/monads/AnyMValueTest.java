@@ -42,6 +42,18 @@ public class AnyMValueTest {
         AnyM<optional,ListX<Integer>> maybes =AnyM.sequence(source, optional.INSTANCE)
                                           .map(s->ReactiveSeq.fromStream(s).toListX());
         assertThat(maybes,equivalent(AnyM.ofNullable(ListX.of(10,1))));
+    }
+    @Test
+    public void testSequenceLarge() {
+        Stream<AnyM<optional,Integer>> source = ReactiveSeq.range(0,100_000).<AnyM<optional,Integer>>map(AnyM::ofNullable);
+        AnyM<optional,Stream<Integer>> maybes =AnyM.sequence(source, optional.INSTANCE);
+        assertThat(maybes.map(s->s.count()),equalTo(AnyM.ofNullable(100_000l)));
+    }
+    @Test
+    public void testSequenceEmptyValue() {
+        Stream<AnyM<optional,Integer>> source = ReactiveSeq.of(AnyM.ofNullable(1),AnyM.ofNullable(null),AnyM.ofNullable(2));
+        AnyM<optional,Stream<Integer>> maybes =AnyM.sequence(source, optional.INSTANCE);
+        assertThat(maybes.<Optional<Stream<Integer>>>unwrap().isPresent(),equalTo(false));
     }
 	@Test
 	public void testSequence(){
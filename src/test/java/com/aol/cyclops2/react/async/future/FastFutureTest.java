@@ -10,6 +10,7 @@ import static org.junit.Assert.assertTrue;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
@@ -47,6 +48,30 @@ public class FastFutureTest {
 		assertNotNull(failed);
 	}
 
+	@Test
+	public void onFailRunsBeforeDone() {
+		boolean[] doneInOnFail = {true};
+		FastFuture[] f = {null};
+		f[0] = future.onFail(t -> doneInOnFail[0] = f[0].isDone()).thenApply(v -> {
+			throw new RuntimeException();
+		}).build();
+
+		f[0].set("boo!");
+		assertFalse(doneInOnFail[0]);
+		assertTrue(f[0].isDone());
+	}
+
+	@Test
+	public void monitorsAreChained() {
+		List<String> fired = new ArrayList<>();
+		FastFuture f = new FastFuture();
+		f.monitor(c -> fired.add("first"));
+		f.monitor(c -> fired.add("second"));
+		f.set("hello");
+		f.monitor(c -> fired.add("late"));
+		assertThat(fired, equalTo(Arrays.asList("first", "second", "late")));
+	}
+
 	@Test
 	public void onFailRecovered() {
 		FastFuture f = future.onFail(t -> failed = t)
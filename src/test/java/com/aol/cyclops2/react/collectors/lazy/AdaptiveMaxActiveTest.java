@@ -0,0 +1,77 @@
+package com.aol.cyclops2.react.collectors.lazy;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import cyclops.async.LazyReact;
+import cyclops.stream.FutureStream;
+import com.aol.cyclops2.internal.react.async.future.FastFuture;
+
+public class AdaptiveMaxActiveTest {
+
+	@Test
+	public void growsWhileLatencyStable(){
+		AdaptiveMaxActive limiter = MaxActive.adaptive(1,10,20);
+		for(int i=0;i<1000;i++)
+			limiter.recordLatency(1000);
+		assertThat(limiter.getLimit(),equalTo(20));
+		assertThat(limiter.getMaxActive(),equalTo(20));
+		assertThat(limiter.getReduceTo(),equalTo(18));
+	}
+	@Test
+	public void shrinksWhenLatencyRises(){
+		AdaptiveMaxActive limiter = MaxActive.adaptive(1,100,100);
+		for(int i=0;i<100;i++)
+			limiter.recordLatency(1000);
+		for(int i=0;i<1000;i++)
+			limiter.recordLatency(1_000_000);
+		assertThat(limiter.getLimit(),lessThan(100));
+		assertThat(limiter.getAverageLatencyNanos(),equalTo(1_000_000l));
+		assertThat(limiter.getMinLatencyNanos(),equalTo(1000l));
+	}
+	@Test
+	public void neverBelowMin(){
+		AdaptiveMaxActive limiter = MaxActive.adaptive(5,10,20);
+		for(int i=0;i<10;i++)
+			limiter.recordLatency(1);
+		for(int i=0;i<500;i++)
+			limiter.recordLatency(1_000_000_000);
+		assertThat(limiter.getLimit(),equalTo(5));
+	}
+	@Test(expected=IllegalArgumentException.class)
+	public void invalidLimits(){
+		MaxActive.adaptive(10,5,20);
+	}
+	@Test
+	public void queueingDelay(){
+		AdaptiveMaxActive limiter = MaxActive.adaptive();
+		limiter.recordQueueingDelay(10);
+		limiter.recordQueueingDelay(20);
+		assertThat(limiter.getQueueingDelayNanos(),equalTo(20l));
+		assertThat(limiter.getTotalQueueingDelayNanos(),equalTo(30l));
+	}
+	@Test
+	public void collectorRecordsLatencies(){
+		AdaptiveMaxActive limiter = MaxActive.adaptive(1,5,10);
+		BatchingCollector collector = new BatchingCollector(limiter, FutureStream.of(1)).withResults(new ArrayList<>());
+		for(int i=0;i<100;i++){
+			collector.accept(FastFuture.completedFuture(10l));
+		}
+		assertThat(limiter.getSamples(),equalTo(100l));
+	}
+	@Test
+	public void lazyReactAdaptive(){
+		LazyReact react = new LazyReact().adaptiveMaxActive();
+		assertTrue(react.getMaxActive().isAdaptive());
+		assertThat(react.range(0,1000)
+					    .map(i->i*2)
+					    .toList()
+					    .size(),equalTo(1000));
+	}
+}
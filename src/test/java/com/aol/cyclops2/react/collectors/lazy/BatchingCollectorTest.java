@@ -6,8 +6,17 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import cyclops.stream.FutureStream;
 import org.junit.Before;
@@ -39,6 +48,8 @@ public class BatchingCollectorTest {
 		}
 		verify(cf,atLeastOnce()).isDone();
 	}
+	//futures that are already done when accepted go straight to the results, so isDone is checked exactly once per accept
+	//(previously every active future was rescanned each time maxActive was exceeded)
 	@Test
 	public void testAcceptMock495() {
 		collector = new BatchingCollector(new MaxActive(500,5), FutureStream.of(1)).withResults(new ArrayList<>());
@@ -47,7 +58,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,times(1000)).isDone();
 	}
 	@Test
 	public void testAcceptMock50() {
@@ -57,7 +68,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(501)).isDone();
+		verify(cf,times(1000)).isDone();
 	}
 
 	@Test
@@ -68,7 +79,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(999)).isDone();
+		verify(cf,times(1000)).isDone();
 	}
 
 	@Test
@@ -79,7 +90,7 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(0)).isDone();
+		verify(cf,times(1000)).isDone();
 	}
 
 	@Test
@@ -90,7 +101,106 @@ public class BatchingCollectorTest {
 		for(int i=0;i<1000;i++){
 			collector.accept(cf);
 		}
-		verify(cf,times(990)).isDone();
+		verify(cf,times(1000)).isDone();
+	}
+
+	@Test
+	public void acceptBlocksUntilReducedToTarget() throws Exception {
+		collector = new BatchingCollector(new MaxActive(10,5), FutureStream.of(1)).withResults(new ArrayList<>());
+		List<FastFuture<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < 11; i++)
+			futures.add(new FastFuture<>());
+		for (int i = 0; i < 10; i++)
+			collector.accept(futures.get(i));
+		assertThat(collector.getResults().size(), equalTo(0));
+
+		CountDownLatch accepted = new CountDownLatch(1);
+		Thread t = new Thread(() -> {
+			collector.accept(futures.get(10));
+			accepted.countDown();
+		});
+		t.start();
+		assertThat(accepted.await(100, TimeUnit.MILLISECONDS), equalTo(false));
+		for (int i = 0; i < 5; i++)
+			futures.get(i).set(i);
+		assertThat(accepted.await(100, TimeUnit.MILLISECONDS), equalTo(false));
+		futures.get(5).set(5);
+		assertThat(accepted.await(5, TimeUnit.SECONDS), equalTo(true));
+		t.join();
+		assertThat(collector.getResults().size(), equalTo(6));
+		assertThat(collector.getAllResults().size(), equalTo(11));
+	}
+
+	@Test
+	public void inFlightNeverExceedsMaxActive() {
+		collector = new BatchingCollector(new MaxActive(10,5), FutureStream.of(1)).withResults(new ArrayList<>());
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(4);
+		try {
+			for (int i = 0; i < 200; i++) {
+				FastFuture<Integer> f = new FastFuture<>();
+				final int value = i;
+				ex.schedule(() -> f.set(value), i % 3, TimeUnit.MILLISECONDS);
+				collector.accept(f);
+				assertThat(i + 1 - collector.getResults().size() <= 10, equalTo(true));
+			}
+			assertThat(collector.getAllResults().size(), equalTo(200));
+		}finally{
+			ex.shutdown();
+		}
+	}
+
+	@Test
+	public void rescansWhenCompletionCallbacksDoNotFire() {
+		collector = new BatchingCollector(new MaxActive(2,1), FutureStream.of(1)).withResults(new ArrayList<>());
+		List<FastFuture> futures = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			FastFuture cf = mock(FastFuture.class);
+			given(cf.isDone()).willReturn(false, true);
+			futures.add(cf);
+			collector.accept(cf);
+		}
+		assertThat(collector.getResults().size(), equalTo(3));
+		for (FastFuture cf : futures)
+			verify(cf, times(2)).isDone();
+	}
+
+	@Test
+	public void sameFutureAcceptedTwiceIsCollectedTwice() {
+		collector = new BatchingCollector(new MaxActive(10,5), FutureStream.of(1)).withResults(new ArrayList<>());
+		FastFuture<Integer> pending = new FastFuture<>();
+		collector.accept(pending);
+		collector.accept(pending);
+		pending.set(1);
+		assertThat(collector.getAllResults().size(), equalTo(2));
+	}
+
+	@Test
+	public void completedFuturesLeaveActiveSet() throws InterruptedException {
+		collector = new BatchingCollector(new MaxActive(10,5), FutureStream.of(1)).withResults(new ArrayList<>());
+		ExecutorService ex = Executors.newFixedThreadPool(4);
+		try {
+			for (int i = 0; i < 1000; i++) {
+				FastFuture<Integer> f = new FastFuture<>();
+				final int value = i;
+				ex.execute(() -> f.set(value));
+				collector.accept(f);
+			}
+			List<FastFuture> all = new ArrayList<>(collector.getAllResults());
+			assertThat(all.size(), equalTo(1000));
+			assertThat(new HashSet<>(all).size(), equalTo(1000));
+		}finally{
+			ex.shutdown();
+		}
+	}
+	@Test
+	public void futuresCompletedAfterAcceptLeaveActiveSet() {
+		collector = new BatchingCollector(new MaxActive(2,1), FutureStream.of(1)).withResults(new ArrayList<>());
+		for (int i = 0; i < 100; i++) {
+			FastFuture<Integer> f = new FastFuture<>();
+			collector.accept(f);
+			f.set(i);
+		}
+		assertThat(collector.getAllResults().size(), equalTo(100));
 	}
 
 
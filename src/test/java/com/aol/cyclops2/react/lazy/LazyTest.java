@@ -9,6 +9,8 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 
@@ -60,6 +62,18 @@ public class LazyTest {
 
 	}
 	@Test
+	public void onePerScheduled() {
+		ScheduledExecutorService ex = Executors.newScheduledThreadPool(1);
+		long start = System.currentTimeMillis();
+		FutureStream<String> stream = FutureStream.iterate(0, it -> it + 1)
+				.limit(3)
+				.onePer(100, TimeUnit.MILLISECONDS, ex)
+				.map(i -> "hello!");
+		assertThat(stream.toList().size(),equalTo(3));
+		assertTrue(System.currentTimeMillis()-start>150);
+		ex.shutdown();
+	}
+	@Test
 	public void subStream(){
 		List<Integer> list = FutureStream.of(1,2,3,4,5,6).subStream(1,3).toList();
 		assertThat(list,equalTo(Arrays.asList(2,3)));
@@ -3,13 +3,17 @@ package com.aol.cyclops2.util;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import cyclops.CompletableFutures;
 import org.junit.Before;
 import org.junit.Test;
 
 import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
 
 public class CompletableFuturesTest {
     
@@ -42,5 +46,34 @@ public class CompletableFuturesTest {
         CompletableFuture<ListX<Integer>> maybes =CompletableFutures.sequence(ListX.of(just,just2));
         assertThat(maybes.join(),equalTo(ListX.of(10,20)));
     }
+    @Test
+    public void testSequenceLarge() {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for(int i=0;i<100_000;i++)
+            futures.add(new CompletableFuture<>());
+        CompletableFuture<ReactiveSeq<Integer>> all = CompletableFutures.sequence(futures.stream());
+        for(int i=futures.size()-1;i>=0;i--)
+            futures.get(i).complete(i);
+        assertThat(all.join().toList(),equalTo(ReactiveSeq.range(0,100_000).toList()));
+    }
+    @Test
+    public void testSequenceCompletesOnLastFinisher() {
+        CompletableFuture<ListX<Integer>> maybes =CompletableFutures.sequence(ListX.of(active,just));
+        assertThat(maybes.isDone(),equalTo(false));
+        active.complete(5);
+        assertThat(maybes.join(),equalTo(ListX.of(5,10)));
+    }
+    @Test
+    public void testSequenceFirstErrorInOrder() {
+        CompletableFuture<Integer> second = new CompletableFuture<>();
+        second.completeExceptionally(new IllegalStateException("second"));
+        CompletableFuture<ListX<Integer>> maybes =CompletableFutures.sequence(ListX.of(just,none,second));
+        try{
+            maybes.join();
+        }catch(CompletionException e){
+            assertThat(e.getCause().getMessage(),equalTo("boo"));
+        }
+        assertThat(maybes.isCompletedExceptionally(),equalTo(true));
+    }
 
 }
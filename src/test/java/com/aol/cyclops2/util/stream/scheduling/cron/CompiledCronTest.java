@@ -0,0 +1,85 @@
+package com.aol.cyclops2.util.stream.scheduling.cron;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.junit.Test;
+
+public class CompiledCronTest {
+
+    static final String[] EXPRESSIONS = { "* * * * * ?", "0 0/5 * * * ?", "0 15 10 ? * MON-FRI", "0 0 12 1/5 * ?",
+            "0 11 11 11 11 ?", "10,20,30 * 9-17 ? * SUN,SAT", "0 0 0 29 2 ?", "0 30 22-2 * * ?", "0 0 0 1 1 ? 2030-2035",
+            "5/7 3-50/4 * * JAN-MAR,OCT ?", "0 0 0 ? * FRI-MON", "0 0 3 ? * 6L", "0 0 3 L * ?", "0 0 3 15W * ?", "0 0 3 ? * 2#1" };
+
+    private long utc(int year, int month, int day, int hour, int minute, int second) {
+        return LocalDateTime.of(year, month, day, hour, minute, second)
+                            .toEpochSecond(ZoneOffset.UTC) * 1000;
+    }
+
+    @Test
+    public void everySecond() throws ParseException {
+        CompiledCron cron = CompiledCron.compile("* * * * * ?", ZoneOffset.UTC);
+        long now = utc(2017, 1, 1, 0, 0, 0) + 500;
+        assertThat(cron.nextFireAfter(now), equalTo(utc(2017, 1, 1, 0, 0, 1)));
+        assertThat(cron.delayAfter(now), equalTo(500l));
+    }
+
+    @Test
+    public void weekdaysAtQuarterPastTen() throws ParseException {
+        CompiledCron cron = CompiledCron.compile("0 15 10 ? * MON-FRI", ZoneOffset.UTC);
+        //Friday 13th January 2017, next is Monday
+        assertThat(cron.nextFireAfter(utc(2017, 1, 13, 10, 15, 0)), equalTo(utc(2017, 1, 16, 10, 15, 0)));
+    }
+
+    @Test
+    public void leapDay() throws ParseException {
+        CompiledCron cron = CompiledCron.compile("0 0 0 29 2 ?", ZoneOffset.UTC);
+        assertThat(cron.nextFireAfter(utc(2017, 1, 1, 0, 0, 0)), equalTo(utc(2020, 2, 29, 0, 0, 0)));
+    }
+
+    @Test
+    public void noMoreFireTimes() throws ParseException {
+        CompiledCron cron = CompiledCron.compile("0 0 0 1 1 ? 2000", ZoneOffset.UTC);
+        assertThat(cron.nextFireAfter(utc(2017, 1, 1, 0, 0, 0)), equalTo(-1l));
+        assertThat(cron.getNextValidTimeAfter(new Date()), equalTo(null));
+    }
+
+    @Test(expected = ParseException.class)
+    public void bothDaysSpecified() throws ParseException {
+        CompiledCron.compile("* * * * * *");
+    }
+
+    @Test(expected = ParseException.class)
+    public void outOfRange() throws ParseException {
+        CompiledCron.compile("60 * * * * ?");
+    }
+
+    @Test
+    public void matchesCronExpression() throws ParseException {
+        ZoneId utc = ZoneId.of("UTC");
+        Random random = new Random(
+                                   1);
+        for (String expression : EXPRESSIONS) {
+            CronExpression reference = new CronExpression(
+                                                          expression);
+            reference.setTimeZone(TimeZone.getTimeZone(utc));
+            CompiledCron compiled = CompiledCron.compile(expression, utc);
+            for (int i = 0; i < 500; i++) {
+                long time = 1_400_000_000_000l + (long) (random.nextDouble() * 600_000_000_000l);
+                Date expected = reference.getNextValidTimeAfter(new Date(
+                                                                         time));
+                assertThat(expression + " after " + new Date(
+                                                             time),
+                           compiled.nextFireAfter(time), equalTo(expected == null ? -1l : expected.getTime()));
+            }
+        }
+    }
+}
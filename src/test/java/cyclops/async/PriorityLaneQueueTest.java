@@ -0,0 +1,105 @@
+package cyclops.async;
+
+import cyclops.collections.ListX;
+import cyclops.stream.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class PriorityLaneQueueTest {
+
+    @Test
+    public void urgentOvertakesBulk(){
+        PriorityLaneQueue<Integer> queue = PriorityLaneQueue.strict(2, i->i<0 ? 0 : 1);
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(-1);
+        queue.offer(3);
+        queue.offer(-2);
+        assertThat(ReactiveSeq.generate(queue::poll).limit(5).toList(),equalTo(Arrays.asList(-1,-2,1,2,3)));
+        assertThat(queue.poll(),equalTo(null));
+    }
+    @Test
+    public void outOfRangeLanesAreClamped(){
+        PriorityLaneQueue<Integer> queue = PriorityLaneQueue.strict(3, i->i);
+        queue.offer(10);
+        queue.offer(-10);
+        assertThat(queue.laneSize(0),equalTo(1));
+        assertThat(queue.laneSize(2),equalTo(1));
+        assertThat(queue.poll(),equalTo(-10));
+    }
+    @Test
+    public void weightedShare(){
+        PriorityLaneQueue<Integer> queue = PriorityLaneQueue.weighted(i->i%2, 3, 1);
+        for(int i=0;i<400;i++)
+            queue.offer(i);
+        List<Integer> first = ReactiveSeq.generate(queue::poll).limit(100).toList();
+        assertThat(first.stream().filter(i->i%2==0).count(),equalTo(75l));
+        assertThat(first.stream().filter(i->i%2==1).count(),equalTo(25l));
+    }
+    @Test
+    public void weightedIsWorkConserving(){
+        PriorityLaneQueue<Integer> queue = PriorityLaneQueue.weighted(i->i%2, 1, 1);
+        for(int i=0;i<10;i++)
+            queue.offer(i*2);
+        assertThat(ReactiveSeq.generate(queue::poll).limit(10).toList(),
+                   equalTo(ReactiveSeq.range(0,10).map(i->i*2).toList()));
+        assertTrue(queue.isEmpty());
+    }
+    @Test(expected=IllegalArgumentException.class)
+    public void weightsMustBePositive(){
+        PriorityLaneQueue.weighted(i->0, 1, 0);
+    }
+    @Test
+    public void boundedLaneRejectsWhenFull(){
+        PriorityLaneQueue<Integer> queue = PriorityLaneQueue.strict(4, 2, i->i<0 ? 0 : 1);
+        for(int i=0;i<4;i++)
+            assertTrue(queue.offer(i));
+        assertFalse(queue.offer(5));
+        assertTrue(queue.offer(-1));
+        assertThat(queue.size(),equalTo(5));
+    }
+    @Test
+    public void closeDeliversAllLanes(){
+        Queue<Integer> queue = QueueFactories.<Integer>priorityQueue(2, i->i<0 ? 0 : 1).build();
+        queue.offer(1);
+        queue.offer(-1);
+        queue.offer(null);
+        queue.offer(2);
+        queue.close();
+        assertThat(queue.stream().toList(),equalTo(Arrays.asList(-1,1,null,2)));
+    }
+    @Test
+    public void weightedQueueStream(){
+        Queue<Integer> queue = QueueFactories.<Integer>boundedWeightedQueue(1024, i->i%3, 4, 2, 1).build();
+        for(int i=0;i<300;i++)
+            queue.offer(i);
+        queue.close();
+        assertThat(queue.stream().toList().size(),equalTo(300));
+    }
+    @Test
+    public void pipes(){
+        Pipes<String, Integer> bus = Pipes.of();
+        bus.register("reactor", QueueFactories.<Integer>priorityQueue(2, i->i<0 ? 0 : 1).build());
+        bus.push("reactor", 1);
+        bus.push("reactor", -1);
+        assertThat(bus.nextOrNull("reactor").get(),equalTo(-1));
+        assertThat(bus.nextOrNull("reactor").get(),equalTo(1));
+    }
+    @Test
+    public void futureStream(){
+        Queue<Integer> queue = new LazyReact(Executors.newFixedThreadPool(2))
+                                        .of(1, -1, 2, -2)
+                                        .map(i->i*10)
+                                        .withQueueFactory(QueueFactories.priorityQueue(2, i->i<0 ? 0 : 1))
+                                        .toQueue();
+        assertThat(ListX.fromIterable(queue.stream().toList()).sorted(),equalTo(Arrays.asList(-20,-10,10,20)));
+    }
+}
@@ -8,7 +8,10 @@ import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -24,6 +27,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import com.aol.cyclops2.types.futurestream.BaseSimpleReactStream;
+import cyclops.stream.ReactiveSeq;
 
 public class QueueTest {
 
@@ -493,6 +497,139 @@ public class QueueTest {
 
 	}
 
+	@Test
+	public void drainReturnsAvailableData() {
+		Queue<Integer> queue = QueueFactories.<Integer> unboundedQueue().build();
+		for(int i=0;i<5;i++)
+			queue.add(i);
+		List<Integer> result = new ArrayList<>();
+		assertThat(queue.drain(result::add, 3), equalTo(3));
+		assertThat(queue.drainTo(result, 10), equalTo(2));
+		assertThat(queue.drainTo(result, 10), equalTo(0));
+		assertThat(result, equalTo(Arrays.asList(0, 1, 2, 3, 4)));
+		queue.close();
+		assertThat(queue.drainTo(result, 10), equalTo(Queue.CLOSED));
+	}
+
+	@Test
+	public void drainAgronaQueue() {
+		Queue<Integer> queue = QueueFactories.<Integer> boundedNonBlockingQueue(100).build();
+		queue.add(1);
+		queue.add(null);
+		queue.add(3);
+		List<Integer> result = new ArrayList<>();
+		assertThat(queue.drainTo(result, 10), equalTo(3));
+		assertThat(result, equalTo(Arrays.asList(1, null, 3)));
+		queue.add(4);
+		queue.close();
+		assertThat(queue.drainTo(result, 10), equalTo(1));
+		assertThat(queue.drainTo(result, 10), equalTo(Queue.CLOSED));
+	}
+
+	@Test
+	public void drainConsumerCanAddToQueue() {
+		Queue<Integer> queue = QueueFactories.<Integer> boundedQueue(5).build();
+		for(int i=0;i<5;i++)
+			queue.add(i);
+		List<Integer> result = new ArrayList<>();
+		assertThat(queue.drain(i->{ result.add(i); queue.offer(i+10); }, 10), equalTo(5));
+		assertThat(queue.drainTo(result, 10), equalTo(5));
+		assertThat(result, equalTo(Arrays.asList(0, 1, 2, 3, 4, 10, 11, 12, 13, 14)));
+	}
+
+	@Test
+	public void streamDrainsAllDataBeforeClosing() {
+		for(Queue<Integer> queue : Arrays.asList(QueueFactories.<Integer> unboundedQueue().build(),
+												QueueFactories.<Integer> boundedNonBlockingQueue(2000).build(),
+												QueueFactories.<Integer> singleWriterboundedNonBlockingQueue(2000).build())){
+			ReactiveSeq<Integer> stream = queue.stream();
+			for(int i=0;i<1000;i++)
+				queue.offer(i);
+			queue.close();
+			assertThat(stream.toList(), equalTo(ReactiveSeq.range(0, 1000).toList()));
+		}
+	}
+
+	@Test(timeout=10000)
+	public void twoStreamsCloseAfterBatchDrain() {
+		for(Queue<Integer> queue : Arrays.asList(QueueFactories.<Integer> unboundedQueue().build(),
+												QueueFactories.<Integer> boundedNonBlockingQueue(2000).build())){
+			ReactiveSeq<Integer> first = queue.stream();
+			ReactiveSeq<Integer> second = queue.stream();
+			for(int i=0;i<100;i++)
+				queue.offer(i);
+			queue.close();
+			assertThat(first.toList(), equalTo(ReactiveSeq.range(0, 100).toList()));
+			assertThat(second.toList().size(), equalTo(0));
+		}
+	}
+
+	@Test
+	public void drainLeavesPoisonPillsForOtherStreams() {
+		Queue<Integer> queue = QueueFactories.<Integer> unboundedQueue().build();
+		queue.stream();
+		queue.stream();
+		queue.add(1);
+		queue.close();
+		List<Integer> result = new ArrayList<>();
+		assertThat(queue.drainTo(result, 10), equalTo(1));
+		assertThat(queue.size(), equalTo(1));
+		assertThat(queue.drainTo(result, 10), equalTo(Queue.CLOSED));
+	}
+
+	@Test
+	public void drainKeepsDataAfterPoisonPillAheadOfNewData() {
+		Queue<Integer> queue = QueueFactories.<Integer> unboundedQueue().build();
+		queue.stream();
+		queue.stream();
+		queue.add(1);
+		queue.close();
+		queue.add(2);
+		List<Integer> result = new ArrayList<>();
+		assertThat(queue.drainTo(result, 10), equalTo(1));
+		queue.add(3);
+		assertThat(queue.drainTo(result, 10), equalTo(Queue.CLOSED));
+		assertThat(queue.drainTo(result, 10), equalTo(2));
+		assertThat(result, equalTo(Arrays.asList(1, 2, 3)));
+	}
+
+	@Test
+	public void drainKeepsUndeliveredDataWhenConsumerFails() {
+		Queue<Integer> queue = QueueFactories.<Integer> unboundedQueue().build();
+		for(int i=0;i<5;i++)
+			queue.add(i);
+		List<Integer> result = new ArrayList<>();
+		try {
+			queue.drain(i -> {
+				if (i == 2)
+					throw new IllegalStateException("boom");
+				result.add(i);
+			}, 10);
+			fail("consumer error expected");
+		}catch(IllegalStateException e){
+
+		}
+		assertThat(queue.size(), equalTo(2));
+		queue.add(5);
+		assertThat(queue.get(), equalTo(3));
+		assertThat(queue.drainTo(result, 10), equalTo(2));
+		assertThat(result, equalTo(Arrays.asList(0, 1, 4, 5)));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void drainRejectsNegativeLimit() {
+		QueueFactories.<Integer> unboundedQueue().build().drainTo(new ArrayList<>(), -1);
+	}
+
+	@Test
+	public void streamLimitLeavesDataInQueue() {
+		Queue<Integer> queue = QueueFactories.<Integer> boundedNonBlockingQueue(100).build();
+		for(int i=0;i<10;i++)
+			queue.offer(i);
+		assertThat(queue.stream().limit(3).toList(), equalTo(Arrays.asList(0, 1, 2)));
+		assertThat(queue.size(), equalTo(7));
+	}
+
 	boolean called = false;
 	@Test
 	public void stackOverflowQuestion() {
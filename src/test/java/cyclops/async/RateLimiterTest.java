@@ -0,0 +1,65 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class RateLimiterTest {
+
+    @Test
+    public void burstThenThrottled() {
+        RateLimiter limiter = RateLimiter.of(10, 1, TimeUnit.SECONDS);
+        assertThat(limiter.availablePermits(), equalTo(10));
+        for (int i = 0; i < 10; i++)
+            assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertThat(limiter.availablePermits(), equalTo(0));
+        assertThat(limiter.getAcquired(), equalTo(10l));
+        assertThat(limiter.getThrottled(), equalTo(1l));
+    }
+
+    @Test
+    public void withBurst() {
+        RateLimiter limiter = RateLimiter.of(10, 1, TimeUnit.SECONDS)
+                                         .withBurst(1);
+        assertThat(limiter.getCapacity(), equalTo(1));
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void reserveReturnsWait() {
+        RateLimiter limiter = RateLimiter.of(1, 100, TimeUnit.MILLISECONDS);
+        assertThat(limiter.reserve(), equalTo(0l));
+        long first = limiter.reserve();
+        long second = limiter.reserve();
+        assertThat(first, greaterThan(0l));
+        assertThat(first, lessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100)));
+        assertThat(second, greaterThan(first));
+        assertThat(limiter.getThrottled(), equalTo(2l));
+    }
+
+    @Test
+    public void permitsRefill() throws InterruptedException {
+        RateLimiter limiter = RateLimiter.of(1, 10, TimeUnit.MILLISECONDS)
+                                         .withBurst(3);
+        for (int i = 0; i < 3; i++)
+            assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        Thread.sleep(50);
+        assertThat(limiter.availablePermits(), equalTo(3));
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noPermits() {
+        RateLimiter.of(0, 1, TimeUnit.SECONDS);
+    }
+}
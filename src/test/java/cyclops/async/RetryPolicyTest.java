@@ -0,0 +1,167 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import cyclops.stream.ReactiveSeq;
+import cyclops.stream.Spouts;
+
+public class RetryPolicyTest {
+
+    ScheduledExecutorService ex;
+
+    @Before
+    public void setup() {
+        ex = Executors.newScheduledThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        ex.shutdown();
+    }
+
+    private <T> T failTimes(AtomicInteger count, int times, T result) {
+        if (count.incrementAndGet() <= times)
+            throw new UncheckedIOException(
+                                           new IOException(
+                                                           "failure " + count.get()));
+        return result;
+    }
+
+    @Test
+    public void exponentialDelays() {
+        RetryPolicy policy = RetryPolicy.exponential(100, TimeUnit.MILLISECONDS);
+        RuntimeException error = new RuntimeException();
+        assertThat(policy.nextDelay(1, 0, error), equalTo(100l));
+        assertThat(policy.nextDelay(2, 0, error), equalTo(200l));
+        assertThat(policy.nextDelay(3, 0, error), equalTo(400l));
+        assertThat(policy.nextDelay(8, 0, error), equalTo(-1l));
+    }
+
+    @Test
+    public void maxDelayCapsBackoff() {
+        RetryPolicy policy = RetryPolicy.exponential(100, TimeUnit.MILLISECONDS)
+                                        .withMaxDelay(250, TimeUnit.MILLISECONDS);
+        assertThat(policy.nextDelay(3, 0, new RuntimeException()), equalTo(250l));
+    }
+
+    @Test
+    public void jitterStaysWithinBounds() {
+        RetryPolicy policy = RetryPolicy.fixed(100, TimeUnit.MILLISECONDS)
+                                        .withJitter(0.5);
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.nextDelay(1, 0, new RuntimeException());
+            assertThat(delay, greaterThanOrEqualTo(50l));
+            assertThat(delay, lessThanOrEqualTo(150l));
+        }
+    }
+
+    @Test
+    public void maxElapsedStopsRetrying() {
+        RetryPolicy policy = RetryPolicy.fixed(100, TimeUnit.MILLISECONDS)
+                                        .withMaxElapsed(1, TimeUnit.SECONDS);
+        assertThat(policy.nextDelay(1, 800, new RuntimeException()), equalTo(100l));
+        assertThat(policy.nextDelay(1, 950, new RuntimeException()), equalTo(-1l));
+    }
+
+    @Test
+    public void retryOnMatchesCause() {
+        RetryPolicy policy = RetryPolicy.fixed(1, TimeUnit.MILLISECONDS)
+                                        .retryOn(IOException.class);
+        assertThat(policy.nextDelay(1, 0, new UncheckedIOException(
+                                                                   new IOException())),
+                   equalTo(1l));
+        assertThat(policy.nextDelay(1, 0, new IllegalStateException()), equalTo(-1l));
+    }
+
+    @Test
+    public void retrySucceedsAfterFailures() {
+        AtomicInteger count = new AtomicInteger(0);
+        Future<String> result = RetryPolicy.fixed(1, TimeUnit.MILLISECONDS)
+                                           .retry(() -> failTimes(count, 3, "hello"), ex);
+        assertThat(result.get(), equalTo("hello"));
+        assertThat(count.get(), equalTo(4));
+    }
+
+    @Test
+    public void retryGivesUp() {
+        AtomicInteger count = new AtomicInteger(0);
+        Future<String> result = RetryPolicy.fixed(1, TimeUnit.MILLISECONDS)
+                                           .withMaxRetries(2)
+                                           .retry(() -> failTimes(count, 10, "hello"), ex);
+        result.getFuture()
+              .exceptionally(t -> null)
+              .join();
+        assertTrue(result.isFailed());
+        assertThat(count.get(), equalTo(3));
+    }
+
+    @Test
+    public void retryDoesNotRetryUnmatchedErrors() {
+        AtomicInteger count = new AtomicInteger(0);
+        Future<String> result = RetryPolicy.fixed(1, TimeUnit.MILLISECONDS)
+                                           .retryOn(IllegalStateException.class)
+                                           .retry(() -> failTimes(count, 10, "hello"), ex);
+        assertTrue(result.isFailed());
+        assertThat(count.get(), equalTo(1));
+    }
+
+    @Test
+    public void retryDoesNotBlockCaller() {
+        AtomicInteger count = new AtomicInteger(0);
+        long start = System.currentTimeMillis();
+        Future<String> result = RetryPolicy.fixed(10, TimeUnit.SECONDS)
+                                           .retry(() -> failTimes(count, 1, "hello"), ex);
+        assertThat(System.currentTimeMillis() - start, lessThanOrEqualTo(5000l));
+        assertFalse(result.isDone());
+        result.cancel();
+    }
+
+    @Test
+    public void futureRetry() {
+        AtomicInteger count = new AtomicInteger(0);
+        assertThat(Future.ofResult(10)
+                         .retry(i -> failTimes(count, 2, i * 2), RetryPolicy.fixed(1, TimeUnit.MILLISECONDS), ex)
+                         .get(),
+                   equalTo(20));
+    }
+
+    @Test
+    public void reactiveSeqRetry() {
+        AtomicInteger count = new AtomicInteger(0);
+        List<Integer> result = ReactiveSeq.of(1, 2, 3, 4, 5)
+                                          .retry(i -> failTimes(count, 3, i * 10), RetryPolicy.fixed(1, TimeUnit.MILLISECONDS), ex)
+                                          .collect(Collectors.toList());
+        Collections.sort(result);
+        assertThat(result, equalTo(ReactiveSeq.of(10, 20, 30, 40, 50)
+                                              .toList()));
+    }
+
+    @Test
+    public void slowRetryDoesNotHoldUpOtherElements() {
+        AtomicInteger count = new AtomicInteger(0);
+        List<Integer> result = Spouts.of(1, 2, 3)
+                                     .retry(i -> i == 1 ? failTimes(count, 1, i) : i, RetryPolicy.fixed(200, TimeUnit.MILLISECONDS), ex)
+                                     .collect(Collectors.toList());
+        assertThat(result, equalTo(ReactiveSeq.of(2, 3, 1)
+                                              .toList()));
+    }
+}
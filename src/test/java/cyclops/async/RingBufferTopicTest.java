@@ -0,0 +1,145 @@
+package cyclops.async;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import cyclops.stream.ReactiveSeq;
+
+public class RingBufferTopicTest {
+
+    @Test
+    public void capacityRoundedToPowerOf2(){
+        assertThat(new RingBufferTopic<Integer>(1000).capacity(),equalTo(1024));
+        assertThat(new RingBufferTopic<Integer>(16).capacity(),equalTo(16));
+        assertThat(new RingBufferTopic<Integer>(1).capacity(),equalTo(1));
+    }
+
+    @Test
+    public void multipleSubscribersGetSameMessages() {
+        Topic<String> topic = Topic.ringBuffer(16);
+
+        Stream<String> data1 = topic.stream();
+        Stream<String> data2 = topic.stream();
+        topic.fromStream(Stream.of("hello", "world"));
+        topic.close();
+
+        assertThat(data1.collect(Collectors.toList()), equalTo(Arrays.asList("hello","world")));
+        assertThat(data2.reduce("", (acc, next) -> acc + ' ' + next),
+                is(" hello world"));
+    }
+
+    @Test
+    public void firstSubscriberSeesDataSentBeforeConnecting(){
+        Topic<Integer> topic = Topic.ringBuffer(16);
+        topic.offer(1);
+        topic.offer(2);
+        ReactiveSeq<Integer> first = topic.stream();
+        ReactiveSeq<Integer> second = topic.stream();
+        topic.offer(3);
+        topic.close();
+
+        assertThat(first.toList(),equalTo(Arrays.asList(1,2,3)));
+        assertThat(second.toList(),equalTo(Arrays.asList(3)));
+    }
+
+    @Test
+    public void nullsArePublished(){
+        Topic<Integer> topic = Topic.ringBuffer(4);
+        ReactiveSeq<Integer> stream = topic.stream();
+        topic.offer(null);
+        topic.offer(1);
+        topic.close();
+        assertThat(stream.toList(),equalTo(Arrays.asList(null,1)));
+    }
+
+    @Test
+    public void slowestSubscriberAppliesBackpressure() throws Exception{
+        Topic<Integer> topic = Topic.ringBuffer(8);
+        ReactiveSeq<Integer> fast = topic.stream();
+        ReactiveSeq<Integer> slow = topic.stream();
+
+        CompletableFuture<List<Integer>> fastResult = CompletableFuture.supplyAsync(()->fast.toList());
+        CompletableFuture<List<Integer>> slowResult = CompletableFuture.supplyAsync(()->slow.peek(i->{
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+            }
+        }).toList());
+
+        for(int i=0;i<100;i++)
+            topic.offer(i);
+        topic.close();
+
+        List<Integer> expected = ReactiveSeq.range(0,100).toList();
+        assertThat(fastResult.get(),equalTo(expected));
+        assertThat(slowResult.get(),equalTo(expected));
+    }
+
+    @Test
+    public void disconnectedSubscriberNoLongerBlocksProducers(){
+        Topic<Integer> topic = Topic.ringBuffer(4);
+        ReactiveSeq<Integer> stream = topic.stream();
+        ReactiveSeq<Integer> unread = topic.stream();
+        topic.disconnect(unread);
+
+        CompletableFuture<List<Integer>> result = CompletableFuture.supplyAsync(()->stream.toList());
+        for(int i=0;i<20;i++)
+            topic.offer(i);
+        topic.close();
+
+        assertThat(result.join().size(),equalTo(20));
+        assertThat(unread.toList().size(),equalTo(0));
+    }
+
+    @Test
+    public void completableFutures(){
+        Topic<Integer> topic = Topic.ringBuffer(4);
+        ReactiveSeq<CompletableFuture<Integer>> stream = topic.streamCompletableFutures();
+        topic.offer(10);
+        topic.close();
+        assertThat(stream.map(CompletableFuture::join).toList(),equalTo(Arrays.asList(10)));
+    }
+
+    @Test(timeout=5000)
+    public void offerBeforeConnectingOverwritesOldest(){
+        Topic<Integer> topic = Topic.ringBuffer(4);
+        for(int i=0;i<10;i++)
+            topic.offer(i);
+        ReactiveSeq<Integer> stream = topic.stream();
+        topic.close();
+        assertThat(stream.toList(),equalTo(Arrays.asList(6,7,8,9)));
+    }
+
+    @Test
+    public void sizeSignalTracksUnconsumedMessages(){
+        Topic<Integer> topic = Topic.ringBuffer(16);
+        ReactiveSeq<Integer> stream = topic.stream();
+        Signal<Integer> signal = Signal.queueBackedSignal();
+        topic.setSizeSignal(0, signal);
+        assertThat(topic.getSizeSignal(0),equalTo(signal));
+
+        topic.offer(1);
+        topic.offer(2);
+        topic.offer(3);
+        assertThat(stream.iterator().next(),equalTo(1));
+
+        signal.getContinuous().close();
+        assertThat(signal.getContinuous().stream().toList(),equalTo(Arrays.asList(1,2,3,2)));
+    }
+
+    @Test(expected=Queue.ClosedQueueException.class)
+    public void offerAfterClose(){
+        Topic<Integer> topic = Topic.ringBuffer(4);
+        topic.close();
+        topic.offer(1);
+    }
+}
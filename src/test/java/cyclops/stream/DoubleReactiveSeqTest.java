@@ -0,0 +1,131 @@
+package cyclops.stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.stream.DoubleStream;
+
+import org.junit.Test;
+
+public class DoubleReactiveSeqTest {
+
+    @Test
+    public void mapFilter(){
+        assertThat(DoubleReactiveSeq.of(1d,2d,3d,4d)
+                                .map(i->i*10)
+                                .filter(i->i>10)
+                                .toArray(),equalTo(new double[]{20d,30d,40d}));
+    }
+    @Test
+    public void mapFused(){
+        assertThat(DoubleReactiveSeq.of(1d,2d)
+                                .map(i->i+1)
+                                .map(i->i*2)
+                                .toArray(),equalTo(new double[]{4d,6d}));
+    }
+    @Test
+    public void scanLeft(){
+        assertThat(DoubleReactiveSeq.of(1d,2d,3d)
+                                .scanLeft(0d,(a,b)->a+b)
+                                .toArray(),equalTo(new double[]{0d,1d,3d,6d}));
+        assertThat(DoubleReactiveSeq.empty()
+                                .scanLeft(0d,(a,b)->a+b)
+                                .toArray(),equalTo(new double[]{0d}));
+    }
+    @Test
+    public void limitSkip(){
+        assertThat(DoubleReactiveSeq.of(1d,2d,3d,4d,5d)
+                                .skip(1)
+                                .limit(3)
+                                .toArray(),equalTo(new double[]{2d,3d,4d}));
+        assertThat(DoubleReactiveSeq.of(1d,2d).limit(0).count(),equalTo(0l));
+        assertThat(DoubleReactiveSeq.of(1d,2d).skip(5).count(),equalTo(0l));
+    }
+    @Test
+    public void limitInfinite(){
+        assertThat(DoubleReactiveSeq.iterate(1d,i->i+1)
+                                .limit(4)
+                                .toArray(),equalTo(new double[]{1d,2d,3d,4d}));
+    }
+    @Test
+    public void folds(){
+        assertThat(DoubleReactiveSeq.of(3d,1d,2d).sum(),equalTo(6d));
+        assertThat(DoubleReactiveSeq.of(3d,1d,2d).foldLeft(1d,(a,b)->a*b),equalTo(6d));
+        assertThat(DoubleReactiveSeq.of(3d,1d,2d).min(),equalTo(OptionalDouble.of(1d)));
+        assertThat(DoubleReactiveSeq.of(3d,1d,2d).max(),equalTo(OptionalDouble.of(3d)));
+        assertThat(DoubleReactiveSeq.of(3d,1d,2d).average().getAsDouble(),equalTo(2d));
+        assertThat(DoubleReactiveSeq.of(3d,1d,2d).count(),equalTo(3l));
+        assertFalse(DoubleReactiveSeq.empty().reduce((a,b)->a+b).isPresent());
+    }
+    @Test
+    public void findFirst(){
+        List<Double> pulled = new ArrayList<>();
+        assertThat(DoubleReactiveSeq.of(1d,2d,3d,4d)
+                                .peek(pulled::add)
+                                .filter(i->i>1)
+                                .findFirst(),equalTo(OptionalDouble.of(2d)));
+        assertThat(pulled,equalTo(Arrays.asList(1d,2d)));
+        assertFalse(DoubleReactiveSeq.empty().findFirst().isPresent());
+    }
+    @Test
+    public void grouped(){
+        List<double[]> groups = DoubleReactiveSeq.of(1d,2d,3d,4d,5d)
+                                          .grouped(2)
+                                          .toList();
+        assertThat(groups.size(),equalTo(3));
+        assertThat(groups.get(0),equalTo(new double[]{1d,2d}));
+        assertThat(groups.get(2),equalTo(new double[]{5d}));
+    }
+    @Test
+    public void boxed(){
+        assertThat(DoubleReactiveSeq.of(1d,2d,3d).map(i->i+1).boxed().toList(),equalTo(Arrays.asList(2d,3d,4d)));
+        assertThat(DoubleReactiveSeq.of(1d,2d).mapToObj(i->"x"+i).toList(),equalTo(Arrays.asList("x1.0","x2.0")));
+    }
+    @Test
+    public void boxedIteratorRequestsOneAtATime(){
+        Iterator<Double> it = DoubleReactiveSeq.of(1d,2d,3d,4d,5d,6d)
+                                         .skip(1)
+                                         .filter(i->i%2==0)
+                                         .scanLeft(0d,(a,b)->a+b)
+                                         .boxed()
+                                         .iterator();
+        List<Double> result = new ArrayList<>();
+        while(it.hasNext())
+            result.add(it.next());
+        assertThat(result,equalTo(Arrays.asList(0d,2d,6d,12d)));
+    }
+    @Test
+    public void fromStream(){
+        assertThat(DoubleReactiveSeq.fromStream(DoubleStream.of(1d,2d,3d)).map(i->i*2).sum(),equalTo(12d));
+    }
+    @Test
+    public void fromStreamSupplierReplayable(){
+        DoubleReactiveSeq seq = DoubleReactiveSeq.fromStream(()->DoubleStream.of(1d,2d,3d)).map(i->i*2);
+        assertThat(seq.sum(),equalTo(12d));
+        assertThat(seq.sum(),equalTo(12d));
+    }
+    @Test
+    public void iterateReplayable(){
+        DoubleReactiveSeq seq = DoubleReactiveSeq.iterate(1d,i->i+1).limit(3);
+        assertThat(seq.toArray(),equalTo(new double[]{1d,2d,3d}));
+        assertThat(seq.toArray(),equalTo(new double[]{1d,2d,3d}));
+    }
+    @Test
+    public void replayable(){
+        DoubleReactiveSeq seq = DoubleReactiveSeq.of(1d,2d,3d).map(i->i+1);
+        assertThat(seq.toArray(),equalTo(seq.toArray()));
+        assertThat(seq.sum(),equalTo(9d));
+    }
+    @Test(expected=IllegalStateException.class)
+    public void errorsRethrown(){
+        DoubleReactiveSeq.of(1d,2d)
+                     .map(i->{throw new IllegalStateException();})
+                     .forEach(i->{});
+    }
+}
@@ -0,0 +1,136 @@
+package cyclops.stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class IntReactiveSeqTest {
+
+    @Test
+    public void mapFilter(){
+        assertThat(IntReactiveSeq.of(1,2,3,4)
+                                .map(i->i*10)
+                                .filter(i->i>10)
+                                .toArray(),equalTo(new int[]{20,30,40}));
+    }
+    @Test
+    public void mapFused(){
+        assertThat(IntReactiveSeq.of(1,2)
+                                .map(i->i+1)
+                                .map(i->i*2)
+                                .toArray(),equalTo(new int[]{4,6}));
+    }
+    @Test
+    public void scanLeft(){
+        assertThat(IntReactiveSeq.of(1,2,3)
+                                .scanLeft(0,(a,b)->a+b)
+                                .toArray(),equalTo(new int[]{0,1,3,6}));
+        assertThat(IntReactiveSeq.empty()
+                                .scanLeft(0,(a,b)->a+b)
+                                .toArray(),equalTo(new int[]{0}));
+    }
+    @Test
+    public void limitSkip(){
+        assertThat(IntReactiveSeq.of(1,2,3,4,5)
+                                .skip(1)
+                                .limit(3)
+                                .toArray(),equalTo(new int[]{2,3,4}));
+        assertThat(IntReactiveSeq.of(1,2).limit(0).count(),equalTo(0l));
+        assertThat(IntReactiveSeq.of(1,2).skip(5).count(),equalTo(0l));
+    }
+    @Test
+    public void limitInfinite(){
+        assertThat(IntReactiveSeq.iterate(1,i->i+1)
+                                .limit(4)
+                                .toArray(),equalTo(new int[]{1,2,3,4}));
+    }
+    @Test
+    public void range(){
+        assertThat(IntReactiveSeq.range(0,5).toArray(),equalTo(new int[]{0,1,2,3,4}));
+        assertThat(IntReactiveSeq.range(0,100_000).filter(i->i%2==0).count(),equalTo(50_000l));
+    }
+    @Test
+    public void folds(){
+        assertThat(IntReactiveSeq.of(3,1,2).sum(),equalTo(6));
+        assertThat(IntReactiveSeq.of(3,1,2).foldLeft(1,(a,b)->a*b),equalTo(6));
+        assertThat(IntReactiveSeq.of(3,1,2).min(),equalTo(OptionalInt.of(1)));
+        assertThat(IntReactiveSeq.of(3,1,2).max(),equalTo(OptionalInt.of(3)));
+        assertThat(IntReactiveSeq.of(3,1,2).average().getAsDouble(),equalTo(2d));
+        assertThat(IntReactiveSeq.of(3,1,2).count(),equalTo(3l));
+        assertFalse(IntReactiveSeq.empty().reduce((a,b)->a+b).isPresent());
+    }
+    @Test
+    public void findFirst(){
+        List<Integer> pulled = new ArrayList<>();
+        assertThat(IntReactiveSeq.of(1,2,3,4)
+                                .peek(pulled::add)
+                                .filter(i->i>1)
+                                .findFirst(),equalTo(OptionalInt.of(2)));
+        assertThat(pulled,equalTo(Arrays.asList(1,2)));
+        assertFalse(IntReactiveSeq.empty().findFirst().isPresent());
+    }
+    @Test
+    public void grouped(){
+        List<int[]> groups = IntReactiveSeq.of(1,2,3,4,5)
+                                          .grouped(2)
+                                          .toList();
+        assertThat(groups.size(),equalTo(3));
+        assertThat(groups.get(0),equalTo(new int[]{1,2}));
+        assertThat(groups.get(2),equalTo(new int[]{5}));
+    }
+    @Test
+    public void boxed(){
+        assertThat(IntReactiveSeq.of(1,2,3).map(i->i+1).boxed().toList(),equalTo(Arrays.asList(2,3,4)));
+        assertThat(IntReactiveSeq.of(1,2).mapToObj(i->"x"+i).toList(),equalTo(Arrays.asList("x1","x2")));
+    }
+    @Test
+    public void boxedIteratorRequestsOneAtATime(){
+        Iterator<Integer> it = IntReactiveSeq.of(1,2,3,4,5,6)
+                                         .skip(1)
+                                         .filter(i->i%2==0)
+                                         .scanLeft(0,(a,b)->a+b)
+                                         .boxed()
+                                         .iterator();
+        List<Integer> result = new ArrayList<>();
+        while(it.hasNext())
+            result.add(it.next());
+        assertThat(result,equalTo(Arrays.asList(0,2,6,12)));
+    }
+    @Test
+    public void fromStream(){
+        assertThat(IntReactiveSeq.fromStream(IntStream.of(1,2,3)).map(i->i*2).sum(),equalTo(12));
+    }
+    @Test
+    public void fromStreamSupplierReplayable(){
+        IntReactiveSeq seq = IntReactiveSeq.fromStream(()->IntStream.of(1,2,3)).map(i->i*2);
+        assertThat(seq.sum(),equalTo(12));
+        assertThat(seq.sum(),equalTo(12));
+    }
+    @Test
+    public void iterateReplayable(){
+        IntReactiveSeq seq = IntReactiveSeq.iterate(1,i->i+1).limit(3);
+        assertThat(seq.toArray(),equalTo(new int[]{1,2,3}));
+        assertThat(seq.toArray(),equalTo(new int[]{1,2,3}));
+    }
+    @Test
+    public void replayable(){
+        IntReactiveSeq seq = IntReactiveSeq.of(1,2,3).map(i->i+1);
+        assertThat(seq.toArray(),equalTo(seq.toArray()));
+        assertThat(seq.sum(),equalTo(9));
+    }
+    @Test(expected=IllegalStateException.class)
+    public void errorsRethrown(){
+        IntReactiveSeq.of(1,2)
+                     .map(i->{throw new IllegalStateException();})
+                     .forEach(i->{});
+    }
+}
@@ -0,0 +1,136 @@
+package cyclops.stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+public class LongReactiveSeqTest {
+
+    @Test
+    public void mapFilter(){
+        assertThat(LongReactiveSeq.of(1l,2l,3l,4l)
+                                .map(i->i*10)
+                                .filter(i->i>10)
+                                .toArray(),equalTo(new long[]{20l,30l,40l}));
+    }
+    @Test
+    public void mapFused(){
+        assertThat(LongReactiveSeq.of(1l,2l)
+                                .map(i->i+1)
+                                .map(i->i*2)
+                                .toArray(),equalTo(new long[]{4l,6l}));
+    }
+    @Test
+    public void scanLeft(){
+        assertThat(LongReactiveSeq.of(1l,2l,3l)
+                                .scanLeft(0l,(a,b)->a+b)
+                                .toArray(),equalTo(new long[]{0l,1l,3l,6l}));
+        assertThat(LongReactiveSeq.empty()
+                                .scanLeft(0l,(a,b)->a+b)
+                                .toArray(),equalTo(new long[]{0l}));
+    }
+    @Test
+    public void limitSkip(){
+        assertThat(LongReactiveSeq.of(1l,2l,3l,4l,5l)
+                                .skip(1)
+                                .limit(3)
+                                .toArray(),equalTo(new long[]{2l,3l,4l}));
+        assertThat(LongReactiveSeq.of(1l,2l).limit(0).count(),equalTo(0l));
+        assertThat(LongReactiveSeq.of(1l,2l).skip(5).count(),equalTo(0l));
+    }
+    @Test
+    public void limitInfinite(){
+        assertThat(LongReactiveSeq.iterate(1l,i->i+1)
+                                .limit(4)
+                                .toArray(),equalTo(new long[]{1l,2l,3l,4l}));
+    }
+    @Test
+    public void range(){
+        assertThat(LongReactiveSeq.range(0l,5l).toArray(),equalTo(new long[]{0l,1l,2l,3l,4l}));
+        assertThat(LongReactiveSeq.range(0l,100_000l).filter(i->i%2==0).count(),equalTo(50_000l));
+    }
+    @Test
+    public void folds(){
+        assertThat(LongReactiveSeq.of(3l,1l,2l).sum(),equalTo(6l));
+        assertThat(LongReactiveSeq.of(3l,1l,2l).foldLeft(1l,(a,b)->a*b),equalTo(6l));
+        assertThat(LongReactiveSeq.of(3l,1l,2l).min(),equalTo(OptionalLong.of(1l)));
+        assertThat(LongReactiveSeq.of(3l,1l,2l).max(),equalTo(OptionalLong.of(3l)));
+        assertThat(LongReactiveSeq.of(3l,1l,2l).average().getAsDouble(),equalTo(2d));
+        assertThat(LongReactiveSeq.of(3l,1l,2l).count(),equalTo(3l));
+        assertFalse(LongReactiveSeq.empty().reduce((a,b)->a+b).isPresent());
+    }
+    @Test
+    public void findFirst(){
+        List<Long> pulled = new ArrayList<>();
+        assertThat(LongReactiveSeq.of(1l,2l,3l,4l)
+                                .peek(pulled::add)
+                                .filter(i->i>1)
+                                .findFirst(),equalTo(OptionalLong.of(2l)));
+        assertThat(pulled,equalTo(Arrays.asList(1l,2l)));
+        assertFalse(LongReactiveSeq.empty().findFirst().isPresent());
+    }
+    @Test
+    public void grouped(){
+        List<long[]> groups = LongReactiveSeq.of(1l,2l,3l,4l,5l)
+                                          .grouped(2)
+                                          .toList();
+        assertThat(groups.size(),equalTo(3));
+        assertThat(groups.get(0),equalTo(new long[]{1l,2l}));
+        assertThat(groups.get(2),equalTo(new long[]{5l}));
+    }
+    @Test
+    public void boxed(){
+        assertThat(LongReactiveSeq.of(1l,2l,3l).map(i->i+1).boxed().toList(),equalTo(Arrays.asList(2l,3l,4l)));
+        assertThat(LongReactiveSeq.of(1l,2l).mapToObj(i->"x"+i).toList(),equalTo(Arrays.asList("x1","x2")));
+    }
+    @Test
+    public void boxedIteratorRequestsOneAtATime(){
+        Iterator<Long> it = LongReactiveSeq.of(1l,2l,3l,4l,5l,6l)
+                                         .skip(1)
+                                         .filter(i->i%2==0)
+                                         .scanLeft(0l,(a,b)->a+b)
+                                         .boxed()
+                                         .iterator();
+        List<Long> result = new ArrayList<>();
+        while(it.hasNext())
+            result.add(it.next());
+        assertThat(result,equalTo(Arrays.asList(0l,2l,6l,12l)));
+    }
+    @Test
+    public void fromStream(){
+        assertThat(LongReactiveSeq.fromStream(LongStream.of(1l,2l,3l)).map(i->i*2).sum(),equalTo(12l));
+    }
+    @Test
+    public void fromStreamSupplierReplayable(){
+        LongReactiveSeq seq = LongReactiveSeq.fromStream(()->LongStream.of(1l,2l,3l)).map(i->i*2);
+        assertThat(seq.sum(),equalTo(12l));
+        assertThat(seq.sum(),equalTo(12l));
+    }
+    @Test
+    public void iterateReplayable(){
+        LongReactiveSeq seq = LongReactiveSeq.iterate(1l,i->i+1).limit(3);
+        assertThat(seq.toArray(),equalTo(new long[]{1l,2l,3l}));
+        assertThat(seq.toArray(),equalTo(new long[]{1l,2l,3l}));
+    }
+    @Test
+    public void replayable(){
+        LongReactiveSeq seq = LongReactiveSeq.of(1l,2l,3l).map(i->i+1);
+        assertThat(seq.toArray(),equalTo(seq.toArray()));
+        assertThat(seq.sum(),equalTo(9l));
+    }
+    @Test(expected=IllegalStateException.class)
+    public void errorsRethrown(){
+        LongReactiveSeq.of(1l,2l)
+                     .map(i->{throw new IllegalStateException();})
+                     .forEach(i->{});
+    }
+}
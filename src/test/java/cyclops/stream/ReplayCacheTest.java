@@ -0,0 +1,219 @@
+package cyclops.stream;
+
+import com.aol.cyclops2.internal.stream.MappedSpillFile;
+import cyclops.collections.ListX;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assert.assertThat;
+
+public class ReplayCacheTest {
+
+    ReplayCache.Serializer<Integer> ints = new ReplayCache.Serializer<Integer>() {
+        @Override
+        public byte[] serialize(Integer value) {
+            return ByteBuffer.allocate(4).putInt(value).array();
+        }
+
+        @Override
+        public Integer deserialize(byte[] data) {
+            return ByteBuffer.wrap(data).getInt();
+        }
+    };
+
+    @Test
+    public void spillReplaysInOrder(){
+        ReplayCache<Integer> cache = ReplayCache.spill(ReactiveSeq.range(0,200_000),1000,ints);
+        Streamable<Integer> replay = cache.streamable();
+        for(int i=0;i<3;i++) {
+            Iterator<Integer> it = replay.iterator();
+            for (int expected = 0; expected < 200_000; expected++)
+                assertThat(it.next(), equalTo(expected));
+            assertFalse(it.hasNext());
+        }
+        assertThat(cache.inMemory(),equalTo(1000));
+        assertThat(cache.spilled(),equalTo(199_000l));
+        cache.close();
+    }
+    @Test
+    public void laggingReaderReadsFromSpill(){
+        ReplayCache<Integer> cache = ReplayCache.spill(ReactiveSeq.range(0,10_000),100,ints);
+        Iterator<Integer> fast = cache.iterator();
+        Iterator<Integer> slow = cache.iterator();
+        for(int i=0;i<50;i++)
+            assertThat(slow.next(),equalTo(i));
+        for(int i=0;i<5_000;i++)
+            assertThat(fast.next(),equalTo(i));
+        for(int i=50;i<7_000;i++)
+            assertThat(slow.next(), equalTo(i));
+        for(int i=5_000;i<10_000;i++)
+            assertThat(fast.next(), equalTo(i));
+        for(int i=7_000;i<10_000;i++)
+            assertThat(slow.next(), equalTo(i));
+        assertFalse(fast.hasNext());
+        assertFalse(slow.hasNext());
+        assertThat(cache.inMemory(),lessThanOrEqualTo(100));
+        cache.close();
+    }
+    @Test
+    public void spillWithJavaSerialization(){
+        try(ReplayCache.CloseableStreamable<String> replay = Streamable.fromStream(ReactiveSeq.range(0,5_000).map(i->"hello"+i),10,
+                                                                                   ReplayCache.Overflow.SPILL)) {
+            List<String> expected = ReactiveSeq.range(0, 5_000).map(i -> "hello" + i).toList();
+            assertThat(replay.reactiveSeq().toList(), equalTo(expected));
+            assertThat(replay.reactiveSeq().toList(), equalTo(expected));
+        }
+    }
+    @Test(expected=IllegalStateException.class)
+    public void closedStreamableCannotReplay(){
+        ReplayCache.CloseableStreamable<Integer> replay = Streamable.fromStream(ReactiveSeq.range(0,100),10,ints);
+        assertThat(replay.reactiveSeq().toList(),equalTo(ReactiveSeq.range(0,100).toList()));
+        replay.close();
+        replay.reactiveSeq().toList();
+    }
+    @Test
+    public void copiesClosedOnCompletion(){
+        ReplayCache<Integer> cache = ReplayCache.spill(ReactiveSeq.range(0,1_000),10,ints);
+        ListX<ReactiveSeq<Integer>> copies = cache.copiesClosedOnCompletion(2);
+        assertThat(copies.get(0).toList(),equalTo(ReactiveSeq.range(0,1_000).toList()));
+        assertThat(cache.spilled(),equalTo(990l));
+        assertThat(copies.get(1).toList(),equalTo(ReactiveSeq.range(0,1_000).toList()));
+        try{
+            cache.iterator();
+            fail("cache should be closed once all copies complete");
+        }catch(IllegalStateException e){
+
+        }
+    }
+    @Test
+    public void dropOldest(){
+        ListX<ReactiveSeq<Integer>> copies = ReactiveSeq.range(0,100)
+                                                        .multicast(2,10, ReplayCache.Overflow.DROP_OLDEST);
+        assertThat(copies.get(0).toList(),equalTo(ReactiveSeq.range(0,100).toList()));
+        assertThat(copies.get(1).toList(),equalTo(ReactiveSeq.range(90,100).toList()));
+    }
+    @Test
+    public void dropOldestCount(){
+        ReplayCache<Integer> cache = ReplayCache.of(ReactiveSeq.range(0,100),10, ReplayCache.Overflow.DROP_OLDEST);
+        assertThat(cache.streamable().reactiveSeq().count(),equalTo(100l));
+        assertThat(cache.dropped(),equalTo(90l));
+        assertThat(cache.streamable().reactiveSeq().toList(),equalTo(ReactiveSeq.range(90,100).toList()));
+    }
+    @Test
+    public void blockHoldsFastConsumer() throws Exception {
+        ReplayCache<Integer> cache = ReplayCache.of(ReactiveSeq.range(0,100_000),16, ReplayCache.Overflow.BLOCK);
+        ListX<ReactiveSeq<Integer>> copies = cache.copies(2);
+        ExecutorService exec = Executors.newFixedThreadPool(2);
+        CompletableFuture<List<Integer>> fast = CompletableFuture.supplyAsync(()->copies.get(0).peek(i->assertThat(cache.inMemory(),lessThanOrEqualTo(16)))
+                                                                                              .collect(Collectors.toList()),exec);
+        CompletableFuture<List<Integer>> slow = CompletableFuture.supplyAsync(()->copies.get(1).collect(Collectors.toList()),exec);
+        List<Integer> expected = ReactiveSeq.range(0,100_000).toList();
+        assertThat(fast.get(),equalTo(expected));
+        assertThat(slow.get(),equalTo(expected));
+        exec.shutdown();
+    }
+    @Test
+    public void abandonedReaderDoesNotBlock() throws Exception {
+        ReplayCache<Integer> cache = ReplayCache.of(ReactiveSeq.range(0,10_000),16, ReplayCache.Overflow.BLOCK);
+        Streamable<Integer> replay = cache.streamable();
+        assertThat(replay.reactiveSeq().findFirst().get(),equalTo(0));
+        assertThat(replay.reactiveSeq().limit(5).toList(),equalTo(ReactiveSeq.range(0,5).toList()));
+
+        ExecutorService exec = Executors.newSingleThreadExecutor();
+        CompletableFuture<List<Integer>> lead = CompletableFuture.supplyAsync(()->replay.reactiveSeq().toList(),exec);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while(!lead.isDone() && System.currentTimeMillis() < deadline){
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(lead.get(1,TimeUnit.SECONDS),equalTo(ReactiveSeq.range(0,10_000).toList()));
+        exec.shutdown();
+    }
+    @Test
+    public void blockTimeoutSkipsSlowReader(){
+        ReplayCache<Integer> cache = ReplayCache.of(ReactiveSeq.range(0,100),16, ReplayCache.Overflow.BLOCK)
+                                                .withBlockTimeout(10,TimeUnit.MILLISECONDS);
+        ListX<ReactiveSeq<Integer>> copies = cache.copies(2);
+        assertThat(copies.get(0).toList(),equalTo(ReactiveSeq.range(0,100).toList()));
+        assertThat(cache.dropped(),equalTo(84l));
+        assertThat(copies.get(1).toList(),equalTo(ReactiveSeq.range(84,100).toList()));
+        assertTrue(cache.inMemory()<=16);
+    }
+    /**
+     * Replays 1KB records twice through the spill file, 128MB by default. Run with -Dcyclops.replay.spillBytes=10737418240
+     * and a small heap (e.g. -Xmx64m) for the full 10GB scenario.
+     */
+    @Test
+    public void largeSpillReplaysTwice(){
+        long bytes = Long.getLong("cyclops.replay.spillBytes", 128l * 1024 * 1024);
+        int records = (int)(bytes / 1024);
+        ReplayCache.Serializer<byte[]> identity = new ReplayCache.Serializer<byte[]>() {
+            @Override
+            public byte[] serialize(byte[] value) {
+                return value;
+            }
+
+            @Override
+            public byte[] deserialize(byte[] data) {
+                return data;
+            }
+        };
+        ReplayCache<byte[]> cache = ReplayCache.spill(ReactiveSeq.range(0, records)
+                                                                 .map(i -> {
+                                                                     byte[] record = new byte[1024];
+                                                                     record[0] = (byte) i.intValue();
+                                                                     record[1023] = (byte) (i >>> 8);
+                                                                     return record;
+                                                                 }), 10_000, identity);
+        Streamable<byte[]> replay = cache.streamable();
+        for(int pass=0;pass<2;pass++) {
+            Iterator<byte[]> it = replay.iterator();
+            int count = 0;
+            while (it.hasNext()) {
+                byte[] record = it.next();
+                assertThat(record.length, equalTo(1024));
+                assertThat(record[0], equalTo((byte) count));
+                assertThat(record[1023], equalTo((byte) (count >>> 8)));
+                count++;
+            }
+            assertThat(count, equalTo(records));
+        }
+        assertThat(cache.spilled(),equalTo((long)(records-10_000)));
+        cache.close();
+    }
+    @Test
+    public void recordsSpanRegions(){
+        try(MappedSpillFile file = MappedSpillFile.createTemp(64)) {
+            long[] positions = new long[100];
+            for (int i = 0; i < 100; i++) {
+                byte[] record = new byte[i];
+                for (int j = 0; j < i; j++)
+                    record[j] = (byte) j;
+                positions[i] = file.append(record);
+            }
+            long pos = 0;
+            for (int i = 0; i < 100; i++) {
+                assertThat(pos, equalTo(positions[i]));
+                byte[] record = file.read(pos);
+                assertThat(record.length, equalTo(i));
+                for (int j = 0; j < i; j++)
+                    assertThat(record[j], equalTo((byte) j));
+                pos = file.next(pos);
+            }
+            assertThat(pos,equalTo(file.size()));
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package cyclops.stream;
 
+import com.aol.cyclops2.internal.stream.ReactiveStreamX;
 import com.aol.cyclops2.types.stream.reactive.AsyncSubscriber;
 import com.aol.cyclops2.types.stream.reactive.ReactiveSubscriber;
 import cyclops.Monoids;
 import cyclops.Semigroups;
 import cyclops.async.Future;
 import cyclops.async.QueueFactories;
+import cyclops.async.RateLimiter;
 import cyclops.async.Topic;
 import cyclops.collections.ListX;
 
@@ -19,6 +21,8 @@ import reactor.core.publisher.Flux;
 
 import java.util.*;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -60,6 +64,44 @@ public class SpoutsTest {
         assertThat(list,equalTo(ListX.of(1,2,3)));
     }
     @Test
+    public void zipSyncLockStep(){
+        ReactiveSeq<String> zipped = Spouts.of(1, 2, 3, 4)
+                                           .zipS(Spouts.of("a", "b", "c"), (a, b) -> a + b);
+        assertThat(((ReactiveStreamX<String>)zipped).getType(),equalTo(ReactiveStreamX.Type.SYNC));
+        assertThat(zipped.toListX(),equalTo(ListX.of("1a","2b","3c")));
+        assertThat(Spouts.range(0,100_000).zipWithIndex().count(),equalTo(100_000l));
+    }
+    @Test
+    public void zipAsyncPrefetch(){
+        ReactiveSeq<String> zipped = Spouts.of(1, 2, 3, 4)
+                                           .zipS(Spouts.from(Flux.just("a", "b", "c")), (a, b) -> a + b,16);
+        assertThat(zipped.toListX(),equalTo(ListX.of("1a","2b","3c")));
+    }
+    @Test
+    public void zipRateLimited(){
+        ScheduledExecutorService ex = Executors.newSingleThreadScheduledExecutor();
+        ReactiveSeq<Integer> limited = Spouts.range(0, 20)
+                                             .rateLimit(RateLimiter.perSecond(1000).withBurst(1), ex);
+        assertThat(((ReactiveStreamX<Integer>)limited).getType(),equalTo(ReactiveStreamX.Type.BACKPRESSURE));
+
+        assertThat(Spouts.range(0, 20).zipS(limited, (a, b) -> a + b).toListX(),
+                   equalTo(ReactiveSeq.range(0, 20).map(i -> i * 2).toListX()));
+        assertThat(Spouts.range(0, 20).rateLimit(RateLimiter.perSecond(1000).withBurst(1), ex)
+                                      .zipS(Spouts.range(0, 20), (a, b) -> a + b).toListX(),
+                   equalTo(ReactiveSeq.range(0, 20).map(i -> i * 2).toListX()));
+        ex.shutdown();
+    }
+    @Test
+    public void zipScheduledGroupedBySizeAndTime(){
+        ScheduledExecutorService ex = Executors.newSingleThreadScheduledExecutor();
+        ReactiveSeq<ListX<Integer>> grouped = Spouts.range(0, 10)
+                                                    .groupedBySizeAndTime(3, 10, TimeUnit.MILLISECONDS, ex);
+
+        assertThat(Spouts.of("a","b","c","d").zipS(grouped, (a, b) -> a + b.size()).toListX(),
+                   equalTo(ListX.of("a3","b3","c3","d1")));
+        ex.shutdown();
+    }
+    @Test
     public void array(){
         Iterator<Integer> it = Spouts.of(1, 2, 3).iterator();
         List<Integer> list = new ArrayList<>();
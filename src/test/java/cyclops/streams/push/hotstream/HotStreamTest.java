@@ -1,16 +1,21 @@
 package cyclops.streams.push.hotstream;
 
 import com.aol.cyclops2.types.stream.PausableHotStream;
+import com.aol.cyclops2.util.ExceptionSoftener;
 import cyclops.stream.ReactiveSeq;
 import cyclops.stream.Spouts;
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.*;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -237,5 +242,66 @@ public class HotStreamTest {
 		assertTrue(value!=null);
 		active=false;
 	}
+	@Test
+	public void hotStreamConnectMoreThanTen() throws InterruptedException{
+		CountDownLatch connected = new CountDownLatch(1);
+		PausableHotStream<Integer> s = Spouts.range(0,1000)
+				.peek(i->{
+					if(i==0)
+						ExceptionSoftener.softenRunnable(connected::await).run();
+				})
+				.primedPausableHotStream(exec2);
+		List<LinkedBlockingQueue<Integer>> queues = new ArrayList<>();
+		for(int i=0;i<50;i++){
+			LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
+			queues.add(queue);
+			s.connect(queue);
+		}
+		connected.countDown();
+		s.pause();
+		assertTrue(s.isPaused());
+		s.unpause();
+		assertFalse(s.isPaused());
+		for(LinkedBlockingQueue<Integer> queue : queues){
+			Integer next = queue.poll(10, TimeUnit.SECONDS);
+			while(next<999){
+				Integer following = queue.poll(10, TimeUnit.SECONDS);
+				assertThat(following,equalTo(next+1));
+				next = following;
+			}
+		}
+	}
+	@Test
+	public void pauseUnpauseRaceLeavesConsistentState() throws Exception{
+		PausableHotStream<Integer> s = Spouts.range(0,1000)
+				.primedPausableHotStream(exec2);
+		LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
+		s.connect(queue);
+		ExecutorService racer = Executors.newSingleThreadExecutor();
+		for(int i=0;i<1000;i++){
+			CountDownLatch start = new CountDownLatch(1);
+			Future<?> unpaused = racer.submit(()->{
+				ExceptionSoftener.softenRunnable(start::await).run();
+				s.unpause();
+			});
+			start.countDown();
+			s.pause();
+			unpaused.get();
+			s.unpause();
+			assertFalse(s.isPaused());
+		}
+		s.pause();
+		s.pause(); //a second pause must not orphan the future the publisher parks on
+		assertTrue(s.isPaused());
+		s.unpause();
+		assertFalse(s.isPaused());
+		Integer next = queue.poll(10, TimeUnit.SECONDS);
+		while(next<999){
+			Integer following = queue.poll(10, TimeUnit.SECONDS);
+			assertThat(following,equalTo(next+1));
+			next = following;
+		}
+		racer.shutdown();
+	}
 	volatile boolean active;
 }